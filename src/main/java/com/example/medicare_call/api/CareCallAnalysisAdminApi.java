@@ -0,0 +1,39 @@
+package com.example.medicare_call.api;
+
+import com.example.medicare_call.dto.carecall.CareCallAnalysisJobSummaryResponse;
+import com.example.medicare_call.dto.carecall.CareCallAnalysisReplayRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@Tag(name = "Care Call Analysis (Admin)", description = "통화 분석 작업 재처리 관리자 API")
+public interface CareCallAnalysisAdminApi {
+
+    @Operation(
+            summary = "실패한 통화 분석 재처리",
+            description = "지정 기간에 생성된 분석 실패 작업을 다시 대기 상태로 돌립니다. 재처리 워커가 분석 대기열 여유만큼 나누어 처리합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "재처리 요청 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CareCallAnalysisJobSummaryResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간")
+    })
+    ResponseEntity<CareCallAnalysisJobSummaryResponse> replayFailedJobs(@RequestBody CareCallAnalysisReplayRequest request);
+
+    @Operation(summary = "통화 분석 작업 현황 조회", description = "처리 대기/처리 중/실패 상태의 분석 작업 수를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    ResponseEntity<CareCallAnalysisJobSummaryResponse> getJobSummary();
+}
@@ -1,9 +1,9 @@
 package com.example.medicare_call.api;
 
-import com.example.medicare_call.domain.CareCallRecord;
 import com.example.medicare_call.dto.carecall.CareCallSettingRequest;
 import com.example.medicare_call.dto.carecall.CareCallSettingResponse;
 import com.example.medicare_call.dto.carecall.ImmediateCareCallRequest;
+import com.example.medicare_call.dto.data_processor.CallDataReceiptResponse;
 import com.example.medicare_call.dto.data_processor.CareCallDataProcessRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,8 +17,8 @@ public interface CareCallApi {
     @Operation(summary = "어르신 전화 시간대 조회", description = "등록된 케어콜 시간대를 조회합니다.")
     ResponseEntity<CareCallSettingResponse> getCareCallSetting(@Parameter(hidden = true) Integer memberId, Integer elderId);
 
-    @Operation(summary = "통화 데이터 수신", description = "외부 서버로부터 통화 데이터를 받아서 저장합니다.")
-    ResponseEntity<CareCallRecord> receiveCallData(CareCallDataProcessRequest request);
+    @Operation(summary = "통화 데이터 수신", description = "외부 서버로부터 통화 데이터를 받아서 저장합니다. 비동기 수신 모드에서는 수신함에 기록 후 202와 수신 번호를 반환하고, 통화 기록은 백그라운드에서 저장합니다.")
+    ResponseEntity<CallDataReceiptResponse> receiveCallData(CareCallDataProcessRequest request);
 
     @Operation(summary = "즉시 케어콜 발송", description = "memberId를 통해 해당 보호자의 첫 번째 어르신에게 즉시 케어콜을 발송합니다.")
     ResponseEntity<String> sendImmediateCareCall(ImmediateCareCallRequest request);
@@ -0,0 +1,48 @@
+package com.example.medicare_call.api;
+
+import com.example.medicare_call.dto.carecall.CareCallCampaignRequest;
+import com.example.medicare_call.dto.carecall.CareCallCampaignResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@Tag(name = "CareCall Campaign", description = "여러 어르신 일괄 즉시 케어콜 API")
+public interface CareCallCampaignApi {
+
+    @Operation(
+            summary = "일괄 즉시 케어콜 발송",
+            description = "보호자에게 등록된 어르신들에게 즉시 케어콜을 발송합니다. 어르신 목록을 비우면 활성 어르신 전체가 대상입니다. 발송은 백그라운드에서 진행됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "일괄 발송 등록 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CareCallCampaignResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "대상 어르신이 없거나 최대 인원 초과"),
+            @ApiResponse(responseCode = "403", description = "보호자에게 등록되지 않은 어르신 포함")
+    })
+    ResponseEntity<CareCallCampaignResponse> createCampaign(@Parameter(hidden = true) Integer memberId, @RequestBody CareCallCampaignRequest request);
+
+    @Operation(summary = "일괄 즉시 케어콜 진행 상황 조회", description = "어르신별 발송 요청 상태와 전화 서버 발송 상태를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "다른 보호자의 캠페인"),
+            @ApiResponse(responseCode = "404", description = "캠페인을 찾을 수 없음")
+    })
+    ResponseEntity<CareCallCampaignResponse> getCampaign(
+            @Parameter(hidden = true) Integer memberId,
+            @Parameter(description = "캠페인 ID", required = true, example = "1")
+            @PathVariable("campaignId") Long campaignId
+    );
+}
@@ -0,0 +1,52 @@
+package com.example.medicare_call.api;
+
+import com.example.medicare_call.dto.carecall.CareCallHotMinuteResponse;
+import com.example.medicare_call.dto.carecall.CareCallSchedulerShardResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "Care Call Scheduler (Admin)", description = "케어콜 스케줄러 클러스터 관리자 API")
+public interface CareCallSchedulerAdminApi {
+
+    @Operation(
+            summary = "스케줄러 샤드 배정 조회",
+            description = "살아 있는 스케줄러 노드와 샤드별 소유 노드, 직전 분에 샤드별로 실제 발송한 노드를 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CareCallSchedulerShardResponse.class)
+                    )
+            )
+    })
+    ResponseEntity<CareCallSchedulerShardResponse> getShards();
+
+    @Operation(
+            summary = "케어콜 예약 과밀 시각 조회",
+            description = "1분 예약 건수가 기준 이상인 시각을 회차별 건수와 함께 조회합니다. 기준을 지정하지 않으면 설정값을 사용합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CareCallHotMinuteResponse.class)
+                    )
+            )
+    })
+    ResponseEntity<CareCallHotMinuteResponse> getHotMinutes(
+            @Parameter(description = "과밀 기준 (1분 예약 건수)", example = "50")
+            @RequestParam(required = false) Integer threshold
+    );
+}
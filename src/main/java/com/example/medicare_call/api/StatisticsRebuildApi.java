@@ -0,0 +1,57 @@
+package com.example.medicare_call.api;
+
+import com.example.medicare_call.dto.statistics.StatisticsRebuildJobResponse;
+import com.example.medicare_call.dto.statistics.StatisticsRebuildRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@Tag(name = "Statistics Rebuild (Admin)", description = "일간/주간 통계 일괄 재계산 관리자 API")
+public interface StatisticsRebuildApi {
+
+    @Operation(
+            summary = "통계 일괄 재계산 시작",
+            description = "전체 어르신의 지정 기간 일간/주간 통계를 원천 데이터 기준으로 다시 계산합니다. 작업은 백그라운드에서 실행됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "재계산 작업 등록 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StatisticsRebuildJobResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "409", description = "이미 진행 중인 작업이 있음")
+    })
+    ResponseEntity<StatisticsRebuildJobResponse> startRebuild(@RequestBody StatisticsRebuildRequest request);
+
+    @Operation(summary = "통계 재계산 작업 재개", description = "중단되었거나 실패한 작업을 체크포인트부터 다시 실행합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "재개 성공"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "이미 진행 중인 작업이 있음")
+    })
+    ResponseEntity<StatisticsRebuildJobResponse> resumeRebuild(
+            @Parameter(description = "작업 ID", required = true, example = "1")
+            @PathVariable("jobId") Long jobId
+    );
+
+    @Operation(summary = "통계 재계산 진행 상황 조회", description = "청크별 처리 결과를 합산한 진행 상황을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    ResponseEntity<StatisticsRebuildJobResponse> getRebuildJob(
+            @Parameter(description = "작업 ID", required = true, example = "1")
+            @PathVariable("jobId") Long jobId
+    );
+}
@@ -0,0 +1,32 @@
+package com.example.medicare_call.controller;
+
+import com.example.medicare_call.api.CareCallAnalysisAdminApi;
+import com.example.medicare_call.dto.carecall.CareCallAnalysisJobSummaryResponse;
+import com.example.medicare_call.dto.carecall.CareCallAnalysisReplayRequest;
+import com.example.medicare_call.service.carecall.analysis.job.CareCallAnalysisJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/care-call-analysis")
+public class CareCallAnalysisAdminController implements CareCallAnalysisAdminApi {
+
+    private final CareCallAnalysisJobService careCallAnalysisJobService;
+
+    @Override
+    @PostMapping("/replay")
+    public ResponseEntity<CareCallAnalysisJobSummaryResponse> replayFailedJobs(@Valid @RequestBody CareCallAnalysisReplayRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(careCallAnalysisJobService.requeueFailed(request.getStartDate(), request.getEndDate()));
+    }
+
+    @Override
+    @GetMapping("/jobs")
+    public ResponseEntity<CareCallAnalysisJobSummaryResponse> getJobSummary() {
+        return ResponseEntity.ok(careCallAnalysisJobService.summary());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.medicare_call.controller;
+
+import com.example.medicare_call.api.CareCallCampaignApi;
+import com.example.medicare_call.dto.carecall.CareCallCampaignRequest;
+import com.example.medicare_call.dto.carecall.CareCallCampaignResponse;
+import com.example.medicare_call.global.annotation.AuthUser;
+import com.example.medicare_call.service.carecall.outbound.campaign.CareCallCampaignService;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/care-call/campaigns")
+public class CareCallCampaignController implements CareCallCampaignApi {
+
+    private final CareCallCampaignService careCallCampaignService;
+
+    @Override
+    @PostMapping
+    public ResponseEntity<CareCallCampaignResponse> createCampaign(@Parameter(hidden = true) @AuthUser Integer memberId,
+                                                                   @Valid @RequestBody CareCallCampaignRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(careCallCampaignService.create(memberId, request));
+    }
+
+    @Override
+    @GetMapping("/{campaignId}")
+    public ResponseEntity<CareCallCampaignResponse> getCampaign(@Parameter(hidden = true) @AuthUser Integer memberId,
+                                                                @PathVariable Long campaignId) {
+        return ResponseEntity.ok(careCallCampaignService.getCampaign(memberId, campaignId));
+    }
+}
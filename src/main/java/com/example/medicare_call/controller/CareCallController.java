@@ -8,13 +8,16 @@ import com.example.medicare_call.dto.carecall.CareCallSettingRequest;
 import com.example.medicare_call.dto.carecall.CareCallSettingResponse;
 import com.example.medicare_call.dto.carecall.CareCallTestRequest;
 import com.example.medicare_call.dto.carecall.ImmediateCareCallRequest;
+import com.example.medicare_call.dto.data_processor.CallDataReceiptResponse;
 import com.example.medicare_call.dto.data_processor.CallDataUploadRequest;
 import com.example.medicare_call.dto.data_processor.CareCallDataProcessRequest;
 import com.example.medicare_call.global.annotation.AuthUser;
+import com.example.medicare_call.global.config.CallDataIngestProperties;
 import com.example.medicare_call.service.carecall.setting.CareCallSettingService;
 import com.example.medicare_call.service.carecall.outbound.CareCallTestService;
 import com.example.medicare_call.service.carecall.inbound.CareCallService;
 import com.example.medicare_call.service.carecall.inbound.CareCallUploadService;
+import com.example.medicare_call.service.carecall.inbound.inbox.CallDataInboxService;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -35,6 +38,8 @@ public class CareCallController implements CareCallApi, CareCallBetaTestApi, Car
     private final CareCallService careCallService;
     private final CareCallTestService careCallTestService;
     private final CareCallUploadService careCallUploadService;
+    private final CallDataInboxService callDataInboxService;
+    private final CallDataIngestProperties callDataIngestProperties;
 
 
     @Override
@@ -55,11 +60,16 @@ public class CareCallController implements CareCallApi, CareCallBetaTestApi, Car
      * 전화 서버로부터 통화 완료 raw 데이터를 수신하여 저장
      * /care-call/test는 CareCallTestService.TEST_SETTING_ID(-1)를 사용하므로 저장을 건너뛴다.
      * /care-call/immediate는 실제 DB의 settingId를 사용하므로 정상적으로 저장된다.
+     * 비동기 수신(app.call-data-ingest.async)이면 수신함에 기록만 하고 202와 수신 번호를 반환한다.
      */
     @Override
     @PostMapping("/call-data")
-    public ResponseEntity<CareCallRecord> receiveCallData(@Valid @RequestBody CareCallDataProcessRequest request) {
+    public ResponseEntity<CallDataReceiptResponse> receiveCallData(@Valid @RequestBody CareCallDataProcessRequest request) {
         log.info("통화 데이터 수신: elderId={}, settingId={}", request.getElderId(), request.getSettingId());
+        if (callDataIngestProperties.isAsync()) {
+            Long receiptId = callDataInboxService.append(request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(new CallDataReceiptResponse(receiptId));
+        }
         careCallService.saveCallData(request);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
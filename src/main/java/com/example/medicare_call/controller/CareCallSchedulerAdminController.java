@@ -0,0 +1,49 @@
+package com.example.medicare_call.controller;
+
+import com.example.medicare_call.api.CareCallSchedulerAdminApi;
+import com.example.medicare_call.dto.carecall.CareCallHotMinuteResponse;
+import com.example.medicare_call.dto.carecall.CareCallSchedulerShardResponse;
+import com.example.medicare_call.global.config.CareCallScheduleProperties;
+import com.example.medicare_call.service.carecall.outbound.CareCallCapacityPlanner;
+import com.example.medicare_call.service.carecall.outbound.CareCallShardCoordinator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/care-call-scheduler")
+public class CareCallSchedulerAdminController implements CareCallSchedulerAdminApi {
+
+    private final CareCallShardCoordinator careCallShardCoordinator;
+    private final CareCallCapacityPlanner careCallCapacityPlanner;
+    private final CareCallScheduleProperties careCallScheduleProperties;
+
+    @Override
+    @GetMapping("/shards")
+    public ResponseEntity<CareCallSchedulerShardResponse> getShards() {
+        LocalDateTime lastMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusMinutes(1);
+        return ResponseEntity.ok(CareCallSchedulerShardResponse.of(
+                careCallShardCoordinator.assignment(),
+                lastMinute,
+                careCallShardCoordinator.claimOwners(lastMinute)
+        ));
+    }
+
+    @Override
+    @GetMapping("/hot-minutes")
+    public ResponseEntity<CareCallHotMinuteResponse> getHotMinutes(@RequestParam(required = false) Integer threshold) {
+        int minCalls = threshold != null ? threshold : careCallScheduleProperties.getHotMinuteThreshold();
+        return ResponseEntity.ok(CareCallHotMinuteResponse.of(
+                minCalls,
+                careCallCapacityPlanner.peakMinute(),
+                careCallCapacityPlanner.hotMinutes(minCalls)
+        ));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.medicare_call.controller;
+
+import com.example.medicare_call.api.MonthlyStatsApi;
+import com.example.medicare_call.dto.report.MonthlyReportResponse;
+import com.example.medicare_call.global.annotation.AuthUser;
+import com.example.medicare_call.service.report.MonthlyReportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+
+@Slf4j
+@RestController
+@RequestMapping("/elders")
+@RequiredArgsConstructor
+public class MonthlyStatsController implements MonthlyStatsApi {
+
+    private final MonthlyReportService monthlyReportService;
+
+    @Override
+    @GetMapping("/{elderId}/monthly-stats")
+    public ResponseEntity<MonthlyReportResponse> getMonthlyStats(
+        @AuthUser Integer memberId,
+        @PathVariable("elderId") Integer elderId,
+        @RequestParam("month") YearMonth month
+    ) {
+        log.info("월간 통계 데이터 조회 요청: elderId={}, month={}", elderId, month);
+
+        MonthlyReportResponse response = monthlyReportService.getMonthlyReport(memberId, elderId, month);
+
+        return ResponseEntity.ok(response);
+    }
+}
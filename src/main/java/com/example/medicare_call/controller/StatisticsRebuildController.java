@@ -0,0 +1,37 @@
+package com.example.medicare_call.controller;
+
+import com.example.medicare_call.api.StatisticsRebuildApi;
+import com.example.medicare_call.dto.statistics.StatisticsRebuildJobResponse;
+import com.example.medicare_call.dto.statistics.StatisticsRebuildRequest;
+import com.example.medicare_call.service.statistics.StatisticsRebuildService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/statistics/rebuild")
+public class StatisticsRebuildController implements StatisticsRebuildApi {
+
+    private final StatisticsRebuildService statisticsRebuildService;
+
+    @Override
+    @PostMapping
+    public ResponseEntity<StatisticsRebuildJobResponse> startRebuild(@Valid @RequestBody StatisticsRebuildRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(statisticsRebuildService.start(request));
+    }
+
+    @Override
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<StatisticsRebuildJobResponse> resumeRebuild(@PathVariable Long jobId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(statisticsRebuildService.resume(jobId));
+    }
+
+    @Override
+    @GetMapping("/{jobId}")
+    public ResponseEntity<StatisticsRebuildJobResponse> getRebuildJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(statisticsRebuildService.getJob(jobId));
+    }
+}
@@ -24,6 +24,11 @@ public class BloodSugarRecord {
     @JoinColumn(name = "carecall_record_id", nullable = false)
     private CareCallRecord careCallRecord;
 
+    // 어르신별 조회 시 케어콜 기록 조인을 피하기 위한 비정규화 컬럼 (케어콜 기록의 어르신과 동일)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "elder_id", nullable = false)
+    private Elder elder;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "measurement_type", columnDefinition = "VARCHAR(20)")
     private BloodSugarMeasurementType measurementType;
@@ -48,6 +53,7 @@ public class BloodSugarRecord {
     public BloodSugarRecord(Integer id, CareCallRecord careCallRecord, BloodSugarMeasurementType measurementType, BigDecimal blood_sugar_value, String unit, BloodSugarStatus status, LocalDateTime recordedAt, String responseSummary) {
         this.id = id;
         this.careCallRecord = careCallRecord;
+        this.elder = careCallRecord != null ? careCallRecord.getElder() : null;
         this.measurementType = measurementType;
         this.blood_sugar_value = blood_sugar_value;
         this.unit = unit;
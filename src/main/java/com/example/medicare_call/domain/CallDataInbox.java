@@ -0,0 +1,69 @@
+package com.example.medicare_call.domain;
+
+import com.example.medicare_call.global.enums.CallDataInboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전화 서버로부터 수신한 통화 완료 데이터 (원문 JSON)
+ * 웹훅은 이 테이블에 기록만 하고, 수신함 워커가 묶음 단위로 CareCallRecord를 저장한다
+ */
+@Entity
+@Table(name = "call_data_inbox")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CallDataInbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "elder_id", nullable = false)
+    private Integer elderId;
+
+    @Column(name = "setting_id", nullable = false)
+    private Integer settingId;
+
+    // CareCallDataProcessRequest JSON
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private CallDataInboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 처리 가능 시각. 처리 중에는 처리 제한 시각으로 사용
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 한 번에 선점한 묶음을 식별하는 값
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "record_id")
+    private Integer recordId;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
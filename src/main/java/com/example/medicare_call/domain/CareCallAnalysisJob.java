@@ -0,0 +1,54 @@
+package com.example.medicare_call.domain;
+
+import com.example.medicare_call.global.enums.CareCallAnalysisJobStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통화 기록별 AI 건강 데이터 추출 작업
+ * 통화 기록 저장과 같은 트랜잭션에서 생성되며, 실패하거나 처리되지 못한 건은 재처리 워커가 다시 실행한다
+ */
+@Entity
+@Table(name = "care_call_analysis_job")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CareCallAnalysisJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "record_id", nullable = false, unique = true)
+    private Integer recordId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private CareCallAnalysisJobStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 처리 가능 시각. 처리 중에는 처리 제한 시각으로 사용
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
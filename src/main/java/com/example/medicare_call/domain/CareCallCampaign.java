@@ -0,0 +1,50 @@
+package com.example.medicare_call.domain;
+
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.global.enums.CareCallCampaignStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 어르신에게 즉시 케어콜을 일괄 발송하는 요청
+ * 어르신별 발송 상태는 CareCallCampaignItem으로 관리된다
+ */
+@Entity
+@Table(name = "care_call_campaign")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CareCallCampaign {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    // 발송을 요청한 보호자(기관) 회원 ID
+    @Column(name = "member_id", nullable = false)
+    private Integer memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "call_type", nullable = false)
+    private CallType callType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private CareCallCampaignStatus status;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
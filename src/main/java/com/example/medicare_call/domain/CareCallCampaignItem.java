@@ -0,0 +1,51 @@
+package com.example.medicare_call.domain;
+
+import com.example.medicare_call.global.enums.CareCallCampaignItemStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 케어콜 발송 대상 어르신 1명
+ */
+@Entity
+@Table(name = "care_call_campaign_item")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CareCallCampaignItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "campaign_id", nullable = false)
+    private CareCallCampaign campaign;
+
+    @Column(name = "elder_id", nullable = false)
+    private Integer elderId;
+
+    // 케어콜 설정이 없는 어르신은 null (생성 시 FAILED로 기록)
+    @Column(name = "setting_id")
+    private Integer settingId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private CareCallCampaignItemStatus status;
+
+    @Column(name = "error", length = 500)
+    private String error;
+
+    /**
+     * 발송 아웃박스 idempotencyKey. 같은 캠페인에서 어르신 1명에게 한 번만 발송된다
+     */
+    public String idempotencyKey() {
+        return "campaign:" + campaign.getId() + ":" + elderId;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.medicare_call.domain;
 
+import com.example.medicare_call.global.enums.AiSummaryStatus;
 import com.example.medicare_call.global.enums.CareCallResponseStatus;
 import com.example.medicare_call.global.enums.HealthStatus;
 import com.example.medicare_call.global.enums.PsychologicalStatus;
@@ -73,13 +74,26 @@ public class CareCallRecord {
     @Column(name = "ai_health_analysis_comment", columnDefinition = "TEXT")
     private String aiHealthAnalysisComment; // AI 건강 분석 코멘트
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ai_health_analysis_status")
+    private AiSummaryStatus aiHealthAnalysisStatus; // AI 건강 분석 코멘트 생성 상태
+
+    @Column(name = "ai_health_analysis_retry_count", nullable = false)
+    private int aiHealthAnalysisRetryCount; // FAILED 코멘트를 스윕에서 다시 시도한 횟수
+
+    @Column(name = "ai_health_analysis_version", nullable = false, updatable = false)
+    private int aiHealthAnalysisVersion; // 코멘트 입력 버전, 요청/스윕 재등록 시 쿼리로만 증가
+
+    @Column(name = "ai_health_analysis_requested_at", updatable = false)
+    private LocalDateTime aiHealthAnalysisRequestedAt; // 코멘트 생성 요청 시각
+
     @Column(name = "ai_extracted_data_json", columnDefinition = "TEXT")
     private String aiExtractedDataJson; // AI 로부터 추출된 건강 데이터 전체 JSON
 
     @Builder(toBuilder = true)
     public CareCallRecord(Integer id, Elder elder, CareCallSetting setting, LocalDateTime calledAt, CareCallResponseStatus responded, LocalDateTime sleepStart, LocalDateTime sleepEnd, HealthStatus healthStatus, PsychologicalStatus psychStatus,
                           LocalDateTime startTime, LocalDateTime endTime, String callStatus, String transcriptionText, String psychologicalDetails, String healthDetails, String aiHealthAnalysisComment,
-                          String aiExtractedDataJson) {
+                          AiSummaryStatus aiHealthAnalysisStatus, String aiExtractedDataJson) {
         this.id = id;
         this.elder = elder;
         this.setting = setting;
@@ -96,6 +110,7 @@ public class CareCallRecord {
         this.psychologicalDetails = psychologicalDetails;
         this.healthDetails = healthDetails;
         this.aiHealthAnalysisComment = aiHealthAnalysisComment;
+        this.aiHealthAnalysisStatus = aiHealthAnalysisStatus;
         this.aiExtractedDataJson = aiExtractedDataJson;
     }
 } 
@@ -1,5 +1,6 @@
 package com.example.medicare_call.domain;
 
+import com.example.medicare_call.global.enums.AiSummaryStatus;
 import com.example.medicare_call.global.enums.MedicationScheduleTime;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -10,6 +11,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
@@ -73,6 +75,21 @@ public class DailyStatistics {
     @Column(name = "ai_summary", columnDefinition = "TEXT")
     private String aiSummary;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ai_summary_status")
+    private AiSummaryStatus aiSummaryStatus;
+
+    // FAILED 요약을 스윕에서 다시 시도한 횟수
+    @Column(name = "ai_summary_retry_count", nullable = false)
+    private int aiSummaryRetryCount;
+
+    // 요약 입력 버전, 요청/스윕 재등록 시 쿼리로만 증가 (엔티티 저장으로 덮어쓰지 않음)
+    @Column(name = "ai_summary_version", nullable = false, updatable = false)
+    private int aiSummaryVersion;
+
+    @Column(name = "ai_summary_requested_at", updatable = false)
+    private LocalDateTime aiSummaryRequestedAt;
+
     @Getter
     @Builder
     @NoArgsConstructor
@@ -103,8 +120,7 @@ public class DailyStatistics {
                               Integer avgSleepMinutes,
                               Integer avgBloodSugar,
                               String healthStatus,
-                              String mentalStatus,
-                              String aiSummary) {
+                              String mentalStatus) {
         this.medicationTotalGoal = medicationTotalGoal;
         this.medicationTotalTaken = medicationTotalTaken;
         this.medicationList = medicationList;
@@ -115,6 +131,17 @@ public class DailyStatistics {
         this.avgBloodSugar = avgBloodSugar;
         this.healthStatus = healthStatus;
         this.mentalStatus = mentalStatus;
-        this.aiSummary = aiSummary;
+    }
+
+    // AI 요약은 커밋 이후 비동기로 생성되므로 상태만 PENDING으로 전환
+    public void requestAiSummary() {
+        this.aiSummaryStatus = AiSummaryStatus.PENDING;
+        this.aiSummaryRetryCount = 0;
+    }
+
+    // 요약할 데이터가 없는 경우
+    public void clearAiSummary() {
+        this.aiSummary = null;
+        this.aiSummaryStatus = null;
     }
 }
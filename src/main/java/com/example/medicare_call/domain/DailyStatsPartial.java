@@ -0,0 +1,181 @@
+package com.example.medicare_call.domain;
+
+import com.example.medicare_call.global.enums.BloodSugarMeasurementType;
+import com.example.medicare_call.global.enums.BloodSugarStatus;
+import com.example.medicare_call.global.enums.PsychologicalStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 주간 통계 집계를 위한 일자별 부분 집계
+ * 모든 값은 합산 가능한 카운터로 저장되어 주간 통계는 최대 7개 행의 병합으로 계산된다
+ */
+@Entity
+@Table(name = "daily_stats_partial")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStatsPartial {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "elder_id", nullable = false)
+    private Elder elder;
+
+    @Column(name = "date", nullable = false)
+    private LocalDate date;
+
+    // 식사 (DailyStatistics 기준)
+    @Column(name = "breakfast_count", nullable = false)
+    private int breakfastCount;
+
+    @Column(name = "lunch_count", nullable = false)
+    private int lunchCount;
+
+    @Column(name = "dinner_count", nullable = false)
+    private int dinnerCount;
+
+    @Column(name = "meal_goal_count", nullable = false)
+    private int mealGoalCount;
+
+    // 약물별 복약 (DailyStatistics 기준)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "medication_stats", columnDefinition = "json")
+    private Map<String, WeeklyStatistics.MedicationStats> medicationStats;
+
+    // 수면 (평균 계산용 합계 및 표본 수)
+    @Column(name = "sleep_total_minutes", nullable = false)
+    private long sleepTotalMinutes;
+
+    @Column(name = "sleep_count", nullable = false)
+    private int sleepCount;
+
+    // 심리 상태
+    @Column(name = "psych_good_count", nullable = false)
+    private int psychGoodCount;
+
+    @Column(name = "psych_bad_count", nullable = false)
+    private int psychBadCount;
+
+    // 건강 징후 및 미응답
+    @Column(name = "health_signals", nullable = false)
+    private int healthSignals;
+
+    @Column(name = "missed_calls", nullable = false)
+    private int missedCalls;
+
+    // 혈당 (식전/식후 상태별)
+    @Column(name = "before_meal_normal", nullable = false)
+    private int beforeMealNormal;
+
+    @Column(name = "before_meal_high", nullable = false)
+    private int beforeMealHigh;
+
+    @Column(name = "before_meal_low", nullable = false)
+    private int beforeMealLow;
+
+    @Column(name = "after_meal_normal", nullable = false)
+    private int afterMealNormal;
+
+    @Column(name = "after_meal_high", nullable = false)
+    private int afterMealHigh;
+
+    @Column(name = "after_meal_low", nullable = false)
+    private int afterMealLow;
+
+    public void applyDailyStatistics(DailyStatistics ds) {
+        if (ds == null) {
+            this.breakfastCount = 0;
+            this.lunchCount = 0;
+            this.dinnerCount = 0;
+            this.mealGoalCount = 0;
+            this.medicationStats = null;
+            return;
+        }
+
+        this.breakfastCount = Boolean.TRUE.equals(ds.getBreakfastTaken()) ? 1 : 0;
+        this.lunchCount = Boolean.TRUE.equals(ds.getLunchTaken()) ? 1 : 0;
+        this.dinnerCount = Boolean.TRUE.equals(ds.getDinnerTaken()) ? 1 : 0;
+        this.mealGoalCount = 3;
+
+        Map<String, WeeklyStatistics.MedicationStats> stats = new HashMap<>();
+        if (ds.getMedicationList() != null) {
+            for (DailyStatistics.MedicationInfo info : ds.getMedicationList()) {
+                if (info.getType() == null) continue;
+                stats.merge(info.getType(),
+                        new WeeklyStatistics.MedicationStats(
+                                nullToZero(info.getScheduled()),
+                                nullToZero(info.getGoal()),
+                                nullToZero(info.getTaken())),
+                        (a, b) -> new WeeklyStatistics.MedicationStats(
+                                a.getTotalScheduled() + b.getTotalScheduled(),
+                                a.getTotalGoal() + b.getTotalGoal(),
+                                a.getTotalTaken() + b.getTotalTaken()));
+            }
+        }
+        this.medicationStats = stats;
+    }
+
+    public void addSleepMinutes(long minutes) {
+        this.sleepTotalMinutes += minutes;
+        this.sleepCount++;
+    }
+
+    public void addPsychStatus(PsychologicalStatus psychStatus) {
+        if (psychStatus == PsychologicalStatus.GOOD) this.psychGoodCount++;
+        else if (psychStatus == PsychologicalStatus.BAD) this.psychBadCount++;
+    }
+
+    public void incrementHealthSignals() {
+        this.healthSignals++;
+    }
+
+    public void incrementMissedCalls() {
+        this.missedCalls++;
+    }
+
+    public void addBloodSugar(BloodSugarMeasurementType measurementType, BloodSugarStatus status) {
+        if (measurementType == null || status == null) return;
+
+        boolean beforeMeal = measurementType == BloodSugarMeasurementType.BEFORE_MEAL;
+        switch (status) {
+            case NORMAL -> { if (beforeMeal) beforeMealNormal++; else afterMealNormal++; }
+            case HIGH -> { if (beforeMeal) beforeMealHigh++; else afterMealHigh++; }
+            case LOW -> { if (beforeMeal) beforeMealLow++; else afterMealLow++; }
+        }
+    }
+
+    // 원천 데이터로 재구성하기 전 호출 기반 카운터 초기화
+    public void resetCallCounters() {
+        this.sleepTotalMinutes = 0;
+        this.sleepCount = 0;
+        this.psychGoodCount = 0;
+        this.psychBadCount = 0;
+        this.healthSignals = 0;
+        this.missedCalls = 0;
+        this.beforeMealNormal = 0;
+        this.beforeMealHigh = 0;
+        this.beforeMealLow = 0;
+        this.afterMealNormal = 0;
+        this.afterMealHigh = 0;
+        this.afterMealLow = 0;
+    }
+
+    private static int nullToZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
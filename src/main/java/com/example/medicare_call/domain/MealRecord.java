@@ -23,6 +23,11 @@ public class MealRecord {
     @JoinColumn(name = "carecall_record_id", nullable = false)
     private CareCallRecord careCallRecord;
 
+    // 어르신별 조회 시 케어콜 기록 조인을 피하기 위한 비정규화 컬럼 (케어콜 기록의 어르신과 동일)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "elder_id", nullable = false)
+    private Elder elder;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "meal_type")
     private MealType mealType;
@@ -41,6 +46,7 @@ public class MealRecord {
     public MealRecord(Integer id, CareCallRecord careCallRecord, MealType mealType, MealEatenStatus eatenStatus, String responseSummary, LocalDateTime recordedAt) {
         this.id = id;
         this.careCallRecord = careCallRecord;
+        this.elder = careCallRecord != null ? careCallRecord.getElder() : null;
         this.mealType = mealType;
         this.eatenStatus = eatenStatus;
         this.responseSummary = responseSummary;
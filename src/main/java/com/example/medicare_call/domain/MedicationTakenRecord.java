@@ -25,6 +25,11 @@ public class MedicationTakenRecord {
     @JoinColumn(name = "carecall_record_id", nullable = false)
     private CareCallRecord careCallRecord;
 
+    // 어르신별 조회 시 케어콜 기록 조인을 피하기 위한 비정규화 컬럼 (케어콜 기록의 어르신과 동일)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "elder_id", nullable = false)
+    private Elder elder;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "medication_schedule_id")
     private MedicationSchedule medicationSchedule; // 매칭되는 스케줄이 있으면 설정, 없으면 null
@@ -50,6 +55,7 @@ public class MedicationTakenRecord {
     public MedicationTakenRecord(Integer id, CareCallRecord careCallRecord, MedicationSchedule medicationSchedule, String name, MedicationTakenStatus takenStatus, String responseSummary, MedicationScheduleTime takenTime, LocalDateTime recordedAt) {
         this.id = id;
         this.careCallRecord = careCallRecord;
+        this.elder = careCallRecord != null ? careCallRecord.getElder() : null;
         this.medicationSchedule = medicationSchedule;
         this.name = name;
         this.takenStatus = takenStatus;
@@ -0,0 +1,125 @@
+package com.example.medicare_call.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 월간 통계
+ * 원천 기록을 다시 읽지 않고 해당 월의 일자별 부분 집계(DailyStatsPartial)를 병합하여 갱신된다
+ * 항목 구성은 WeeklyStatistics와 동일하다
+ */
+@Entity
+@Table(name = "monthly_statistics")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyStatistics {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "elder_id", nullable = false)
+    private Elder elder;
+
+    // 해당 월의 1일
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    // 마지막으로 집계된 일자
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    // 요약 통계
+    @Column(name = "meal_rate")
+    private Integer mealRate;
+
+    @Column(name = "medication_rate")
+    private Integer medicationRate;
+
+    @Column(name = "health_signals")
+    private Integer healthSignals;
+
+    @Column(name = "missed_calls")
+    private Integer missedCalls;
+
+    // 식사 횟수
+    @Column(name = "breakfast_count")
+    private Integer breakfastCount;
+
+    @Column(name = "lunch_count")
+    private Integer lunchCount;
+
+    @Column(name = "dinner_count")
+    private Integer dinnerCount;
+
+    // 약물별 통계
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "medication_stats", columnDefinition = "json")
+    private Map<String, WeeklyStatistics.MedicationStats> medicationStats;
+
+    // 평균 수면 시간
+    @Column(name = "avg_sleep_hours")
+    private Integer avgSleepHours;
+
+    @Column(name = "avg_sleep_minutes")
+    private Integer avgSleepMinutes;
+
+    // 혈당 상태 통계
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "blood_sugar_stats", columnDefinition = "json")
+    private WeeklyStatistics.BloodSugarStats bloodSugarStats;
+
+    // 심리 상태 통계
+    @Column(name = "psych_good_count")
+    private Integer psychGoodCount;
+
+    @Column(name = "psych_normal_count")
+    private Integer psychNormalCount;
+
+    @Column(name = "psych_bad_count")
+    private Integer psychBadCount;
+
+    public void updateDetails(LocalDate endDate,
+                              Integer mealRate,
+                              Integer medicationRate,
+                              Integer healthSignals,
+                              Integer missedCalls,
+                              Integer breakfastCount,
+                              Integer lunchCount,
+                              Integer dinnerCount,
+                              Map<String, WeeklyStatistics.MedicationStats> medicationStats,
+                              Integer psychGoodCount,
+                              Integer psychNormalCount,
+                              Integer psychBadCount,
+                              WeeklyStatistics.BloodSugarStats bloodSugarStats,
+                              Integer avgSleepHours,
+                              Integer avgSleepMinutes) {
+        this.endDate = endDate;
+        this.mealRate = mealRate;
+        this.medicationRate = medicationRate;
+        this.healthSignals = healthSignals;
+        this.missedCalls = missedCalls;
+        this.breakfastCount = breakfastCount;
+        this.lunchCount = lunchCount;
+        this.dinnerCount = dinnerCount;
+        this.medicationStats = medicationStats;
+        this.psychGoodCount = psychGoodCount;
+        this.psychNormalCount = psychNormalCount;
+        this.psychBadCount = psychBadCount;
+        this.bloodSugarStats = bloodSugarStats;
+        this.avgSleepHours = avgSleepHours;
+        this.avgSleepMinutes = avgSleepMinutes;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.medicare_call.domain;
+
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.global.enums.OutboundCallStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전화 서버로 보낼 케어콜 발송 요청
+ * 발송 서비스는 이 테이블에 기록만 하고, 발송 워커가 전화 서버 호출과 재시도를 담당한다
+ * 같은 idempotencyKey는 한 번만 기록되며 전화 서버 요청 헤더로도 전달된다
+ */
+@Entity
+@Table(name = "outbound_call_outbox")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OutboundCallOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "setting_id", nullable = false)
+    private Integer settingId;
+
+    @Column(name = "elder_id", nullable = false)
+    private Integer elderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "call_type", nullable = false)
+    private CallType callType;
+
+    @Column(name = "phone_number", length = 20)
+    private String phoneNumber;
+
+    @Column(name = "prompt", nullable = false, columnDefinition = "TEXT")
+    private String prompt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboundCallStatus status;
+
+    // 발송 시도 횟수 (발송 워커가 가져갈 때 증가)
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // PENDING: 다음 발송 가능 시각, SENDING: 발송 제한 시각
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
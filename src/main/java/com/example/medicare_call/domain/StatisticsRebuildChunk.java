@@ -0,0 +1,51 @@
+package com.example.medicare_call.domain;
+
+import com.example.medicare_call.global.enums.StatisticsRebuildStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 통계 일괄 재계산 작업의 처리 단위 (어르신 ID 구간)
+ * 어르신 1명 처리가 끝날 때마다 lastProcessedElderId를 체크포인트로 기록하여 중단 지점부터 재개한다
+ */
+@Entity
+@Table(name = "statistics_rebuild_chunk")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class StatisticsRebuildChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    private StatisticsRebuildJob job;
+
+    @Column(name = "first_elder_id", nullable = false)
+    private Integer firstElderId;
+
+    @Column(name = "last_elder_id", nullable = false)
+    private Integer lastElderId;
+
+    // 체크포인트: 마지막으로 처리한 어르신 ID (재개 시 다음 ID부터 처리)
+    @Column(name = "last_processed_elder_id")
+    private Integer lastProcessedElderId;
+
+    @Column(name = "processed_elders", nullable = false)
+    private int processedElders;
+
+    @Column(name = "failed_elders", nullable = false)
+    private int failedElders;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private StatisticsRebuildStatus status;
+}
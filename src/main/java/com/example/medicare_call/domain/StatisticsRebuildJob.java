@@ -0,0 +1,62 @@
+package com.example.medicare_call.domain;
+
+import com.example.medicare_call.global.enums.StatisticsRebuildStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일간/주간 통계 일괄 재계산 작업
+ * 어르신 ID 구간별 청크(StatisticsRebuildChunk)로 나뉘어 병렬 처리된다
+ */
+@Entity
+@Table(name = "statistics_rebuild_job")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class StatisticsRebuildJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    // true면 재계산만 수행하고 AI 요약은 요청하지 않음
+    @Column(name = "skip_ai_summary", nullable = false)
+    private boolean skipAiSummary;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private StatisticsRebuildStatus status;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public void start() {
+        this.status = StatisticsRebuildStatus.RUNNING;
+        this.finishedAt = null;
+    }
+
+    public void finish(boolean hasFailure) {
+        this.status = hasFailure ? StatisticsRebuildStatus.FAILED : StatisticsRebuildStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.medicare_call.domain;
 
+import com.example.medicare_call.global.enums.AiSummaryStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,6 +10,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Entity
@@ -92,6 +94,21 @@ public class WeeklyStatistics {
     @Column(name = "ai_health_summary", columnDefinition = "TEXT")
     private String aiHealthSummary;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ai_health_summary_status")
+    private AiSummaryStatus aiHealthSummaryStatus;
+
+    // FAILED 요약을 스윕에서 다시 시도한 횟수
+    @Column(name = "ai_health_summary_retry_count", nullable = false)
+    private int aiHealthSummaryRetryCount;
+
+    // 요약 입력 버전, 요청/스윕 재등록 시 쿼리로만 증가 (엔티티 저장으로 덮어쓰지 않음)
+    @Column(name = "ai_health_summary_version", nullable = false, updatable = false)
+    private int aiHealthSummaryVersion;
+
+    @Column(name = "ai_health_summary_requested_at", updatable = false)
+    private LocalDateTime aiHealthSummaryRequestedAt;
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
@@ -132,8 +149,7 @@ public class WeeklyStatistics {
                               Integer psychBadCount,
                               BloodSugarStats bloodSugarStats,
                               Integer avgSleepHours,
-                              Integer avgSleepMinutes,
-                              String aiHealthSummary) {
+                              Integer avgSleepMinutes) {
         this.endDate = endDate;
         this.mealRate = mealRate;
         this.medicationRate = medicationRate;
@@ -149,10 +165,11 @@ public class WeeklyStatistics {
         this.bloodSugarStats = bloodSugarStats;
         this.avgSleepHours = avgSleepHours;
         this.avgSleepMinutes = avgSleepMinutes;
-        this.aiHealthSummary = aiHealthSummary;
     }
 
-    public void incrementMissedCalls() {
-        this.missedCalls = (this.missedCalls == null ? 0 : this.missedCalls) + 1;
+    // AI 요약은 커밋 이후 비동기로 생성되므로 상태만 PENDING으로 전환
+    public void requestAiHealthSummary() {
+        this.aiHealthSummaryStatus = AiSummaryStatus.PENDING;
+        this.aiHealthSummaryRetryCount = 0;
     }
 }
@@ -0,0 +1,27 @@
+package com.example.medicare_call.dto.carecall;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "통화 분석 작업 현황")
+public class CareCallAnalysisJobSummaryResponse {
+
+    @Schema(description = "이번 요청으로 다시 대기 상태로 돌린 건수 (조회 시 null)", example = "1200")
+    private Integer requeued;
+
+    @Schema(description = "처리 대기 건수")
+    private long pending;
+
+    @Schema(description = "처리 중 건수")
+    private long running;
+
+    @Schema(description = "최대 시도 횟수를 모두 실패한 건수")
+    private long failed;
+}
@@ -0,0 +1,23 @@
+package com.example.medicare_call.dto.carecall;
+
+import com.example.medicare_call.global.annotation.ValidDateRange;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Schema(description = "실패한 통화 분석 재처리 요청 DTO")
+public class CareCallAnalysisReplayRequest {
+
+    @NotNull
+    @ValidDateRange
+    @Schema(description = "분석 작업 생성 시작일", example = "2025-06-01")
+    private LocalDate startDate;
+
+    @NotNull
+    @ValidDateRange
+    @Schema(description = "분석 작업 생성 종료일 (포함)", example = "2025-06-02")
+    private LocalDate endDate;
+}
@@ -0,0 +1,20 @@
+package com.example.medicare_call.dto.carecall;
+
+import com.example.medicare_call.dto.carecall.ImmediateCareCallRequest.CareCallOption;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "일괄 즉시 케어콜 요청 DTO")
+public class CareCallCampaignRequest {
+
+    @Schema(description = "대상 어르신 ID 목록 (비우면 보호자에게 등록된 활성 어르신 전체)", example = "[1, 2, 3]")
+    private List<Integer> elderIds;
+
+    @NotNull
+    @Schema(description = "케어콜 옵션", example = "FIRST")
+    private CareCallOption careCallOption;
+}
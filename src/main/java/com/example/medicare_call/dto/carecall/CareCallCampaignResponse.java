@@ -0,0 +1,115 @@
+package com.example.medicare_call.dto.carecall;
+
+import com.example.medicare_call.domain.CareCallCampaign;
+import com.example.medicare_call.domain.CareCallCampaignItem;
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.global.enums.CareCallCampaignItemStatus;
+import com.example.medicare_call.global.enums.CareCallCampaignStatus;
+import com.example.medicare_call.global.enums.OutboundCallStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "일괄 즉시 케어콜 진행 상황")
+public class CareCallCampaignResponse {
+
+    @Schema(description = "캠페인 ID")
+    private Long campaignId;
+
+    @Schema(description = "캠페인 상태")
+    private CareCallCampaignStatus status;
+
+    @Schema(description = "케어콜 회차")
+    private CallType callType;
+
+    @Schema(description = "전체 대상 어르신 수")
+    private int total;
+
+    @Schema(description = "발송 요청 대기 중인 어르신 수")
+    private int pending;
+
+    @Schema(description = "발송 요청을 기록한 어르신 수")
+    private int enqueued;
+
+    @Schema(description = "발송 요청에 실패한 어르신 수")
+    private int failed;
+
+    @Schema(description = "전화 서버 발송까지 완료된 어르신 수")
+    private int sent;
+
+    @Schema(description = "전화 서버 발송을 포기한 어르신 수")
+    private int dead;
+
+    @Schema(description = "캠페인 생성 시각")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "캠페인 종료 시각 (모든 어르신의 발송 요청 처리 완료)")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "어르신별 발송 상태")
+    private List<ElderCallStatus> elders;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Schema(description = "어르신별 발송 상태")
+    public static class ElderCallStatus {
+
+        @Schema(description = "어르신 ID")
+        private Integer elderId;
+
+        @Schema(description = "발송 요청 상태")
+        private CareCallCampaignItemStatus status;
+
+        @Schema(description = "전화 서버 발송 상태 (발송 요청 기록 후에만 존재)")
+        private OutboundCallStatus deliveryStatus;
+
+        @Schema(description = "실패 사유")
+        private String error;
+    }
+
+    /**
+     * @param deliveryStatuses idempotencyKey별 발송 아웃박스 상태
+     */
+    public static CareCallCampaignResponse of(CareCallCampaign campaign, List<CareCallCampaignItem> items,
+                                              Map<String, OutboundCallStatus> deliveryStatuses) {
+        List<ElderCallStatus> elders = items.stream()
+                .map(item -> ElderCallStatus.builder()
+                        .elderId(item.getElderId())
+                        .status(item.getStatus())
+                        .deliveryStatus(deliveryStatuses.get(item.idempotencyKey()))
+                        .error(item.getError())
+                        .build())
+                .toList();
+
+        return CareCallCampaignResponse.builder()
+                .campaignId(campaign.getId())
+                .status(campaign.getStatus())
+                .callType(campaign.getCallType())
+                .total(items.size())
+                .pending(count(elders, CareCallCampaignItemStatus.PENDING))
+                .enqueued(count(elders, CareCallCampaignItemStatus.ENQUEUED))
+                .failed(count(elders, CareCallCampaignItemStatus.FAILED))
+                .sent((int) elders.stream().filter(e -> e.getDeliveryStatus() == OutboundCallStatus.SENT).count())
+                .dead((int) elders.stream().filter(e -> e.getDeliveryStatus() == OutboundCallStatus.DEAD).count())
+                .createdAt(campaign.getCreatedAt())
+                .finishedAt(campaign.getFinishedAt())
+                .elders(elders)
+                .build();
+    }
+
+    private static int count(List<ElderCallStatus> elders, CareCallCampaignItemStatus status) {
+        return (int) elders.stream().filter(e -> e.getStatus() == status).count();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.medicare_call.dto.carecall;
+
+import com.example.medicare_call.service.carecall.outbound.CareCallCapacityPlanner.MinuteLoad;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "케어콜 예약 과밀 시각 조회 결과")
+public class CareCallHotMinuteResponse {
+
+    @Schema(description = "과밀 기준 (1분 예약 건수)")
+    private int threshold;
+
+    @Schema(description = "예약 건수가 가장 많은 분")
+    private MinuteLoadResponse peak;
+
+    @Schema(description = "기준 이상인 분 목록 (건수 내림차순)")
+    private List<MinuteLoadResponse> hotMinutes;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Schema(description = "1분 동안 예약된 케어콜 수")
+    public static class MinuteLoadResponse {
+
+        @Schema(description = "예약 시각", example = "09:00")
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+        private LocalTime minute;
+
+        @Schema(description = "전체 건수")
+        private int total;
+
+        @Schema(description = "1차 케어콜 건수")
+        private int first;
+
+        @Schema(description = "2차 케어콜 건수")
+        private int second;
+
+        @Schema(description = "3차 케어콜 건수")
+        private int third;
+
+        public static MinuteLoadResponse from(MinuteLoad load) {
+            return new MinuteLoadResponse(load.minute(), load.total(), load.first(), load.second(), load.third());
+        }
+    }
+
+    public static CareCallHotMinuteResponse of(int threshold, MinuteLoad peak, List<MinuteLoad> hotMinutes) {
+        return CareCallHotMinuteResponse.builder()
+                .threshold(threshold)
+                .peak(MinuteLoadResponse.from(peak))
+                .hotMinutes(hotMinutes.stream().map(MinuteLoadResponse::from).toList())
+                .build();
+    }
+}
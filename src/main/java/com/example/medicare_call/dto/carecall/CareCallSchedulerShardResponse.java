@@ -0,0 +1,45 @@
+package com.example.medicare_call.dto.carecall;
+
+import com.example.medicare_call.service.carecall.outbound.CareCallShardCoordinator.ShardAssignment;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "케어콜 스케줄러 샤드 배정 현황")
+public class CareCallSchedulerShardResponse {
+
+    @Schema(description = "응답한 노드 ID")
+    private String nodeId;
+
+    @Schema(description = "살아 있는 스케줄러 노드 목록")
+    private List<String> members;
+
+    @Schema(description = "샤드 번호별 소유 노드 (응답한 노드 기준)")
+    private Map<Integer, String> owners;
+
+    @Schema(description = "직전 발송 분")
+    private LocalDateTime lastMinute;
+
+    @Schema(description = "직전 발송 분에 샤드별로 실제 발송한 노드 (예약 건이 없던 샤드는 제외)")
+    private Map<Integer, String> lastMinuteClaims;
+
+    public static CareCallSchedulerShardResponse of(ShardAssignment assignment, LocalDateTime lastMinute, Map<Integer, String> lastMinuteClaims) {
+        return CareCallSchedulerShardResponse.builder()
+                .nodeId(assignment.nodeId())
+                .members(assignment.members())
+                .owners(assignment.owners())
+                .lastMinute(lastMinute)
+                .lastMinuteClaims(lastMinuteClaims)
+                .build();
+    }
+}
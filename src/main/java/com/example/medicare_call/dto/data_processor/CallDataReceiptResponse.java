@@ -0,0 +1,16 @@
+package com.example.medicare_call.dto.data_processor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "통화 데이터 수신 결과")
+public class CallDataReceiptResponse {
+
+    @Schema(description = "수신 번호 (테스트 발송 결과는 저장하지 않으므로 null)", example = "1024")
+    private Long receiptId;
+}
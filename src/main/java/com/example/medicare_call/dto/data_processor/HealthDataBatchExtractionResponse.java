@@ -0,0 +1,30 @@
+package com.example.medicare_call.dto.data_processor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 통화 건강 데이터 일괄 추출 응답 (통화 번호별 결과)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthDataBatchExtractionResponse {
+
+    private List<Result> results;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        // 프롬프트의 통화 번호
+        private Integer index;
+        private HealthDataExtractionResponse data;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.medicare_call.dto.report;
 
+import com.example.medicare_call.global.enums.AiSummaryStatus;
 import com.example.medicare_call.global.enums.MedicationScheduleTime;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -18,6 +19,9 @@ public class HomeReportResponse {
     @Schema(description = "AI가 생성한 건강 상태 요약 문장", example = "아침·점심 복약과 식사는 문제 없으나, 저녁 약 복용이 늦어진 우려가 있어요.")
     private String aiSummary;
 
+    @Schema(description = "AI 요약 생성 상태 (PENDING: 생성 중, COMPLETED: 생성 완료, FAILED: 생성 실패)", example = "COMPLETED")
+    private AiSummaryStatus aiSummaryStatus;
+
     @Schema(description = "식사 여부 상태 정보")
     private MealStatus mealStatus;
 
@@ -0,0 +1,47 @@
+package com.example.medicare_call.dto.report;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@Builder
+@Schema(description = "월간 통계 데이터 조회 응답 (항목 구성은 주간 통계와 동일)")
+public class MonthlyReportResponse {
+
+    @Schema(description = "어르신 이름", example = "김옥자")
+    private String elderName;
+
+    @Schema(description = "조회 월의 1일", example = "2025-07-01")
+    private LocalDate startDate;
+
+    @Schema(description = "마지막으로 집계된 일자", example = "2025-07-24")
+    private LocalDate endDate;
+
+    @Schema(description = "월간 요약 통계 정보")
+    private WeeklyReportResponse.SummaryStats summaryStats;
+
+    @Schema(description = "식사 횟수 통계")
+    private WeeklyReportResponse.MealStats mealStats;
+
+    @Schema(description = "복약 통계 (약물별 상세)")
+    private Map<String, WeeklyReportResponse.MedicationStats> medicationStats;
+
+    @Schema(description = "평균 수면 시간")
+    private WeeklyReportResponse.AverageSleep averageSleep;
+
+    @Schema(description = "심리 상태 요약")
+    private WeeklyReportResponse.PsychSummary psychSummary;
+
+    @Schema(description = "혈당 상태 통계")
+    private WeeklyReportResponse.BloodSugar bloodSugar;
+
+    @Schema(description = "회원의 구독 시작 날짜")
+    private LocalDate subscriptionStartDate;
+
+    @Schema(description = "읽지 않은 알림 개수", example = "5")
+    private Integer unreadNotification;
+}
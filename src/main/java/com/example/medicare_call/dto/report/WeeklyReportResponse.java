@@ -1,5 +1,6 @@
 package com.example.medicare_call.dto.report;
 
+import com.example.medicare_call.global.enums.AiSummaryStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,6 +28,9 @@ public class WeeklyReportResponse {
     @Schema(description = "AI가 생성한 건강 상태 요약 문장", example = "아침, 점심 복약과 식사는 문제 없으나...")
     private String healthSummary;
 
+    @Schema(description = "AI 주간 요약 생성 상태 (PENDING: 생성 중, COMPLETED: 생성 완료, FAILED: 생성 실패)", example = "COMPLETED")
+    private AiSummaryStatus healthSummaryStatus;
+
     @Schema(description = "평균 수면 시간")
     private AverageSleep averageSleep;
 
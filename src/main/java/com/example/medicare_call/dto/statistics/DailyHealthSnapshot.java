@@ -0,0 +1,46 @@
+package com.example.medicare_call.dto.statistics;
+
+import com.example.medicare_call.domain.*;
+import com.example.medicare_call.global.enums.ElderStatus;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 특정 어르신의 하루치 건강 데이터 스냅샷
+ * 일간 통계 계산에 필요한 원천 데이터를 한 번에 조회해 두고 각 계산 로직이 공유한다
+ */
+@Builder
+public record DailyHealthSnapshot(
+        Elder elder,
+        LocalDate date,
+
+        // 케어콜 기록 (calledAt 오름차순)
+        List<CareCallRecord> callRecords,
+        CareCallSetting setting,
+
+        // 복약
+        List<MedicationSchedule> medicationSchedules,
+        List<MedicationTakenRecord> medicationTakenRecords,
+
+        // 식사 & 혈당
+        List<MealRecord> mealRecords,
+        List<BloodSugarRecord> bloodSugarRecords
+) {
+    public Optional<CareCallSetting> settingOpt() {
+        return Optional.ofNullable(setting);
+    }
+
+    // 수면/심리/건강 상태는 활성 어르신의 기록만 반영 (기존 항목별 조회의 ACTIVATED 조건 유지)
+    public List<CareCallRecord> activeCallRecords() {
+        return elder.getStatus() == ElderStatus.ACTIVATED ? callRecords : List.of();
+    }
+
+    public List<CareCallRecord> sleepRecords() {
+        return activeCallRecords().stream()
+                .filter(record -> record.getSleepStart() != null)
+                .toList();
+    }
+}
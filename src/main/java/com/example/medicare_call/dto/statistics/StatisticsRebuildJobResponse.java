@@ -0,0 +1,78 @@
+package com.example.medicare_call.dto.statistics;
+
+import com.example.medicare_call.domain.StatisticsRebuildChunk;
+import com.example.medicare_call.domain.StatisticsRebuildJob;
+import com.example.medicare_call.global.enums.StatisticsRebuildStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "통계 일괄 재계산 작업 진행 상황")
+public class StatisticsRebuildJobResponse {
+
+    @Schema(description = "작업 ID")
+    private Long jobId;
+
+    @Schema(description = "작업 상태")
+    private StatisticsRebuildStatus status;
+
+    @Schema(description = "재계산 시작일")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    @Schema(description = "재계산 종료일")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate endDate;
+
+    @Schema(description = "AI 요약 생성 생략 여부")
+    private boolean skipAiSummary;
+
+    @Schema(description = "전체 청크 수")
+    private int totalChunks;
+
+    @Schema(description = "완료된 청크 수")
+    private int completedChunks;
+
+    @Schema(description = "실패한 어르신이 있는 청크 수")
+    private int failedChunks;
+
+    @Schema(description = "처리한 어르신 수")
+    private int processedElders;
+
+    @Schema(description = "재계산에 실패한 어르신 수")
+    private int failedElders;
+
+    @Schema(description = "작업 생성 시각")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "작업 종료 시각")
+    private LocalDateTime finishedAt;
+
+    public static StatisticsRebuildJobResponse of(StatisticsRebuildJob job, List<StatisticsRebuildChunk> chunks) {
+        return StatisticsRebuildJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .startDate(job.getStartDate())
+                .endDate(job.getEndDate())
+                .skipAiSummary(job.isSkipAiSummary())
+                .totalChunks(chunks.size())
+                .completedChunks((int) chunks.stream().filter(c -> c.getStatus() == StatisticsRebuildStatus.COMPLETED).count())
+                .failedChunks((int) chunks.stream().filter(c -> c.getStatus() == StatisticsRebuildStatus.FAILED).count())
+                .processedElders(chunks.stream().mapToInt(StatisticsRebuildChunk::getProcessedElders).sum())
+                .failedElders(chunks.stream().mapToInt(StatisticsRebuildChunk::getFailedElders).sum())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
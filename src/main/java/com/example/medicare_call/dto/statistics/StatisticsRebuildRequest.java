@@ -0,0 +1,26 @@
+package com.example.medicare_call.dto.statistics;
+
+import com.example.medicare_call.global.annotation.ValidDateRange;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Schema(description = "통계 일괄 재계산 요청 DTO")
+public class StatisticsRebuildRequest {
+
+    @NotNull
+    @ValidDateRange
+    @Schema(description = "재계산 시작일", example = "2025-01-01")
+    private LocalDate startDate;
+
+    @NotNull
+    @ValidDateRange
+    @Schema(description = "재계산 종료일 (포함)", example = "2025-06-30")
+    private LocalDate endDate;
+
+    @Schema(description = "AI 요약 생성 생략 여부 (생략 시 기존 요약 유지)", example = "true")
+    private boolean skipAiSummary = true;
+}
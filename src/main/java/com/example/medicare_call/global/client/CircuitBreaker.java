@@ -0,0 +1,129 @@
+package com.example.medicare_call.global.client;
+
+import com.example.medicare_call.global.config.HttpClientResilienceProperties;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 호출 대상별 서킷 브레이커
+ * - CLOSED: 최근 slidingWindowSize건의 실패율이나 지연 호출 비율이 기준을 넘으면 OPEN으로 전환
+ * - OPEN: openDuration 동안 호출을 바로 거부한 뒤 HALF_OPEN으로 전환
+ * - HALF_OPEN: halfOpenCalls건만 시험 호출을 허용하여 모두 성공하면 CLOSED, 하나라도 실패/지연이면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final HttpClientResilienceProperties.Target settings;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과 (원형 버퍼)
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int recorded;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(HttpClientResilienceProperties.Target settings, LongSupplier nanoClock) {
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.failed = new boolean[settings.getSlidingWindowSize()];
+        this.slow = new boolean[settings.getSlidingWindowSize()];
+    }
+
+    /**
+     * 호출 허용 여부. 허용된 호출은 반드시 onSuccess 또는 onError로 결과를 기록해야 한다
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < settings.getOpenDuration().toNanos()) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermitted = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= settings.getHalfOpenCalls()) {
+                return false;
+            }
+            halfOpenPermitted++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(long durationNanos) {
+        record(false, durationNanos);
+    }
+
+    public synchronized void onError(long durationNanos) {
+        record(true, durationNanos);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 최근 호출 실패율(%), 집계된 호출이 minimumCalls보다 적으면 -1
+     */
+    public synchronized float getFailureRate() {
+        return recorded < settings.getMinimumCalls() ? -1f : failureCount * 100f / recorded;
+    }
+
+    private void record(boolean isFailure, long durationNanos) {
+        boolean isSlow = durationNanos >= settings.getSlowCallThreshold().toNanos();
+
+        if (state == State.HALF_OPEN) {
+            if (isFailure || isSlow) {
+                open();
+            } else if (++halfOpenSucceeded >= settings.getHalfOpenCalls()) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // 차단 전에 허용된 호출의 늦은 결과는 반영하지 않음
+            return;
+        }
+
+        if (recorded == failed.length) {
+            failureCount -= failed[next] ? 1 : 0;
+            slowCount -= slow[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failed[next] = isFailure;
+        slow[next] = isSlow;
+        failureCount += isFailure ? 1 : 0;
+        slowCount += isSlow ? 1 : 0;
+        next = (next + 1) % failed.length;
+
+        if (recorded >= settings.getMinimumCalls()
+                && (failureCount * 100 >= settings.getFailureRateThreshold() * recorded
+                || slowCount * 100 >= settings.getSlowCallRateThreshold() * recorded)) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failureCount = 0;
+        slowCount = 0;
+    }
+}
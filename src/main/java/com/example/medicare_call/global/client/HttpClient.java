@@ -1,6 +1,5 @@
 package com.example.medicare_call.global.client;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -8,27 +7,43 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.function.Supplier;
+
+/**
+ * 외부 HTTP 호출 기본 클래스
+ * 하위 클래스가 지정한 대상(target) 단위로 동시 호출 수를 제한하고(벌크헤드), 장애 시 서킷 브레이커로 호출을 바로 거부한다
+ * 거부된 호출은 CustomException(EXTERNAL_API_CIRCUIT_OPEN / EXTERNAL_API_BULKHEAD_FULL)으로 즉시 실패한다
+ */
 @Slf4j
-@RequiredArgsConstructor
 public abstract class HttpClient {
 
     private final RestTemplate restTemplate;
+    private final HttpClientResilienceRegistry resilienceRegistry;
+    private final String target;
+
+    protected HttpClient(RestTemplate restTemplate, HttpClientResilienceRegistry resilienceRegistry, String target) {
+        this.restTemplate = restTemplate;
+        this.resilienceRegistry = resilienceRegistry;
+        this.target = target;
+    }
 
     protected <T> ResponseEntity<String> sendPostRequest(String url, HttpHeaders headers, T body) {
-        try {
-            HttpEntity<T> requestEntity = new HttpEntity<>(body, headers);
-            return restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
-        } catch (Exception e) {
-            log.error("HTTP 요청 실패 - URL: {}, Error: {}", url, e.getMessage());
-            throw new RuntimeException("HTTP 요청 중 오류 발생", e);
-        }
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, headers);
+        return execute(url, () -> restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class));
     }
 
     protected <T> ResponseEntity<String> sendGetRequest(String url, HttpHeaders headers) {
+        HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
+        return execute(url, () -> restTemplate.exchange(url, HttpMethod.GET, requestEntity, String.class));
+    }
+
+    private ResponseEntity<String> execute(String url, Supplier<ResponseEntity<String>> request) {
         try {
-            HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
-            return restTemplate.exchange(url, HttpMethod.GET, requestEntity, String.class);
+            return resilienceRegistry.execute(target, request);
         } catch (Exception e) {
+            if (HttpClientResilienceRegistry.isRejected(e)) {
+                throw e;
+            }
             log.error("HTTP 요청 실패 - URL: {}, Error: {}", url, e.getMessage());
             throw new RuntimeException("HTTP 요청 중 오류 발생", e);
         }
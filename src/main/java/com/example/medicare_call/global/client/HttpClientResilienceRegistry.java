@@ -0,0 +1,141 @@
+package com.example.medicare_call.global.client;
+
+import com.example.medicare_call.global.config.HttpClientResilienceProperties;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 외부 호출 대상별 서킷 브레이커와 벌크헤드(동시 호출 수 제한)를 보관
+ * 대상마다 따로 두어 한 대상이 느려지거나 장애가 나도 다른 대상 호출에 쓰일 스레드를 잡아두지 않도록 한다
+ * HttpClient 하위 클래스뿐 아니라 전용 RestTemplate이나 spring-ai로 호출하는 서비스도 execute로 같은 가드를 거친다
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpClientResilienceRegistry {
+
+    private final HttpClientResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Guard> guards = new ConcurrentHashMap<>();
+
+    public Guard guard(String target) {
+        return guards.computeIfAbsent(target, this::create);
+    }
+
+    /**
+     * 대상의 벌크헤드와 서킷 브레이커를 거쳐 호출
+     * 거부된 호출은 CustomException(EXTERNAL_API_CIRCUIT_OPEN / EXTERNAL_API_BULKHEAD_FULL)으로 즉시 실패하고,
+     * 호출 중 발생한 예외는 서킷 브레이커에 집계한 뒤 그대로 다시 던진다
+     *
+     * @param target 호출 대상 이름 (app.http-client.targets 설정 키)
+     * @param call 외부 호출
+     * @return 호출 결과
+     */
+    public <T> T execute(String target, Supplier<T> call) {
+        Guard guard = guard(target);
+
+        if (!guard.bulkhead().tryAcquire()) {
+            recordRejected(target, "bulkhead_full");
+            throw new CustomException(ErrorCode.EXTERNAL_API_BULKHEAD_FULL, "동시 호출 수 초과 - target: " + target);
+        }
+        try {
+            if (!guard.circuitBreaker().tryAcquirePermission()) {
+                recordRejected(target, "circuit_open");
+                throw new CustomException(ErrorCode.EXTERNAL_API_CIRCUIT_OPEN, "서킷 차단 중 - target: " + target);
+            }
+
+            long start = System.nanoTime();
+            try {
+                T result = call.get();
+                guard.circuitBreaker().onSuccess(System.nanoTime() - start);
+                return result;
+            } catch (RuntimeException e) {
+                if (isTargetFailure(e)) {
+                    guard.circuitBreaker().onError(System.nanoTime() - start);
+                } else {
+                    guard.circuitBreaker().onSuccess(System.nanoTime() - start);
+                }
+                throw e;
+            }
+        } finally {
+            guard.bulkhead().release();
+        }
+    }
+
+    /**
+     * 서킷 차단 또는 동시 호출 수 초과로 거부된 호출인지 확인 (호출부에서 다른 오류로 바꾸지 않고 그대로 전달할 때 사용)
+     */
+    public static boolean isRejected(Exception e) {
+        return e instanceof CustomException custom
+                && (custom.getErrorCode() == ErrorCode.EXTERNAL_API_CIRCUIT_OPEN
+                || custom.getErrorCode() == ErrorCode.EXTERNAL_API_BULKHEAD_FULL);
+    }
+
+    /**
+     * 서킷 브레이커에 실패로 집계할 예외인지 판단
+     * 4xx는 요청 문제이므로 제외하되, 429(Too Many Requests)와 408(Request Timeout)은 대상이 과부하라는 신호이므로 실패로 집계한다
+     * spring-ai는 4xx 응답을 "상태 코드 - 본문" 메시지의 NonTransientAiException으로 바꿔 던지므로 메시지의 상태 코드로 판단한다
+     */
+    static boolean isTargetFailure(Exception e) {
+        if (e instanceof HttpClientErrorException clientError) {
+            return isOverloaded(clientError.getStatusCode());
+        }
+        if (e instanceof NonTransientAiException aiError) {
+            String message = aiError.getMessage();
+            return message != null && (message.startsWith(HttpStatus.TOO_MANY_REQUESTS.value() + " ")
+                    || message.startsWith(HttpStatus.REQUEST_TIMEOUT.value() + " "));
+        }
+        return true;
+    }
+
+    private static boolean isOverloaded(HttpStatusCode status) {
+        return status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS) || status.isSameCodeAs(HttpStatus.REQUEST_TIMEOUT);
+    }
+
+    private Guard create(String target) {
+        HttpClientResilienceProperties.Target settings = properties.forTarget(target);
+        Guard guard = new Guard(
+                new CircuitBreaker(settings, System::nanoTime),
+                new Semaphore(settings.getMaxConcurrentCalls())
+        );
+
+        Gauge.builder("http.client.circuit_breaker.state", guard, g -> g.circuitBreaker().getState().ordinal())
+                .description("서킷 브레이커 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .tag("target", target)
+                .register(meterRegistry);
+        Gauge.builder("http.client.circuit_breaker.failure_rate", guard, g -> g.circuitBreaker().getFailureRate())
+                .description("최근 호출 실패율(%), 집계 호출 수가 부족하면 -1")
+                .tag("target", target)
+                .register(meterRegistry);
+        Gauge.builder("http.client.bulkhead.available", guard, g -> g.bulkhead().availablePermits())
+                .description("남은 동시 호출 허용 수")
+                .tag("target", target)
+                .register(meterRegistry);
+        return guard;
+    }
+
+    public void recordRejected(String target, String reason) {
+        Counter.builder("http.client.rejected")
+                .description("서킷 차단 또는 동시 호출 수 초과로 거부된 호출 수")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public record Guard(CircuitBreaker circuitBreaker, Semaphore bulkhead) {}
+}
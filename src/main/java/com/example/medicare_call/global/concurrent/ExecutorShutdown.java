@@ -0,0 +1,32 @@
+package com.example.medicare_call.global.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컴포넌트 전용 스레드 풀 종료 (@PreDestroy에서 사용)
+ */
+public final class ExecutorShutdown {
+
+    private static final long AWAIT_SECONDS = 30;
+
+    private ExecutorShutdown() {
+    }
+
+    /**
+     * 새 작업을 받지 않고 대기 중인 작업까지 처리한 뒤 종료, 30초 안에 끝나지 않으면 실행 중인 작업을 중단
+     *
+     * @param executor 종료할 스레드 풀
+     */
+    public static void awaitOrForce(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(AWAIT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
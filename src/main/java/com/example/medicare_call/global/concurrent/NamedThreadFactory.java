@@ -0,0 +1,34 @@
+package com.example.medicare_call.global.concurrent;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 컴포넌트 전용 스레드 풀의 스레드 이름을 "{prefix}-{순번}" 형태로 지정 (스레드 덤프/로그에서 풀 구분용)
+ * 종료 시 기다리지 않아도 되는 타이머/생존 신호 스레드는 데몬으로 생성할 수 있다
+ */
+public class NamedThreadFactory implements ThreadFactory {
+
+    private final ThreadFactory delegate = Executors.defaultThreadFactory();
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final String prefix;
+    private final boolean daemon;
+
+    public NamedThreadFactory(String prefix) {
+        this(prefix, false);
+    }
+
+    public NamedThreadFactory(String prefix, boolean daemon) {
+        this.prefix = prefix;
+        this.daemon = daemon;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = delegate.newThread(runnable);
+        thread.setName(prefix + "-" + sequence.incrementAndGet());
+        thread.setDaemon(daemon);
+        return thread;
+    }
+}
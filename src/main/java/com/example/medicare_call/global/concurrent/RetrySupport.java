@@ -0,0 +1,63 @@
+package com.example.medicare_call.global.concurrent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 조건부 갱신으로 선점하는 작업 테이블(발송 아웃박스, 통화 데이터 수신함, 통화 분석 작업) 워커의 공통 처리
+ * - 선점 시 처리 제한 시각(lease)을 기록하고, 제한 시각이 지나도록 결과가 기록되지 않으면 다른 인스턴스가 다시 가져간다
+ * - 실패 사유는 last_error 컬럼 길이에 맞춰 잘라 기록한다
+ */
+public final class RetrySupport {
+
+    // last_error 컬럼 길이
+    public static final int MAX_ERROR_LENGTH = 500;
+
+    private RetrySupport() {
+    }
+
+    /**
+     * 선점한 작업의 처리 제한 시각
+     *
+     * @param now 선점 시각
+     * @param timeout 처리 제한 시간
+     * @return 이 시각이 지나면 다른 인스턴스가 다시 선점할 수 있다
+     */
+    public static LocalDateTime leaseDeadline(LocalDateTime now, Duration timeout) {
+        return now.plus(timeout);
+    }
+
+    /**
+     * 선형 재시도 대기 시간 (backoff * 시도 횟수)
+     */
+    public static Duration linearBackoff(Duration backoff, int attempts) {
+        return backoff.multipliedBy(Math.max(attempts, 1));
+    }
+
+    /**
+     * 지수 재시도 대기 시간: initial * 2^(attempts-1)을 max로 제한한 뒤 절반 구간에서 무작위 선택
+     * 같은 시각에 실패한 작업들이 동시에 재시도하지 않도록 분산한다
+     */
+    public static Duration exponentialBackoffWithJitter(Duration initial, Duration max, int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+
+        long delayMillis = Math.min(max.toMillis(), initial.toMillis() << exponent);
+        long half = delayMillis / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    /**
+     * 실패 원인을 "예외 클래스: 메시지" 형태로 last_error 길이에 맞춰 변환
+     */
+    public static String errorMessage(Throwable e) {
+        return truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+    }
+
+    public static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.medicare_call.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.ai-summary")
+public class AiSummaryProperties {
+
+    // 동시에 실행할 요약 작업 수 (OpenAI 동시 호출 제한)
+    private int concurrency = 3;
+
+    // 대기열 최대 길이, 초과한 요청은 PENDING으로 남겨 두고 재처리 스윕에서 다시 등록
+    private int queueCapacity = 500;
+
+    // OpenAI 호출 최대 시도 횟수 (최초 호출 포함)
+    private int maxAttempts = 3;
+
+    // 재시도 대기 시간 (지수 백오프)
+    private long initialBackoffMillis = 1000;
+    private long maxBackoffMillis = 10000;
+
+    // PENDING 재처리 스윕 1회당 대상별 최대 등록 건수
+    private int sweepBatchSize = 100;
+
+    // FAILED 요약을 스윕에서 PENDING으로 되돌리는 최대 횟수 (대상별, 새 입력으로 갱신되면 초기화)
+    private int sweepMaxRetries = 3;
+
+    // 요청 후 이 시간이 지나도록 PENDING이면 스윕이 다시 가져가 생성 (재시도를 포함한 생성 시간보다 길게)
+    private Duration pendingTimeout = Duration.ofMinutes(10);
+
+    // 스윕 리스 유지 시간, 한 인스턴스만 스윕을 실행 (스윕 주기보다 짧게)
+    private Duration sweepLeaseTtl = Duration.ofMinutes(4);
+
+    // 인스턴스 내 요약 캐시 최대 항목 수
+    private int cacheMaxSize = 2000;
+
+    // Redis 요약 캐시 보관 기간
+    private Duration cacheTtl = Duration.ofDays(7);
+}
@@ -0,0 +1,36 @@
+package com.example.medicare_call.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.call-data-ingest")
+public class CallDataIngestProperties {
+
+    // true면 웹훅은 수신함에 기록 후 202를 반환하고 워커가 저장, false면 요청 스레드에서 바로 저장
+    private boolean async = true;
+
+    // 동시에 처리할 묶음 수
+    private int concurrency = 2;
+
+    // 한 트랜잭션으로 저장할 최대 건수
+    private int batchSize = 50;
+
+    // 최대 처리 시도 횟수, 모두 실패하면 FAILED로 기록
+    private int maxAttempts = 5;
+
+    // 재시도 대기 시간 (시도 횟수만큼 배수로 증가)
+    private Duration retryBackoff = Duration.ofSeconds(10);
+
+    // 처리 중 상태를 유지하는 시간, 지나도록 결과가 기록되지 않으면 다시 처리 대상이 됨
+    private Duration processTimeout = Duration.ofMinutes(2);
+
+    // 저장 완료 건 보관 기간
+    private Duration retention = Duration.ofDays(3);
+}
@@ -0,0 +1,52 @@
+package com.example.medicare_call.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.care-call-analysis")
+public class CareCallAnalysisProperties {
+
+    // 통화 분석(AI 추출, 통계, 알림) 기본 스레드 수
+    private int coreThreads = 4;
+
+    // 대기열이 가득 찼을 때 늘릴 수 있는 최대 스레드 수 (OpenAI 동시 요청 수 상한)
+    private int maxThreads = 8;
+
+    // 대기열 크기
+    private int queueCapacity = 200;
+
+    // 기본 스레드 수를 넘는 스레드의 유휴 유지 시간
+    private Duration keepAlive = Duration.ofSeconds(60);
+
+    // 대기열과 최대 스레드가 모두 찼을 때 처리 방식
+    private OverflowPolicy overflowPolicy = OverflowPolicy.SPILL;
+
+    // 최대 분석 시도 횟수, 모두 실패하면 FAILED로 기록 (시도마다 OpenAI 호출은 @Retryable로 3회까지 재시도)
+    private int maxAttempts = 5;
+
+    // 재시도 대기 시간 (시도 횟수만큼 배수로 증가)
+    private Duration retryBackoff = Duration.ofMinutes(1);
+
+    // 처리 중 상태를 유지하는 시간, 지나도록 결과가 기록되지 않으면 재처리 대상이 됨
+    private Duration processTimeout = Duration.ofMinutes(10);
+
+    // 재처리 워커가 한 번에 가져갈 최대 건수 (분석 대기열 여유만큼만 가져감)
+    private int replayBatchSize = 20;
+
+    // 분석 완료 작업 보관 기간
+    private Duration retention = Duration.ofDays(14);
+
+    public enum OverflowPolicy {
+        // 호출 스레드(통화 데이터 수신함 워커 등)에서 직접 처리하여 수신 속도를 늦춤
+        CALLER_RUNS,
+        // 분석 작업을 대기 상태로 돌려놓고 재처리 워커가 여유 있을 때 처리
+        SPILL
+    }
+}
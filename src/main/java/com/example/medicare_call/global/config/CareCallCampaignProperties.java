@@ -0,0 +1,30 @@
+package com.example.medicare_call.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.care-call-campaign")
+public class CareCallCampaignProperties {
+
+    // 발송 요청(프롬프트 생성 + 아웃박스 기록)을 동시에 처리할 스레드 수
+    private int concurrency = 4;
+
+    // 인스턴스 전체 초당 최대 발송 요청 수 (정기 케어콜 발송과 DB/전화 서버 부하를 나누기 위함)
+    private int ratePerSecond = 20;
+
+    // 캠페인 1건에 포함할 수 있는 최대 어르신 수
+    private int maxElders = 500;
+
+    // 생성 후 이 시간이 지나도록 진행 중인 캠페인의 대기(PENDING) 어르신은 재개 스윕이 다시 발송 요청 (인스턴스 중단 대비)
+    private Duration resumeAfter = Duration.ofMinutes(10);
+
+    // 재개 스윕 리스 유지 시간 (여러 인스턴스 중 한 곳만 실행)
+    private Duration sweepLeaseTtl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,28 @@
+package com.example.medicare_call.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.care-call-dispatch")
+public class CareCallDispatchProperties {
+
+    // 동시에 처리하는 최대 발송 요청 수 (프롬프트 생성, 아웃박스 기록)
+    private int concurrency = 8;
+
+    // 초당 발송 시작 수, 요청이 한꺼번에 몰리지 않도록 일정한 간격으로 분산 (0이면 간격 없이 발송)
+    private double callsPerSecond = 5;
+
+    // 발송 대기열 최대 길이, 초과한 요청은 발송하지 않고 실패로 기록
+    private int queueCapacity = 2000;
+
+    // 발송 정보(어르신, 건강 정보, 질병, 복약 일정)를 IN 조회로 한 번에 읽을 어르신 수
+    private int prefetchBatchSize = 500;
+
+    // 어르신/회차별 프롬프트 캐시 최대 항목 수 (어르신 수 x 회차 수 이상 권장)
+    private int promptCacheMaxSize = 10000;
+}
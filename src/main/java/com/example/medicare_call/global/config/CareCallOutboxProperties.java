@@ -0,0 +1,35 @@
+package com.example.medicare_call.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.care-call-outbox")
+public class CareCallOutboxProperties {
+
+    // 전화 서버로 동시에 보내는 최대 발송 요청 수
+    private int concurrency = 8;
+
+    // 한 번의 조회로 가져오는 최대 발송 대상 수
+    private int batchSize = 100;
+
+    // 최대 발송 시도 횟수, 모두 실패하면 DEAD로 기록하고 더 이상 시도하지 않음
+    private int maxAttempts = 5;
+
+    // 첫 재시도 대기 시간, 이후 시도마다 2배씩 증가 (maxBackoff까지)
+    private Duration initialBackoff = Duration.ofSeconds(5);
+
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    // 발송 중 상태를 유지하는 시간, 지나도록 결과가 기록되지 않으면 (인스턴스 중단 등) 다시 발송 대상이 됨
+    private Duration sendTimeout = Duration.ofMinutes(2);
+
+    // 발송 완료 건 보관 기간
+    private Duration retention = Duration.ofDays(7);
+}
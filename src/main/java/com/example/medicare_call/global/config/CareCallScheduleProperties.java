@@ -0,0 +1,42 @@
+package com.example.medicare_call.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.care-call-schedule")
+public class CareCallScheduleProperties {
+
+    // 일정 인덱스를 DB에서 다시 구성하는 주기 (다른 인스턴스에서 변경된 설정 반영용)
+    private Duration indexResyncInterval = Duration.ofMinutes(10);
+
+    // 지연/재시작으로 건너뛴 분을 소급 발송할 최대 범위 (분)
+    private int maxCatchUpMinutes = 10;
+
+    // 어르신 ID를 나누는 샤드 수 (모든 인스턴스가 같은 값을 사용해야 함)
+    private int shards = 16;
+
+    // 스케줄러 노드 생존 신호(Redis) 갱신 주기
+    private Duration heartbeatInterval = Duration.ofSeconds(5);
+
+    // 생존 신호가 이 시간 동안 갱신되지 않은 노드는 샤드 배정에서 제외
+    private Duration memberTtl = Duration.ofSeconds(15);
+
+    // 다른 노드 소유 샤드가 발송되지 않았을 때 넘겨받기까지의 대기 시간 (스케줄러 주기 1분보다 짧게)
+    private Duration takeoverDelay = Duration.ofSeconds(15);
+
+    // (분, 샤드) 발송 선점 기록 보관 기간 (소급 발송 범위보다 길게)
+    private Duration claimTtl = Duration.ofMinutes(30);
+
+    // 예약 건수 지표를 묶는 시간 구간 (분, 1440의 약수)
+    private int capacityBucketMinutes = 15;
+
+    // 1분 예약 건수가 이 값 이상이면 과밀 분으로 판단
+    private int hotMinuteThreshold = 50;
+}
@@ -0,0 +1,30 @@
+package com.example.medicare_call.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.health-data-extraction")
+public class HealthDataExtractionBatchProperties {
+
+    // true면 통화 분석의 건강 데이터 추출 요청을 모아 한 번에 보냄, false면 통화마다 요청
+    private boolean batchEnabled = true;
+
+    // 한 요청에 담을 최대 통화 수 (분석 스레드 수보다 크면 대기 시간이 지나야 보내짐)
+    private int maxBatchSize = 5;
+
+    // 첫 요청을 받은 뒤 다른 요청을 기다리는 최대 시간
+    private Duration maxWait = Duration.ofMillis(300);
+
+    // 동시에 보낼 수 있는 일괄 요청 수
+    private int maxConcurrentBatches = 2;
+
+    // 추출 결과를 기다리는 최대 시간, 지나면 실패로 처리하여 재시도
+    private Duration resultTimeout = Duration.ofSeconds(120);
+}
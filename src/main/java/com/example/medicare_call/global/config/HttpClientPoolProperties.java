@@ -0,0 +1,33 @@
+package com.example.medicare_call.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.http-client-pool")
+public class HttpClientPoolProperties {
+
+    // RestTemplate별 최대 커넥션 수
+    private int maxTotal = 100;
+
+    // 호스트(라우트)별 최대 커넥션 수
+    private int maxPerRoute = 20;
+
+    // 풀에서 커넥션을 얻기까지 기다리는 최대 시간
+    private Duration connectionRequestTimeout = Duration.ofSeconds(3);
+
+    // 유휴 상태가 이 시간을 넘은 커넥션은 정리
+    private Duration idleTimeout = Duration.ofSeconds(30);
+
+    // 커넥션 최대 사용 시간, 지나면 새로 연결 (서버 측 DNS/인증서 변경 반영)
+    private Duration connectionTtl = Duration.ofMinutes(5);
+
+    // 이 시간 이상 쉬었던 커넥션은 재사용 전 상태 확인
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+}
@@ -0,0 +1,56 @@
+package com.example.medicare_call.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.http-client")
+public class HttpClientResilienceProperties {
+
+    // 대상별 설정이 없을 때 사용하는 기본값
+    private Target defaults = new Target();
+
+    // 대상 이름(HttpClient 하위 클래스 또는 HttpClientResilienceRegistry.execute 호출부가 지정)별 설정
+    private Map<String, Target> targets = new HashMap<>();
+
+    public Target forTarget(String name) {
+        return targets.getOrDefault(name, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Target {
+
+        // 실패율/지연 비율을 계산할 최근 호출 수
+        private int slidingWindowSize = 20;
+
+        // 최근 호출이 이 수 이상일 때만 차단 여부 판단
+        private int minimumCalls = 10;
+
+        // 실패율(%)이 이 값 이상이면 차단 (4xx 응답은 실패로 보지 않음, 단 429/408은 실패로 집계)
+        private int failureRateThreshold = 50;
+
+        // 이 시간 이상 걸린 호출은 지연 호출로 집계
+        private Duration slowCallThreshold = Duration.ofSeconds(5);
+
+        // 지연 호출 비율(%)이 이 값 이상이면 차단
+        private int slowCallRateThreshold = 80;
+
+        // 차단 후 시험 호출을 허용하기까지의 시간
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        // 시험 호출 수, 모두 성공하면 차단 해제
+        private int halfOpenCalls = 3;
+
+        // 대상별 최대 동시 호출 수, 초과한 호출은 즉시 실패
+        private int maxConcurrentCalls = 10;
+    }
+}
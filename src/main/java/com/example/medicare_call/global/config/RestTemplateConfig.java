@@ -3,41 +3,61 @@ package com.example.medicare_call.global.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * RestTemplate마다 keep-alive 커넥션 풀을 두어 요청마다 TCP/TLS 연결을 새로 맺지 않도록 한다
+ * 풀 사용 현황은 httpcomponents.httpclient.pool.* 지표(pool 태그로 구분)로 노출된다
+ */
+@Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
+
+    private final HttpClientPoolProperties poolProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final List<CloseableHttpClient> httpClients = new CopyOnWriteArrayList<>();
+
     @Bean
     public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
-        return restTemplateBuilder
-                .setConnectTimeout(Duration.ofSeconds(10))
-                .setReadTimeout(Duration.ofSeconds(10))
-                .build();
+        return pooled(restTemplateBuilder, "default", Duration.ofSeconds(10), Duration.ofSeconds(10));
     }
 
     @Bean
     @Qualifier("openAiRestTemplate")
     public RestTemplate openAiRestTemplate(RestTemplateBuilder builder) {
-        return builder
-                .setConnectTimeout(Duration.ofSeconds(10))
-                .setReadTimeout(Duration.ofSeconds(20))
-                .build();
+        return pooled(builder, "openai", Duration.ofSeconds(10), Duration.ofSeconds(20));
     }
 
     @Bean
     @Qualifier("openAiSttTemplate")
     public RestTemplate openAiSttTemplate(RestTemplateBuilder builder) {
-        return builder
-                .setConnectTimeout(Duration.ofSeconds(10))
-                .setReadTimeout(Duration.ofSeconds(30))
-                .build();
+        return pooled(builder, "openai-stt", Duration.ofSeconds(10), Duration.ofSeconds(30));
     }
     
     @Bean
@@ -48,4 +68,46 @@ public class RestTemplateConfig {
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         return objectMapper;
     }
+
+    @PreDestroy
+    void closeHttpClients() {
+        for (CloseableHttpClient httpClient : httpClients) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warn("HTTP 커넥션 풀 종료 실패", e);
+            }
+        }
+    }
+
+    // 연결/응답 대기 시간은 커넥션 풀 설정으로 지정 (RestTemplateBuilder 타임아웃은 풀을 쓰는 요청 팩토리에 적용되지 않음)
+    private RestTemplate pooled(RestTemplateBuilder builder, String poolName, Duration connectTimeout, Duration readTimeout) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(poolProperties.getMaxTotal())
+                .setMaxConnPerRoute(poolProperties.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(poolProperties.getConnectionTtl().toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(poolProperties.getValidateAfterInactivity().toMillis()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolProperties.getConnectionRequestTimeout().toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(poolProperties.getIdleTimeout().toMillis()))
+                .build();
+        httpClients.add(httpClient);
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, poolName).bindTo(meterRegistry);
+
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
 }
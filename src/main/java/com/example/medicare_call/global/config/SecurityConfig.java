@@ -4,6 +4,7 @@ import com.example.medicare_call.global.jwt.JwtAccessDeniedHandler;
 import com.example.medicare_call.global.jwt.JwtAuthenticationEntryPoint;
 import com.example.medicare_call.global.jwt.JwtAuthenticationFilter;
 import com.example.medicare_call.global.jwt.JwtProvider;
+import com.example.medicare_call.global.jwt.JwtTokenAuthentication;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -23,6 +24,9 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.Authentication;
+
+import java.util.Arrays;
 
 @Slf4j
 @Configuration
@@ -58,6 +62,14 @@ public class SecurityConfig {
     @Value("${management.server.prometheus-allowed-ips}")
     private String[] prometheusAllowedIps;
 
+    // 관리자 API(/admin/**) 접근 허용 IP 대역
+    @Value("${app.admin-allowed-ips:127.0.0.1/32}")
+    private String[] adminAllowedIps;
+
+    // 관리자 API(/admin/**) 호출을 허용할 회원 ID, 허용 IP에서 이 회원의 Access Token으로 요청한 경우에만 허용
+    @Value("${app.admin-member-ids:}")
+    private String[] adminMemberIds;
+
     /**
      * Security Filter 설정
      */
@@ -86,6 +98,18 @@ public class SecurityConfig {
                                     }
                                     return new AuthorizationDecision(false);
                                 })
+                                .requestMatchers("/admin/**").access((authentication, object) -> {
+                                    if (!isAdmin(authentication.get())) {
+                                        return new AuthorizationDecision(false);
+                                    }
+                                    String remoteAddr = object.getRequest().getRemoteAddr();
+                                    for (String allowedIp : adminAllowedIps) {
+                                        if (new IpAddressMatcher(allowedIp).matches(remoteAddr)) {
+                                            return new AuthorizationDecision(true);
+                                        }
+                                    }
+                                    return new AuthorizationDecision(false);
+                                })
                                 .anyRequest().authenticated()
                 );
         http
@@ -98,6 +122,14 @@ public class SecurityConfig {
         return http.build();
     }
 
+    private boolean isAdmin(Authentication authentication) {
+        if (!(authentication instanceof JwtTokenAuthentication tokenAuthentication)) {
+            return false;
+        }
+        String memberId = String.valueOf(tokenAuthentication.getUserId());
+        return Arrays.stream(adminMemberIds).map(String::trim).anyMatch(memberId::equals);
+    }
+
     /**
      * CORS 설정
      */
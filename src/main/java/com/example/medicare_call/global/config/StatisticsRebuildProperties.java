@@ -0,0 +1,45 @@
+package com.example.medicare_call.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.statistics-rebuild")
+public class StatisticsRebuildProperties {
+
+    // 동시에 처리할 청크 수 (DB 커넥션 풀 크기보다 충분히 작게 유지해 API 요청용 커넥션을 남겨 둔다)
+    private int concurrency = 2;
+
+    // 청크 1개에 포함할 어르신 수
+    private int chunkSize = 200;
+
+    // 청크 내 어르신 조회 페이지 크기
+    private int elderPageSize = 50;
+
+    // 한 번에 재계산할 수 있는 최대 기간 (일)
+    private int maxRangeDays = 366;
+
+    // 어르신 1명 처리 후 대기 시간, 운영 중 부하를 낮추기 위한 용도 (0이면 대기하지 않음)
+    private long pauseMillis = 0;
+
+    // 재계산 트랜잭션에만 적용하는 JDBC 배치 크기
+    private int jdbcBatchSize = 50;
+
+    // 작업 리스(Redis) 유지 시간, 어르신 1명 처리마다 연장하며 여러 인스턴스 중 한 곳에서만 작업을 실행
+    private Duration jobLeaseTtl = Duration.ofMinutes(10);
+
+    // 어르신별 재계산 리스 유지 시간, 실시간 통계 갱신과 같은 리스를 사용하므로 어르신 1명 재계산보다 길게 설정
+    private Duration elderLeaseTtl = Duration.ofMinutes(5);
+
+    // 실시간 통계 갱신이 리스를 보유 중일 때 기다리는 최대 시간, 초과하면 해당 어르신을 실패로 기록
+    private Duration elderLeaseWait = Duration.ofSeconds(30);
+
+    // 리스 획득을 다시 시도하기까지의 대기 시간
+    private Duration elderLeaseRetryDelay = Duration.ofMillis(500);
+}
@@ -0,0 +1,38 @@
+package com.example.medicare_call.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.statistics-update")
+public class StatisticsUpdateProperties {
+
+    // 동시에 실행할 통계 재계산 작업 수
+    private int concurrency = 2;
+
+    // 첫 요청 이후 같은 (어르신, 일자) 요청을 모으는 대기 시간
+    private Duration debounce = Duration.ofSeconds(2);
+
+    // 어르신별 재계산 리스(Redis) 유지 시간, 재계산이 끝나기 전에 만료되지 않도록 충분히 길게 설정
+    private Duration leaseTtl = Duration.ofSeconds(30);
+
+    // 다른 인스턴스가 리스를 보유 중일 때 다시 시도하기까지의 대기 시간
+    private Duration leaseRetryDelay = Duration.ofSeconds(1);
+
+    // 재계산 실패 시 최대 시도 횟수 (최초 실행 포함), 모두 실패하면 재계산 필요 표시를 남겨 두고 다음 요청 때 반영
+    private int maxAttempts = 5;
+
+    // 첫 재시도 대기 시간, 이후 시도마다 2배씩 증가 (maxBackoff까지)
+    private Duration initialBackoff = Duration.ofSeconds(2);
+
+    private Duration maxBackoff = Duration.ofMinutes(1);
+
+    // 재계산 필요 표시(Redis) 보관 기간
+    private Duration dirtyTtl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,18 @@
+package com.example.medicare_call.global.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 요약 생성 상태
+ * 통계는 PENDING 상태로 먼저 커밋되고, 비동기 요약 작업이 완료되면 COMPLETED/FAILED로 전환된다
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AiSummaryStatus {
+    PENDING("생성 중"),
+    COMPLETED("생성 완료"),
+    FAILED("생성 실패");
+
+    private final String description;
+}
@@ -0,0 +1,17 @@
+package com.example.medicare_call.global.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 AI 요약 작업 대상
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AiSummaryTarget {
+    DAILY_STATISTICS("홈 화면 일간 요약"),
+    WEEKLY_STATISTICS("주간 건강 요약"),
+    CARE_CALL_RECORD("증상 분석 코멘트");
+
+    private final String description;
+}
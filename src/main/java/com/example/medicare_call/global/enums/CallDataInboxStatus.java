@@ -0,0 +1,18 @@
+package com.example.medicare_call.global.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 통화 완료 웹훅 수신함 처리 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CallDataInboxStatus {
+    PENDING("처리 대기"),
+    PROCESSING("처리 중"),
+    DONE("저장 완료"),
+    FAILED("저장 실패");
+
+    private final String description;
+}
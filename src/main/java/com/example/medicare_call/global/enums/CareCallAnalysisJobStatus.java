@@ -0,0 +1,18 @@
+package com.example.medicare_call.global.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 통화 분석 작업 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CareCallAnalysisJobStatus {
+    PENDING("처리 대기"),
+    RUNNING("처리 중"),
+    DONE("분석 완료"),
+    FAILED("분석 실패");
+
+    private final String description;
+}
@@ -0,0 +1,18 @@
+package com.example.medicare_call.global.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 케어콜 발송 대상 어르신별 상태
+ * ENQUEUED 이후 전화 서버 발송 결과는 발송 아웃박스 상태(OutboundCallStatus)로 확인한다
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CareCallCampaignItemStatus {
+    PENDING("대기"),
+    ENQUEUED("발송 요청 기록"),
+    FAILED("실패");
+
+    private final String description;
+}
@@ -0,0 +1,16 @@
+package com.example.medicare_call.global.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 케어콜 발송(캠페인) 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CareCallCampaignStatus {
+    RUNNING("진행 중"),
+    COMPLETED("완료");
+
+    private final String description;
+}
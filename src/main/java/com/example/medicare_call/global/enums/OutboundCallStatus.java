@@ -0,0 +1,19 @@
+package com.example.medicare_call.global.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 케어콜 외부 발송 요청(아웃박스) 상태
+ * SENDING 상태에서 발송 제한 시간이 지나면 (인스턴스 중단 등) 다시 발송 대상이 된다
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboundCallStatus {
+    PENDING("발송 대기"),
+    SENDING("발송 중"),
+    SENT("발송 완료"),
+    DEAD("발송 포기");
+
+    private final String description;
+}
@@ -0,0 +1,19 @@
+package com.example.medicare_call.global.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 통계 일괄 재계산 작업 및 청크 상태
+ * 재시작 시 COMPLETED가 아닌 청크만 다시 처리한다
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StatisticsRebuildStatus {
+    PENDING("대기"),
+    RUNNING("진행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+}
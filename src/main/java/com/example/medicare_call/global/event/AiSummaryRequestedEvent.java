@@ -0,0 +1,6 @@
+package com.example.medicare_call.global.event;
+
+import com.example.medicare_call.global.enums.AiSummaryTarget;
+
+public record AiSummaryRequestedEvent(AiSummaryTarget target, Long targetId) {
+}
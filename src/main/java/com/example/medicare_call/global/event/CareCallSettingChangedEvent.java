@@ -0,0 +1,7 @@
+package com.example.medicare_call.global.event;
+
+import java.time.LocalTime;
+
+public record CareCallSettingChangedEvent(Integer settingId, Integer elderId,
+                                         LocalTime firstCallTime, LocalTime secondCallTime, LocalTime thirdCallTime) {
+}
@@ -0,0 +1,4 @@
+package com.example.medicare_call.global.event;
+
+public record ElderDeletedEvent(Integer elderId) {
+}
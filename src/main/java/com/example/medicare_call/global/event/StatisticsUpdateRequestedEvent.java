@@ -0,0 +1,6 @@
+package com.example.medicare_call.global.event;
+
+import java.time.LocalDate;
+
+public record StatisticsUpdateRequestedEvent(Integer elderId, LocalDate date) {
+}
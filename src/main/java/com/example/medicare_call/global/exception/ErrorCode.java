@@ -39,6 +39,9 @@ public enum ErrorCode {
     CARE_CALL_SETTING_NOT_FOUND(HttpStatus.NOT_FOUND, "CC001", "케어콜 설정 정보를 찾을 수 없습니다."),
     CARE_CALL_WRONG_TIME(HttpStatus.BAD_REQUEST, "CC002","케어콜이 설정되지 않은 시간에 실행 되었습니다"),
     INVALID_CARE_CALL_STATUS(HttpStatus.BAD_REQUEST, "CC003", "올바르지 않은 통화 상태입니다."),
+    CARE_CALL_CAMPAIGN_NOT_FOUND(HttpStatus.NOT_FOUND, "CC004", "일괄 케어콜 발송 요청을 찾을 수 없습니다."),
+    INVALID_CARE_CALL_CAMPAIGN_TARGET(HttpStatus.BAD_REQUEST, "CC005", "일괄 케어콜 발송 대상 어르신이 없거나 너무 많습니다."),
+    INVALID_CARE_CALL_ANALYSIS_REPLAY_RANGE(HttpStatus.BAD_REQUEST, "CC006", "통화 분석 재처리 기간이 올바르지 않습니다."),
 
     // Medication
     MEDICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "MD001", "해당 복용약 정보를 찾을 수 없습니다."),
@@ -54,10 +57,19 @@ public enum ErrorCode {
     OPENAI_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "AI001", "OpenAI API 호출 중 오류가 발생했습니다. 다시 시도해 주세요."),
     STT_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI002", "음성 텍스트 변환(STT) 처리에 실패했습니다."),
 
+    // External API
+    EXTERNAL_API_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "EX001", "외부 서비스 장애로 요청을 잠시 중단했습니다. 잠시 후 다시 시도해 주세요."),
+    EXTERNAL_API_BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "EX002", "외부 서비스 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+
     // Data
     NO_DATA_FOR_TODAY(HttpStatus.NOT_FOUND, "D001", "오늘의 데이터가 없습니다."),
     NO_DATA_FOR_WEEK(HttpStatus.NOT_FOUND, "D002", "이번주의 데이터가 없습니다."),
 
+    // Statistics Rebuild
+    STATISTICS_REBUILD_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "SR001", "통계 재계산 작업을 찾을 수 없습니다."),
+    STATISTICS_REBUILD_IN_PROGRESS(HttpStatus.CONFLICT, "SR002", "이미 진행 중인 통계 재계산 작업이 있습니다."),
+    INVALID_STATISTICS_REBUILD_RANGE(HttpStatus.BAD_REQUEST, "SR003", "재계산 기간이 올바르지 않습니다."),
+
     // Subscription
     SUBSCRIPTION_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "구독 정보를 찾을 수 없습니다."),
 
@@ -38,6 +38,7 @@ public class HomeMapper {
         return HomeReportResponse.builder()
                 .elderName(elder.getName())
                 .aiSummary(stats.getAiSummary())
+                .aiSummaryStatus(stats.getAiSummaryStatus())
                 .mealStatus(mapToMealStatus(stats))
                 .medicationStatus(mapToMedicationStatus(stats, now))
                 .sleep(mapToSleep(stats))
@@ -0,0 +1,78 @@
+package com.example.medicare_call.mapper;
+
+import com.example.medicare_call.domain.MonthlyStatistics;
+import com.example.medicare_call.dto.report.MonthlyReportResponse;
+import com.example.medicare_call.dto.report.WeeklyReportResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+public class MonthlyReportMapper {
+
+    // 약물별/혈당 통계 변환은 주간 통계와 동일한 규칙 사용
+    private final WeeklyReportMapper weeklyReportMapper;
+
+    // MonthlyStatistics를 기반으로 MonthlyReportResponse DTO 구성
+    public MonthlyReportResponse mapToMonthlyReportResponse(
+            String elderName,
+            MonthlyStatistics monthlyStats,
+            LocalDate subscriptionStartDate,
+            int unreadCount) {
+
+        WeeklyReportResponse.SummaryStats summaryStats = WeeklyReportResponse.SummaryStats.builder()
+                .mealRate(monthlyStats.getMealRate())
+                .medicationRate(monthlyStats.getMedicationRate())
+                .healthSignals(monthlyStats.getHealthSignals())
+                .missedCalls(monthlyStats.getMissedCalls())
+                .build();
+
+        WeeklyReportResponse.MealStats mealStats = WeeklyReportResponse.MealStats.builder()
+                .breakfast(monthlyStats.getBreakfastCount())
+                .lunch(monthlyStats.getLunchCount())
+                .dinner(monthlyStats.getDinnerCount())
+                .build();
+
+        WeeklyReportResponse.AverageSleep averageSleep = WeeklyReportResponse.AverageSleep.builder()
+                .hours(monthlyStats.getAvgSleepHours())
+                .minutes(monthlyStats.getAvgSleepMinutes())
+                .build();
+
+        WeeklyReportResponse.PsychSummary psychSummary = WeeklyReportResponse.PsychSummary.builder()
+                .good(monthlyStats.getPsychGoodCount())
+                .normal(monthlyStats.getPsychNormalCount())
+                .bad(monthlyStats.getPsychBadCount())
+                .build();
+
+        return MonthlyReportResponse.builder()
+                .elderName(elderName)
+                .startDate(monthlyStats.getStartDate())
+                .endDate(monthlyStats.getEndDate())
+                .summaryStats(summaryStats)
+                .mealStats(mealStats)
+                .medicationStats(weeklyReportMapper.mapToMedicationStats(monthlyStats.getMedicationStats()))
+                .averageSleep(averageSleep)
+                .psychSummary(psychSummary)
+                .bloodSugar(weeklyReportMapper.mapToBloodSugar(monthlyStats.getBloodSugarStats()))
+                .subscriptionStartDate(subscriptionStartDate)
+                .unreadNotification(unreadCount)
+                .build();
+    }
+
+    // MonthlyStatistics가 없을 때 빈 MonthlyReportResponse 생성
+    public MonthlyReportResponse mapToEmptyMonthlyReportResponse(
+            String elderName,
+            LocalDate startDate,
+            LocalDate subscriptionStartDate,
+            int unreadCount) {
+
+        return MonthlyReportResponse.builder()
+                .elderName(elderName)
+                .startDate(startDate)
+                .subscriptionStartDate(subscriptionStartDate)
+                .unreadNotification(unreadCount)
+                .build();
+    }
+}
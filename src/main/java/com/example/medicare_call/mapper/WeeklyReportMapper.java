@@ -53,6 +53,7 @@ public class WeeklyReportMapper {
                 .mealStats(mealStats)
                 .medicationStats(medicationStats)
                 .healthSummary(weeklyStats.getAiHealthSummary())
+                .healthSummaryStatus(weeklyStats.getAiHealthSummaryStatus())
                 .averageSleep(averageSleep)
                 .psychSummary(psychSummary)
                 .bloodSugar(bloodSugar)
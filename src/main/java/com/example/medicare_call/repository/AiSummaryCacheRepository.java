@@ -0,0 +1,43 @@
+package com.example.medicare_call.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class AiSummaryCacheRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String PREFIX = "ai-summary:v1:";
+    private final String SUMMARY_FIELD = "summary";
+    private final String LATENCY_FIELD = "latencyMillis";
+
+    // 요약 결과 저장 (생성에 걸린 시간 포함)
+    public void save(String contentHash, String summary, long latencyMillis, Duration ttl) {
+        String key = PREFIX + contentHash;
+        stringRedisTemplate.opsForHash().putAll(key, Map.of(
+                SUMMARY_FIELD, summary,
+                LATENCY_FIELD, String.valueOf(latencyMillis)
+        ));
+        stringRedisTemplate.expire(key, ttl);
+    }
+
+    // 요약 결과 조회
+    public Optional<CachedSummary> find(String contentHash) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(PREFIX + contentHash);
+        Object summary = entries.get(SUMMARY_FIELD);
+        if (summary == null) {
+            return Optional.empty();
+        }
+        Object latency = entries.get(LATENCY_FIELD);
+        long latencyMillis = latency != null ? Long.parseLong(latency.toString()) : 0L;
+        return Optional.of(new CachedSummary(summary.toString(), latencyMillis));
+    }
+
+    public record CachedSummary(String summary, long latencyMillis) {}
+}
@@ -5,22 +5,23 @@ import com.example.medicare_call.global.enums.BloodSugarMeasurementType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BloodSugarRecordRepository extends JpaRepository<BloodSugarRecord, Integer> {
 
+    // (elder_id, measurement_type, recorded_at) 인덱스 사용
     @Query(value = "SELECT bsr FROM BloodSugarRecord bsr " +
-        "JOIN bsr.careCallRecord ccr " +
-        "WHERE ccr.elder.id = :elderId " +
+        "WHERE bsr.elder.id = :elderId " +
         "AND bsr.measurementType = :measurementType " +
         "ORDER BY bsr.recordedAt DESC",
         countQuery = "SELECT count(bsr) FROM BloodSugarRecord bsr " +
-            "JOIN bsr.careCallRecord ccr " +
-            "WHERE ccr.elder.id = :elderId " +
+            "WHERE bsr.elder.id = :elderId " +
             "AND bsr.measurementType = :measurementType")
     Page<BloodSugarRecord> findByElderIdAndMeasurementTypeOrderByRecordedAtDesc(
         @Param("elderId") Integer elderId,
@@ -28,30 +29,45 @@ public interface BloodSugarRecordRepository extends JpaRepository<BloodSugarReco
         Pageable pageable
     );
 
+    default List<BloodSugarRecord> findByElderIdAndMeasurementTypeAndDateBetween(
+            Integer elderId,
+            BloodSugarMeasurementType measurementType,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        return findByElderIdAndMeasurementTypeAndRecordedAtRange(
+                elderId, measurementType, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
+
+    default List<BloodSugarRecord> findByElderIdAndDate(Integer elderId, LocalDate date) {
+        return findByElderIdAndRecordedAtRange(elderId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    default List<BloodSugarRecord> findByElderIdAndDateBetween(Integer elderId, LocalDate startDate, LocalDate endDate) {
+        return findByElderIdAndRecordedAtRange(elderId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
+
     @Query("SELECT bsr FROM BloodSugarRecord bsr " +
-           "JOIN bsr.careCallRecord ccr " +
-           "WHERE ccr.elder.id = :elderId " +
+           "WHERE bsr.elder.id = :elderId " +
            "AND bsr.measurementType = :measurementType " +
-           "AND DATE(bsr.recordedAt) BETWEEN :startDate AND :endDate " +
+           "AND bsr.recordedAt >= :start AND bsr.recordedAt < :end " +
            "ORDER BY bsr.recordedAt")
-    List<BloodSugarRecord> findByElderIdAndMeasurementTypeAndDateBetween(
+    List<BloodSugarRecord> findByElderIdAndMeasurementTypeAndRecordedAtRange(
             @Param("elderId") Integer elderId,
             @Param("measurementType") BloodSugarMeasurementType measurementType,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
     );
 
+    // (elder_id, recorded_at) 인덱스로 [start, end) 범위 조회
     @Query("SELECT bsr FROM BloodSugarRecord bsr " +
-           "JOIN bsr.careCallRecord ccr " +
-           "WHERE ccr.elder.id = :elderId " +
-           "AND DATE(bsr.recordedAt) = :date " +
+           "WHERE bsr.elder.id = :elderId " +
+           "AND bsr.recordedAt >= :start AND bsr.recordedAt < :end " +
            "ORDER BY bsr.recordedAt")
-    List<BloodSugarRecord> findByElderIdAndDate(@Param("elderId") Integer elderId, @Param("date") LocalDate date);
+    List<BloodSugarRecord> findByElderIdAndRecordedAtRange(@Param("elderId") Integer elderId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
-    @Query("SELECT bsr FROM BloodSugarRecord bsr " +
-           "JOIN bsr.careCallRecord ccr " +
-           "WHERE ccr.elder.id = :elderId " +
-           "AND DATE(bsr.recordedAt) BETWEEN :startDate AND :endDate " +
-           "ORDER BY bsr.recordedAt")
-    List<BloodSugarRecord> findByElderIdAndDateBetween(@Param("elderId") Integer elderId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
-} 
\ No newline at end of file
+    // 같은 통화를 다시 분석할 때 이전 결과를 지우고 다시 저장 (carecall_record_id 인덱스 사용)
+    @Modifying
+    @Query("DELETE FROM BloodSugarRecord bsr WHERE bsr.careCallRecord.id = :careCallRecordId")
+    int deleteByCareCallRecordId(@Param("careCallRecordId") Integer careCallRecordId);
+}
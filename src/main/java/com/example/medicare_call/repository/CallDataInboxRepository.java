@@ -0,0 +1,66 @@
+package com.example.medicare_call.repository;
+
+import com.example.medicare_call.domain.CallDataInbox;
+import com.example.medicare_call.global.enums.CallDataInboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CallDataInboxRepository extends JpaRepository<CallDataInbox, Long> {
+
+    long countByStatus(CallDataInboxStatus status);
+
+    List<CallDataInbox> findByClaimTokenOrderById(String claimToken);
+
+    // 처리 가능 시각이 지난 대기 건과 처리 제한 시각이 지난 처리 중 건 ((status, next_attempt_at) 인덱스 사용)
+    @Query("SELECT i.id FROM CallDataInbox i " +
+           "WHERE i.status IN ('PENDING', 'PROCESSING') " +
+           "AND i.nextAttemptAt <= :now " +
+           "ORDER BY i.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조건부 갱신으로 묶음을 선점, 다른 인스턴스가 먼저 가져간 건은 제외된다 (선점한 건은 claimToken으로 조회)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CallDataInbox i SET " +
+           "i.status = 'PROCESSING', i.attempts = i.attempts + 1, i.claimToken = :claimToken, i.nextAttemptAt = :deadline " +
+           "WHERE i.id IN :ids " +
+           "AND i.status IN ('PENDING', 'PROCESSING') " +
+           "AND i.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimToken") String claimToken,
+              @Param("now") LocalDateTime now, @Param("deadline") LocalDateTime deadline);
+
+    // 아래 결과 기록은 모두 선점한 claimToken으로 제한하여, 처리 제한 시각이 지나 다른 인스턴스가 가져간 뒤에는 덮어쓰지 않는다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CallDataInbox i SET i.status = 'DONE', i.recordId = :recordId, i.processedAt = :processedAt, i.lastError = null " +
+           "WHERE i.id = :id AND i.claimToken = :claimToken AND i.status = 'PROCESSING'")
+    int markDone(@Param("id") Long id, @Param("claimToken") String claimToken,
+                 @Param("recordId") Integer recordId, @Param("processedAt") LocalDateTime processedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CallDataInbox i SET i.status = 'PENDING', i.nextAttemptAt = :nextAttemptAt, i.lastError = :error " +
+           "WHERE i.id = :id AND i.claimToken = :claimToken AND i.status = 'PROCESSING'")
+    int scheduleRetry(@Param("id") Long id, @Param("claimToken") String claimToken,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CallDataInbox i SET i.status = 'FAILED', i.lastError = :error " +
+           "WHERE i.id = :id AND i.claimToken = :claimToken AND i.status = 'PROCESSING'")
+    int markFailed(@Param("id") Long id, @Param("claimToken") String claimToken, @Param("error") String error);
+
+    // 보관 기간이 지난 저장 완료 건 정리
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CallDataInbox i WHERE i.status = 'DONE' AND i.processedAt < :cutoff")
+    int deleteDoneBefore(@Param("cutoff") LocalDateTime cutoff);
+}
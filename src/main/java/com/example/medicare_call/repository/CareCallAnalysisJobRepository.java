@@ -0,0 +1,83 @@
+package com.example.medicare_call.repository;
+
+import com.example.medicare_call.domain.CareCallAnalysisJob;
+import com.example.medicare_call.global.enums.CareCallAnalysisJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CareCallAnalysisJobRepository extends JpaRepository<CareCallAnalysisJob, Long> {
+
+    long countByStatus(CareCallAnalysisJobStatus status);
+
+    // 처리 가능 시각이 지난 대기 건과 처리 제한 시각이 지난 처리 중 건 ((status, next_attempt_at) 인덱스 사용)
+    @Query("SELECT j.id FROM CareCallAnalysisJob j " +
+           "WHERE j.status IN ('PENDING', 'RUNNING') " +
+           "AND j.nextAttemptAt <= :now " +
+           "ORDER BY j.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조건부 갱신으로 선점, 다른 인스턴스가 먼저 가져갔으면 0
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallAnalysisJob j SET " +
+           "j.status = 'RUNNING', j.attempts = j.attempts + 1, j.nextAttemptAt = :deadline " +
+           "WHERE j.id = :id " +
+           "AND j.status IN ('PENDING', 'RUNNING') " +
+           "AND j.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("deadline") LocalDateTime deadline);
+
+    // 분석을 실제로 시작할 때 처리 제한 시각을 다시 잡음 (대기열에서 기다린 시간은 제외)
+    // 그 사이 제한 시각이 지나 다른 인스턴스가 선점했으면 시도 번호가 달라져 0
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallAnalysisJob j SET j.nextAttemptAt = :deadline " +
+           "WHERE j.recordId = :recordId AND j.status = 'RUNNING' AND j.attempts = :attempts")
+    int startAttempt(@Param("recordId") Integer recordId, @Param("attempts") int attempts, @Param("deadline") LocalDateTime deadline);
+
+    // 아래 결과 기록은 모두 선점한 시도 번호로 제한하여, 제한 시각이 지나 다른 인스턴스가 가져간 뒤에는 덮어쓰지 않는다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallAnalysisJob j SET j.status = 'DONE', j.completedAt = :completedAt, j.lastError = null " +
+           "WHERE j.recordId = :recordId AND j.status = 'RUNNING' AND j.attempts = :attempts")
+    int markDone(@Param("recordId") Integer recordId, @Param("attempts") int attempts, @Param("completedAt") LocalDateTime completedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallAnalysisJob j SET j.status = 'PENDING', j.nextAttemptAt = :nextAttemptAt, j.lastError = :error " +
+           "WHERE j.recordId = :recordId AND j.status = 'RUNNING' AND j.attempts = :attempts")
+    int scheduleRetry(@Param("recordId") Integer recordId, @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallAnalysisJob j SET j.status = 'FAILED', j.lastError = :error " +
+           "WHERE j.recordId = :recordId AND j.status = 'RUNNING' AND j.attempts = :attempts")
+    int markFailed(@Param("recordId") Integer recordId, @Param("attempts") int attempts, @Param("error") String error);
+
+    // 실행하지 못하고 돌려놓은 건, 시도 횟수에서 제외하고 바로 처리 대상으로 둔다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallAnalysisJob j SET j.status = 'PENDING', j.attempts = j.attempts - 1, j.nextAttemptAt = :now " +
+           "WHERE j.recordId = :recordId AND j.status = 'RUNNING' AND j.attempts = :attempts")
+    int release(@Param("recordId") Integer recordId, @Param("attempts") int attempts, @Param("now") LocalDateTime now);
+
+    // 기간 내 생성된 실패 건을 시도 횟수를 초기화하여 다시 대기 상태로 ((status, created_at) 인덱스 사용)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallAnalysisJob j SET j.status = 'PENDING', j.attempts = 0, j.nextAttemptAt = :now " +
+           "WHERE j.status = 'FAILED' AND j.createdAt >= :start AND j.createdAt < :end")
+    int requeueFailed(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end, @Param("now") LocalDateTime now);
+
+    // 보관 기간이 지난 완료 건 정리
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CareCallAnalysisJob j WHERE j.status = 'DONE' AND j.completedAt < :cutoff")
+    int deleteDoneBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,27 @@
+package com.example.medicare_call.repository;
+
+import com.example.medicare_call.domain.CareCallCampaignItem;
+import com.example.medicare_call.global.enums.CareCallCampaignItemStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface CareCallCampaignItemRepository extends JpaRepository<CareCallCampaignItem, Long> {
+
+    List<CareCallCampaignItem> findByCampaignIdOrderById(Long campaignId);
+
+    List<CareCallCampaignItem> findByCampaignIdAndStatusOrderById(Long campaignId, CareCallCampaignItemStatus status);
+
+    boolean existsByCampaignIdAndStatus(Long campaignId, CareCallCampaignItemStatus status);
+
+    // 발송 스레드에서 호출되므로 각 갱신은 독립 트랜잭션으로 즉시 커밋
+    // 재개 스윕과 겹쳐 같은 어르신을 두 번 처리해도 먼저 기록된 결과를 덮어쓰지 않도록 PENDING일 때만 갱신
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallCampaignItem i SET i.status = :status, i.error = :error WHERE i.id = :id AND i.status = 'PENDING'")
+    int updateStatusIfPending(@Param("id") Long id, @Param("status") CareCallCampaignItemStatus status, @Param("error") String error);
+}
@@ -0,0 +1,23 @@
+package com.example.medicare_call.repository;
+
+import com.example.medicare_call.domain.CareCallCampaign;
+import com.example.medicare_call.global.enums.CareCallCampaignStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CareCallCampaignRepository extends JpaRepository<CareCallCampaign, Long> {
+
+    List<CareCallCampaign> findByStatusAndCreatedAtBefore(CareCallCampaignStatus status, LocalDateTime createdAt);
+
+    // 여러 발송 스레드/인스턴스가 동시에 완료를 판단할 수 있으므로 진행 중인 캠페인만 완료 처리
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallCampaign c SET c.status = 'COMPLETED', c.finishedAt = :finishedAt WHERE c.id = :id AND c.status = 'RUNNING'")
+    int completeIfRunning(@Param("id") Long id, @Param("finishedAt") LocalDateTime finishedAt);
+}
@@ -1,45 +1,61 @@
 package com.example.medicare_call.repository;
 
 import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.global.enums.AiSummaryStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CareCallRecordRepository extends JpaRepository<CareCallRecord, Integer> {
-    
+
+    // DATE(calledAt) 비교는 인덱스를 사용할 수 없으므로 [하루 시작, 다음날 시작) 범위 조건으로 조회
+    default List<CareCallRecord> findByElderIdAndDateWithSleepData(Integer elderId, LocalDate date) {
+        return findByElderIdAndCalledAtRangeWithSleepData(elderId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    default List<CareCallRecord> findByElderIdAndDateWithPsychologicalData(Integer elderId, LocalDate date) {
+        return findByElderIdAndCalledAtRangeWithPsychologicalData(elderId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    default List<CareCallRecord> findByElderIdAndDateWithHealthData(Integer elderId, LocalDate date) {
+        return findByElderIdAndCalledAtRangeWithHealthData(elderId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
     @Query("SELECT ccr FROM CareCallRecord ccr " +
-            "JOIN ccr.elder e " +
-       "WHERE ccr.elder.id = :elderId " +
-       "AND e.status = 'ACTIVATED' " +
-       "AND DATE(ccr.calledAt) = :date " +
-       "AND ccr.sleepStart IS NOT NULL " +
-       "ORDER BY ccr.calledAt")
-    List<CareCallRecord> findByElderIdAndDateWithSleepData(@Param("elderId") Integer elderId, @Param("date") LocalDate date);
+           "JOIN ccr.elder e " +
+           "WHERE ccr.elder.id = :elderId " +
+           "AND e.status = 'ACTIVATED' " +
+           "AND ccr.calledAt >= :start AND ccr.calledAt < :end " +
+           "AND ccr.sleepStart IS NOT NULL " +
+           "ORDER BY ccr.calledAt")
+    List<CareCallRecord> findByElderIdAndCalledAtRangeWithSleepData(@Param("elderId") Integer elderId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     @Query("SELECT ccr FROM CareCallRecord ccr " +
-            "JOIN ccr.elder e " +
+           "JOIN ccr.elder e " +
            "WHERE ccr.elder.id = :elderId " +
-            "AND e.status = 'ACTIVATED' " +
-           "AND DATE(ccr.calledAt) = :date " +
+           "AND e.status = 'ACTIVATED' " +
+           "AND ccr.calledAt >= :start AND ccr.calledAt < :end " +
            "AND ccr.psychologicalDetails IS NOT NULL " +
            "ORDER BY ccr.calledAt")
-    List<CareCallRecord> findByElderIdAndDateWithPsychologicalData(@Param("elderId") Integer elderId, @Param("date") LocalDate date);
+    List<CareCallRecord> findByElderIdAndCalledAtRangeWithPsychologicalData(@Param("elderId") Integer elderId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     @Query("SELECT ccr FROM CareCallRecord ccr " +
-            "JOIN ccr.elder e " +
+           "JOIN ccr.elder e " +
            "WHERE ccr.elder.id = :elderId " +
-            "AND e.status = 'ACTIVATED' " +
-           "AND DATE(ccr.calledAt) = :date " +
+           "AND e.status = 'ACTIVATED' " +
+           "AND ccr.calledAt >= :start AND ccr.calledAt < :end " +
            "AND ccr.healthDetails IS NOT NULL " +
            "ORDER BY ccr.calledAt")
-    List<CareCallRecord> findByElderIdAndDateWithHealthData(@Param("elderId") Integer elderId, @Param("date") LocalDate date);
-
+    List<CareCallRecord> findByElderIdAndCalledAtRangeWithHealthData(@Param("elderId") Integer elderId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     @Query("SELECT ccr FROM CareCallRecord ccr " +
            "WHERE ccr.elder.id = :elderId " +
@@ -47,6 +63,64 @@ public interface CareCallRecordRepository extends JpaRepository<CareCallRecord,
            "ORDER BY ccr.calledAt")
     List<CareCallRecord> findByElderIdAndDateBetween(@Param("elderId") Integer elderId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
+    // 통계 일괄 재계산 대상 일자 조회용 ((elder_id, called_at) 인덱스만으로 처리)
+    @Query("SELECT ccr.calledAt FROM CareCallRecord ccr " +
+           "WHERE ccr.elder.id = :elderId " +
+           "AND ccr.calledAt >= :start AND ccr.calledAt < :end")
+    List<LocalDateTime> findCalledAtByElderIdAndRange(@Param("elderId") Integer elderId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
+    // 일간 통계 스냅샷용: 케어콜 설정까지 한 번에 조회 ([start, end) 범위)
+    @Query("SELECT ccr FROM CareCallRecord ccr " +
+           "JOIN FETCH ccr.setting " +
+           "WHERE ccr.elder.id = :elderId " +
+           "AND ccr.calledAt >= :start AND ccr.calledAt < :end " +
+           "ORDER BY ccr.calledAt")
+    List<CareCallRecord> findWithSettingByElderIdAndCalledAtRange(@Param("elderId") Integer elderId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 새 입력으로 AI 건강분석 코멘트를 요청: 입력 버전을 올려 진행 중이던 이전 입력의 생성 결과가 저장되지 않도록 함
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CareCallRecord ccr SET ccr.aiHealthAnalysisVersion = ccr.aiHealthAnalysisVersion + 1, ccr.aiHealthAnalysisRequestedAt = :now " +
+           "WHERE ccr.id = :id")
+    int markAiHealthAnalysisRequested(@Param("id") Integer id, @Param("now") LocalDateTime now);
+
+    // AI 건강분석 코멘트만 갱신 (다른 분석 결과를 덮어쓰지 않도록 컬럼 단위 업데이트)
+    // 생성 시 읽은 입력 버전이 그대로이고 아직 PENDING일 때만 반영
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallRecord ccr SET ccr.aiHealthAnalysisComment = :comment, ccr.aiHealthAnalysisStatus = :status " +
+           "WHERE ccr.id = :id AND ccr.aiHealthAnalysisStatus = 'PENDING' AND ccr.aiHealthAnalysisVersion = :version")
+    int updateAiHealthAnalysis(@Param("id") Integer id, @Param("version") int version, @Param("comment") String comment, @Param("status") AiSummaryStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallRecord ccr SET ccr.aiHealthAnalysisStatus = :status " +
+           "WHERE ccr.id = :id AND ccr.aiHealthAnalysisStatus = 'PENDING' AND ccr.aiHealthAnalysisVersion = :version")
+    int updateAiHealthAnalysisStatus(@Param("id") Integer id, @Param("version") int version, @Param("status") AiSummaryStatus status);
+
+    // 요청 후 처리 제한 시간이 지난 PENDING 코멘트 (다른 인스턴스가 생성 중인 코멘트는 제외)
+    @Query("SELECT ccr.id FROM CareCallRecord ccr WHERE ccr.aiHealthAnalysisStatus = 'PENDING' " +
+           "AND (ccr.aiHealthAnalysisRequestedAt IS NULL OR ccr.aiHealthAnalysisRequestedAt < :cutoff) ORDER BY ccr.id")
+    List<Integer> findStalePendingAiHealthAnalysisIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 
-}
\ No newline at end of file
+    // 스윕에서 다시 생성할 PENDING 코멘트를 선점: 입력 버전을 올려 이전 시도의 결과 저장을 막음
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallRecord ccr SET ccr.aiHealthAnalysisVersion = ccr.aiHealthAnalysisVersion + 1, ccr.aiHealthAnalysisRequestedAt = :now " +
+           "WHERE ccr.id = :id AND ccr.aiHealthAnalysisStatus = 'PENDING' " +
+           "AND (ccr.aiHealthAnalysisRequestedAt IS NULL OR ccr.aiHealthAnalysisRequestedAt < :cutoff)")
+    int claimStalePendingAiHealthAnalysis(@Param("id") Integer id, @Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+
+    @Query("SELECT ccr.id FROM CareCallRecord ccr WHERE ccr.aiHealthAnalysisStatus = :status AND ccr.aiHealthAnalysisRetryCount < :maxRetries ORDER BY ccr.id")
+    List<Integer> findRetryableIdsByAiHealthAnalysisStatus(@Param("status") AiSummaryStatus status, @Param("maxRetries") int maxRetries, Pageable pageable);
+
+    // FAILED 코멘트를 PENDING으로 되돌리고 재시도 횟수 증가 (다른 인스턴스가 이미 되돌린 행은 제외)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CareCallRecord ccr SET ccr.aiHealthAnalysisStatus = 'PENDING', " +
+           "ccr.aiHealthAnalysisRetryCount = ccr.aiHealthAnalysisRetryCount + 1, ccr.aiHealthAnalysisRequestedAt = NULL " +
+           "WHERE ccr.id IN :ids AND ccr.aiHealthAnalysisStatus = 'FAILED'")
+    int requeueFailedAiHealthAnalyses(@Param("ids") List<Integer> ids);
+
+    // 분석 재처리 시 알림에서 사용하는 어르신/설정을 함께 조회
+    @Query("SELECT ccr FROM CareCallRecord ccr " +
+           "JOIN FETCH ccr.elder " +
+           "JOIN FETCH ccr.setting " +
+           "WHERE ccr.id = :id")
+    Optional<CareCallRecord> findWithElderAndSettingById(@Param("id") Integer id);
+}
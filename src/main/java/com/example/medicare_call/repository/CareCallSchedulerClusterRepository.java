@@ -0,0 +1,51 @@
+package com.example.medicare_call.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class CareCallSchedulerClusterRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String MEMBERS_KEY = "care-call-scheduler:members";
+    private final String CLAIM_PREFIX = "care-call-scheduler:claim:";
+
+    // 스케줄러 노드 생존 신호 (score = 만료 시각 epoch millis)
+    public void heartbeat(String nodeId, long expiresAtMillis) {
+        stringRedisTemplate.opsForZSet().add(MEMBERS_KEY, nodeId, expiresAtMillis);
+    }
+
+    // 만료된 노드를 정리한 뒤 살아 있는 노드 목록 조회 (정렬)
+    public List<String> findLiveMembers(long nowMillis) {
+        stringRedisTemplate.opsForZSet().removeRangeByScore(MEMBERS_KEY, Double.NEGATIVE_INFINITY, nowMillis);
+        Set<String> members = stringRedisTemplate.opsForZSet().range(MEMBERS_KEY, 0, -1);
+        return members == null ? List.of() : members.stream().sorted().toList();
+    }
+
+    // 종료 시 즉시 제외 (다른 노드가 다음 생존 신호 갱신부터 샤드를 넘겨받음)
+    public void leave(String nodeId) {
+        stringRedisTemplate.opsForZSet().remove(MEMBERS_KEY, nodeId);
+    }
+
+    // (분, 샤드) 발송 선점, 먼저 선점한 노드만 발송
+    public boolean tryClaim(LocalDateTime minute, int shard, String nodeId, Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(claimKey(minute, shard), nodeId, ttl));
+    }
+
+    // (분, 샤드)를 발송한 노드 조회
+    public Optional<String> findClaimOwner(LocalDateTime minute, int shard) {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(claimKey(minute, shard)));
+    }
+
+    private String claimKey(LocalDateTime minute, int shard) {
+        return CLAIM_PREFIX + minute + ":" + shard;
+    }
+}
@@ -6,23 +6,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CareCallSettingRepository extends JpaRepository<CareCallSetting, Integer> {
 
-    // 1차 콜 시간 범위 조회
-    @Query("SELECT c FROM CareCallSetting c JOIN c.elder e WHERE c.firstCallTime BETWEEN :startTime AND :endTime AND e.status = 'ACTIVATED'")
-    List<CareCallSetting> findByFirstCallTimeBetween(@Param("startTime") LocalTime startTime, @Param("endTime") LocalTime endTime);
-
-    // 2차 콜 시간 범위 조회
-    @Query("SELECT c FROM CareCallSetting c JOIN c.elder e WHERE c.secondCallTime BETWEEN :startTime AND :endTime AND e.status = 'ACTIVATED'")
-    List<CareCallSetting> findBySecondCallTimeBetween(@Param("startTime") LocalTime startTime, @Param("endTime") LocalTime endTime);
-
-    // 3차 콜 시간 범위 조회
-    @Query("SELECT c FROM CareCallSetting c JOIN c.elder e WHERE c.thirdCallTime BETWEEN :startTime AND :endTime AND e.status = 'ACTIVATED'")
-    List<CareCallSetting> findByThirdCallTimeBetween(@Param("startTime") LocalTime startTime, @Param("endTime") LocalTime endTime);
+    // 케어콜 일정 인덱스 구성용: 활성 어르신의 설정 전체 조회
+    @Query("SELECT c FROM CareCallSetting c JOIN FETCH c.elder e WHERE e.status = 'ACTIVATED'")
+    List<CareCallSetting> findAllActive();
 
     Optional<CareCallSetting> findByElder(Elder elder);
+
+    @Query("SELECT c FROM CareCallSetting c WHERE c.elder.id IN :elderIds")
+    List<CareCallSetting> findByElderIdIn(@Param("elderIds") Collection<Integer> elderIds);
 }
\ No newline at end of file
@@ -2,10 +2,16 @@ package com.example.medicare_call.repository;
 
 import com.example.medicare_call.domain.DailyStatistics;
 import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.global.enums.AiSummaryStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +20,50 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     Optional<DailyStatistics> findByElderAndDate(Elder elder, LocalDate date);
 
     List<DailyStatistics> findByElderAndDateBetween(Elder elder, LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+
+    @Query("SELECT ds.date FROM DailyStatistics ds WHERE ds.elder = :elder AND ds.date BETWEEN :startDate AND :endDate")
+    List<LocalDate> findDatesByElderAndDateBetween(@Param("elder") Elder elder, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT ds.elder.id FROM DailyStatistics ds WHERE ds.date = :date")
+    List<Integer> findElderIdsByDate(@Param("date") LocalDate date);
+
+    // 새 입력으로 AI 요약을 요청: 입력 버전을 올려 진행 중이던 이전 입력의 생성 결과가 저장되지 않도록 함
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DailyStatistics ds SET ds.aiSummaryVersion = ds.aiSummaryVersion + 1, ds.aiSummaryRequestedAt = :now " +
+           "WHERE ds.id = :id")
+    int markAiSummaryRequested(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // AI 요약 결과만 갱신 (통계 값을 덮어쓰지 않도록 컬럼 단위 업데이트)
+    // 생성 시 읽은 입력 버전이 그대로이고 아직 PENDING일 때만 반영
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DailyStatistics ds SET ds.aiSummary = :aiSummary, ds.aiSummaryStatus = :status " +
+           "WHERE ds.id = :id AND ds.aiSummaryStatus = 'PENDING' AND ds.aiSummaryVersion = :version")
+    int updateAiSummary(@Param("id") Long id, @Param("version") int version, @Param("aiSummary") String aiSummary, @Param("status") AiSummaryStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DailyStatistics ds SET ds.aiSummaryStatus = :status " +
+           "WHERE ds.id = :id AND ds.aiSummaryStatus = 'PENDING' AND ds.aiSummaryVersion = :version")
+    int updateAiSummaryStatus(@Param("id") Long id, @Param("version") int version, @Param("status") AiSummaryStatus status);
+
+    // 요청 후 처리 제한 시간이 지난 PENDING 요약 (다른 인스턴스가 생성 중인 요약은 제외)
+    @Query("SELECT ds.id FROM DailyStatistics ds WHERE ds.aiSummaryStatus = 'PENDING' " +
+           "AND (ds.aiSummaryRequestedAt IS NULL OR ds.aiSummaryRequestedAt < :cutoff) ORDER BY ds.id")
+    List<Long> findStalePendingAiSummaryIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 스윕에서 다시 생성할 PENDING 요약을 선점: 입력 버전을 올려 이전 시도의 결과 저장을 막음
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DailyStatistics ds SET ds.aiSummaryVersion = ds.aiSummaryVersion + 1, ds.aiSummaryRequestedAt = :now " +
+           "WHERE ds.id = :id AND ds.aiSummaryStatus = 'PENDING' " +
+           "AND (ds.aiSummaryRequestedAt IS NULL OR ds.aiSummaryRequestedAt < :cutoff)")
+    int claimStalePendingAiSummary(@Param("id") Long id, @Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+
+    @Query("SELECT ds.id FROM DailyStatistics ds WHERE ds.aiSummaryStatus = :status AND ds.aiSummaryRetryCount < :maxRetries ORDER BY ds.id")
+    List<Long> findRetryableIdsByAiSummaryStatus(@Param("status") AiSummaryStatus status, @Param("maxRetries") int maxRetries, Pageable pageable);
+
+    // FAILED 요약을 PENDING으로 되돌리고 재시도 횟수 증가 (다른 인스턴스가 이미 되돌린 행은 제외)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DailyStatistics ds SET ds.aiSummaryStatus = 'PENDING', " +
+           "ds.aiSummaryRetryCount = ds.aiSummaryRetryCount + 1, ds.aiSummaryRequestedAt = NULL " +
+           "WHERE ds.id IN :ids AND ds.aiSummaryStatus = 'FAILED'")
+    int requeueFailedAiSummaries(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,17 @@
+package com.example.medicare_call.repository;
+
+import com.example.medicare_call.domain.DailyStatsPartial;
+import com.example.medicare_call.domain.Elder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyStatsPartialRepository extends JpaRepository<DailyStatsPartial, Long> {
+    Optional<DailyStatsPartial> findByElderAndDate(Elder elder, LocalDate date);
+
+    List<DailyStatsPartial> findByElderAndDateBetween(Elder elder, LocalDate startDate, LocalDate endDate);
+}
@@ -5,7 +5,9 @@ import com.example.medicare_call.domain.Elder;
 import com.example.medicare_call.domain.ElderDisease;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ElderDiseaseRepository extends JpaRepository<ElderDisease, Object> {
@@ -13,5 +15,9 @@ public interface ElderDiseaseRepository extends JpaRepository<ElderDisease, Obje
     @Query("SELECT ed.disease FROM ElderDisease ed WHERE ed.elder = :elder")
     List<Disease> findDiseasesByElder(Elder elder);
 
+    // 케어콜 발송 대상 일괄 조회용
+    @Query("SELECT ed FROM ElderDisease ed JOIN FETCH ed.disease WHERE ed.elder.id IN :elderIds")
+    List<ElderDisease> findWithDiseaseByElderIdIn(@Param("elderIds") Collection<Integer> elderIds);
+
     void deleteAllByElder(Elder elder);
 }
\ No newline at end of file
@@ -6,11 +6,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ElderHealthInfoRepository extends JpaRepository<ElderHealthInfo, Integer> {
     @Query("SELECT ehi FROM ElderHealthInfo ehi JOIN ehi.elder e WHERE e.id = :elderId AND e.status = 'ACTIVATED'")
     ElderHealthInfo findByElderId(@Param("elderId") Integer elderId);
+
+    // 케어콜 발송 대상 일괄 조회용
+    @Query("SELECT ehi FROM ElderHealthInfo ehi JOIN ehi.elder e WHERE e.id IN :elderIds AND e.status = 'ACTIVATED'")
+    List<ElderHealthInfo> findByElderIdIn(@Param("elderIds") Collection<Integer> elderIds);
+
     void deleteAllByElder(Elder elder);
     Optional<ElderHealthInfo> findByElder(Elder elder);
 } 
\ No newline at end of file
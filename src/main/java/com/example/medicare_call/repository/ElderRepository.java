@@ -2,10 +2,13 @@ package com.example.medicare_call.repository;
 
 import com.example.medicare_call.domain.Elder;
 import com.example.medicare_call.global.enums.ElderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ElderRepository extends JpaRepository<Elder, Integer> {
@@ -16,4 +19,22 @@ public interface ElderRepository extends JpaRepository<Elder, Integer> {
     @Query("SELECT e FROM Elder e WHERE e.id = :id")
     Optional<Elder> findByIdIgnoreStatus(@Param("id") Integer id);
 
+    // ID 기준 키셋 페이지 조회 (통계 일괄 재계산 청크 분할용)
+    @Query("SELECT e.id FROM Elder e WHERE e.id > :afterId ORDER BY e.id")
+    List<Integer> findIdsAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT e FROM Elder e WHERE e.id > :afterId AND e.id <= :lastId ORDER BY e.id")
+    List<Elder> findByIdRange(@Param("afterId") Integer afterId, @Param("lastId") Integer lastId, Pageable pageable);
+
+    // 일간 통계 스냅샷용: [start, end) 범위의 식사/혈당 기록과 케어콜 설정을 한 번에 조회
+    // 행 형태: [MealRecord, BloodSugarRecord, CareCallSetting] (없는 쪽은 null, 식사 x 혈당 조합으로 중복 포함)
+    // 식사/혈당은 (elder_id, recorded_at) 인덱스 범위 조회로 조인된다
+    @Query("SELECT mr, bsr, cs FROM Elder e " +
+           "LEFT JOIN MealRecord mr ON mr.elder = e AND mr.recordedAt >= :start AND mr.recordedAt < :end " +
+           "LEFT JOIN BloodSugarRecord bsr ON bsr.elder = e AND bsr.recordedAt >= :start AND bsr.recordedAt < :end " +
+           "LEFT JOIN CareCallSetting cs ON cs.elder = e " +
+           "WHERE e.id = :id " +
+           "ORDER BY mr.recordedAt, mr.id, bsr.recordedAt, bsr.id")
+    List<Object[]> findDailyHealthRows(@Param("id") Integer id, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
 } 
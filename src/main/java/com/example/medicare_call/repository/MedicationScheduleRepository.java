@@ -6,11 +6,17 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MedicationScheduleRepository extends JpaRepository<MedicationSchedule, Integer> {
     @Query("SELECT ms FROM MedicationSchedule ms JOIN ms.elder e WHERE e.id = :elderId AND e.status = 'ACTIVATED'")
     List<MedicationSchedule> findByElderId(@Param("elderId") Integer elderId);
+
+    // 케어콜 발송 대상 일괄 조회용
+    @Query("SELECT ms FROM MedicationSchedule ms JOIN ms.elder e WHERE e.id IN :elderIds AND e.status = 'ACTIVATED'")
+    List<MedicationSchedule> findByElderIdIn(@Param("elderIds") Collection<Integer> elderIds);
+
     List<MedicationSchedule> findByElder(Elder elder);
     void deleteAllByElder(Elder elder);
     
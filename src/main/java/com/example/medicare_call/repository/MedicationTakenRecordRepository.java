@@ -2,23 +2,32 @@ package com.example.medicare_call.repository;
 
 import com.example.medicare_call.domain.MedicationTakenRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MedicationTakenRecordRepository extends JpaRepository<MedicationTakenRecord, Integer> {
 
-    @Query("SELECT mtr FROM MedicationTakenRecord mtr " +
-           "JOIN mtr.careCallRecord ccr " +
-           "WHERE ccr.elder.id = :elderId " +
-           "AND DATE(mtr.recordedAt) = :date")
-    List<MedicationTakenRecord> findByElderIdAndDate(@Param("elderId") Integer elderId, @Param("date") LocalDate date);
+    default List<MedicationTakenRecord> findByElderIdAndDate(Integer elderId, LocalDate date) {
+        return findByElderIdAndRecordedAtRange(elderId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    default List<MedicationTakenRecord> findByElderIdAndDateBetween(Integer elderId, LocalDate startDate, LocalDate endDate) {
+        return findByElderIdAndRecordedAtRange(elderId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
 
+    // (elder_id, recorded_at) 인덱스로 [start, end) 범위 조회
     @Query("SELECT mtr FROM MedicationTakenRecord mtr " +
-           "JOIN mtr.careCallRecord ccr " +
-           "WHERE ccr.elder.id = :elderId " +
-           "AND DATE(mtr.recordedAt) BETWEEN :startDate AND :endDate")
-    List<MedicationTakenRecord> findByElderIdAndDateBetween(@Param("elderId") Integer elderId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
-} 
\ No newline at end of file
+           "WHERE mtr.elder.id = :elderId " +
+           "AND mtr.recordedAt >= :start AND mtr.recordedAt < :end")
+    List<MedicationTakenRecord> findByElderIdAndRecordedAtRange(@Param("elderId") Integer elderId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 같은 통화를 다시 분석할 때 이전 결과를 지우고 다시 저장 (carecall_record_id 인덱스 사용)
+    @Modifying
+    @Query("DELETE FROM MedicationTakenRecord mtr WHERE mtr.careCallRecord.id = :careCallRecordId")
+    int deleteByCareCallRecordId(@Param("careCallRecordId") Integer careCallRecordId);
+}
@@ -0,0 +1,15 @@
+package com.example.medicare_call.repository;
+
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.MonthlyStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface MonthlyStatisticsRepository extends JpaRepository<MonthlyStatistics, Long> {
+    // (elder_id, start_date) 유니크 인덱스로 단건 조회
+    Optional<MonthlyStatistics> findByElderAndStartDate(Elder elder, LocalDate startDate);
+}
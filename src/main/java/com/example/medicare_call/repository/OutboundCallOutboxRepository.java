@@ -0,0 +1,66 @@
+package com.example.medicare_call.repository;
+
+import com.example.medicare_call.domain.OutboundCallOutbox;
+import com.example.medicare_call.global.enums.OutboundCallStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboundCallOutboxRepository extends JpaRepository<OutboundCallOutbox, Long> {
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    List<OutboundCallOutbox> findByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+    long countByStatus(OutboundCallStatus status);
+
+    // 발송 가능 시각이 지난 대기 건과 발송 제한 시각이 지난 발송 중 건 ((status, next_attempt_at) 인덱스 사용)
+    @Query("SELECT o.id FROM OutboundCallOutbox o " +
+           "WHERE o.status IN ('PENDING', 'SENDING') " +
+           "AND o.nextAttemptAt <= :now " +
+           "ORDER BY o.nextAttemptAt")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조건부 갱신으로 여러 인스턴스 중 한 곳만 가져가도록 보장 (갱신 건수 1이면 선점 성공)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboundCallOutbox o SET " +
+           "o.status = 'SENDING', o.attempts = o.attempts + 1, o.nextAttemptAt = :sendDeadline " +
+           "WHERE o.id = :id " +
+           "AND o.status IN ('PENDING', 'SENDING') " +
+           "AND o.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("sendDeadline") LocalDateTime sendDeadline);
+
+    // 아래 결과 기록은 모두 선점한 시도 번호로 제한하여, 발송 제한 시각이 지나 다른 인스턴스가 가져간 뒤에는 덮어쓰지 않는다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboundCallOutbox o SET o.status = 'SENT', o.sentAt = :sentAt, o.lastError = null " +
+           "WHERE o.id = :id AND o.status = 'SENDING' AND o.attempts = :attempts")
+    int markSent(@Param("id") Long id, @Param("attempts") int attempts, @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboundCallOutbox o SET o.status = 'PENDING', o.nextAttemptAt = :nextAttemptAt, o.lastError = :error " +
+           "WHERE o.id = :id AND o.status = 'SENDING' AND o.attempts = :attempts")
+    int scheduleRetry(@Param("id") Long id, @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboundCallOutbox o SET o.status = 'DEAD', o.lastError = :error " +
+           "WHERE o.id = :id AND o.status = 'SENDING' AND o.attempts = :attempts")
+    int markDead(@Param("id") Long id, @Param("attempts") int attempts, @Param("error") String error);
+
+    // 보관 기간이 지난 발송 완료 건 정리
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM OutboundCallOutbox o WHERE o.status = 'SENT' AND o.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+}
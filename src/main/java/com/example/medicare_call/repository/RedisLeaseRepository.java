@@ -0,0 +1,54 @@
+package com.example.medicare_call.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 여러 인스턴스 중 한 곳만 작업하도록 하는 Redis 리스 (스케줄 작업, 어르신별 통계 재계산 등)
+ * 키 이름은 사용하는 쪽에서 정한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisLeaseRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 값이 일치할 때만 삭제 (다른 인스턴스의 리스/표시를 지우지 않도록)
+    private static final RedisScript<Long> DELETE_IF_EQUALS = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    // 보유 중인 경우에만 유지 시간 연장
+    private static final RedisScript<Long> EXPIRE_IF_EQUALS = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class
+    );
+
+    // 리스 획득, 먼저 획득한 인스턴스만 실행
+    public boolean tryAcquire(String key, String token, Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl));
+    }
+
+    // 본인이 보유한 리스만 해제
+    public void release(String key, String token) {
+        deleteIfEquals(key, token);
+    }
+
+    // 본인이 보유한 리스만 연장, 이미 만료되었거나 다른 인스턴스가 가져갔으면 false
+    public boolean extend(String key, String token, Duration ttl) {
+        Long result = stringRedisTemplate.execute(EXPIRE_IF_EQUALS, List.of(key), token, String.valueOf(ttl.toMillis()));
+        return result != null && result > 0;
+    }
+
+    // 값이 일치할 때만 키 삭제
+    public void deleteIfEquals(String key, String value) {
+        stringRedisTemplate.execute(DELETE_IF_EQUALS, List.of(key), value);
+    }
+}
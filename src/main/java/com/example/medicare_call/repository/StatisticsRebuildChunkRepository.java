@@ -0,0 +1,39 @@
+package com.example.medicare_call.repository;
+
+import com.example.medicare_call.domain.StatisticsRebuildChunk;
+import com.example.medicare_call.global.enums.StatisticsRebuildStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface StatisticsRebuildChunkRepository extends JpaRepository<StatisticsRebuildChunk, Long> {
+
+    List<StatisticsRebuildChunk> findByJobIdOrderByFirstElderId(Long jobId);
+
+    // 청크 처리 스레드에서 호출되므로 각 갱신은 독립 트랜잭션으로 즉시 커밋
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StatisticsRebuildChunk c SET " +
+           "c.lastProcessedElderId = :elderId, " +
+           "c.processedElders = c.processedElders + 1, " +
+           "c.failedElders = c.failedElders + :failed " +
+           "WHERE c.id = :id")
+    int recordProgress(@Param("id") Long id, @Param("elderId") Integer elderId, @Param("failed") int failed);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StatisticsRebuildChunk c SET c.status = :status WHERE c.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") StatisticsRebuildStatus status);
+
+    // 실패한 청크는 처음부터 다시 처리
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StatisticsRebuildChunk c SET " +
+           "c.lastProcessedElderId = null, c.processedElders = 0, c.failedElders = 0, c.status = 'PENDING' " +
+           "WHERE c.id = :id")
+    int resetProgress(@Param("id") Long id);
+}
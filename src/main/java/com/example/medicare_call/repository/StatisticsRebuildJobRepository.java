@@ -0,0 +1,19 @@
+package com.example.medicare_call.repository;
+
+import com.example.medicare_call.domain.StatisticsRebuildJob;
+import com.example.medicare_call.global.enums.StatisticsRebuildStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface StatisticsRebuildJobRepository extends JpaRepository<StatisticsRebuildJob, Long> {
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StatisticsRebuildJob j SET j.status = :status, j.finishedAt = :finishedAt WHERE j.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") StatisticsRebuildStatus status, @Param("finishedAt") LocalDateTime finishedAt);
+}
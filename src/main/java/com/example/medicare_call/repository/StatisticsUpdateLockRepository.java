@@ -0,0 +1,50 @@
+package com.example.medicare_call.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class StatisticsUpdateLockRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisLeaseRepository redisLeaseRepository;
+    private final String LEASE_PREFIX = "statistics-update:lease:";
+    private final String DIRTY_PREFIX = "statistics-update:dirty:";
+
+    // 어르신별 재계산 리스 획득
+    public boolean tryAcquireLease(Integer elderId, String token, Duration ttl) {
+        return redisLeaseRepository.tryAcquire(LEASE_PREFIX + elderId, token, ttl);
+    }
+
+    // 본인이 보유한 리스만 해제
+    public void releaseLease(Integer elderId, String token) {
+        redisLeaseRepository.release(LEASE_PREFIX + elderId, token);
+    }
+
+    // 재계산 필요 표시 (요청마다 버전 증가)
+    public void markDirty(Integer elderId, LocalDate date, Duration ttl) {
+        String key = dirtyKey(elderId, date);
+        stringRedisTemplate.opsForValue().increment(key);
+        stringRedisTemplate.expire(key, ttl);
+    }
+
+    // 재계산 필요 표시 버전 조회, 없으면 이미 다른 인스턴스가 재계산한 상태
+    public Optional<String> findDirtyVersion(Integer elderId, LocalDate date) {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(dirtyKey(elderId, date)));
+    }
+
+    // 재계산 시작 시점 이후 새 요청이 없었던 경우에만 표시 삭제
+    public void clearDirty(Integer elderId, LocalDate date, String version) {
+        redisLeaseRepository.deleteIfEquals(dirtyKey(elderId, date), version);
+    }
+
+    private String dirtyKey(Integer elderId, LocalDate date) {
+        return DIRTY_PREFIX + elderId + ":" + date;
+    }
+}
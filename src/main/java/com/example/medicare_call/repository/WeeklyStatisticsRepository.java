@@ -2,13 +2,60 @@ package com.example.medicare_call.repository;
 
 import com.example.medicare_call.domain.Elder;
 import com.example.medicare_call.domain.WeeklyStatistics;
+import com.example.medicare_call.global.enums.AiSummaryStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface WeeklyStatisticsRepository extends JpaRepository<WeeklyStatistics, Long> {
     Optional<WeeklyStatistics> findByElderAndStartDate(Elder elder, LocalDate startDate);
+
+    // 새 입력으로 AI 요약을 요청: 입력 버전을 올려 진행 중이던 이전 입력의 생성 결과가 저장되지 않도록 함
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE WeeklyStatistics ws SET ws.aiHealthSummaryVersion = ws.aiHealthSummaryVersion + 1, ws.aiHealthSummaryRequestedAt = :now " +
+           "WHERE ws.id = :id")
+    int markAiHealthSummaryRequested(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // AI 요약 결과만 갱신 (통계 값을 덮어쓰지 않도록 컬럼 단위 업데이트)
+    // 생성 시 읽은 입력 버전이 그대로이고 아직 PENDING일 때만 반영
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WeeklyStatistics ws SET ws.aiHealthSummary = :aiHealthSummary, ws.aiHealthSummaryStatus = :status " +
+           "WHERE ws.id = :id AND ws.aiHealthSummaryStatus = 'PENDING' AND ws.aiHealthSummaryVersion = :version")
+    int updateAiHealthSummary(@Param("id") Long id, @Param("version") int version, @Param("aiHealthSummary") String aiHealthSummary, @Param("status") AiSummaryStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WeeklyStatistics ws SET ws.aiHealthSummaryStatus = :status " +
+           "WHERE ws.id = :id AND ws.aiHealthSummaryStatus = 'PENDING' AND ws.aiHealthSummaryVersion = :version")
+    int updateAiHealthSummaryStatus(@Param("id") Long id, @Param("version") int version, @Param("status") AiSummaryStatus status);
+
+    // 요청 후 처리 제한 시간이 지난 PENDING 요약 (다른 인스턴스가 생성 중인 요약은 제외)
+    @Query("SELECT ws.id FROM WeeklyStatistics ws WHERE ws.aiHealthSummaryStatus = 'PENDING' " +
+           "AND (ws.aiHealthSummaryRequestedAt IS NULL OR ws.aiHealthSummaryRequestedAt < :cutoff) ORDER BY ws.id")
+    List<Long> findStalePendingAiHealthSummaryIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 스윕에서 다시 생성할 PENDING 요약을 선점: 입력 버전을 올려 이전 시도의 결과 저장을 막음
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WeeklyStatistics ws SET ws.aiHealthSummaryVersion = ws.aiHealthSummaryVersion + 1, ws.aiHealthSummaryRequestedAt = :now " +
+           "WHERE ws.id = :id AND ws.aiHealthSummaryStatus = 'PENDING' " +
+           "AND (ws.aiHealthSummaryRequestedAt IS NULL OR ws.aiHealthSummaryRequestedAt < :cutoff)")
+    int claimStalePendingAiHealthSummary(@Param("id") Long id, @Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+
+    @Query("SELECT ws.id FROM WeeklyStatistics ws WHERE ws.aiHealthSummaryStatus = :status AND ws.aiHealthSummaryRetryCount < :maxRetries ORDER BY ws.id")
+    List<Long> findRetryableIdsByAiHealthSummaryStatus(@Param("status") AiSummaryStatus status, @Param("maxRetries") int maxRetries, Pageable pageable);
+
+    // FAILED 요약을 PENDING으로 되돌리고 재시도 횟수 증가 (다른 인스턴스가 이미 되돌린 행은 제외)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WeeklyStatistics ws SET ws.aiHealthSummaryStatus = 'PENDING', " +
+           "ws.aiHealthSummaryRetryCount = ws.aiHealthSummaryRetryCount + 1, ws.aiHealthSummaryRequestedAt = NULL " +
+           "WHERE ws.id IN :ids AND ws.aiHealthSummaryStatus = 'FAILED'")
+    int requeueFailedAiHealthSummaries(@Param("ids") List<Long> ids);
 }
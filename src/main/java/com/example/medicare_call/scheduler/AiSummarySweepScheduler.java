@@ -0,0 +1,61 @@
+package com.example.medicare_call.scheduler;
+
+import com.example.medicare_call.global.config.AiSummaryProperties;
+import com.example.medicare_call.global.enums.AiSummaryTarget;
+import com.example.medicare_call.repository.RedisLeaseRepository;
+import com.example.medicare_call.service.ai.AiSummaryJobService;
+import com.example.medicare_call.service.ai.AiSummaryWorker;
+import com.example.medicare_call.service.ai.AiSummaryWorker.SummaryKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiSummarySweepScheduler {
+
+    private static final String LEASE_KEY = "scheduler:lease:ai-summary-sweep";
+
+    private final AiSummaryProperties properties;
+    private final AiSummaryJobService aiSummaryJobService;
+    private final AiSummaryWorker aiSummaryWorker;
+    private final RedisLeaseRepository redisLeaseRepository;
+
+    /**
+     * 대기열 초과나 재시작으로 유실된 PENDING 요약 작업과 재시도 횟수가 남은 FAILED 요약 작업을 다시 등록 (5분마다 실행)
+     * 여러 인스턴스 중 리스를 획득한 한 곳에서만 실행
+     */
+    @Scheduled(fixedDelay = 300_000, initialDelay = 60_000)
+    public void sweepPendingSummaries() {
+        String token = UUID.randomUUID().toString();
+        if (!redisLeaseRepository.tryAcquire(LEASE_KEY, token, properties.getSweepLeaseTtl())) {
+            log.debug("다른 인스턴스가 AI 요약 스윕 실행 중");
+            return;
+        }
+
+        try {
+            for (AiSummaryTarget target : AiSummaryTarget.values()) {
+                int requeued = aiSummaryJobService.requeueFailed(target, properties.getSweepMaxRetries(), properties.getSweepBatchSize());
+                if (requeued > 0) {
+                    log.info("FAILED AI 요약 재시도 등록 - target: {}, count: {}", target, requeued);
+                }
+
+                // 요청 후 제한 시간이 지난 PENDING만 선점하므로 다른 인스턴스에서 생성 중인 요약은 건드리지 않음
+                List<Long> claimedIds = aiSummaryJobService.claimStalePending(
+                        target, properties.getPendingTimeout(), properties.getSweepBatchSize());
+                aiSummaryWorker.submitAll(claimedIds.stream().map(id -> new SummaryKey(target, id)).toList());
+
+                if (!claimedIds.isEmpty()) {
+                    log.info("PENDING AI 요약 재등록 - target: {}, count: {}", target, claimedIds.size());
+                }
+            }
+        } finally {
+            redisLeaseRepository.release(LEASE_KEY, token);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.medicare_call.scheduler;
+
+import com.example.medicare_call.global.config.CallDataIngestProperties;
+import com.example.medicare_call.repository.CallDataInboxRepository;
+import com.example.medicare_call.service.carecall.inbound.inbox.CallDataInboxWorker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CallDataInboxScheduler {
+
+    private final CallDataIngestProperties properties;
+    private final CallDataInboxRepository callDataInboxRepository;
+    private final CallDataInboxWorker callDataInboxWorker;
+
+    /**
+     * 수신함의 통화 완료 데이터를 워커에 넘김 (0.5초마다 실행, 저장은 워커 스레드에서 수행)
+     */
+    @Scheduled(fixedDelay = 500, initialDelay = 10_000)
+    public void drainInbox() {
+        try {
+            callDataInboxWorker.drain();
+        } catch (Exception e) {
+            log.error("통화 데이터 수신함 조회 실패", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 저장 완료 데이터 삭제 (매일 새벽 4시 10분 실행)
+     */
+    @Scheduled(cron = "0 10 4 * * ?")
+    public void purgeDoneInbox() {
+        int deleted = callDataInboxRepository.deleteDoneBefore(LocalDateTime.now().minus(properties.getRetention()));
+        log.info("저장 완료 통화 데이터 수신함 정리 - {}건", deleted);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.medicare_call.scheduler;
+
+import com.example.medicare_call.global.config.CareCallAnalysisProperties;
+import com.example.medicare_call.repository.CareCallAnalysisJobRepository;
+import com.example.medicare_call.service.carecall.analysis.job.CareCallAnalysisReplayWorker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CareCallAnalysisReplayScheduler {
+
+    private final CareCallAnalysisProperties properties;
+    private final CareCallAnalysisJobRepository careCallAnalysisJobRepository;
+    private final CareCallAnalysisReplayWorker careCallAnalysisReplayWorker;
+
+    /**
+     * 재처리 대상 통화 분석 작업을 분석 스레드 풀에 넘김 (2초마다 실행)
+     */
+    @Scheduled(fixedDelay = 2000, initialDelay = 30_000)
+    public void replayAnalysisJobs() {
+        try {
+            careCallAnalysisReplayWorker.drain();
+        } catch (Exception e) {
+            log.error("통화 분석 재처리 대상 조회 실패", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 분석 완료 작업 삭제 (매일 새벽 4시 20분 실행)
+     */
+    @Scheduled(cron = "0 20 4 * * ?")
+    public void purgeDoneAnalysisJobs() {
+        int deleted = careCallAnalysisJobRepository.deleteDoneBefore(LocalDateTime.now().minus(properties.getRetention()));
+        log.info("분석 완료 통화 분석 작업 정리 - {}건", deleted);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.medicare_call.scheduler;
+
+import com.example.medicare_call.global.config.CareCallCampaignProperties;
+import com.example.medicare_call.repository.RedisLeaseRepository;
+import com.example.medicare_call.service.carecall.outbound.campaign.CareCallCampaignService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CareCallCampaignScheduler {
+
+    private static final String LEASE_KEY = "scheduler:lease:care-call-campaign-resume";
+
+    private final CareCallCampaignProperties properties;
+    private final CareCallCampaignService careCallCampaignService;
+    private final RedisLeaseRepository redisLeaseRepository;
+
+    /**
+     * 인스턴스 중단 등으로 멈춘 일괄 케어콜의 대기 어르신을 다시 발송 요청 (기동 1분 후부터 1분마다 실행)
+     * 여러 인스턴스 중 리스를 획득한 한 곳에서만 실행
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void resumeInterruptedCampaigns() {
+        String token = UUID.randomUUID().toString();
+        if (!redisLeaseRepository.tryAcquire(LEASE_KEY, token, properties.getSweepLeaseTtl())) {
+            log.debug("다른 인스턴스가 일괄 케어콜 재개 스윕 실행 중");
+            return;
+        }
+
+        try {
+            int resumed = careCallCampaignService.resumeInterrupted();
+            if (resumed > 0) {
+                log.info("일괄 케어콜 대기 어르신 재개 - {}명", resumed);
+            }
+        } catch (Exception e) {
+            log.error("일괄 케어콜 재개 스윕 실패", e);
+        } finally {
+            redisLeaseRepository.release(LEASE_KEY, token);
+        }
+    }
+}
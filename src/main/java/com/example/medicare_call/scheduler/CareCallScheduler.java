@@ -16,7 +16,8 @@ public class CareCallScheduler {
 
     private final CareCallSchedulerService schedulerService;
 
-    // @Scheduled(cron = "0 */10 * * * *") // 매 10분마다 0초에 실행
+    // 매 분 0초에 실행 (일정 인덱스의 해당 분 슬롯 발송, 여러 인스턴스는 샤드를 나누어 발송)
+    @Scheduled(cron = "0 * * * * *")
     public void runCallScheduler() {
         schedulerService.checkAndSendCalls();
     }
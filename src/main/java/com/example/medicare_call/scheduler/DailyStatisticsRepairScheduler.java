@@ -0,0 +1,45 @@
+package com.example.medicare_call.scheduler;
+
+import com.example.medicare_call.repository.DailyStatisticsRepository;
+import com.example.medicare_call.repository.ElderRepository;
+import com.example.medicare_call.service.statistics.StatisticsUpdateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatisticsRepairScheduler {
+
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final ElderRepository elderRepository;
+    private final StatisticsUpdateService statisticsUpdateService;
+
+    /**
+     * 전날 통계를 원천 데이터 기준으로 전체 재계산하여 보정 (매일 새벽 3시 실행)
+     * 일간 통계와 함께 해당 주의 부분 집계 및 주간/월간 통계를 주 단위로 재구성한다
+     */
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void repairYesterdayStatistics() {
+        LocalDate targetDate = LocalDate.now().minusDays(1);
+        List<Integer> elderIds = dailyStatisticsRepository.findElderIdsByDate(targetDate);
+
+        int repaired = 0;
+        for (Integer elderId : elderIds) {
+            try {
+                elderRepository.findById(elderId).ifPresent(elder ->
+                        statisticsUpdateService.repairStatistics(elder, targetDate));
+                repaired++;
+            } catch (Exception e) {
+                log.error("일간 통계 보정 실패 - elderId: {}, date: {}", elderId, targetDate, e);
+            }
+        }
+
+        log.info("일간 통계 보정 완료 - date: {}, 대상: {}, 성공: {}", targetDate, elderIds.size(), repaired);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.medicare_call.scheduler;
+
+import com.example.medicare_call.global.config.CareCallOutboxProperties;
+import com.example.medicare_call.repository.OutboundCallOutboxRepository;
+import com.example.medicare_call.service.carecall.outbound.outbox.OutboundCallOutboxWorker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundCallOutboxScheduler {
+
+    private final CareCallOutboxProperties properties;
+    private final OutboundCallOutboxRepository outboundCallOutboxRepository;
+    private final OutboundCallOutboxWorker outboundCallOutboxWorker;
+
+    /**
+     * 발송 시각이 된 케어콜 발송 요청을 워커에 넘김 (1초마다 실행, 전화 서버 호출은 워커 스레드에서 수행)
+     */
+    @Scheduled(fixedDelay = 1_000, initialDelay = 10_000)
+    public void drainOutbox() {
+        try {
+            outboundCallOutboxWorker.drain();
+        } catch (Exception e) {
+            log.error("케어콜 발송 아웃박스 조회 실패", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 요청 삭제 (매일 새벽 4시 실행)
+     */
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void purgeSentOutbox() {
+        int deleted = outboundCallOutboxRepository.deleteSentBefore(LocalDateTime.now().minus(properties.getRetention()));
+        log.info("발송 완료 케어콜 아웃박스 정리 - {}건", deleted);
+    }
+}
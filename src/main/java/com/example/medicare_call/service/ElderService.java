@@ -8,6 +8,8 @@ import com.example.medicare_call.dto.ElderRegisterResponse;
 import com.example.medicare_call.dto.ElderResponse;
 import com.example.medicare_call.dto.ElderUpdateRequest;
 import com.example.medicare_call.global.enums.MemberElderAuthority;
+import com.example.medicare_call.global.event.ElderDeletedEvent;
+import com.example.medicare_call.global.event.Events;
 import com.example.medicare_call.global.exception.CustomException;
 import com.example.medicare_call.global.exception.ErrorCode;
 import com.example.medicare_call.repository.ElderRepository;
@@ -70,6 +72,9 @@ public class ElderService {
         getManageRelationOrThrow(memberId, elderId);
 
         elderRepository.delete(elder);
+
+        // 커밋 이후 케어콜 일정 인덱스에서 제거
+        Events.raise(new ElderDeletedEvent(elderId));
     }
 
     @Transactional
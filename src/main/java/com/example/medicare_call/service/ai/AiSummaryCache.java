@@ -0,0 +1,142 @@
+package com.example.medicare_call.service.ai;
+
+import com.example.medicare_call.global.config.AiSummaryProperties;
+import com.example.medicare_call.repository.AiSummaryCacheRepository;
+import com.example.medicare_call.repository.AiSummaryCacheRepository.CachedSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * AI 요약 결과 캐시
+ * 모델, 온도, 시스템 메시지, 프롬프트를 합친 내용 해시를 키로 사용하므로
+ * 프롬프트에 반영되는 입력이 같으면 OpenAI를 다시 호출하지 않는다.
+ * 렌더링된 프롬프트는 요약 입력 중 요약 결과에 영향을 주는 값만 정규화해 담은 형태이므로
+ * 프롬프트에 쓰이지 않는 필드(기간, 약 종류별 집계 등)만 바뀐 경우는 캐시에 적중하고,
+ * 프롬프트에 쓰이는 필드(예: 주간 미응답 건수)가 바뀌면 요약 문장도 달라져야 하므로 새로 생성한다.
+ * 인스턴스 내 LRU 캐시를 먼저 조회하고, 없으면 Redis를 조회한다.
+ */
+@Slf4j
+@Component
+public class AiSummaryCache {
+
+    private final AiSummaryProperties properties;
+    private final AiSummaryCacheRepository aiSummaryCacheRepository;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CachedSummary> localCache;
+
+    public AiSummaryCache(AiSummaryProperties properties,
+                          AiSummaryCacheRepository aiSummaryCacheRepository,
+                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.aiSummaryCacheRepository = aiSummaryCacheRepository;
+        this.meterRegistry = meterRegistry;
+
+        int maxSize = properties.getCacheMaxSize();
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<String, CachedSummary>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSummary> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * 같은 입력으로 생성된 요약이 있으면 반환하고, 없으면 생성 후 저장
+     * 생성 결과가 비어있으면 저장하지 않는다
+     *
+     * @param kind 요약 종류 (메트릭 태그)
+     * @param keyParts 프롬프트를 구성하는 값 (모델, 온도, 시스템 메시지, 프롬프트)
+     * @param generator 캐시에 없을 때 요약을 생성하는 함수
+     * @return 요약 문장, 생성 결과가 없으면 null
+     */
+    public String getOrGenerate(String kind, Object[] keyParts, Supplier<String> generator) {
+        String contentHash = hash(keyParts);
+
+        CachedSummary local = localCache.get(contentHash);
+        if (local != null) {
+            recordHit(kind, "local", local);
+            return local.summary();
+        }
+
+        Optional<CachedSummary> remote = findRemote(contentHash);
+        if (remote.isPresent()) {
+            localCache.put(contentHash, remote.get());
+            recordHit(kind, "redis", remote.get());
+            return remote.get().summary();
+        }
+
+        counter(kind, "miss").increment();
+        long startedAt = System.nanoTime();
+        String summary = generator.get();
+        long latencyMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        if (summary != null && !summary.isBlank()) {
+            CachedSummary generated = new CachedSummary(summary, latencyMillis);
+            localCache.put(contentHash, generated);
+            saveRemote(contentHash, generated);
+        }
+        return summary;
+    }
+
+    private Optional<CachedSummary> findRemote(String contentHash) {
+        try {
+            return aiSummaryCacheRepository.find(contentHash);
+        } catch (Exception e) {
+            // Redis 장애 시에도 요약 생성은 계속 진행
+            log.warn("AI 요약 캐시 조회 실패 - hash: {}", contentHash, e);
+            return Optional.empty();
+        }
+    }
+
+    private void saveRemote(String contentHash, CachedSummary summary) {
+        try {
+            aiSummaryCacheRepository.save(contentHash, summary.summary(), summary.latencyMillis(), properties.getCacheTtl());
+        } catch (Exception e) {
+            log.warn("AI 요약 캐시 저장 실패 - hash: {}", contentHash, e);
+        }
+    }
+
+    private void recordHit(String kind, String source, CachedSummary summary) {
+        counter(kind, "hit_" + source).increment();
+        Timer.builder("ai.summary.cache.saved_latency")
+                .description("캐시 적중으로 생략된 OpenAI 호출 시간")
+                .tag("kind", kind)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(summary.latencyMillis()));
+    }
+
+    private Counter counter(String kind, String result) {
+        return Counter.builder("ai.summary.cache")
+                .tag("kind", kind)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private String hash(Object[] keyParts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : keyParts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                // 구분자: 값 경계가 달라도 같은 해시가 나오지 않도록
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.medicare_call.service.ai;
+
+import com.example.medicare_call.global.event.AiSummaryRequestedEvent;
+import com.example.medicare_call.service.ai.AiSummaryWorker.SummaryKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiSummaryEventListener {
+
+    // 트랜잭션에 묶어 둔 요약 요청 목록의 리소스 키
+    private static final Object PENDING_REQUESTS_KEY = new Object();
+
+    private final AiSummaryWorker aiSummaryWorker;
+
+    /**
+     * 통계/분석 결과가 커밋된 이후 AI 요약 생성 작업을 등록
+     * 같은 트랜잭션에서 요청된 요약(통계 재계산 한 번의 일간/주간 요약)은 모아서 한 묶음으로 등록하여 동시에 생성되도록 한다
+     * 증상 분석은 분석 결과 저장 트랜잭션에서 따로 요청되므로 묶음에 포함되지 않고 별도 작업으로 생성된다
+     * 등록만 수행하므로 호출 스레드를 점유하지 않는다
+     *
+     * @param event AI 요약 요청 이벤트
+     */
+    @EventListener
+    public void handleAiSummaryRequested(AiSummaryRequestedEvent event) {
+        log.debug("AiSummaryRequestedEvent 수신: target={}, id={}", event.target(), event.targetId());
+        SummaryKey key = new SummaryKey(event.target(), event.targetId());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            aiSummaryWorker.submitAll(List.of(key));
+            return;
+        }
+        pendingRequests().add(key);
+    }
+
+    // 트랜잭션별 요청 목록. 처음 요청될 때 커밋 후 등록, 종료 시 정리하도록 동기화를 등록한다
+    @SuppressWarnings("unchecked")
+    private Set<SummaryKey> pendingRequests() {
+        Set<SummaryKey> keys = (Set<SummaryKey>) TransactionSynchronizationManager.getResource(PENDING_REQUESTS_KEY);
+        if (keys != null) {
+            return keys;
+        }
+
+        Set<SummaryKey> created = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(PENDING_REQUESTS_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                aiSummaryWorker.submitAll(List.copyOf(created));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                // 롤백된 요청은 버림 (요약 상태는 함께 롤백됨)
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_REQUESTS_KEY);
+            }
+        });
+        return created;
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.medicare_call.service.ai;
+
+import com.example.medicare_call.domain.DailyStatistics;
+import com.example.medicare_call.dto.report.HomeSummaryDto;
+import com.example.medicare_call.dto.statistics.WeeklyStatsAggregate;
+import com.example.medicare_call.global.enums.AiSummaryStatus;
+import com.example.medicare_call.global.enums.AiSummaryTarget;
+import com.example.medicare_call.repository.CareCallRecordRepository;
+import com.example.medicare_call.repository.DailyStatisticsRepository;
+import com.example.medicare_call.repository.DailyStatsPartialRepository;
+import com.example.medicare_call.repository.WeeklyStatisticsRepository;
+import com.example.medicare_call.service.statistics.WeeklyStatsAggregator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 비동기 AI 요약 작업의 입력 조회와 결과 저장을 담당
+ * OpenAI 호출은 트랜잭션 밖에서 수행되도록 조회/저장을 각각 짧은 트랜잭션으로 분리한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiSummaryJobService {
+
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final WeeklyStatisticsRepository weeklyStatisticsRepository;
+    private final DailyStatsPartialRepository dailyStatsPartialRepository;
+    private final CareCallRecordRepository careCallRecordRepository;
+    private final WeeklyStatsAggregator weeklyStatsAggregator;
+
+    /**
+     * 일간 통계 행으로부터 홈 화면 요약 입력을 생성
+     *
+     * @param dailyStatisticsId 일간 통계 ID
+     * @return 입력 버전과 요약 입력, 대상이 없으면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<SummaryInput<HomeSummaryDto>> loadHomeSummaryInput(Long dailyStatisticsId) {
+        return dailyStatisticsRepository.findById(dailyStatisticsId)
+                .map(ds -> new SummaryInput<>(ds.getAiSummaryVersion(), toHomeSummaryDto(ds)));
+    }
+
+    /**
+     * 주간 통계 기간의 일자별 부분 집계를 병합하여 주간 요약 입력을 생성
+     *
+     * @param weeklyStatisticsId 주간 통계 ID
+     * @return 입력 버전과 요약 입력, 대상이 없으면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<SummaryInput<WeeklyStatsAggregate>> loadWeeklySummaryInput(Long weeklyStatisticsId) {
+        return weeklyStatisticsRepository.findById(weeklyStatisticsId)
+                .map(ws -> new SummaryInput<>(ws.getAiHealthSummaryVersion(), weeklyStatsAggregator.merge(
+                        ws.getStartDate(),
+                        ws.getEndDate(),
+                        dailyStatsPartialRepository.findByElderAndDateBetween(ws.getElder(), ws.getStartDate(), ws.getEndDate())
+                )));
+    }
+
+    /**
+     * 케어콜 기록의 건강 징후 상세 내용을 증상 목록으로 변환
+     *
+     * @param careCallRecordId 케어콜 기록 ID
+     * @return 입력 버전과 증상 목록 (건강 징후가 없으면 입력은 null), 대상이 없으면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<SummaryInput<List<String>>> loadSymptomInput(Integer careCallRecordId) {
+        return careCallRecordRepository.findById(careCallRecordId)
+                .map(record -> new SummaryInput<>(record.getAiHealthAnalysisVersion(), toSymptoms(record.getHealthDetails())));
+    }
+
+    /**
+     * 요약 결과 저장. 생성 중 새 입력으로 다시 요청되었거나 스윕이 다시 가져간 경우 저장하지 않음
+     *
+     * @return 저장 여부
+     */
+    @Transactional
+    public boolean complete(AiSummaryTarget target, Long targetId, int version, String summary) {
+        int updated = switch (target) {
+            case DAILY_STATISTICS -> dailyStatisticsRepository.updateAiSummary(targetId, version, summary, AiSummaryStatus.COMPLETED);
+            case WEEKLY_STATISTICS -> weeklyStatisticsRepository.updateAiHealthSummary(targetId, version, summary, AiSummaryStatus.COMPLETED);
+            case CARE_CALL_RECORD -> careCallRecordRepository.updateAiHealthAnalysis(targetId.intValue(), version, summary, AiSummaryStatus.COMPLETED);
+        };
+        log.info("AI 요약 저장 - target: {}, id: {}, version: {}, updated: {}", target, targetId, version, updated);
+        return updated > 0;
+    }
+
+    /**
+     * 실패 기록. 생성 중 새 입력으로 다시 요청되었거나 스윕이 다시 가져간 경우 기록하지 않음
+     *
+     * @return 기록 여부
+     */
+    @Transactional
+    public boolean fail(AiSummaryTarget target, Long targetId, int version) {
+        // 실패 시 기존 요약 문장은 유지하고 상태만 FAILED로 기록
+        int updated = switch (target) {
+            case DAILY_STATISTICS -> dailyStatisticsRepository.updateAiSummaryStatus(targetId, version, AiSummaryStatus.FAILED);
+            case WEEKLY_STATISTICS -> weeklyStatisticsRepository.updateAiHealthSummaryStatus(targetId, version, AiSummaryStatus.FAILED);
+            case CARE_CALL_RECORD -> careCallRecordRepository.updateAiHealthAnalysisStatus(targetId.intValue(), version, AiSummaryStatus.FAILED);
+        };
+        log.warn("AI 요약 생성 실패 처리 - target: {}, id: {}, version: {}, updated: {}", target, targetId, version, updated);
+        return updated > 0;
+    }
+
+    /**
+     * 함께 생성한 요약 결과를 한 트랜잭션으로 저장 (실패한 대상은 FAILED로 기록)
+     * 입력 버전이 바뀐 결과는 버린다. 새 요청의 생성 결과가 대신 저장된다
+     *
+     * @param results 요약 생성 결과 목록
+     */
+    @Transactional
+    public void saveResults(List<SummaryResult> results) {
+        for (SummaryResult result : results) {
+            if (result.version() == null) {
+                // 입력을 읽지 못한 결과는 저장하지 않음 (대상이 없거나, PENDING으로 남아 스윕에서 다시 생성)
+                continue;
+            }
+            boolean saved = result.succeeded()
+                    ? complete(result.target(), result.targetId(), result.version(), result.summary())
+                    : fail(result.target(), result.targetId(), result.version());
+            if (!saved) {
+                log.info("입력 버전이 바뀌어 이전 AI 요약 결과를 버림 - target: {}, id: {}, version: {}",
+                        result.target(), result.targetId(), result.version());
+            }
+        }
+    }
+
+    /**
+     * 요청 후 제한 시간이 지나도록 PENDING인 대상을 선점 (다른 인스턴스가 생성 중인 대상은 제외)
+     * 선점한 대상은 입력 버전이 올라가므로, 이전 시도가 뒤늦게 끝나도 결과가 저장되지 않는다
+     *
+     * @param target 요약 대상
+     * @param pendingTimeout 요청 후 처리 제한 시간
+     * @param limit 최대 선점 건수
+     * @return 선점한 대상 ID 목록
+     */
+    @Transactional
+    public List<Long> claimStalePending(AiSummaryTarget target, Duration pendingTimeout, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(pendingTimeout);
+        return switch (target) {
+            case DAILY_STATISTICS -> dailyStatisticsRepository.findStalePendingAiSummaryIds(cutoff, page).stream()
+                    .filter(id -> dailyStatisticsRepository.claimStalePendingAiSummary(id, cutoff, now) > 0)
+                    .toList();
+            case WEEKLY_STATISTICS -> weeklyStatisticsRepository.findStalePendingAiHealthSummaryIds(cutoff, page).stream()
+                    .filter(id -> weeklyStatisticsRepository.claimStalePendingAiHealthSummary(id, cutoff, now) > 0)
+                    .toList();
+            case CARE_CALL_RECORD -> careCallRecordRepository.findStalePendingAiHealthAnalysisIds(cutoff, page).stream()
+                    .filter(id -> careCallRecordRepository.claimStalePendingAiHealthAnalysis(id, cutoff, now) > 0)
+                    .map(Integer::longValue)
+                    .toList();
+        };
+    }
+
+    /**
+     * 재시도 횟수가 남은 FAILED 대상을 PENDING으로 되돌림
+     *
+     * @param target 요약 대상
+     * @param maxRetries 대상별 최대 재시도 횟수
+     * @param limit 최대 처리 건수
+     * @return PENDING으로 되돌린 건수
+     */
+    @Transactional
+    public int requeueFailed(AiSummaryTarget target, int maxRetries, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return switch (target) {
+            case DAILY_STATISTICS -> {
+                List<Long> ids = dailyStatisticsRepository.findRetryableIdsByAiSummaryStatus(AiSummaryStatus.FAILED, maxRetries, page);
+                yield ids.isEmpty() ? 0 : dailyStatisticsRepository.requeueFailedAiSummaries(ids);
+            }
+            case WEEKLY_STATISTICS -> {
+                List<Long> ids = weeklyStatisticsRepository.findRetryableIdsByAiHealthSummaryStatus(AiSummaryStatus.FAILED, maxRetries, page);
+                yield ids.isEmpty() ? 0 : weeklyStatisticsRepository.requeueFailedAiHealthSummaries(ids);
+            }
+            case CARE_CALL_RECORD -> {
+                List<Integer> ids = careCallRecordRepository.findRetryableIdsByAiHealthAnalysisStatus(AiSummaryStatus.FAILED, maxRetries, page);
+                yield ids.isEmpty() ? 0 : careCallRecordRepository.requeueFailedAiHealthAnalyses(ids);
+            }
+        };
+    }
+
+    private List<String> toSymptoms(String healthDetails) {
+        if (healthDetails == null || healthDetails.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(healthDetails.split(",")).map(String::trim).toList();
+    }
+
+    private HomeSummaryDto toHomeSummaryDto(DailyStatistics ds) {
+        Integer avgSleepMinutes = ds.getAvgSleepMinutes();
+
+        return HomeSummaryDto.builder()
+                .breakfast(ds.getBreakfastTaken())
+                .lunch(ds.getLunchTaken())
+                .dinner(ds.getDinnerTaken())
+                .totalTakenMedication(ds.getMedicationTotalTaken() != null ? ds.getMedicationTotalTaken() : 0)
+                .totalGoalMedication(ds.getMedicationTotalGoal() != null ? ds.getMedicationTotalGoal() : 0)
+                .sleepHours(avgSleepMinutes != null ? avgSleepMinutes / 60 : null)
+                .sleepMinutes(avgSleepMinutes != null ? avgSleepMinutes % 60 : null)
+                .averageBloodSugar(ds.getAvgBloodSugar())
+                .healthStatus(ds.getHealthStatus())
+                .mentalStatus(ds.getMentalStatus())
+                .build();
+    }
+
+    /**
+     * 요약 입력
+     *
+     * @param version 입력을 읽을 때의 입력 버전 (결과 저장 시 비교)
+     * @param input 요약 입력 (요약할 내용이 없으면 null)
+     */
+    public record SummaryInput<T>(int version, T input) {}
+
+    /**
+     * 요약 생성 결과
+     *
+     * @param target 요약 대상
+     * @param targetId 대상 ID
+     * @param version 생성에 사용한 입력 버전 (입력을 읽지 못했으면 null, 저장하지 않음)
+     * @param succeeded 생성 성공 여부
+     * @param summary 생성된 요약 (요약할 내용이 없거나 실패하면 null)
+     */
+    public record SummaryResult(AiSummaryTarget target, Long targetId, Integer version, boolean succeeded, String summary) {
+
+        public static SummaryResult completed(AiSummaryTarget target, Long targetId, Integer version, String summary) {
+            return new SummaryResult(target, targetId, version, true, summary);
+        }
+
+        public static SummaryResult failed(AiSummaryTarget target, Long targetId, Integer version) {
+            return new SummaryResult(target, targetId, version, false, null);
+        }
+    }
+}
@@ -23,74 +23,78 @@ public class AiSummaryService {
     private final HomeSummaryPromptBuilder homeSummaryPromptBuilder;
     private final WeeklySummaryPromptBuilder weeklySummaryPromptBuilder;
     private final SymptomSummaryPromptBuilder symptomSummaryPromptBuilder;
+    private final AiSummaryCache aiSummaryCache;
 
     @Value("${openai.model}")
     private String openaiModel;
 
-    public String getHomeSummary(HomeSummaryDto homeSummaryDto) {
-        try {
-            log.info("OpenAI API를 통한 홈 화면 데이터 요약 시작");
-            return callWithPrompt(
-                    homeSummaryPromptBuilder.buildSystemMessage(),
-                    homeSummaryPromptBuilder.buildPrompt(homeSummaryDto),
-                    0.3,
-                    "AI 요약 정보를 불러오는 데 실패했습니다."
-            );
-        } catch (Exception e) {
-            log.error("OpenAI API 호출 중 오류 발생", e);
-            return "AI 요약 정보를 불러오는 중 오류가 발생했습니다.";
-        }
+    /**
+     * 비동기 요약 작업용 홈 화면 요약 생성. 실패 시 재시도할 수 있도록 예외를 그대로 던진다
+     *
+     * @param homeSummaryDto 홈 화면 요약 입력
+     * @return 생성된 요약 문장
+     */
+    public String generateHomeSummary(HomeSummaryDto homeSummaryDto) {
+        return callOrThrow(
+                "home",
+                homeSummaryPromptBuilder.buildSystemMessage(),
+                homeSummaryPromptBuilder.buildPrompt(homeSummaryDto),
+                0.3
+        );
+    }
+
+    /**
+     * 비동기 요약 작업용 주간 건강 요약 생성. 실패 시 재시도할 수 있도록 예외를 그대로 던진다
+     *
+     * @param aggregate 주간 통계 집계 결과
+     * @return 생성된 요약 문장
+     */
+    public String generateWeeklyStatsSummary(WeeklyStatsAggregate aggregate) {
+        return callOrThrow(
+                "weekly",
+                weeklySummaryPromptBuilder.buildSystemMessage(),
+                weeklySummaryPromptBuilder.buildPrompt(aggregate),
+                0.7
+        );
     }
 
-    public String getWeeklyStatsSummary(WeeklyStatsAggregate aggregate) {
-        try {
-            log.info("OpenAI API를 통한 주간 건강 데이터 요약 시작");
-            return callWithPrompt(
-                    weeklySummaryPromptBuilder.buildSystemMessage(),
-                    weeklySummaryPromptBuilder.buildPrompt(aggregate),
-                    0.7,
-                    "주간 건강 데이터 요약에 실패했습니다."
-            );
-        } catch (Exception e) {
-            log.error("OpenAI API 호출 중 오류 발생", e);
-            return "주간 건강 데이터 요약 중 오류가 발생했습니다.";
+    /**
+     * 비동기 요약 작업용 증상 분석 코멘트 생성. 실패 시 재시도할 수 있도록 예외를 그대로 던진다
+     *
+     * @param symptomList 증상 목록
+     * @return 생성된 코멘트, 프롬프트를 만들 수 없으면 null
+     */
+    public String generateSymptomAnalysis(List<String> symptomList) {
+        String prompt = symptomSummaryPromptBuilder.buildPrompt(symptomList);
+        if (prompt == null) {
+            return null;
         }
+        return callOrThrow("symptom", symptomSummaryPromptBuilder.buildSystemMessage(), prompt, 0.5);
     }
 
-    public String getSymptomAnalysis(List<String> symptomList) {
-        try {
-            log.info("OpenAI API를 통한 증상 분석 코멘트 생성 시작");
-            String prompt = symptomSummaryPromptBuilder.buildPrompt(symptomList);
-            if (prompt == null) {
-                return null;
-            }
-            return callWithPrompt(
-                    symptomSummaryPromptBuilder.buildSystemMessage(),
-                    prompt,
-                    0.5,
-                    "증상 분석 코멘트를 생성하지 못했습니다."
-            );
-        } catch (Exception e) {
-            log.error("OpenAI API 호출 중 오류 발생", e);
-            return "증상 분석 코멘트 생성 중 오류가 발생했습니다.";
+    private String callOrThrow(String kind, String systemMessage, String userPrompt, double temperature) {
+        String content = chat(kind, systemMessage, userPrompt, temperature);
+        if (content == null) {
+            throw new IllegalStateException("OpenAI API 응답이 비어있습니다");
         }
+        return content;
     }
 
-    private String callWithPrompt(String systemMessage, String userPrompt, double temperature, String errorMessage) {
-        OpenAiChatOptions options = OpenAiChatOptions.builder()
-                .model(openaiModel)
-                .temperature(temperature)
-                .build();
+    // 같은 프롬프트로 생성된 요약이 캐시에 있으면 OpenAI 호출 생략
+    private String chat(String kind, String systemMessage, String userPrompt, double temperature) {
+        Object[] keyParts = {openaiModel, temperature, systemMessage, userPrompt};
+        return aiSummaryCache.getOrGenerate(kind, keyParts, () -> {
+            OpenAiChatOptions options = OpenAiChatOptions.builder()
+                    .model(openaiModel)
+                    .temperature(temperature)
+                    .build();
 
-        ChatResponse response = openAiChatService.openAiChat(userPrompt, systemMessage, options);
+            ChatResponse response = openAiChatService.openAiChat(userPrompt, systemMessage, options);
 
-        if (response != null && response.getResult() != null) {
-            String content = response.getResult().getOutput().getText();
-            log.info("OpenAI 응답: {}", content);
-            return content;
-        } else {
-            log.error("OpenAI API 응답이 비어있습니다");
-            return errorMessage;
-        }
+            if (response == null || response.getResult() == null) {
+                return null;
+            }
+            return response.getResult().getOutput().getText();
+        });
     }
 }
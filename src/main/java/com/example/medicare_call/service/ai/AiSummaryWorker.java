@@ -0,0 +1,222 @@
+package com.example.medicare_call.service.ai;
+
+import com.example.medicare_call.global.concurrent.ExecutorShutdown;
+import com.example.medicare_call.global.concurrent.NamedThreadFactory;
+import com.example.medicare_call.global.config.AiSummaryProperties;
+import com.example.medicare_call.global.enums.AiSummaryTarget;
+import com.example.medicare_call.service.ai.AiSummaryJobService.SummaryInput;
+import com.example.medicare_call.service.ai.AiSummaryJobService.SummaryResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * 통계/분석 트랜잭션 커밋 이후 AI 요약을 생성하는 비동기 작업자
+ * - 한 트랜잭션에서 요청된 요약(통계 재계산의 일간/주간 요약)은 하나의 묶음으로 처리한다. 각 요약은 입력을 조회하는 대로 동시에 생성하고,
+ *   모두 끝나면 결과를 한 트랜잭션으로 저장하므로 묶음 처리 시간은 가장 오래 걸린 OpenAI 호출 시간 정도가 된다
+ * - 증상 분석은 분석 결과 저장 트랜잭션에서, 통계 요약은 이후 통계 재계산 트랜잭션에서 요청되므로 서로 다른 묶음으로 처리된다
+ * - OpenAI 호출 전용 스레드 풀 크기로 동시 호출 수를 제한한다
+ * - 같은 대상에 대한 요청은 하나로 합치고, 처리 중 새 요청이 오면 끝난 뒤 최신 데이터로 한 번 더 생성한다
+ * - 결과는 입력을 읽을 때의 입력 버전이 그대로인 경우에만 저장한다 (다른 인스턴스의 새 요청이나 스윕 재생성과 경합 방지)
+ * - 호출 실패 시 지수 백오프로 재시도하고, 최종 실패하면 상태를 FAILED로 기록한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiSummaryWorker {
+
+    private final AiSummaryProperties properties;
+    private final AiSummaryService aiSummaryService;
+    private final AiSummaryJobService aiSummaryJobService;
+    private final MeterRegistry meterRegistry;
+
+    // 처리 중이거나 대기 중인 작업 (값: 처리 중 재요청 여부)
+    private final Map<SummaryKey, Boolean> inFlight = new ConcurrentHashMap<>();
+
+    // 묶음 단위 작업 (동시 생성 후 결과 저장)
+    private ExecutorService executor;
+    // OpenAI 호출 (입력 조회 포함)
+    private ExecutorService callExecutor;
+    private RetryTemplate retryTemplate;
+
+    @PostConstruct
+    void init() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                properties.getConcurrency(),
+                properties.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(properties.getQueueCapacity()),
+                new NamedThreadFactory("ai-summary"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "ai.summary");
+        // 대기 작업 수는 실행 중인 묶음의 요약 수로 제한된다
+        this.callExecutor = ExecutorServiceMetrics.monitor(meterRegistry,
+                Executors.newFixedThreadPool(properties.getConcurrency(), new NamedThreadFactory("ai-summary-call")),
+                "ai.summary.call");
+        this.retryTemplate = RetryTemplate.builder()
+                .maxAttempts(properties.getMaxAttempts())
+                .exponentialBackoff(properties.getInitialBackoffMillis(), 2.0, properties.getMaxBackoffMillis())
+                .retryOn(Exception.class)
+                .build();
+
+        Gauge.builder("ai.summary.in_flight", inFlight, Map::size)
+                .description("처리 중이거나 대기 중인 AI 요약 작업 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 묶음 작업이 끝난 뒤 호출 스레드 풀을 종료
+        ExecutorShutdown.awaitOrForce(executor);
+        ExecutorShutdown.awaitOrForce(callExecutor);
+    }
+
+    /**
+     * 함께 생성할 요약 요청을 등록. 처리 중인 대상은 완료 후 다시 생성하도록 표시하고 나머지를 한 묶음으로 처리한다
+     *
+     * @param keys 요약 대상 목록
+     */
+    public void submitAll(Collection<SummaryKey> keys) {
+        List<SummaryKey> group = new ArrayList<>();
+        for (SummaryKey key : keys) {
+            // 새로 등록된 경우 false, 이미 처리 중이면 재요청(true)으로 표시
+            boolean alreadyInFlight = inFlight.merge(key, false, (previous, ignored) -> true);
+            if (!alreadyInFlight) {
+                group.add(key);
+            }
+        }
+        if (!group.isEmpty()) {
+            execute(group);
+        }
+    }
+
+    private void execute(List<SummaryKey> group) {
+        try {
+            executor.execute(() -> runCoalesced(group));
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 찬 경우 PENDING 상태로 남겨 두고 재처리 스윕에서 다시 등록
+            for (SummaryKey key : group) {
+                inFlight.remove(key);
+                counter(key.target(), "rejected").increment();
+            }
+            log.warn("AI 요약 대기열 초과로 요청 보류 - {}", group);
+        }
+    }
+
+    // 처리 중 재요청된 대상만 모아 다시 처리
+    private void runCoalesced(List<SummaryKey> group) {
+        List<SummaryKey> round = group;
+        while (!round.isEmpty()) {
+            round.forEach(key -> inFlight.put(key, false));
+            process(round);
+            round = round.stream().filter(key -> !inFlight.remove(key, false)).toList();
+        }
+    }
+
+    private void process(List<SummaryKey> group) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Map<SummaryKey, CompletableFuture<SummaryResult>> futures = new LinkedHashMap<>();
+        for (SummaryKey key : group) {
+            futures.put(key, generateAsync(key));
+        }
+        List<SummaryResult> results = futures.values().stream().map(CompletableFuture::join).toList();
+
+        try {
+            aiSummaryJobService.saveResults(results);
+        } catch (Exception e) {
+            // PENDING 상태로 남아 재처리 스윕에서 다시 생성
+            log.error("AI 요약 결과 저장 중 오류 - {}", group, e);
+        } finally {
+            sample.stop(Timer.builder("ai.summary.group.duration")
+                    .description("한 묶음의 AI 요약 생성부터 저장까지 걸린 시간")
+                    .register(meterRegistry));
+        }
+    }
+
+    private CompletableFuture<SummaryResult> generateAsync(SummaryKey key) {
+        AiSummaryTarget target = key.target();
+        Long targetId = key.targetId();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        CompletableFuture<SummaryResult> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> generate(target, targetId), callExecutor);
+        } catch (RejectedExecutionException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future
+                .exceptionally(e -> {
+                    // 입력을 읽지 못해 버전을 알 수 없으므로 PENDING으로 남겨 재처리 스윕에서 다시 생성
+                    log.error("AI 요약 입력 조회 실패 - target: {}, id: {}", target, targetId, e);
+                    return SummaryResult.failed(target, targetId, null);
+                })
+                .whenComplete((result, ignored) -> {
+                    String outcome = result.succeeded() ? "completed" : "failed";
+                    sample.stop(Timer.builder("ai.summary.duration")
+                            .tag("target", target.name())
+                            .tag("result", outcome)
+                            .register(meterRegistry));
+                    counter(target, outcome).increment();
+                });
+    }
+
+    // 입력 조회 후 트랜잭션 밖에서 OpenAI 호출 (재시도 포함)
+    private SummaryResult generate(AiSummaryTarget target, Long targetId) {
+        return switch (target) {
+            case DAILY_STATISTICS -> generate(target, targetId,
+                    aiSummaryJobService.loadHomeSummaryInput(targetId), aiSummaryService::generateHomeSummary);
+            case WEEKLY_STATISTICS -> generate(target, targetId,
+                    aiSummaryJobService.loadWeeklySummaryInput(targetId), aiSummaryService::generateWeeklyStatsSummary);
+            case CARE_CALL_RECORD -> generate(target, targetId,
+                    aiSummaryJobService.loadSymptomInput(targetId.intValue()), aiSummaryService::generateSymptomAnalysis);
+        };
+    }
+
+    // 결과에 입력 버전을 담아 저장 시 그 사이 새 입력으로 다시 요청된 요약을 덮어쓰지 않도록 함
+    private <T> SummaryResult generate(AiSummaryTarget target, Long targetId,
+                                       Optional<SummaryInput<T>> loaded, Function<T, String> generator) {
+        if (loaded.isEmpty()) {
+            return SummaryResult.completed(target, targetId, null, null);
+        }
+        SummaryInput<T> input = loaded.get();
+        if (input.input() == null) {
+            return SummaryResult.completed(target, targetId, input.version(), null);
+        }
+        try {
+            String summary = retryTemplate.execute(context -> generator.apply(input.input()));
+            return SummaryResult.completed(target, targetId, input.version(), summary);
+        } catch (RuntimeException e) {
+            log.error("AI 요약 생성 최종 실패 - target: {}, id: {}", target, targetId, e);
+            return SummaryResult.failed(target, targetId, input.version());
+        }
+    }
+
+    private Counter counter(AiSummaryTarget target, String result) {
+        return Counter.builder("ai.summary.jobs")
+                .tag("target", target.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public record SummaryKey(AiSummaryTarget target, Long targetId) {}
+}
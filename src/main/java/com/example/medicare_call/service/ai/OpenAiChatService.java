@@ -1,5 +1,6 @@
 package com.example.medicare_call.service.ai;
 
+import com.example.medicare_call.global.client.HttpClientResilienceRegistry;
 import com.example.medicare_call.global.exception.CustomException;
 import com.example.medicare_call.global.exception.ErrorCode;
 import com.example.medicare_call.service.ai.prompt.AiPromptFactory;
@@ -20,14 +21,17 @@ import java.util.List;
 
 /**
  * OpenAI API를 사용하여 질의응답을 수행하는 서비스
+ * spring-ai 호출(내부 재시도 포함)을 openai-chat 대상의 서킷 브레이커/벌크헤드로 감싼다
  */
 @RequiredArgsConstructor
 @Service
 public class OpenAiChatService {
     private static final Logger logger = LoggerFactory.getLogger(OpenAiChatService.class);
+    private static final String RESILIENCE_TARGET = "openai-chat";
 
     private final OpenAiApi openAiApi;
     private final OpenAiChatModel chatModel;
+    private final HttpClientResilienceRegistry resilienceRegistry;
 
     /**
      * OpenAI 챗 API를 이용하여 응답을 생성합니다.
@@ -52,10 +56,14 @@ public class OpenAiChatService {
             );
 
             // 챗 모델 생성 및 호출
-            ChatResponse response = chatModel.call(prompt);
+            ChatResponse response = resilienceRegistry.execute(RESILIENCE_TARGET, () -> chatModel.call(prompt));
 
             return response;
         } catch (Exception e) {
+            // 서킷 차단/동시 호출 수 초과는 그대로 전달
+            if (HttpClientResilienceRegistry.isRejected(e)) {
+                throw (CustomException) e;
+            }
             logger.error("OpenAI 챗 호출 중 오류 발생: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.OPENAI_API_ERROR);
         }
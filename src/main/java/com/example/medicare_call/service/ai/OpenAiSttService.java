@@ -1,6 +1,7 @@
 package com.example.medicare_call.service.ai;
 
 import com.example.medicare_call.dto.data_processor.OpenAiSttResponse;
+import com.example.medicare_call.global.client.HttpClientResilienceRegistry;
 import com.example.medicare_call.global.exception.CustomException;
 import com.example.medicare_call.global.exception.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
@@ -25,10 +26,15 @@ import java.io.IOException;
 @Service
 public class OpenAiSttService {
 
+    private static final String RESILIENCE_TARGET = "openai-stt";
+
     private final RestTemplate restTemplate;
+    private final HttpClientResilienceRegistry resilienceRegistry;
 
-    public OpenAiSttService(@Qualifier("openAiSttTemplate") RestTemplate restTemplate) {
+    public OpenAiSttService(@Qualifier("openAiSttTemplate") RestTemplate restTemplate,
+                            HttpClientResilienceRegistry resilienceRegistry) {
         this.restTemplate = restTemplate;
+        this.resilienceRegistry = resilienceRegistry;
     }
 
     @Value("${openai.api.key}")
@@ -59,11 +65,11 @@ public class OpenAiSttService {
             HttpEntity<MultiValueMap<String, Object>> requestEntity = getMultiValueMapHttpEntity(audioFile, headers);
 
             long apiStartTime = System.currentTimeMillis();
-            ResponseEntity<OpenAiSttResponse> response = restTemplate.postForEntity(
+            ResponseEntity<OpenAiSttResponse> response = resilienceRegistry.execute(RESILIENCE_TARGET, () -> restTemplate.postForEntity(
                     openaiAudioUrl,
                     requestEntity,
                     OpenAiSttResponse.class
-            );
+            ));
             long apiEndTime = System.currentTimeMillis();
 
             if (response.getBody() == null) {
@@ -78,6 +84,10 @@ public class OpenAiSttService {
             return response.getBody();
 
         } catch (Exception e) {
+            // 서킷 차단/동시 호출 수 초과는 그대로 전달
+            if (HttpClientResilienceRegistry.isRejected(e)) {
+                throw (CustomException) e;
+            }
             long endTime = System.currentTimeMillis();
             log.error("STT 처리 중 오류 발생. 소요시간: {}ms", endTime - startTime, e);
             throw new CustomException(ErrorCode.STT_PROCESSING_FAILED, "STT 처리 실패");
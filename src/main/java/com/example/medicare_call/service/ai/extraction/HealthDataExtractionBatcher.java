@@ -0,0 +1,192 @@
+package com.example.medicare_call.service.ai.extraction;
+
+import com.example.medicare_call.dto.data_processor.CareCallDataExtractionRequest;
+import com.example.medicare_call.dto.data_processor.HealthDataExtractionResponse;
+import com.example.medicare_call.global.concurrent.ExecutorShutdown;
+import com.example.medicare_call.global.concurrent.NamedThreadFactory;
+import com.example.medicare_call.global.config.HealthDataExtractionBatchProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 통화 분석의 건강 데이터 추출 요청을 짧은 시간(maxWait) 또는 maxBatchSize건까지 모아 한 번의 LLM 요청으로 보낸다
+ * - 통화마다 요청하던 방식보다 요청 수가 줄어 OpenAI 요청 수 제한에 덜 걸리고, 피크 시간대 요청이 고르게 나뉜다
+ * - 일괄 요청이 실패하거나 응답에 빠진 통화는 해당 호출자에게 예외로 전달되어 기존 재시도(@Retryable, 분석 작업 재처리)를 따른다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HealthDataExtractionBatcher {
+
+    private final HealthDataExtractionBatchProperties properties;
+    private final HealthDataExtractionProvider healthDataExtractionProvider;
+    private final MeterRegistry meterRegistry;
+
+    private final Object lock = new Object();
+    private List<PendingExtraction> buffer = new ArrayList<>();
+    private ScheduledFuture<?> windowTimer;
+
+    private ScheduledExecutorService timer;
+    private ExecutorService senders;
+
+    @PostConstruct
+    void init() {
+        this.timer = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("health-data-extraction-batcher", true));
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getMaxConcurrentBatches(), new NamedThreadFactory("health-data-extraction"));
+        this.senders = ExecutorServiceMetrics.monitor(meterRegistry, executor, "ai.extraction.batch");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+        // 모으는 중인 요청은 바로 보냄
+        flush();
+        ExecutorShutdown.awaitOrForce(senders);
+    }
+
+    public boolean isEnabled() {
+        return properties.isBatchEnabled();
+    }
+
+    /**
+     * 추출 요청을 일괄 요청에 담고 결과를 기다림
+     *
+     * @param request 추출 요청
+     * @return 추출 결과
+     */
+    public HealthDataExtractionResponse extract(CareCallDataExtractionRequest request) {
+        try {
+            return submit(request).get(properties.getResultTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("건강 데이터 일괄 추출 실패", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("건강 데이터 일괄 추출 응답 대기 시간 초과", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("건강 데이터 일괄 추출 대기 중 중단", e);
+        }
+    }
+
+    /**
+     * 추출 요청을 일괄 요청에 담음. maxBatchSize건이 모이면 바로, 아니면 첫 요청 후 maxWait가 지나면 보낸다
+     *
+     * @param request 추출 요청
+     * @return 추출 결과
+     */
+    public CompletableFuture<HealthDataExtractionResponse> submit(CareCallDataExtractionRequest request) {
+        PendingExtraction pending = new PendingExtraction(request, new CompletableFuture<>());
+
+        List<PendingExtraction> full = null;
+        synchronized (lock) {
+            buffer.add(pending);
+            if (buffer.size() >= properties.getMaxBatchSize()) {
+                full = takeBuffer();
+            } else if (buffer.size() == 1) {
+                windowTimer = scheduleFlush();
+            }
+        }
+
+        if (full != null) {
+            dispatch(full);
+        }
+        return pending.result();
+    }
+
+    private ScheduledFuture<?> scheduleFlush() {
+        try {
+            return timer.schedule(this::flush, properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 다음 요청이나 shutdown에서 보냄
+            return null;
+        }
+    }
+
+    private void flush() {
+        List<PendingExtraction> batch;
+        synchronized (lock) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            batch = takeBuffer();
+        }
+        dispatch(batch);
+    }
+
+    // lock 안에서 호출
+    private List<PendingExtraction> takeBuffer() {
+        if (windowTimer != null) {
+            windowTimer.cancel(false);
+            windowTimer = null;
+        }
+        List<PendingExtraction> batch = buffer;
+        buffer = new ArrayList<>();
+        return batch;
+    }
+
+    private void dispatch(List<PendingExtraction> batch) {
+        try {
+            senders.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            RejectedExecutionException rejected = new RejectedExecutionException("종료 중이므로 건강 데이터 일괄 추출을 보내지 않음");
+            batch.forEach(pending -> pending.result().completeExceptionally(rejected));
+        }
+    }
+
+    private void send(List<PendingExtraction> batch) {
+        DistributionSummary.builder("ai.extraction.batch.size")
+                .description("한 번의 요청으로 추출한 통화 수")
+                .register(meterRegistry)
+                .record(batch.size());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<HealthDataExtractionResponse> results;
+        try {
+            results = healthDataExtractionProvider.extract(batch.stream().map(PendingExtraction::request).toList());
+        } catch (Exception e) {
+            log.warn("건강 데이터 일괄 추출 실패 - {}건, error: {}", batch.size(), e.getMessage());
+            counter("error").increment(batch.size());
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        } finally {
+            sample.stop(Timer.builder("ai.extraction.batch.duration")
+                    .description("건강 데이터 일괄 추출 요청 시간")
+                    .register(meterRegistry));
+        }
+
+        for (int index = 0; index < batch.size(); index++) {
+            HealthDataExtractionResponse result = index < results.size() ? results.get(index) : null;
+            CompletableFuture<HealthDataExtractionResponse> future = batch.get(index).result();
+            if (result == null) {
+                counter("missing").increment();
+                future.completeExceptionally(new IllegalStateException("일괄 추출 응답에 통화 " + index + "번 결과가 없습니다"));
+            } else {
+                counter("success").increment();
+                future.complete(result);
+            }
+        }
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("ai.extraction.batch.items")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record PendingExtraction(CareCallDataExtractionRequest request,
+                                     CompletableFuture<HealthDataExtractionResponse> result) {}
+}
@@ -0,0 +1,18 @@
+package com.example.medicare_call.service.ai.extraction;
+
+import com.example.medicare_call.dto.data_processor.CareCallDataExtractionRequest;
+import com.example.medicare_call.dto.data_processor.HealthDataExtractionResponse;
+
+import java.util.List;
+
+/**
+ * 여러 통화의 건강 데이터를 한 번에 추출하는 LLM 호출
+ */
+public interface HealthDataExtractionProvider {
+
+    /**
+     * @param requests 추출 요청 목록
+     * @return 요청 순서대로의 추출 결과, 응답에 없는 항목은 null
+     */
+    List<HealthDataExtractionResponse> extract(List<CareCallDataExtractionRequest> requests);
+}
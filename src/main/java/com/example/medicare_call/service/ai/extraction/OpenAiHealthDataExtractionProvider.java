@@ -0,0 +1,70 @@
+package com.example.medicare_call.service.ai.extraction;
+
+import com.example.medicare_call.dto.data_processor.CareCallDataExtractionRequest;
+import com.example.medicare_call.dto.data_processor.HealthDataBatchExtractionResponse;
+import com.example.medicare_call.dto.data_processor.HealthDataExtractionResponse;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.service.ai.OpenAiChatService;
+import com.example.medicare_call.service.ai.prompt.CareCallBatchDataExtractionPromptBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 여러 통화 내용을 번호를 붙여 하나의 채팅 요청으로 보내고, 응답을 번호별로 나누어 돌려준다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenAiHealthDataExtractionProvider implements HealthDataExtractionProvider {
+
+    private final OpenAiChatService openAiChatService;
+    private final CareCallBatchDataExtractionPromptBuilder careCallBatchDataExtractionPromptBuilder;
+    private final BeanOutputConverter<HealthDataBatchExtractionResponse> beanOutputConverter = new BeanOutputConverter<>(HealthDataBatchExtractionResponse.class);
+
+    @Value("${openai.model}")
+    private String openaiModel;
+
+    @Override
+    public List<HealthDataExtractionResponse> extract(List<CareCallDataExtractionRequest> requests) {
+        log.info("OpenAI API를 통한 건강 데이터 일괄 추출 시작 - {}건", requests.size());
+
+        OpenAiChatOptions options = OpenAiChatOptions.builder()
+                .model(openaiModel)
+                .temperature(0.1)
+                .build();
+
+        ChatResponse response = openAiChatService.openAiChat(
+                careCallBatchDataExtractionPromptBuilder.buildPrompt(requests),
+                careCallBatchDataExtractionPromptBuilder.buildSystemMessage(),
+                options
+        );
+
+        if (response == null || response.getResult() == null) {
+            throw new CustomException(ErrorCode.OPENAI_API_ERROR, "OpenAI API 응답이 비어있습니다");
+        }
+
+        HealthDataBatchExtractionResponse batch = beanOutputConverter.convert(response.getResult().getOutput().getText());
+
+        List<HealthDataExtractionResponse> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        if (batch != null && batch.getResults() != null) {
+            for (HealthDataBatchExtractionResponse.Result result : batch.getResults()) {
+                Integer index = result.getIndex();
+                // 범위를 벗어난 번호는 무시 (해당 통화는 결과 없음으로 처리)
+                if (index != null && index >= 0 && index < requests.size()) {
+                    results.set(index, result.getData());
+                }
+            }
+        }
+        return results;
+    }
+}
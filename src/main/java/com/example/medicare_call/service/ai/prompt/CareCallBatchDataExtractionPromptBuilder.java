@@ -0,0 +1,57 @@
+package com.example.medicare_call.service.ai.prompt;
+
+import com.example.medicare_call.dto.data_processor.CareCallDataExtractionRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.example.medicare_call.service.ai.prompt.CareCallDataExtractionPromptBuilder.*;
+
+/**
+ * 여러 통화의 건강 데이터를 한 번의 요청으로 추출하는 프롬프트
+ * 추출 항목과 응답 구조는 단건 프롬프트(CareCallDataExtractionPromptBuilder)와 같고, 통화마다 번호를 붙여 결과를 번호별로 받는다
+ */
+@Component
+public class CareCallBatchDataExtractionPromptBuilder implements PromptBuilder<List<CareCallDataExtractionRequest>> {
+
+    private final String MEDICATION_NAME_RULE = """
+
+            [중요] 복약 데이터 추출 시, 약의 종류는 반드시 해당 통화의 "복용 약 목록"에 있는 명칭 중 하나를 사용하세요.
+            목록에 없는 약 이름이 언급된 경우, 가장 유사한 이름으로 매핑하거나, 매핑이 불가능하면 언급된 이름을 그대로 사용하세요.
+            """;
+
+    @Override
+    public String buildSystemMessage() {
+        return "당신은 의료 통화 내용에서 건강 데이터를 추출하는 전문가입니다. 여러 통화가 주어지면 통화마다 따로 건강 관련 정보를 정확히 추출하여 JSON 형태로 응답해주세요.";
+    }
+
+    // 통화 내용에 중괄호가 포함될 수 있으므로 PromptTemplate을 사용하지 않고 이어 붙인다
+    @Override
+    public String buildPrompt(List<CareCallDataExtractionRequest> requests) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("다음 ").append(requests.size()).append("건의 통화 내용에서 각각 건강 데이터를 추출하여 JSON 형태로 응답해주세요.\n");
+        prompt.append("통화 언어: 한국어\n");
+        prompt.append("각 통화는 [통화 번호]로 구분됩니다. 통화마다 따로 추출하고, 다른 통화의 내용을 섞지 마세요.\n\n");
+
+        for (int index = 0; index < requests.size(); index++) {
+            CareCallDataExtractionRequest request = requests.get(index);
+            List<String> medicationNames = request.getMedicationNames();
+
+            prompt.append("[통화 ").append(index).append("]\n");
+            prompt.append("통화 날짜: ").append(request.getCallDate()).append('\n');
+            prompt.append("복용 약 목록: [")
+                    .append(medicationNames != null && !medicationNames.isEmpty() ? String.join(", ", medicationNames) : "등록된 약 없음")
+                    .append("]\n");
+            prompt.append("통화 내용:\n").append(request.getTranscriptionText()).append("\n\n");
+        }
+
+        prompt.append(EXTRACTION_ITEMS);
+        prompt.append(MEDICATION_NAME_RULE);
+        prompt.append(SEPARATE_ENTRIES_RULE);
+        prompt.append("\n응답은 반드시 다음 JSON 구조로 해주세요. results 배열에 통화마다 하나씩, 통화 번호를 index에 담아주세요:\n");
+        prompt.append("{\n  \"results\": [\n    { \"index\": 통화 번호, \"data\": 추출 결과 }\n  ]\n}\n");
+        prompt.append("추출 결과(data)는 다음 구조입니다:\n");
+        prompt.append(RESPONSE_SCHEMA);
+        return prompt.toString();
+    }
+}
@@ -7,7 +7,7 @@ import org.springframework.stereotype.Component;
 @Component
 public class CareCallDataExtractionPromptBuilder implements PromptBuilder<CareCallDataExtractionRequest> {
 
-    private final String CARE_CALL_DATA_EXTRACTION_TEMPLATE = """
+    private final String CARE_CALL_DATA_EXTRACTION_HEADER = """
             다음 통화 내용에서 건강 데이터를 추출하여 JSON 형태로 응답해주세요.
 
             통화 날짜: {callDate}
@@ -15,6 +15,10 @@ public class CareCallDataExtractionPromptBuilder implements PromptBuilder<CareCa
             통화 내용:
             {transcriptionText}
 
+            """;
+
+    // 여러 통화를 한 번에 추출하는 프롬프트(CareCallBatchDataExtractionPromptBuilder)와 함께 사용
+    static final String EXTRACTION_ITEMS = """
             다음 정보들을 추출해주세요. 추출할 수 없는 경우 null로 처리해주세요:
 
             1. 금일의 날짜
@@ -41,15 +45,23 @@ public class CareCallDataExtractionPromptBuilder implements PromptBuilder<CareCa
             7. 건강 징후 데이터
                - 건강 징후 상세 내용 (짧은 문장들로 요약)
                - 건강 상태 요약 (좋음/나쁨)
+            """;
+
+    private final String MEDICATION_NAME_RULE = """
 
             [중요] 복약 데이터 추출 시, 약의 종류는 반드시 다음 리스트에 있는 명칭 중 하나를 사용하세요: [{medicationNames}]
             리스트에 없는 약 이름이 언급된 경우, 가장 유사한 이름으로 매핑하거나, 매핑이 불가능하면 언급된 이름을 그대로 사용하세요.
+            """;
+
+    static final String SEPARATE_ENTRIES_RULE = """
 
             [중요] 만약 혈당을 여러 번 측정했거나 여러 종류의 약을 복용했다면, 각각을 반드시 별개의 JSON 객체로 분리하여 배열에 담아주세요. 예를 들어, "아침 혈압약, 점심 당뇨약"은 2개의 복약 데이터 객체로 분리해야 합니다. 절대로 하나의 필드에 여러 정보를 합치지 마세요.
             """;
 
-    private final String JSON_STRUCTURE = """
-            응답은 반드시 다음 JSON 구조로 해주세요:
+    private final String CARE_CALL_DATA_EXTRACTION_TEMPLATE =
+            CARE_CALL_DATA_EXTRACTION_HEADER + EXTRACTION_ITEMS + MEDICATION_NAME_RULE + SEPARATE_ENTRIES_RULE;
+
+    static final String RESPONSE_SCHEMA = """
             {
               "date": "날짜",
               "mealData": [
@@ -97,6 +109,8 @@ public class CareCallDataExtractionPromptBuilder implements PromptBuilder<CareCa
             }
             """;
 
+    private final String JSON_STRUCTURE = "응답은 반드시 다음 JSON 구조로 해주세요:\n" + RESPONSE_SCHEMA;
+
     @Override
     public String buildSystemMessage() {
         return "당신은 의료 통화 내용에서 건강 데이터를 추출하는 전문가입니다. 주어진 통화 내용에서 건강 관련 정보를 정확히 추출하여 JSON 형태로 응답해주세요.";
@@ -2,12 +2,18 @@ package com.example.medicare_call.service.carecall.analysis;
 
 import com.example.medicare_call.domain.CareCallRecord;
 import com.example.medicare_call.dto.data_processor.HealthDataExtractionResponse;
+import com.example.medicare_call.repository.BloodSugarRecordRepository;
 import com.example.medicare_call.repository.CareCallRecordRepository;
+import com.example.medicare_call.repository.MealRecordRepository;
+import com.example.medicare_call.repository.MedicationTakenRecordRepository;
 import com.example.medicare_call.service.health_data.MealRecordService;
-import com.example.medicare_call.service.statistics.StatisticsUpdateService;
+import com.example.medicare_call.global.enums.AiSummaryStatus;
+import com.example.medicare_call.global.enums.AiSummaryTarget;
 import com.example.medicare_call.global.enums.HealthStatus;
+import com.example.medicare_call.global.event.AiSummaryRequestedEvent;
+import com.example.medicare_call.global.event.Events;
+import com.example.medicare_call.global.event.StatisticsUpdateRequestedEvent;
 import com.example.medicare_call.global.enums.PsychologicalStatus;
-import com.example.medicare_call.service.ai.AiSummaryService;
 import com.example.medicare_call.service.health_data.BloodSugarService;
 import com.example.medicare_call.service.health_data.MedicationService;
 import com.example.medicare_call.util.CareCallUtil;
@@ -20,7 +26,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.Arrays;
 import java.util.List;
 
 @Slf4j
@@ -31,15 +36,17 @@ public class CareCallAnalysisResultSaveService {
     public static final String MEAL_STATUS_UNKNOWN_MESSAGE = "해당 시간대 식사 여부를 명확히 확인하지 못했어요.";
 
     private final CareCallRecordRepository careCallRecordRepository;
-    private final AiSummaryService aiSummaryService;
-    private final StatisticsUpdateService statisticsUpdateService;
     private final BloodSugarService bloodSugarService;
     private final MedicationService medicationService;
     private final MealRecordService mealRecordService;
+    private final BloodSugarRecordRepository bloodSugarRecordRepository;
+    private final MedicationTakenRecordRepository medicationTakenRecordRepository;
+    private final MealRecordRepository mealRecordRepository;
 
 
     /**
      * 추출된 건강 데이터를 처리하고 각각의 서비스(혈당, 복약, 식사)를 통해 저장
+     * 이 통화로 이전에 저장된 혈당/복약/식사 기록은 지우고 다시 저장하므로, 재처리로 여러 번 분석해도 결과가 한 벌만 남는다
      * 
      * @param callRecord 케어콜 기록 엔티티
      * @param healthData AI로부터 추출된 건강 데이터
@@ -55,6 +62,8 @@ public class CareCallAnalysisResultSaveService {
             mealRecordService.saveIfPresent(callRecord, healthData.getMealData());
         * */
         if (healthData != null) {
+            deletePreviousHealthData(callRecord.getId());
+
             if (healthData.getBloodSugarData() != null && !healthData.getBloodSugarData().isEmpty()) {
                 bloodSugarService.saveBloodSugarData(callRecord, healthData.getBloodSugarData());
             }
@@ -72,6 +81,15 @@ public class CareCallAnalysisResultSaveService {
         log.info("건강 데이터 DB 저장 완료: callId={}", callRecord.getId());
     }
 
+    private void deletePreviousHealthData(Integer careCallRecordId) {
+        int deleted = bloodSugarRecordRepository.deleteByCareCallRecordId(careCallRecordId)
+                + medicationTakenRecordRepository.deleteByCareCallRecordId(careCallRecordId)
+                + mealRecordRepository.deleteByCareCallRecordId(careCallRecordId);
+        if (deleted > 0) {
+            log.info("이전 분석 결과 삭제 후 다시 저장: callId={}, deleted={}", careCallRecordId, deleted);
+        }
+    }
+
     /**
      * CareCallRecord 엔티티에서 추출한 건강 데이터(수면, 심리, 건강 상태 등)를 업데이트
      * 
@@ -116,11 +134,13 @@ public class CareCallAnalysisResultSaveService {
         careCallRecordRepository.save(updatedRecord);
         log.info("CareCallRecord 건강 데이터 업데이트 완료: callId={}", updatedRecord.getId());
 
-        try {
-            statisticsUpdateService.updateStatistics(updatedRecord);
-        } catch (Exception e) {
-            log.error("통계 데이터 업데이트 중 오류 발생: callId={}", updatedRecord.getId(), e);
+        if (updatedRecord.getAiHealthAnalysisStatus() == AiSummaryStatus.PENDING) {
+            careCallRecordRepository.markAiHealthAnalysisRequested(updatedRecord.getId(), LocalDateTime.now());
+            Events.raise(new AiSummaryRequestedEvent(AiSummaryTarget.CARE_CALL_RECORD, updatedRecord.getId().longValue()));
         }
+
+        // 통계는 커밋 이후 어르신/일자 단위로 합쳐서 재계산 (동시 웹훅의 중복 재계산 및 유니크 키 충돌 방지)
+        Events.raise(new StatisticsUpdateRequestedEvent(updatedRecord.getElder().getId(), updatedRecord.getCalledAt().toLocalDate()));
     }
 
     /**
@@ -243,7 +263,8 @@ public class CareCallAnalysisResultSaveService {
     }
 
     /**
-     * 건강 징후 목록을 분석하여 한 줄 요약 코멘트를 생성하고 CareCallRecord에 저장
+     * 건강 징후가 있으면 AI 건강분석 코멘트 생성을 PENDING 상태로 표시하고 추출 데이터 JSON을 저장
+     * 코멘트는 커밋 이후 비동기 요약 작업에서 생성된다
      * 
      * @param callRecord 업데이트할 케어콜 기록
      * @param aiExtractedDataJson AI 추출 데이터 JSON 문자열 (저장용)
@@ -251,18 +272,18 @@ public class CareCallAnalysisResultSaveService {
      */
     private CareCallRecord updateAiHealthAnalysisComment(CareCallRecord callRecord, String aiExtractedDataJson) {
         String healthDetails = callRecord.getHealthDetails();
-        String aiComment = null;
+        AiSummaryStatus analysisStatus = null;
         if (healthDetails != null && !healthDetails.isBlank()) {
-            List<String> symptomList = Arrays.stream(healthDetails.split(",")).map(String::trim).toList();
-            aiComment = aiSummaryService.getSymptomAnalysis(symptomList);
+            analysisStatus = AiSummaryStatus.PENDING;
         }
 
         callRecord = callRecord.toBuilder()
-                .aiHealthAnalysisComment(aiComment)
+                .aiHealthAnalysisComment(null)
+                .aiHealthAnalysisStatus(analysisStatus)
                 .aiExtractedDataJson(aiExtractedDataJson)
                 .build();
 
-        log.info("AI 건강분석 코멘트 업데이트 완료: aiComment={}", aiComment);
+        log.info("AI 건강분석 코멘트 요청 상태 업데이트 완료: status={}", analysisStatus);
 
         return callRecord;
     }
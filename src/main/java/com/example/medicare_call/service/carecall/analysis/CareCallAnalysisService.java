@@ -6,6 +6,7 @@ import com.example.medicare_call.dto.data_processor.CareCallDataExtractionReques
 import com.example.medicare_call.dto.data_processor.HealthDataExtractionResponse;
 import com.example.medicare_call.repository.MedicationScheduleRepository;
 import com.example.medicare_call.service.ai.OpenAiChatService;
+import com.example.medicare_call.service.ai.extraction.HealthDataExtractionBatcher;
 import com.example.medicare_call.service.ai.prompt.CareCallDataExtractionPromptBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +31,7 @@ public class CareCallAnalysisService {
     private final CareCallDataExtractionPromptBuilder careCallDataExtractionPromptBuilder;
     private final MedicationScheduleRepository medicationScheduleRepository;
     private final CareCallAnalysisResultSaveService careCallAnalysisResultSaveService;
+    private final HealthDataExtractionBatcher healthDataExtractionBatcher;
     private final BeanOutputConverter<HealthDataExtractionResponse> beanOutputConverter = new BeanOutputConverter<>(HealthDataExtractionResponse.class);
 
     @Value("${openai.model}")
@@ -62,7 +64,14 @@ public class CareCallAnalysisService {
                 .distinct()
                 .toList();
 
-        HealthDataExtractionResponse healthData = extractHealthData(callDate, transcriptionText, medicationNames);
+        // 일괄 추출을 사용하면 다른 통화 요청과 묶어서 OpenAI에 보냄
+        HealthDataExtractionResponse healthData = healthDataExtractionBatcher.isEnabled()
+                ? healthDataExtractionBatcher.extract(CareCallDataExtractionRequest.builder()
+                        .callDate(callDate)
+                        .transcriptionText(transcriptionText)
+                        .medicationNames(medicationNames)
+                        .build())
+                : extractHealthData(callDate, transcriptionText, medicationNames);
 
         careCallAnalysisResultSaveService.processAndSaveHealthData(callRecord, healthData);
     }
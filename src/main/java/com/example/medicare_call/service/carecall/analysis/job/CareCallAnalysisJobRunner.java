@@ -0,0 +1,59 @@
+package com.example.medicare_call.service.carecall.analysis.job;
+
+import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.global.enums.CareCallStatus;
+import com.example.medicare_call.global.event.CareCallAnalysisCompletedEvent;
+import com.example.medicare_call.global.event.Events;
+import com.example.medicare_call.global.event.StatisticsUpdateRequestedEvent;
+import com.example.medicare_call.service.carecall.analysis.CareCallAnalysisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 통화 분석 1회 시도 (분석 스레드 풀에서 실행)
+ * 통화 저장 직후의 실시간 분석(CareCallEventListener)과 재처리(CareCallAnalysisReplayWorker)가 같은 경로로 실행된다
+ * - 실행을 시작할 때 처리 제한 시각을 다시 잡고, 그 사이 다른 인스턴스가 다음 시도로 가져갔으면 실행하지 않는다
+ * - 건강 데이터는 통화 기록 단위로 지우고 다시 저장하므로 같은 통화를 여러 번 분석해도 결과가 한 벌만 남는다
+ * - 미응답 통화는 통계 재계산을 요청해 원천 기록에서 부재중 횟수를 다시 센다 (재처리되어도 중복 집계되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CareCallAnalysisJobRunner {
+
+    private final CareCallAnalysisService careCallAnalysisService;
+    private final CareCallAnalysisJobService careCallAnalysisJobService;
+
+    /**
+     * @param record 분석할 통화 기록 (어르신, 케어콜 설정 포함)
+     * @param attempts 선점한 시도 번호
+     */
+    public void run(CareCallRecord record, int attempts) {
+        Integer recordId = record.getId();
+        if (!careCallAnalysisJobService.start(recordId, attempts)) {
+            log.info("다른 시도가 이미 가져간 통화 분석, 실행하지 않음 - recordId: {}, attempts: {}", recordId, attempts);
+            return;
+        }
+
+        boolean analyzed;
+        try {
+            careCallAnalysisService.extractAndSaveHealthDataFromAi(record);
+            analyzed = careCallAnalysisJobService.markDone(recordId, attempts);
+        } catch (Exception e) {
+            log.error("건강 데이터 분석 실패: recordId={}, attempts={}", recordId, attempts, e);
+            // TODO: 디스코드 API or Slack API 연동하여 알림 전송
+            careCallAnalysisJobService.handleFailure(recordId, attempts, e);
+            analyzed = false;
+        }
+
+        // 부재중 통계는 분석 결과와 관계없이 반영
+        if (CareCallStatus.NO_ANSWER.matches(record.getCallStatus())) {
+            Events.raise(new StatisticsUpdateRequestedEvent(record.getElder().getId(), record.getCalledAt().toLocalDate()));
+        }
+
+        if (analyzed) {
+            Events.raise(new CareCallAnalysisCompletedEvent(record));
+        }
+    }
+}
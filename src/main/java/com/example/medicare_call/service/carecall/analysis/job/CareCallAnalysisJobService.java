@@ -0,0 +1,180 @@
+package com.example.medicare_call.service.carecall.analysis.job;
+
+import com.example.medicare_call.domain.CareCallAnalysisJob;
+import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.dto.carecall.CareCallAnalysisJobSummaryResponse;
+import com.example.medicare_call.global.concurrent.RetrySupport;
+import com.example.medicare_call.global.config.CareCallAnalysisProperties;
+import com.example.medicare_call.global.enums.CareCallAnalysisJobStatus;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.repository.CareCallAnalysisJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 통화 분석 작업 기록 관리
+ * - 통화 기록 저장 트랜잭션 안에서 처리 중(RUNNING) 상태로 생성하므로, 분석 전에 인스턴스가 중단되어도
+ *   processTimeout 이후 재처리 워커가 가져간다
+ * - 분석 스레드가 실행을 시작할 때 처리 제한 시각을 다시 잡으므로, 대기열에서 기다린 시간은 processTimeout에 포함되지 않는다
+ * - 결과 기록(완료, 재시도, 실패, 반환)은 선점한 시도 번호로 제한한다. 제한 시각이 지나 다른 인스턴스가 가져간 뒤
+ *   늦게 끝난 시도가 상태를 덮어쓰지 않는다
+ * - 분석 실패 시 maxAttempts까지 지연 후 재시도하고, 모두 실패하면 FAILED로 남겨 관리자 API로 다시 대기 상태로 돌린다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CareCallAnalysisJobService {
+
+    // 통화 기록 저장 시 등록되는 최초 시도 번호 (실시간 분석)
+    public static final int FIRST_ATTEMPT = 1;
+
+    private final CareCallAnalysisProperties properties;
+    private final CareCallAnalysisJobRepository careCallAnalysisJobRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 분석 작업 생성 (통화 기록 저장 트랜잭션 안에서 호출)
+     * 처리 제한 시각은 분석 스레드가 실행을 시작할 때 다시 잡는다 (start)
+     *
+     * @param record 저장된 통화 기록
+     */
+    public void register(CareCallRecord record) {
+        careCallAnalysisJobRepository.save(CareCallAnalysisJob.builder()
+                .recordId(record.getId())
+                .status(CareCallAnalysisJobStatus.RUNNING)
+                .attempts(FIRST_ATTEMPT)
+                .nextAttemptAt(RetrySupport.leaseDeadline(LocalDateTime.now(), properties.getProcessTimeout()))
+                .build());
+    }
+
+    /**
+     * 분석 스레드에서 실행을 시작할 때 호출. 처리 제한 시각을 지금부터 processTimeout 뒤로 다시 잡는다
+     *
+     * @param recordId 통화 기록 ID
+     * @param attempts 선점한 시도 번호
+     * @return 다른 인스턴스가 이미 다음 시도로 가져갔으면 false (실행하지 않아야 함)
+     */
+    public boolean start(Integer recordId, int attempts) {
+        LocalDateTime deadline = RetrySupport.leaseDeadline(LocalDateTime.now(), properties.getProcessTimeout());
+        if (careCallAnalysisJobRepository.startAttempt(recordId, attempts, deadline) == 0) {
+            counter("stale").increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 분석 완료 기록
+     *
+     * @param recordId 통화 기록 ID
+     * @param attempts 선점한 시도 번호
+     * @return 다른 인스턴스가 이미 다음 시도로 가져갔으면 false
+     */
+    public boolean markDone(Integer recordId, int attempts) {
+        if (careCallAnalysisJobRepository.markDone(recordId, attempts, LocalDateTime.now()) == 0) {
+            stale(recordId, attempts, "완료");
+            return false;
+        }
+        counter("done").increment();
+        return true;
+    }
+
+    /**
+     * 분석 실패 기록. 남은 시도가 있으면 (retryBackoff * 시도 횟수) 후 재처리 대상이 된다
+     *
+     * @param recordId 통화 기록 ID
+     * @param attempts 선점한 시도 번호 (이번 시도까지의 시도 횟수)
+     * @param e 실패 원인
+     */
+    public void handleFailure(Integer recordId, int attempts, Exception e) {
+        String error = RetrySupport.errorMessage(e);
+
+        if (attempts >= properties.getMaxAttempts()) {
+            markFailed(recordId, attempts, error);
+            return;
+        }
+
+        Duration backoff = RetrySupport.linearBackoff(properties.getRetryBackoff(), attempts);
+        if (careCallAnalysisJobRepository.scheduleRetry(recordId, attempts, LocalDateTime.now().plus(backoff), error) == 0) {
+            stale(recordId, attempts, "재시도");
+            return;
+        }
+        counter("retry").increment();
+        log.warn("통화 분석 실패, {}초 후 재처리 - recordId: {}, attempts: {}, error: {}",
+                backoff.toSeconds(), recordId, attempts, error);
+    }
+
+    public void markFailed(Integer recordId, int attempts, String error) {
+        if (careCallAnalysisJobRepository.markFailed(recordId, attempts, RetrySupport.truncate(error)) == 0) {
+            stale(recordId, attempts, "실패");
+            return;
+        }
+        counter("failed").increment();
+        log.error("통화 분석 포기 - recordId: {}, error: {}", recordId, error);
+    }
+
+    /**
+     * 분석 대기열이 가득 차 실행하지 못한 작업을 바로 재처리 대상으로 돌려놓음
+     *
+     * @param recordId 통화 기록 ID
+     * @param attempts 선점한 시도 번호
+     */
+    public void release(Integer recordId, int attempts) {
+        try {
+            careCallAnalysisJobRepository.release(recordId, attempts, LocalDateTime.now());
+            counter("spilled").increment();
+        } catch (Exception e) {
+            // processTimeout 이후 재처리 대상이 됨
+            log.warn("통화 분석 작업 반환 실패 - recordId: {}, error: {}", recordId, e.getMessage());
+        }
+    }
+
+    /**
+     * 기간 내 생성된 실패 작업을 다시 대기 상태로 돌림 (재처리 워커가 분석 대기열 여유만큼 나누어 처리)
+     *
+     * @param startDate 시작일
+     * @param endDate 종료일 (포함)
+     * @return 다시 대기 상태로 돌린 건수와 상태별 건수
+     */
+    public CareCallAnalysisJobSummaryResponse requeueFailed(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new CustomException(ErrorCode.INVALID_CARE_CALL_ANALYSIS_REPLAY_RANGE);
+        }
+
+        int requeued = careCallAnalysisJobRepository.requeueFailed(
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(), LocalDateTime.now());
+        log.info("실패한 통화 분석 작업 재처리 요청 - {} ~ {}, {}건", startDate, endDate, requeued);
+
+        CareCallAnalysisJobSummaryResponse summary = summary();
+        summary.setRequeued(requeued);
+        return summary;
+    }
+
+    public CareCallAnalysisJobSummaryResponse summary() {
+        return CareCallAnalysisJobSummaryResponse.builder()
+                .pending(careCallAnalysisJobRepository.countByStatus(CareCallAnalysisJobStatus.PENDING))
+                .running(careCallAnalysisJobRepository.countByStatus(CareCallAnalysisJobStatus.RUNNING))
+                .failed(careCallAnalysisJobRepository.countByStatus(CareCallAnalysisJobStatus.FAILED))
+                .build();
+    }
+
+    // 처리 제한 시각이 지나 다른 인스턴스가 다음 시도로 가져간 뒤 늦게 끝난 시도
+    private void stale(Integer recordId, int attempts, String result) {
+        counter("stale").increment();
+        log.warn("이미 다른 시도가 가져간 통화 분석 작업, {} 기록하지 않음 - recordId: {}, attempts: {}", result, recordId, attempts);
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("carecall.analysis.jobs")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.medicare_call.service.carecall.analysis.job;
+
+import com.example.medicare_call.domain.CareCallAnalysisJob;
+import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.global.config.CareCallAnalysisProperties;
+import com.example.medicare_call.global.enums.CareCallAnalysisJobStatus;
+import com.example.medicare_call.repository.CareCallAnalysisJobRepository;
+import com.example.medicare_call.repository.CareCallRecordRepository;
+import com.example.medicare_call.service.carecall.inbound.CareCallAnalysisExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 처리 대기 중이거나 처리 제한 시각이 지난 통화 분석 작업을 다시 실행하는 워커
+ * - 분석 전용 스레드 풀의 대기열 여유만큼만 가져가므로, 장애 복구 후 쌓인 작업도 실시간 통화 분석을 밀어내지 않고 나누어 처리된다
+ * - 조건부 갱신으로 선점하므로 여러 인스턴스가 동시에 실행해도 한 건은 한 곳에서만 처리한다
+ * - 선점한 작업은 실시간 분석과 같은 경로(CareCallAnalysisJobRunner)로 실행한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CareCallAnalysisReplayWorker {
+
+    private final CareCallAnalysisProperties properties;
+    private final CareCallAnalysisJobRepository careCallAnalysisJobRepository;
+    private final CareCallRecordRepository careCallRecordRepository;
+    private final CareCallAnalysisJobService careCallAnalysisJobService;
+    private final CareCallAnalysisJobRunner careCallAnalysisJobRunner;
+    private final CareCallAnalysisExecutor careCallAnalysisExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 마지막 조회 시점의 처리 대기/실패 건수
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("carecall.analysis.jobs.pending", pending, AtomicLong::get)
+                .description("재처리 대기 중인 통화 분석 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("carecall.analysis.jobs.failed", failed, AtomicLong::get)
+                .description("최대 시도 횟수를 모두 실패한 통화 분석 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리 가능한 작업을 분석 대기열 여유만큼 선점하여 분석 스레드 풀에 넘긴다
+     *
+     * @return 이번에 선점한 건수
+     */
+    public int drain() {
+        pending.set(careCallAnalysisJobRepository.countByStatus(CareCallAnalysisJobStatus.PENDING));
+        failed.set(careCallAnalysisJobRepository.countByStatus(CareCallAnalysisJobStatus.FAILED));
+
+        int available = Math.min(properties.getReplayBatchSize(), careCallAnalysisExecutor.remainingCapacity());
+        if (available <= 0) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = careCallAnalysisJobRepository.findDueIds(now, PageRequest.of(0, available));
+
+        int claimed = 0;
+        for (Long id : dueIds) {
+            // 다른 인스턴스가 먼저 선점한 건은 건너뜀
+            if (careCallAnalysisJobRepository.claim(id, now, now.plus(properties.getProcessTimeout())) == 0) {
+                continue;
+            }
+            claimed++;
+            careCallAnalysisJobRepository.findById(id).ifPresent(job ->
+                    careCallAnalysisExecutor.execute(
+                            () -> replay(job),
+                            () -> careCallAnalysisJobService.release(job.getRecordId(), job.getAttempts())
+                    ));
+        }
+        return claimed;
+    }
+
+    private void replay(CareCallAnalysisJob job) {
+        Integer recordId = job.getRecordId();
+        try {
+            CareCallRecord record = careCallRecordRepository.findWithElderAndSettingById(recordId).orElse(null);
+            if (record == null) {
+                careCallAnalysisJobService.markFailed(recordId, job.getAttempts(), "통화 기록이 없습니다");
+                return;
+            }
+
+            careCallAnalysisJobRunner.run(record, job.getAttempts());
+            log.info("통화 분석 재처리 종료 - recordId: {}, attempts: {}", recordId, job.getAttempts());
+        } catch (Exception e) {
+            // 결과 기록 실패 시 processTimeout 이후 다시 처리 대상이 됨
+            log.error("통화 분석 재처리 실패 - recordId: {}", recordId, e);
+        }
+    }
+}
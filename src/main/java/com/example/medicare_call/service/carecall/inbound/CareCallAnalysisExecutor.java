@@ -0,0 +1,91 @@
+package com.example.medicare_call.service.carecall.inbound;
+
+import com.example.medicare_call.global.concurrent.ExecutorShutdown;
+import com.example.medicare_call.global.concurrent.NamedThreadFactory;
+import com.example.medicare_call.global.config.CareCallAnalysisProperties.OverflowPolicy;
+import com.example.medicare_call.global.config.CareCallAnalysisProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+
+/**
+ * 통화 저장 후 분석 파이프라인(AI 추출, 통계, 알림) 전용 스레드 풀
+ * - 대기열 크기를 제한하여 OpenAI 장애 시 메모리에 작업이 무한히 쌓이지 않도록 한다
+ * - 대기열과 최대 스레드가 모두 찬 경우 overflowPolicy에 따라 분석 작업 기록을 대기 상태로 돌려놓거나(SPILL)
+ *   호출 스레드에서 직접 처리한다(CALLER_RUNS)
+ * - executor.* 지표(name=carecall.analysis)로 활성 스레드, 대기열 길이, 대기 시간(executor.idle)을 노출한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CareCallAnalysisExecutor {
+
+    private final CareCallAnalysisProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor pool;
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        this.pool = new ThreadPoolExecutor(
+                properties.getCoreThreads(),
+                properties.getMaxThreads(),
+                properties.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new NamedThreadFactory("care-call-analysis"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "carecall.analysis");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ExecutorShutdown.awaitOrForce(executor);
+    }
+
+    /**
+     * 분석 작업 실행. 대기열이 가득 차면 overflowPolicy에 따라 spill을 실행하거나 호출 스레드에서 task를 실행한다
+     * 종료 중에는 항상 spill을 실행한다
+     *
+     * @param task 분석 작업
+     * @param spill 분석 작업을 나중에 처리하도록 돌려놓는 작업
+     */
+    public void execute(Runnable task, Runnable spill) {
+        try {
+            executor.execute(task);
+            return;
+        } catch (RejectedExecutionException e) {
+            // 아래에서 처리
+        }
+
+        OverflowPolicy policy = executor.isShutdown() ? OverflowPolicy.SPILL : properties.getOverflowPolicy();
+        Counter.builder("carecall.analysis.rejected")
+                .description("분석 대기열이 가득 차 스레드 풀에서 실행하지 못한 작업 수")
+                .tag("policy", policy.name())
+                .register(meterRegistry)
+                .increment();
+
+        if (policy == OverflowPolicy.SPILL) {
+            log.warn("통화 분석 대기열 포화, 재처리 대상으로 돌려놓음 - queue: {}", pool.getQueue().size());
+            spill.run();
+        } else {
+            log.warn("통화 분석 대기열 포화, 호출 스레드에서 처리 - queue: {}", pool.getQueue().size());
+            task.run();
+        }
+    }
+
+    /**
+     * 대기열에 더 넣을 수 있는 작업 수 (재처리 워커가 가져갈 건수를 정할 때 사용)
+     */
+    public int remainingCapacity() {
+        return pool.getQueue().remainingCapacity();
+    }
+}
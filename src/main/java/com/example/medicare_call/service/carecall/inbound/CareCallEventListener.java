@@ -1,15 +1,11 @@
 package com.example.medicare_call.service.carecall.inbound;
 
 import com.example.medicare_call.domain.CareCallRecord;
-import com.example.medicare_call.global.enums.CareCallStatus;
-import com.example.medicare_call.global.event.CareCallAnalysisCompletedEvent;
 import com.example.medicare_call.global.event.CareCallCompletedEvent;
-import com.example.medicare_call.global.event.Events;
-import com.example.medicare_call.service.statistics.WeeklyStatisticsService;
-import com.example.medicare_call.service.carecall.analysis.CareCallAnalysisService;
+import com.example.medicare_call.service.carecall.analysis.job.CareCallAnalysisJobRunner;
+import com.example.medicare_call.service.carecall.analysis.job.CareCallAnalysisJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -20,54 +16,35 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class CareCallEventListener {
 
-    private final CareCallAnalysisService careCallAnalysisService;
-    private final WeeklyStatisticsService weeklyStatisticsService;
+    private final CareCallAnalysisExecutor careCallAnalysisExecutor;
+    private final CareCallAnalysisJobService careCallAnalysisJobService;
+    private final CareCallAnalysisJobRunner careCallAnalysisJobRunner;
+
+    /**
+     * 통화 기록 저장 트랜잭션 안에서 분석 작업을 기록
+     * 커밋 후 분석이 실행되지 못해도(인스턴스 중단, 대기열 포화) 재처리 워커가 이어서 처리한다
+     *
+     * @param event 케어콜 완료 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void registerAnalysisJob(CareCallCompletedEvent event) {
+        careCallAnalysisJobService.register(event.careCallRecord());
+    }
 
     /**
      * 케어콜 저장 완료 이벤트를 처리
-     * AI 분석을 수행하고 통계를 업데이트
+     * AI 분석을 수행하고 통계를 업데이트 (분석 전용 스레드 풀에서 재처리와 같은 경로로 실행)
      * 
      * @param event 케어콜 완료 이벤트
      */
-    @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleCareCallSaved(CareCallCompletedEvent event) {
         CareCallRecord callData = event.careCallRecord();
         log.info("CareCallCompletedEvent 수신: CareCallRecordId={}", callData.getId());
 
-        boolean processingSuccess = true;
-
-        // 케어콜 데이터 분석 및 저장
-        try {
-            careCallAnalysisService.extractAndSaveHealthDataFromAi(callData);
-        } catch (Exception e) {
-            log.error("건강 데이터 분석 최종 실패: recordId={}", callData.getId(), e);
-            // TODO: 디스코드 API or Slack API 연동하여 알림 전송
-            // 만약 LLM API에 일시적인 장애가 발생하면, 추출 실패한 건들에 대해 일괄 밀어넣기 처리를 어떻게 할지 고민이 필요하다
-            processingSuccess = false;
-        }
-
-        // 통계 업데이트
-        updateStatistics(callData);
-
-        // 케어콜 분석 완료 이벤트 발행
-        if (processingSuccess) {
-            Events.raise(new CareCallAnalysisCompletedEvent(callData));
-        }
-    }
-
-    /**
-     * 케어콜 결과에 따라 통계 정보를 업데이트
-     * 
-     * @param record 케어콜 기록
-     */
-    private void updateStatistics(CareCallRecord record) {
-        if (CareCallStatus.NO_ANSWER.matches(record.getCallStatus())) {
-            try {
-                weeklyStatisticsService.updateMissedCallStatistics(record);
-            } catch (Exception e) {
-                log.error("부재중 통계 업데이트 중 오류 발생: recordId={}", record.getId(), e);
-            }
-        }
+        careCallAnalysisExecutor.execute(
+                () -> careCallAnalysisJobRunner.run(callData, CareCallAnalysisJobService.FIRST_ATTEMPT),
+                () -> careCallAnalysisJobService.release(callData.getId(), CareCallAnalysisJobService.FIRST_ATTEMPT)
+        );
     }
 }
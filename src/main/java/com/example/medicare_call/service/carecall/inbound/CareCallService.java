@@ -76,6 +76,15 @@ public class CareCallService {
         return saved;
     }
 
+    /**
+     * 수신 시점에 확인할 수 있는 값 검증 (비동기 수신 시 수신함 기록 전에 잘못된 요청을 거절하기 위함)
+     *
+     * @param request 전화 서버가 전송한 통화 완료 데이터
+     */
+    public void validate(CareCallDataProcessRequest request) {
+        resolveResponseStatus(request.getResponded());
+    }
+
     private CareCallResponseStatus resolveResponseStatus(Byte responded) {
         try {
             CareCallResponseStatus status = CareCallResponseStatus.fromValue(responded);
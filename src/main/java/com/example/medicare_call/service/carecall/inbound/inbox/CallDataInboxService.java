@@ -0,0 +1,67 @@
+package com.example.medicare_call.service.carecall.inbound.inbox;
+
+import com.example.medicare_call.domain.CallDataInbox;
+import com.example.medicare_call.dto.data_processor.CareCallDataProcessRequest;
+import com.example.medicare_call.global.enums.CallDataInboxStatus;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.repository.CallDataInboxRepository;
+import com.example.medicare_call.service.carecall.inbound.CareCallService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CallDataInboxService {
+
+    private final CallDataInboxRepository callDataInboxRepository;
+    private final CareCallService careCallService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 통화 완료 데이터를 수신함에 기록 (INSERT 1건, 통화 기록 저장은 CallDataInboxWorker가 수행)
+     * settingId가 음수인 테스트 발송 결과는 기록하지 않는다
+     *
+     * @param request 전화 서버가 전송한 통화 완료 데이터
+     * @return 수신 번호. 테스트 발송인 경우 null
+     */
+    public Long append(CareCallDataProcessRequest request) {
+        careCallService.validate(request);
+
+        if (request.getSettingId() < 0) {
+            log.info("테스트 발송 결과 수신 (settingId={}), 저장을 건너뜁니다.", request.getSettingId());
+            return null;
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        CallDataInbox saved = callDataInboxRepository.save(CallDataInbox.builder()
+                .elderId(request.getElderId())
+                .settingId(request.getSettingId())
+                .payload(payload)
+                .status(CallDataInboxStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        Counter.builder("carecall.call_data.received")
+                .description("수신함에 기록한 통화 완료 데이터 수")
+                .register(meterRegistry)
+                .increment();
+        log.info("통화 데이터 수신함 기록: receiptId={}, elderId={}, settingId={}", saved.getId(), request.getElderId(), request.getSettingId());
+        return saved.getId();
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.medicare_call.service.carecall.inbound.inbox;
+
+import com.example.medicare_call.domain.CallDataInbox;
+import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.dto.data_processor.CareCallDataProcessRequest;
+import com.example.medicare_call.global.concurrent.ExecutorShutdown;
+import com.example.medicare_call.global.concurrent.NamedThreadFactory;
+import com.example.medicare_call.global.concurrent.RetrySupport;
+import com.example.medicare_call.global.config.CallDataIngestProperties;
+import com.example.medicare_call.global.enums.CallDataInboxStatus;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.repository.CallDataInboxRepository;
+import com.example.medicare_call.service.carecall.inbound.CareCallService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 수신함에 기록된 통화 완료 데이터를 CareCallRecord로 저장하는 워커
+ * - 대기 건을 batchSize 단위 묶음으로 선점하여 한 트랜잭션으로 저장하고, 커밋 후 CareCallCompletedEvent가 처리된다
+ * - 묶음 저장이 실패하면 건별 트랜잭션으로 다시 저장하여 실패한 건만 재시도/실패 처리한다
+ * - 데이터 오류(어르신/설정 없음 등, CustomException)는 재시도하지 않고 FAILED로 기록한다
+ * - 처리 중 인스턴스가 중단되어도 processTimeout이 지나면 다른 인스턴스가 다시 가져간다
+ * - 결과는 선점한 claimToken으로만 기록하며, 그 사이 다른 인스턴스가 다시 가져간 건은 통화 기록 저장까지 롤백한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CallDataInboxWorker {
+
+    private final CallDataIngestProperties properties;
+    private final CallDataInboxRepository callDataInboxRepository;
+    private final CareCallService careCallService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 선점 후 처리가 끝나지 않은 묶음 수 (스레드 풀 대기 포함)
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // 마지막 조회 시점의 처리 대기 건수
+    private final AtomicLong pending = new AtomicLong();
+
+    private ExecutorService workers;
+
+    @PostConstruct
+    void init() {
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getConcurrency(), new NamedThreadFactory("call-data-inbox"));
+        this.workers = ExecutorServiceMetrics.monitor(meterRegistry, executor, "carecall.call_data.inbox");
+
+        Gauge.builder("carecall.call_data.pending", pending, AtomicLong::get)
+                .description("저장 대기 중인 통화 완료 데이터 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ExecutorShutdown.awaitOrForce(workers);
+    }
+
+    /**
+     * 처리 가능한 건을 남은 동시 처리 수만큼 묶음으로 선점하여 스레드 풀에 넘긴다
+     *
+     * @return 이번에 선점한 묶음 수
+     */
+    public int drain() {
+        pending.set(callDataInboxRepository.countByStatus(CallDataInboxStatus.PENDING));
+
+        int claimed = 0;
+        while (inFlight.get() < properties.getConcurrency()) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> dueIds = callDataInboxRepository.findDueIds(now, PageRequest.of(0, properties.getBatchSize()));
+            if (dueIds.isEmpty()) {
+                break;
+            }
+
+            String claimToken = UUID.randomUUID().toString();
+            // 다른 인스턴스가 모두 먼저 선점한 경우 다음 조회에서 제외되므로 계속 진행
+            if (callDataInboxRepository.claim(dueIds, claimToken, now, RetrySupport.leaseDeadline(now, properties.getProcessTimeout())) == 0) {
+                continue;
+            }
+            inFlight.incrementAndGet();
+            claimed++;
+            try {
+                workers.execute(() -> process(claimToken));
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 processTimeout 이후 다른 인스턴스가 다시 가져감
+                inFlight.decrementAndGet();
+                break;
+            }
+        }
+        return claimed;
+    }
+
+    private void process(String claimToken) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            List<CallDataInbox> batch = callDataInboxRepository.findByClaimTokenOrderById(claimToken);
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> batch.forEach(inbox -> save(inbox, claimToken)));
+                counter("saved").increment(batch.size());
+            } catch (Exception e) {
+                log.warn("통화 데이터 묶음 저장 실패, 건별로 다시 저장 - 건수: {}, error: {}", batch.size(), e.getMessage());
+                batch.forEach(inbox -> saveIndividually(inbox, claimToken));
+            }
+        } catch (Exception e) {
+            // 결과 기록 실패 시 processTimeout 이후 다시 처리 대상이 됨
+            log.error("통화 데이터 수신함 처리 실패 - claimToken: {}", claimToken, e);
+        } finally {
+            inFlight.decrementAndGet();
+            sample.stop(Timer.builder("carecall.call_data.batch.duration")
+                    .description("통화 완료 데이터 묶음 저장 시간")
+                    .register(meterRegistry));
+        }
+    }
+
+    private void saveIndividually(CallDataInbox inbox, String claimToken) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> save(inbox, claimToken));
+            counter("saved").increment();
+        } catch (StaleClaimException e) {
+            stale(inbox, "저장 완료");
+        } catch (Exception e) {
+            handleFailure(inbox, claimToken, e);
+        }
+    }
+
+    // 통화 기록 저장과 수신함 완료 기록을 같은 트랜잭션에서 수행
+    // 다른 인스턴스가 다시 가져간 건이면 완료 기록이 반영되지 않으므로 예외로 통화 기록 저장까지 롤백
+    private void save(CallDataInbox inbox, String claimToken) {
+        CareCallRecord record = careCallService.saveCallData(deserialize(inbox));
+        if (callDataInboxRepository.markDone(inbox.getId(), claimToken, record != null ? record.getId() : null, LocalDateTime.now()) == 0) {
+            throw new StaleClaimException(inbox.getId());
+        }
+    }
+
+    private CareCallDataProcessRequest deserialize(CallDataInbox inbox) {
+        try {
+            return objectMapper.readValue(inbox.getPayload(), CareCallDataProcessRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("통화 데이터 형식 오류 - receiptId: " + inbox.getId(), e);
+        }
+    }
+
+    private void handleFailure(CallDataInbox inbox, String claimToken, Exception e) {
+        String error = RetrySupport.errorMessage(e);
+
+        // 데이터 오류는 다시 처리해도 실패하므로 재시도하지 않음
+        boolean retryable = !(e instanceof CustomException || e instanceof IllegalArgumentException);
+        if (!retryable || inbox.getAttempts() >= properties.getMaxAttempts()) {
+            if (callDataInboxRepository.markFailed(inbox.getId(), claimToken, error) == 0) {
+                stale(inbox, "저장 포기");
+                return;
+            }
+            counter("failed").increment();
+            log.error("통화 데이터 저장 포기 - receiptId: {}, elderId: {}, settingId: {}, attempts: {}, error: {}",
+                    inbox.getId(), inbox.getElderId(), inbox.getSettingId(), inbox.getAttempts(), error);
+            return;
+        }
+
+        Duration backoff = RetrySupport.linearBackoff(properties.getRetryBackoff(), inbox.getAttempts());
+        if (callDataInboxRepository.scheduleRetry(inbox.getId(), claimToken, LocalDateTime.now().plus(backoff), error) == 0) {
+            stale(inbox, "재시도");
+            return;
+        }
+        counter("retry").increment();
+        log.warn("통화 데이터 저장 실패, {}초 후 재시도 - receiptId: {}, attempts: {}, error: {}",
+                backoff.toSeconds(), inbox.getId(), inbox.getAttempts(), error);
+    }
+
+    // 처리 제한 시각이 지나 다른 인스턴스가 다시 가져간 건, 그 인스턴스의 처리 결과를 따른다
+    private void stale(CallDataInbox inbox, String outcome) {
+        counter("stale").increment();
+        log.warn("다른 인스턴스가 가져간 통화 데이터 결과 기록 생략 - receiptId: {}, attempts: {}, 결과: {}",
+                inbox.getId(), inbox.getAttempts(), outcome);
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("carecall.call_data.processed")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 선점이 만료되어 완료 기록이 반영되지 않은 경우 (트랜잭션 롤백용)
+    static class StaleClaimException extends RuntimeException {
+
+        StaleClaimException(Long inboxId) {
+            super("다른 인스턴스가 다시 선점한 통화 데이터 - receiptId: " + inboxId);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.medicare_call.service.carecall.outbound;
+
+import com.example.medicare_call.global.config.CareCallScheduleProperties;
+import com.example.medicare_call.global.enums.CallType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 케어콜 예약 시각 분포(용량 계획)
+ * - 일정 인덱스의 분 단위 회차별 예약 건수를 그대로 사용하므로 설정 변경 이벤트로 함께 갱신된다
+ * - capacityBucketMinutes 구간별 예약 건수를 carecall.schedule.planned_calls{bucket, callType} 지표로 노출한다
+ * - 1분 예약 건수가 기준 이상인 과밀 분을 조회하여 발송 지연 전에 시간대를 분산할 수 있도록 한다
+ */
+@Component
+@RequiredArgsConstructor
+public class CareCallCapacityPlanner {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final List<CallType> SCHEDULED_CALL_TYPES = List.of(CallType.FIRST, CallType.SECOND, CallType.THIRD);
+
+    private final CareCallScheduleIndex careCallScheduleIndex;
+    private final CareCallScheduleProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void init() {
+        int bucketMinutes = properties.getCapacityBucketMinutes();
+        for (int start = 0; start < MINUTES_PER_DAY; start += bucketMinutes) {
+            int bucketStart = start;
+            String bucket = LocalTime.MIN.plusMinutes(start).toString();
+            for (CallType callType : SCHEDULED_CALL_TYPES) {
+                Gauge.builder("carecall.schedule.planned_calls", this, planner -> planner.countBetween(callType, bucketStart, bucketStart + bucketMinutes))
+                        .description("시간 구간별 예약된 케어콜 수")
+                        .tag("bucket", bucket)
+                        .tag("callType", callType.name())
+                        .register(meterRegistry);
+            }
+        }
+        Gauge.builder("carecall.schedule.peak_minute_calls", this, planner -> planner.peakMinute().total())
+                .description("예약 건수가 가장 많은 1분의 케어콜 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1분 예약 건수가 기준 이상인 분 목록 (건수 내림차순)
+     *
+     * @param threshold 과밀 기준 건수
+     * @return 과밀 분 목록
+     */
+    public List<MinuteLoad> hotMinutes(int threshold) {
+        List<MinuteLoad> hot = new ArrayList<>();
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            MinuteLoad load = loadAt(minute);
+            if (load.total() >= threshold) {
+                hot.add(load);
+            }
+        }
+        hot.sort(Comparator.comparingInt(MinuteLoad::total).reversed().thenComparing(MinuteLoad::minute));
+        return hot;
+    }
+
+    /**
+     * 예약 건수가 가장 많은 분 (같으면 이른 시각)
+     */
+    public MinuteLoad peakMinute() {
+        MinuteLoad peak = loadAt(0);
+        for (int minute = 1; minute < MINUTES_PER_DAY; minute++) {
+            MinuteLoad load = loadAt(minute);
+            if (load.total() > peak.total()) {
+                peak = load;
+            }
+        }
+        return peak;
+    }
+
+    private MinuteLoad loadAt(int minuteOfDay) {
+        int first = careCallScheduleIndex.scheduledCount(CallType.FIRST, minuteOfDay);
+        int second = careCallScheduleIndex.scheduledCount(CallType.SECOND, minuteOfDay);
+        int third = careCallScheduleIndex.scheduledCount(CallType.THIRD, minuteOfDay);
+        return new MinuteLoad(LocalTime.MIN.plusMinutes(minuteOfDay), first + second + third, first, second, third);
+    }
+
+    private int countBetween(CallType callType, int fromMinute, int toMinute) {
+        int count = 0;
+        for (int minute = fromMinute; minute < Math.min(toMinute, MINUTES_PER_DAY); minute++) {
+            count += careCallScheduleIndex.scheduledCount(callType, minute);
+        }
+        return count;
+    }
+
+    /**
+     * 1분 동안 예약된 케어콜 수
+     *
+     * @param minute 예약 시각
+     * @param total 전체 건수
+     * @param first 1차 건수
+     * @param second 2차 건수
+     * @param third 3차 건수
+     */
+    public record MinuteLoad(LocalTime minute, int total, int first, int second, int third) {}
+}
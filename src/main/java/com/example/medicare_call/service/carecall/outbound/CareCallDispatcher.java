@@ -0,0 +1,209 @@
+package com.example.medicare_call.service.carecall.outbound;
+
+import com.example.medicare_call.global.concurrent.ExecutorShutdown;
+import com.example.medicare_call.global.concurrent.NamedThreadFactory;
+import com.example.medicare_call.global.config.CareCallDispatchProperties;
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.service.carecall.outbound.CareCallRequestSenderService.CallContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 케어콜 발송 요청을 전용 스레드 풀에서 병렬로 처리하는 발송기
+ * - 프롬프트를 생성하여 발송 아웃박스에 기록하며, 전화 서버 호출과 재시도는 OutboundCallOutboxWorker가 수행한다
+ * - 발송 시작 시각을 callsPerSecond 간격으로 분산하여 같은 시각 예약 건이 한꺼번에 몰리지 않도록 한다
+ * - 프롬프트 생성에 필요한 어르신 정보는 prefetchBatchSize 단위 IN 조회로 미리 읽어 두어 건별 DB 조회를 없앤다
+ * - 대기열 길이, 처리 중 건수, 예약 시각 대비 발송 지연을 메트릭으로 기록한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CareCallDispatcher {
+
+    private final CareCallDispatchProperties properties;
+    private final CareCallRequestSenderService careCallRequestSenderService;
+    private final MeterRegistry meterRegistry;
+
+    // 발송 시각을 기다리는 요청 수
+    private final AtomicInteger waiting = new AtomicInteger();
+    // 발송 처리 중인 건수
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private ScheduledExecutorService pacer;
+    private ThreadPoolExecutor workers;
+    private ExecutorService monitoredWorkers;
+
+    // 다음 발송 시작 가능 시각 (System.nanoTime 기준)
+    private long nextSlotNanos;
+
+    @PostConstruct
+    void init() {
+        this.pacer = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("care-call-pacer"));
+        this.workers = new ThreadPoolExecutor(
+                properties.getConcurrency(),
+                properties.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(properties.getQueueCapacity()),
+                new NamedThreadFactory("care-call-dispatch"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.monitoredWorkers = ExecutorServiceMetrics.monitor(meterRegistry, workers, "carecall.dispatch");
+        this.nextSlotNanos = System.nanoTime();
+
+        Gauge.builder("carecall.dispatch.queue_depth", this, dispatcher -> dispatcher.waiting.get() + dispatcher.workers.getQueue().size())
+                .description("발송 시각 대기 및 스레드 풀 대기 중인 케어콜 수")
+                .register(meterRegistry);
+        Gauge.builder("carecall.dispatch.in_flight", inFlight, AtomicInteger::get)
+                .description("발송 처리 중인 케어콜 수 (프롬프트 생성, 아웃박스 기록)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 발송 시각을 기다리던 요청까지 모두 넘긴 뒤 작업자 종료
+        ExecutorShutdown.awaitOrForce(pacer);
+        ExecutorShutdown.awaitOrForce(monitoredWorkers);
+    }
+
+    /**
+     * 케어콜 발송 요청을 등록. 예약 시각이 이른 순서로 일정 간격을 두고 발송한다
+     * 등록만 수행하므로 호출 스레드는 전화 서버 응답을 기다리지 않는다
+     *
+     * @param requests 발송할 케어콜 목록
+     */
+    public void dispatch(List<CallRequest> requests) {
+        List<CallRequest> ordered = requests.stream()
+                .sorted(Comparator.comparing(CallRequest::dueAt))
+                .toList();
+
+        int batchSize = Math.max(1, properties.getPrefetchBatchSize());
+        for (int from = 0; from < ordered.size(); from += batchSize) {
+            List<CallRequest> batch = ordered.subList(from, Math.min(from + batchSize, ordered.size()));
+            Map<Integer, CallContext> contexts = loadCallContexts(batch);
+
+            for (CallRequest request : batch) {
+                CallContext context = contexts.get(request.elderId());
+                long delayNanos = reserveSlot();
+                waiting.incrementAndGet();
+                try {
+                    pacer.schedule(() -> handOff(request, context), delayNanos, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    waiting.decrementAndGet();
+                    reject(request);
+                }
+            }
+        }
+    }
+
+    // 일괄 조회 실패 시 건별 조회로 발송하도록 빈 결과 반환
+    private Map<Integer, CallContext> loadCallContexts(List<CallRequest> batch) {
+        try {
+            return careCallRequestSenderService.loadCallContexts(
+                    batch.stream().map(CallRequest::elderId).distinct().toList());
+        } catch (Exception e) {
+            log.error("케어콜 발송 정보 일괄 조회 실패, 건별 조회로 발송 - {}건", batch.size(), e);
+            return Collections.emptyMap();
+        }
+    }
+
+    // 다음 발송 시작 시각까지 남은 시간을 반환하고, 그 다음 시각을 한 간격 뒤로 예약
+    private synchronized long reserveSlot() {
+        long now = System.nanoTime();
+        long slot = Math.max(now, nextSlotNanos);
+        nextSlotNanos = slot + intervalNanos();
+        return slot - now;
+    }
+
+    private long intervalNanos() {
+        double callsPerSecond = properties.getCallsPerSecond();
+        return callsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / callsPerSecond) : 0L;
+    }
+
+    private void handOff(CallRequest request, CallContext context) {
+        waiting.decrementAndGet();
+        try {
+            monitoredWorkers.execute(() -> send(request, context));
+        } catch (RejectedExecutionException e) {
+            reject(request);
+        }
+    }
+
+    private void send(CallRequest request, CallContext context) {
+        Duration lag = Duration.between(request.dueAt(), LocalDateTime.now());
+        Timer.builder("carecall.dispatch.lag")
+                .description("예약 시각 대비 발송 시작 지연")
+                .tag("callType", request.callType().name())
+                .register(meterRegistry)
+                .record(lag.isNegative() ? Duration.ZERO : lag);
+
+        inFlight.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "sent";
+        try {
+            if (context != null) {
+                careCallRequestSenderService.sendCall(request.settingId(), context, request.callType(), request.idempotencyKey());
+            } else {
+                // 일괄 조회 결과에 없는 경우 (조회 실패, 삭제된 어르신 등) 건별 조회
+                careCallRequestSenderService.sendCall(request.settingId(), request.elderId(), request.callType(), request.idempotencyKey());
+            }
+        } catch (Exception e) {
+            result = "failed";
+            log.error("케어콜 발송 실패 - settingId: {}, elderId: {}, callType: {}",
+                    request.settingId(), request.elderId(), request.callType(), e);
+        } finally {
+            inFlight.decrementAndGet();
+            sample.stop(Timer.builder("carecall.dispatch.duration")
+                    .tag("result", result)
+                    .register(meterRegistry));
+            counter(result).increment();
+        }
+    }
+
+    private void reject(CallRequest request) {
+        counter("rejected").increment();
+        log.error("케어콜 발송 대기열 초과로 발송하지 못함 - settingId: {}, elderId: {}, callType: {}",
+                request.settingId(), request.elderId(), request.callType());
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("carecall.dispatch.calls")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 케어콜 발송 요청
+     *
+     * @param settingId 케어콜 설정 ID
+     * @param elderId 대상 어르신 ID
+     * @param callType 케어콜 회차
+     * @param dueAt 예약된 발송 시각 (발송 지연 측정용)
+     */
+    public record CallRequest(Integer settingId, Integer elderId, CallType callType, LocalDateTime dueAt) {
+
+        /**
+         * 예약 발송 식별 키. 같은 설정/회차/예약 시각(분)은 중복 처리(누락 분 재처리, 여러 인스턴스 동시 실행)되어도 한 번만 발송된다
+         */
+        public String idempotencyKey() {
+            return settingId + ":" + callType + ":" + dueAt.truncatedTo(ChronoUnit.MINUTES);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.medicare_call.service.carecall.outbound;
 
 import com.example.medicare_call.domain.Disease;
 import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.ElderDisease;
 import com.example.medicare_call.domain.ElderHealthInfo;
 import com.example.medicare_call.domain.MedicationSchedule;
 import com.example.medicare_call.global.enums.CallType;
@@ -11,14 +12,17 @@ import com.example.medicare_call.repository.ElderDiseaseRepository;
 import com.example.medicare_call.repository.ElderHealthInfoRepository;
 import com.example.medicare_call.repository.ElderRepository;
 import com.example.medicare_call.repository.MedicationScheduleRepository;
-import com.example.medicare_call.service.carecall.outbound.client.CareCallClient;
+import com.example.medicare_call.service.carecall.outbound.outbox.OutboundCallOutboxService;
+import com.example.medicare_call.service.carecall.outbound.prompt.CallPromptCache;
 import com.example.medicare_call.service.carecall.outbound.prompt.CallPromptGenerator;
 import com.example.medicare_call.service.carecall.outbound.prompt.CallPromptGeneratorFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -30,17 +34,30 @@ public class CareCallRequestSenderService {
     private final ElderDiseaseRepository elderDiseaseRepository;
     private final MedicationScheduleRepository medicationScheduleRepository;
     private final CallPromptGeneratorFactory callPromptGeneratorFactory;
-    private final CareCallClient careCallClient;
+    private final CallPromptCache callPromptCache;
+    private final OutboundCallOutboxService outboundCallOutboxService;
 
     /**
-     * 특정 어르신에게 케어콜을 발송
-     * 어르신의 질병, 건강 정보, 복약 일정을 조회하여 적절한 프롬프트를 생성하고 CareCallClient에 전달한다
-     * 
+     * 특정 어르신에게 케어콜을 발송 (즉시 발송 등 요청마다 새로운 발송으로 처리)
+     *
      * @param settingId 케어콜 설정 ID
      * @param elderId 대상 어르신 ID
      * @param callType 케어콜 회차 (1차, 2차, 3차)
      */
     public void sendCall(Integer settingId, Integer elderId, CallType callType) {
+        sendCall(settingId, elderId, callType, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 특정 어르신에게 케어콜을 발송
+     * 어르신의 질병, 건강 정보, 복약 일정을 조회하여 적절한 프롬프트를 생성하고 발송 아웃박스에 기록한다
+     *
+     * @param settingId 케어콜 설정 ID
+     * @param elderId 대상 어르신 ID
+     * @param callType 케어콜 회차 (1차, 2차, 3차)
+     * @param idempotencyKey 발송 요청 식별 키 (같은 키는 한 번만 발송)
+     */
+    public void sendCall(Integer settingId, Integer elderId, CallType callType, String idempotencyKey) {
         Elder elder = elderRepository.findById(elderId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ELDER_NOT_FOUND, "케어콜 발송 대상 어르신을 찾을 수 없습니다. ID: " + elderId));
 
@@ -48,12 +65,72 @@ public class CareCallRequestSenderService {
         List<Disease> diseases = elderDiseaseRepository.findDiseasesByElder(elder);
         List<MedicationSchedule> medicationSchedules = medicationScheduleRepository.findByElderId(elderId);
 
+        sendCall(settingId, new CallContext(elder, healthInfo, diseases, medicationSchedules), callType, idempotencyKey);
+    }
+
+    /**
+     * 미리 조회한 발송 정보로 케어콜을 발송 (DB 조회 없음)
+     *
+     * @param settingId 케어콜 설정 ID
+     * @param context 어르신 발송 정보
+     * @param callType 케어콜 회차 (1차, 2차, 3차)
+     * @param idempotencyKey 발송 요청 식별 키 (같은 키는 한 번만 발송)
+     */
+    public void sendCall(Integer settingId, CallContext context, CallType callType, String idempotencyKey) {
+        Elder elder = context.elder();
+
         // CallPromptGenerator를 CallType으로부터 선택
         CallPromptGenerator promptGenerator = callPromptGeneratorFactory.getGenerator(callType);
 
-        // 선택된 생성기로 프롬프트 생성
-        String prompt = promptGenerator.generate(elder, healthInfo, diseases, medicationSchedules);
+        // 선택된 생성기로 프롬프트 생성 (입력이 바뀌지 않았으면 캐시된 프롬프트 사용)
+        String prompt = callPromptCache.getOrGenerate(callType, elder, context.healthInfo(), context.diseases(), context.medicationSchedules(),
+                () -> promptGenerator.generate(elder, context.healthInfo(), context.diseases(), context.medicationSchedules()));
+
+        // 전화 서버 호출과 재시도는 OutboundCallOutboxWorker가 수행
+        outboundCallOutboxService.enqueue(idempotencyKey, settingId, elder.getId(), callType, elder.getPhone(), prompt);
+    }
+
+    /**
+     * 여러 어르신의 발송 정보(어르신, 건강 정보, 질병, 복약 일정)를 IN 조회로 한 번에 조회
+     * 대상 수와 관계없이 4회 조회로 처리하며, 조회되지 않은 어르신(삭제 등)은 결과에서 제외된다
+     *
+     * @param elderIds 대상 어르신 ID 목록
+     * @return 어르신 ID별 발송 정보
+     */
+    public Map<Integer, CallContext> loadCallContexts(Collection<Integer> elderIds) {
+        if (elderIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Elder> elders = elderRepository.findAllById(elderIds);
+        Map<Integer, ElderHealthInfo> healthInfoByElder = healthInfoRepository.findByElderIdIn(elderIds).stream()
+                .collect(Collectors.toMap(info -> info.getElder().getId(), Function.identity(), (first, second) -> first));
+        Map<Integer, List<Disease>> diseasesByElder = elderDiseaseRepository.findWithDiseaseByElderIdIn(elderIds).stream()
+                .collect(Collectors.groupingBy(ed -> ed.getElder().getId(),
+                        Collectors.mapping(ElderDisease::getDisease, Collectors.toList())));
+        Map<Integer, List<MedicationSchedule>> schedulesByElder = medicationScheduleRepository.findByElderIdIn(elderIds).stream()
+                .collect(Collectors.groupingBy(ms -> ms.getElder().getId()));
 
-        careCallClient.requestCall(settingId, elder.getId(), elder.getPhone(), prompt);
+        Map<Integer, CallContext> contexts = new HashMap<>();
+        for (Elder elder : elders) {
+            contexts.put(elder.getId(), new CallContext(
+                    elder,
+                    healthInfoByElder.get(elder.getId()),
+                    diseasesByElder.getOrDefault(elder.getId(), Collections.emptyList()),
+                    schedulesByElder.getOrDefault(elder.getId(), Collections.emptyList())
+            ));
+        }
+        return contexts;
     }
+
+    /**
+     * 케어콜 프롬프트 생성에 필요한 어르신 정보
+     *
+     * @param elder 대상 어르신
+     * @param healthInfo 건강 정보 (없으면 null)
+     * @param diseases 질병 목록
+     * @param medicationSchedules 복약 일정 목록
+     */
+    public record CallContext(Elder elder, ElderHealthInfo healthInfo,
+                              List<Disease> diseases, List<MedicationSchedule> medicationSchedules) {}
 }
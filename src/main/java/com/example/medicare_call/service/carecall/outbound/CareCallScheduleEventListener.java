@@ -0,0 +1,43 @@
+package com.example.medicare_call.service.carecall.outbound;
+
+import com.example.medicare_call.global.event.CareCallSettingChangedEvent;
+import com.example.medicare_call.global.event.ElderDeletedEvent;
+import com.example.medicare_call.service.carecall.outbound.prompt.CallPromptCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CareCallScheduleEventListener {
+
+    private final CareCallScheduleIndex careCallScheduleIndex;
+    private final CallPromptCache callPromptCache;
+
+    /**
+     * 케어콜 설정 변경이 커밋된 이후 일정 인덱스에 반영
+     *
+     * @param event 케어콜 설정 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCareCallSettingChanged(CareCallSettingChangedEvent event) {
+        log.debug("CareCallSettingChangedEvent 수신: settingId={}, elderId={}", event.settingId(), event.elderId());
+        careCallScheduleIndex.upsert(event.settingId(), event.elderId(),
+                event.firstCallTime(), event.secondCallTime(), event.thirdCallTime());
+    }
+
+    /**
+     * 어르신 삭제가 커밋된 이후 일정 인덱스와 프롬프트 캐시에서 제거
+     *
+     * @param event 어르신 삭제 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleElderDeleted(ElderDeletedEvent event) {
+        log.debug("ElderDeletedEvent 수신: elderId={}", event.elderId());
+        careCallScheduleIndex.removeElder(event.elderId());
+        callPromptCache.evict(event.elderId());
+    }
+}
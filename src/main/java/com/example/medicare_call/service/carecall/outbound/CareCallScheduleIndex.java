@@ -0,0 +1,189 @@
+package com.example.medicare_call.service.carecall.outbound;
+
+import com.example.medicare_call.domain.CareCallSetting;
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.repository.CareCallSettingRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 활성 어르신의 케어콜 설정을 하루 중 분(minute of day) 단위 슬롯으로 나눈 인메모리 일정 인덱스
+ * - 반복 주기가 하루이므로 1440칸짜리 단일 타이밍 휠로 구성한다
+ * - 기동 시 전체 구성 후 설정 변경/어르신 삭제 이벤트로 증분 갱신하며,
+ *   다른 인스턴스에서 변경된 설정을 반영하기 위해 주기적으로 다시 구성한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CareCallScheduleIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final CareCallSettingRepository careCallSettingRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 분 슬롯별 발송 대상 (읽기는 잠금 없이, 쓰기는 synchronized 메서드에서 수행)
+    private volatile List<Set<ScheduledCall>> slots = emptySlots();
+    // 어르신별 등록된 발송 대상 (설정 변경 시 기존 슬롯에서 제거하기 위함)
+    private volatile Map<Integer, List<ScheduledCall>> callsByElder = new ConcurrentHashMap<>();
+    // 회차별 분 슬롯 예약 건수 (용량 계획용, 슬롯과 함께 증분 갱신)
+    private volatile Map<CallType, AtomicIntegerArray> histogram = emptyHistogram();
+
+    private volatile Instant builtAt;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("carecall.schedule.index.size", this, index -> index.callsByElder.size())
+                .description("일정 인덱스에 등록된 어르신 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 활성 어르신의 케어콜 설정 전체를 조회하여 인덱스를 다시 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<CareCallSetting> settings = careCallSettingRepository.findAllActive();
+
+        List<Set<ScheduledCall>> newSlots = emptySlots();
+        Map<Integer, List<ScheduledCall>> newCallsByElder = new ConcurrentHashMap<>();
+        Map<CallType, AtomicIntegerArray> newHistogram = emptyHistogram();
+        for (CareCallSetting setting : settings) {
+            List<ScheduledCall> calls = toScheduledCalls(setting.getId(), setting.getElder().getId(),
+                    setting.getFirstCallTime(), setting.getSecondCallTime(), setting.getThirdCallTime());
+            calls.forEach(call -> {
+                newSlots.get(slotOf(call.callTime())).add(call);
+                newHistogram.get(call.callType()).incrementAndGet(slotOf(call.callTime()));
+            });
+            newCallsByElder.put(setting.getElder().getId(), calls);
+        }
+
+        synchronized (this) {
+            this.slots = newSlots;
+            this.callsByElder = newCallsByElder;
+            this.histogram = newHistogram;
+            this.builtAt = Instant.now();
+        }
+        log.info("케어콜 일정 인덱스 구성 완료: 설정 {}건", settings.size());
+    }
+
+    /**
+     * 마지막 구성 이후 지정한 시간이 지났으면 인덱스를 다시 구성
+     *
+     * @param interval 재구성 주기
+     */
+    public void rebuildIfStale(Duration interval) {
+        Instant lastBuiltAt = builtAt;
+        if (lastBuiltAt == null || lastBuiltAt.plus(interval).isBefore(Instant.now())) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 어르신의 케어콜 설정을 인덱스에 반영. 기존에 등록된 시간은 제거한다
+     *
+     * @param settingId 케어콜 설정 ID
+     * @param elderId 어르신 ID
+     * @param firstCallTime 1차 케어콜 시각
+     * @param secondCallTime 2차 케어콜 시각
+     * @param thirdCallTime 3차 케어콜 시각
+     */
+    public synchronized void upsert(Integer settingId, Integer elderId,
+                                    LocalTime firstCallTime, LocalTime secondCallTime, LocalTime thirdCallTime) {
+        removeElder(elderId);
+        List<ScheduledCall> calls = toScheduledCalls(settingId, elderId, firstCallTime, secondCallTime, thirdCallTime);
+        calls.forEach(call -> {
+            slots.get(slotOf(call.callTime())).add(call);
+            histogram.get(call.callType()).incrementAndGet(slotOf(call.callTime()));
+        });
+        callsByElder.put(elderId, calls);
+    }
+
+    /**
+     * 어르신의 케어콜 일정을 인덱스에서 제거
+     *
+     * @param elderId 어르신 ID
+     */
+    public synchronized void removeElder(Integer elderId) {
+        List<ScheduledCall> previous = callsByElder.remove(elderId);
+        if (previous != null) {
+            previous.forEach(call -> {
+                slots.get(slotOf(call.callTime())).remove(call);
+                histogram.get(call.callType()).decrementAndGet(slotOf(call.callTime()));
+            });
+        }
+    }
+
+    /**
+     * 지정한 분에 예약된 케어콜 목록을 조회
+     *
+     * @param time 조회할 시각 (초 이하는 무시)
+     * @return 해당 분에 발송할 케어콜 목록
+     */
+    public List<ScheduledCall> callsAt(LocalTime time) {
+        return List.copyOf(slots.get(slotOf(time)));
+    }
+
+    /**
+     * 하루 중 지정한 분에 예약된 회차별 케어콜 건수
+     *
+     * @param callType 케어콜 회차
+     * @param minuteOfDay 자정부터의 분 (0 ~ 1439)
+     * @return 예약 건수
+     */
+    public int scheduledCount(CallType callType, int minuteOfDay) {
+        return histogram.get(callType).get(minuteOfDay);
+    }
+
+    private List<ScheduledCall> toScheduledCalls(Integer settingId, Integer elderId,
+                                                 LocalTime firstCallTime, LocalTime secondCallTime, LocalTime thirdCallTime) {
+        List<ScheduledCall> calls = new ArrayList<>(3);
+        if (firstCallTime != null) calls.add(new ScheduledCall(settingId, elderId, CallType.FIRST, firstCallTime));
+        if (secondCallTime != null) calls.add(new ScheduledCall(settingId, elderId, CallType.SECOND, secondCallTime));
+        if (thirdCallTime != null) calls.add(new ScheduledCall(settingId, elderId, CallType.THIRD, thirdCallTime));
+        return calls;
+    }
+
+    private static int slotOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static Map<CallType, AtomicIntegerArray> emptyHistogram() {
+        Map<CallType, AtomicIntegerArray> histogram = new EnumMap<>(CallType.class);
+        for (CallType callType : CallType.values()) {
+            histogram.put(callType, new AtomicIntegerArray(MINUTES_PER_DAY));
+        }
+        return histogram;
+    }
+
+    private static List<Set<ScheduledCall>> emptySlots() {
+        List<Set<ScheduledCall>> slots = new ArrayList<>(MINUTES_PER_DAY);
+        for (int i = 0; i < MINUTES_PER_DAY; i++) {
+            slots.add(ConcurrentHashMap.newKeySet());
+        }
+        return slots;
+    }
+
+    /**
+     * 인덱스에 등록된 케어콜 일정
+     *
+     * @param settingId 케어콜 설정 ID
+     * @param elderId 어르신 ID
+     * @param callType 케어콜 회차
+     * @param callTime 예약 시각
+     */
+    public record ScheduledCall(Integer settingId, Integer elderId, CallType callType, LocalTime callTime) {}
+}
@@ -1,57 +1,137 @@
 package com.example.medicare_call.service.carecall.outbound;
 
-import com.example.medicare_call.domain.CareCallSetting;
-import com.example.medicare_call.global.enums.CallType;
-import com.example.medicare_call.repository.CareCallSettingRepository;
+import com.example.medicare_call.global.config.CareCallScheduleProperties;
+import com.example.medicare_call.service.carecall.outbound.CareCallDispatcher.CallRequest;
+import com.example.medicare_call.service.carecall.outbound.CareCallScheduleIndex.ScheduledCall;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CareCallSchedulerService {
 
-    private final CareCallSettingRepository settingRepository;
-    private final CareCallRequestSenderService careCallRequestSenderService;
+    private final CareCallScheduleIndex careCallScheduleIndex;
+    private final CareCallDispatcher careCallDispatcher;
+    private final CareCallShardCoordinator careCallShardCoordinator;
+    private final CareCallScheduleProperties properties;
+
+    // 마지막으로 발송 등록한 분 (스케줄러 단일 스레드에서만 접근)
+    private LocalDateTime lastDispatchedMinute;
 
     /**
-     * 현재 시간 기준으로 발송 대상인 케어콜을 확인하고 발송
-     * 10분 배치 처리를 위해 현재 시각으로부터 10분 전까지의 예약 건을 조회
+     * 현재 분에 예약된 케어콜을 일정 인덱스에서 조회하여 발송
+     * 매 분 실행되며, 지연이나 재시작으로 건너뛴 분이 있으면 최대 maxCatchUpMinutes 범위까지 함께 발송한다
+     * 여러 인스턴스에서 실행되면 이 노드가 맡은 샤드만 바로 발송하고, 나머지 샤드는 소유 노드가 발송하지 않은 경우에만 넘겨받는다
      */
     public void checkAndSendCalls() {
-        LocalTime endTime = LocalTime.now().withSecond(0).withNano(0);
-        // 현재부터 10분 전까지의 기간 설정 (cron job 이 10분 단위로 실행)
-        LocalTime startTime = endTime.minusMinutes(10);
-        checkAndSendCallsInRange(startTime, endTime);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+
+        LocalDateTime from = now;
+        if (lastDispatchedMinute != null) {
+            LocalDateTime catchUpLimit = now.minusMinutes(properties.getMaxCatchUpMinutes());
+            from = lastDispatchedMinute.plusMinutes(1);
+            if (from.isBefore(catchUpLimit)) {
+                log.warn("케어콜 발송 누락 구간이 소급 범위를 초과: {} ~ {}", from, catchUpLimit.minusMinutes(1));
+                from = catchUpLimit;
+            }
+        }
+        if (from.isAfter(now)) {
+            return;
+        }
+
+        dispatchOwnedShards(from, now);
+        lastDispatchedMinute = now;
     }
 
     /**
-     * 특정 시간 범위 내에 예약된 케어콜을 조회하여 순차적으로 발송
-     * 1차, 2차, 3차 케어콜 설정을 각각 조회
+     * 특정 시간 범위 내에 예약된 케어콜을 일정 인덱스에서 조회하여 발송기에 등록
+     * 종료 시각이 시작 시각보다 앞서면 자정을 넘는 범위로 처리한다
      * 
      * @param startTime 조회 시작 시간
      * @param endTime 조회 종료 시간
      */
     public void checkAndSendCallsInRange(LocalTime startTime, LocalTime endTime) {
-        //1차 케어콜
-        List<CareCallSetting> firstTargets = settingRepository.findByFirstCallTimeBetween(startTime, endTime);
-        for (CareCallSetting setting : firstTargets) {
-            careCallRequestSenderService.sendCall(setting.getId(), setting.getElder().getId(), CallType.FIRST);
+        LocalDateTime to = LocalDateTime.now().with(endTime).truncatedTo(ChronoUnit.MINUTES);
+        long minutes = Duration.between(startTime, endTime).toMinutes();
+        if (minutes < 0) {
+            minutes += Duration.ofDays(1).toMinutes();
+        }
+        dispatchRange(to.minusMinutes(minutes), to);
+    }
+
+    // 수동 범위 발송은 샤드 구분 없이 이 노드에서 모두 발송 (중복은 발송 아웃박스에서 제거)
+    private void dispatchRange(LocalDateTime from, LocalDateTime to) {
+        careCallScheduleIndex.rebuildIfStale(properties.getIndexResyncInterval());
+
+        List<CallRequest> requests = new ArrayList<>();
+        for (LocalDateTime minute = from; !minute.isAfter(to); minute = minute.plusMinutes(1)) {
+            for (ScheduledCall call : careCallScheduleIndex.callsAt(minute.toLocalTime())) {
+                requests.add(new CallRequest(call.settingId(), call.elderId(), call.callType(), minute));
+            }
         }
+        dispatch(from, to, requests);
+    }
+
+    // 맡은 샤드는 바로 선점하여 발송하고, 나머지는 takeoverDelay 후 선점되지 않은 샤드만 발송
+    private void dispatchOwnedShards(LocalDateTime from, LocalDateTime to) {
+        Map<ShardMinute, List<CallRequest>> byShard = collectByShard(from, to);
+
+        List<CallRequest> owned = new ArrayList<>();
+        Map<ShardMinute, List<CallRequest>> others = new LinkedHashMap<>();
+        byShard.forEach((key, requests) -> {
+            if (!careCallShardCoordinator.isOwner(key.shard())) {
+                others.put(key, requests);
+            } else if (careCallShardCoordinator.tryClaim(key.minute(), key.shard(), false)) {
+                owned.addAll(requests);
+            }
+        });
+        dispatch(from, to, owned);
 
-        //2차 케어콜
-        List<CareCallSetting> secondTargets = settingRepository.findBySecondCallTimeBetween(startTime, endTime);
-        for (CareCallSetting setting : secondTargets) {
-            careCallRequestSenderService.sendCall(setting.getId(), setting.getElder().getId(), CallType.SECOND);
+        if (!others.isEmpty()) {
+            careCallShardCoordinator.scheduleTakeover(() -> {
+                List<CallRequest> takenOver = new ArrayList<>();
+                others.forEach((key, requests) -> {
+                    if (careCallShardCoordinator.tryClaim(key.minute(), key.shard(), true)) {
+                        takenOver.addAll(requests);
+                    }
+                });
+                dispatch(from, to, takenOver);
+            });
         }
+    }
+
+    private Map<ShardMinute, List<CallRequest>> collectByShard(LocalDateTime from, LocalDateTime to) {
+        careCallScheduleIndex.rebuildIfStale(properties.getIndexResyncInterval());
 
-        //3차 케어콜
-        List<CareCallSetting> thirdTargets = settingRepository.findByThirdCallTimeBetween(startTime, endTime);
-        for (CareCallSetting setting : thirdTargets) {
-            careCallRequestSenderService.sendCall(setting.getId(), setting.getElder().getId(), CallType.THIRD);
+        Map<ShardMinute, List<CallRequest>> byShard = new LinkedHashMap<>();
+        for (LocalDateTime minute = from; !minute.isAfter(to); minute = minute.plusMinutes(1)) {
+            for (ScheduledCall call : careCallScheduleIndex.callsAt(minute.toLocalTime())) {
+                ShardMinute key = new ShardMinute(minute, careCallShardCoordinator.shardOf(call.elderId()));
+                byShard.computeIfAbsent(key, k -> new ArrayList<>())
+                        .add(new CallRequest(call.settingId(), call.elderId(), call.callType(), minute));
+            }
         }
+        return byShard;
     }
+
+    private void dispatch(LocalDateTime from, LocalDateTime to, List<CallRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        log.info("케어콜 발송 등록: {} ~ {}, {}건", from, to, requests.size());
+        careCallDispatcher.dispatch(requests);
+    }
+
+    private record ShardMinute(LocalDateTime minute, int shard) {}
 }
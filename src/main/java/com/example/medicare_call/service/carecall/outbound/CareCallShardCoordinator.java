@@ -0,0 +1,223 @@
+package com.example.medicare_call.service.carecall.outbound;
+
+import com.example.medicare_call.global.concurrent.NamedThreadFactory;
+import com.example.medicare_call.global.config.CareCallScheduleProperties;
+import com.example.medicare_call.repository.CareCallSchedulerClusterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 인스턴스가 케어콜 스케줄러를 함께 실행할 때 어르신 발송을 나누어 맡도록 조정
+ * - 어르신 ID를 고정된 수의 샤드로 나누고, 살아 있는 노드(Redis 생존 신호) 사이에 rendezvous 해싱으로 샤드를 배정한다
+ *   노드가 추가/제외되어도 해당 노드 몫의 샤드만 옮겨 간다
+ * - 실제 발송 여부는 (분, 샤드) 단위 Redis 선점으로 결정하므로 노드 간 배정 정보가 잠시 어긋나도 중복 발송되지 않는다
+ * - 소유 노드가 발송하지 않은 샤드는 takeoverDelay 후 다른 노드가 선점하여 같은 분 안에 넘겨받는다
+ * - Redis를 사용할 수 없으면 모든 샤드를 직접 발송하며, 중복은 발송 아웃박스의 idempotencyKey로 걸러진다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CareCallShardCoordinator {
+
+    private final CareCallScheduleProperties properties;
+    private final CareCallSchedulerClusterRepository clusterRepository;
+    private final MeterRegistry meterRegistry;
+
+    private String nodeId;
+    // 마지막 생존 신호 갱신 시 조회한 노드 목록 (정렬)
+    private volatile List<String> members = List.of();
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        this.nodeId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.executor = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("care-call-scheduler-cluster", true));
+        executor.scheduleWithFixedDelay(this::heartbeat, 0,
+                properties.getHeartbeatInterval().toMillis(), TimeUnit.MILLISECONDS);
+
+        Gauge.builder("carecall.scheduler.members", this, coordinator -> coordinator.members.size())
+                .description("살아 있는 케어콜 스케줄러 노드 수")
+                .register(meterRegistry);
+        Gauge.builder("carecall.scheduler.owned_shards", this, coordinator -> coordinator.ownedShards().size())
+                .description("이 노드가 맡은 샤드 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        try {
+            clusterRepository.leave(nodeId);
+        } catch (Exception e) {
+            log.warn("케어콜 스케줄러 노드 제외 실패 - nodeId: {}", nodeId, e);
+        }
+    }
+
+    synchronized void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            clusterRepository.heartbeat(nodeId, now + properties.getMemberTtl().toMillis());
+            List<String> live = clusterRepository.findLiveMembers(now);
+            if (!live.equals(members)) {
+                log.info("케어콜 스케줄러 노드 변경 - {} -> {}", members, live);
+            }
+            members = live;
+        } catch (Exception e) {
+            // 이전 목록을 유지, 선점 단계에서 Redis 장애를 처리
+            log.warn("케어콜 스케줄러 생존 신호 갱신 실패 - nodeId: {}, error: {}", nodeId, e.getMessage());
+        }
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 어르신이 속한 샤드 번호
+     */
+    public int shardOf(Integer elderId) {
+        return (int) Math.floorMod(mix(elderId), (long) properties.getShards());
+    }
+
+    /**
+     * 샤드를 맡은 노드. 생존 신호가 잠시 끊겨 목록에 없더라도 자기 자신은 후보에 포함한다
+     */
+    public String ownerOf(int shard) {
+        String owner = nodeId;
+        long best = score(nodeId, shard);
+        for (String member : members) {
+            long candidate = score(member, shard);
+            if (candidate > best || (candidate == best && member.compareTo(owner) < 0)) {
+                best = candidate;
+                owner = member;
+            }
+        }
+        return owner;
+    }
+
+    public boolean isOwner(int shard) {
+        return nodeId.equals(ownerOf(shard));
+    }
+
+    public Set<Integer> ownedShards() {
+        Set<Integer> owned = new TreeSet<>();
+        for (int shard = 0; shard < properties.getShards(); shard++) {
+            if (isOwner(shard)) {
+                owned.add(shard);
+            }
+        }
+        return owned;
+    }
+
+    /**
+     * (분, 샤드) 발송 선점. 이미 다른 노드가 선점했으면 false
+     * Redis 장애 시에는 발송이 누락되지 않도록 true를 반환한다 (중복은 발송 아웃박스에서 제거)
+     *
+     * @param minute 발송 예약 분
+     * @param shard 샤드 번호
+     * @param takeover 다른 노드 소유 샤드를 넘겨받는 시도인지 여부
+     */
+    public boolean tryClaim(LocalDateTime minute, int shard, boolean takeover) {
+        try {
+            if (!clusterRepository.tryClaim(minute, shard, nodeId, properties.getClaimTtl())) {
+                counter("skipped").increment();
+                return false;
+            }
+        } catch (Exception e) {
+            counter("fallback").increment();
+            log.warn("케어콜 샤드 선점 실패, 직접 발송 - minute: {}, shard: {}, error: {}", minute, shard, e.getMessage());
+            return true;
+        }
+
+        if (takeover) {
+            counter("takeover").increment();
+            log.warn("발송되지 않은 샤드를 넘겨받음 - minute: {}, shard: {}, owner: {}", minute, shard, ownerOf(shard));
+        } else {
+            counter("claimed").increment();
+        }
+        return true;
+    }
+
+    /**
+     * takeoverDelay 후 작업 실행 (다른 노드 소유 샤드 넘겨받기)
+     */
+    public void scheduleTakeover(Runnable task) {
+        try {
+            executor.schedule(task, properties.getTakeoverDelay().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("종료 중이므로 샤드 넘겨받기를 예약하지 않음");
+        }
+    }
+
+    /**
+     * 현재 노드 기준 샤드 배정 현황
+     */
+    public ShardAssignment assignment() {
+        Map<Integer, String> owners = new TreeMap<>();
+        for (int shard = 0; shard < properties.getShards(); shard++) {
+            owners.put(shard, ownerOf(shard));
+        }
+        return new ShardAssignment(nodeId, members, owners);
+    }
+
+    /**
+     * 최근 발송 분의 샤드별 선점 노드 (Redis에 기록된 값)
+     */
+    public Map<Integer, String> claimOwners(LocalDateTime minute) {
+        Map<Integer, String> claims = new TreeMap<>();
+        for (int shard = 0; shard < properties.getShards(); shard++) {
+            int current = shard;
+            clusterRepository.findClaimOwner(minute, shard).ifPresent(owner -> claims.put(current, owner));
+        }
+        return claims;
+    }
+
+    private long score(String member, int shard) {
+        return mix(((long) member.hashCode() << 32) ^ shard);
+    }
+
+    // 연속된 ID가 고르게 퍼지도록 비트를 섞음 (SplitMix64 마무리 단계)
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("carecall.scheduler.shard_claims")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+
+    /**
+     * 샤드 배정 현황
+     *
+     * @param nodeId 현재 노드 ID
+     * @param members 살아 있는 노드 목록
+     * @param owners 샤드 번호별 소유 노드
+     */
+    public record ShardAssignment(String nodeId, List<String> members, Map<Integer, String> owners) {}
+}
@@ -18,6 +18,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -35,12 +37,13 @@ public class CareCallTestService {
      * 특정 어르신에게 즉시 케어콜을 발송 (베타테스트용)
      * 실제 DB에 등록된 Elder와 CareCallSetting을 기반으로 발송하며,
      * 통화 결과는 실제 케어콜과 동일하게 웹훅을 통해 DB에 저장
+     * 발송 아웃박스에 기록까지만 하고 반환하며, 전화 서버 호출은 OutboundCallOutboxWorker가 수행한다
      *
      * @param elderId 대상 어르신 ID
      * @param careCallOption 케어콜 옵션 (회차 정보 등)
-     * @return 발송 완료 메시지
+     * @return 발송 접수 메시지
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public String sendImmediateCall(Long elderId, CareCallOption careCallOption) {
         Elder elder = elderRepository.findById(elderId.intValue())
                 .orElseThrow(() -> new CustomException(ErrorCode.ELDER_NOT_FOUND, "케어콜 발송 대상 어르신을 찾을 수 없습니다. ID: " + elderId));
@@ -51,7 +54,7 @@ public class CareCallTestService {
         CallType callType = convertOptionToCallType(careCallOption);
 
         careCallRequestSenderService.sendCall(setting.getId(), elderId.intValue(), callType);
-        return String.format("%s 어르신께 즉시 케어콜 발송이 완료되었습니다.", elder.getName());
+        return String.format("%s 어르신께 즉시 케어콜 발송이 접수되었습니다.", elder.getName());
     }
 
     // TODO: 테스트 서버를 운용하게 될 경우, @Profile로 분리를 권장
@@ -73,7 +76,7 @@ public class CareCallTestService {
                 .build();
 
         String testPrompt = req.prompt();
-        careCallClient.requestCall(TEST_SETTING_ID, testElder.getId(), req.phoneNumber(), testPrompt);
+        careCallClient.requestCall(UUID.randomUUID().toString(), TEST_SETTING_ID, testElder.getId(), req.phoneNumber(), testPrompt);
     }
 
     /**
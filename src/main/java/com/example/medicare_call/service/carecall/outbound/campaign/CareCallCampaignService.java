@@ -0,0 +1,284 @@
+package com.example.medicare_call.service.carecall.outbound.campaign;
+
+import com.example.medicare_call.domain.CareCallCampaign;
+import com.example.medicare_call.domain.CareCallCampaignItem;
+import com.example.medicare_call.domain.CareCallSetting;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.OutboundCallOutbox;
+import com.example.medicare_call.dto.carecall.CareCallCampaignRequest;
+import com.example.medicare_call.dto.carecall.CareCallCampaignResponse;
+import com.example.medicare_call.global.concurrent.NamedThreadFactory;
+import com.example.medicare_call.global.concurrent.RetrySupport;
+import com.example.medicare_call.global.config.CareCallCampaignProperties;
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.global.enums.CareCallCampaignItemStatus;
+import com.example.medicare_call.global.enums.CareCallCampaignStatus;
+import com.example.medicare_call.global.enums.OutboundCallStatus;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.repository.CareCallCampaignItemRepository;
+import com.example.medicare_call.repository.CareCallCampaignRepository;
+import com.example.medicare_call.repository.CareCallSettingRepository;
+import com.example.medicare_call.repository.MemberElderRepository;
+import com.example.medicare_call.repository.OutboundCallOutboxRepository;
+import com.example.medicare_call.service.carecall.outbound.CareCallRequestSenderService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 어르신에게 즉시 케어콜을 일괄 발송(캠페인)
+ * - 요청 스레드에서는 대상 어르신과 캠페인만 기록하고 바로 반환한다
+ * - 어르신별 발송 요청(프롬프트 생성 + 발송 아웃박스 기록)은 전용 스레드 풀에서 초당 발송 수를 제한하며 처리한다
+ * - 전화 서버 호출과 재시도는 발송 아웃박스 워커가 담당하므로, 진행 상황 조회 시 아웃박스 상태를 함께 보여준다
+ * - 완료 여부는 어르신별 기록(PENDING이 남았는지)으로 판단한다
+ * - 인스턴스가 중단되거나 스레드 풀이 작업을 거부하면 남은 어르신은 PENDING으로 남고, 재개 스윕이 다시 발송 요청한다
+ *   같은 어르신을 두 번 처리해도 발송 아웃박스가 idempotencyKey로 중복을 걸러낸다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CareCallCampaignService {
+
+    private final CareCallCampaignProperties properties;
+    private final CareCallCampaignRepository careCallCampaignRepository;
+    private final CareCallCampaignItemRepository careCallCampaignItemRepository;
+    private final MemberElderRepository memberElderRepository;
+    private final CareCallSettingRepository careCallSettingRepository;
+    private final OutboundCallOutboxRepository outboundCallOutboxRepository;
+    private final CareCallRequestSenderService careCallRequestSenderService;
+    private final MeterRegistry meterRegistry;
+
+    // 다음 발송 요청을 시작할 수 있는 시각 (System.nanoTime 기준)
+    private long nextDispatchNanos;
+
+    // 이 인스턴스 스레드 풀에 들어가 있는 어르신 (idempotencyKey), 재개 스윕이 같은 어르신을 다시 넣지 않도록 함
+    private final Set<String> queuedKeys = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        ExecutorService pool = Executors.newFixedThreadPool(properties.getConcurrency(), new NamedThreadFactory("care-call-campaign"));
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "carecall.campaign");
+    }
+
+    // 대기 중인 발송 요청은 버려지며 PENDING으로 남아 재개 스윕이 처리
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 캠페인을 생성하고 백그라운드에서 발송 요청
+     *
+     * @param memberId 보호자(기관) 회원 ID
+     * @param request 대상 어르신 목록과 케어콜 회차
+     * @return 생성된 캠페인의 진행 상황
+     */
+    public CareCallCampaignResponse create(Integer memberId, CareCallCampaignRequest request) {
+        List<Integer> elderIds = resolveTargets(memberId, request.getElderIds());
+        Map<Integer, Integer> settingIds = careCallSettingRepository.findByElderIdIn(elderIds).stream()
+                .collect(Collectors.toMap(setting -> setting.getElder().getId(), CareCallSetting::getId));
+
+        CareCallCampaign campaign = careCallCampaignRepository.save(CareCallCampaign.builder()
+                .memberId(memberId)
+                .callType(CallType.valueOf(request.getCareCallOption().name()))
+                .status(CareCallCampaignStatus.RUNNING)
+                .build());
+
+        List<CareCallCampaignItem> items = careCallCampaignItemRepository.saveAll(elderIds.stream()
+                .map(elderId -> CareCallCampaignItem.builder()
+                        .campaign(campaign)
+                        .elderId(elderId)
+                        .settingId(settingIds.get(elderId))
+                        .status(settingIds.containsKey(elderId) ? CareCallCampaignItemStatus.PENDING : CareCallCampaignItemStatus.FAILED)
+                        .error(settingIds.containsKey(elderId) ? null : ErrorCode.CARE_CALL_SETTING_NOT_FOUND.getMessage())
+                        .build())
+                .toList());
+
+        log.info("일괄 케어콜 시작 - campaignId: {}, memberId: {}, callType: {}, 대상: {}명",
+                campaign.getId(), memberId, campaign.getCallType(), items.size());
+        launch(campaign, items.stream()
+                .filter(item -> item.getStatus() == CareCallCampaignItemStatus.PENDING)
+                .toList());
+        return CareCallCampaignResponse.of(campaign, items, Map.of());
+    }
+
+    /**
+     * 생성 후 resumeAfter가 지나도록 진행 중인 캠페인의 대기 어르신을 다시 발송 요청 (인스턴스 중단, 스레드 풀 거부 대비)
+     * 대기 어르신이 없으면 완료 처리한다
+     *
+     * @return 다시 발송 요청한 어르신 수
+     */
+    public int resumeInterrupted() {
+        List<CareCallCampaign> campaigns = careCallCampaignRepository.findByStatusAndCreatedAtBefore(
+                CareCallCampaignStatus.RUNNING, LocalDateTime.now().minus(properties.getResumeAfter()));
+
+        int resumed = 0;
+        for (CareCallCampaign campaign : campaigns) {
+            List<CareCallCampaignItem> pending = careCallCampaignItemRepository
+                    .findByCampaignIdAndStatusOrderById(campaign.getId(), CareCallCampaignItemStatus.PENDING).stream()
+                    .filter(item -> !queuedKeys.contains(item.idempotencyKey()))
+                    .toList();
+            if (pending.isEmpty()) {
+                finishIfDone(campaign);
+                continue;
+            }
+
+            log.info("일괄 케어콜 재개 - campaignId: {}, 대기: {}명", campaign.getId(), pending.size());
+            resumed += launch(campaign, pending);
+        }
+        return resumed;
+    }
+
+    /**
+     * 캠페인 진행 상황 조회
+     *
+     * @param memberId 보호자(기관) 회원 ID
+     * @param campaignId 캠페인 ID
+     * @return 어르신별 발송 요청/전화 서버 발송 상태와 합계
+     */
+    public CareCallCampaignResponse getCampaign(Integer memberId, Long campaignId) {
+        CareCallCampaign campaign = careCallCampaignRepository.findById(campaignId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CARE_CALL_CAMPAIGN_NOT_FOUND));
+        if (!campaign.getMemberId().equals(memberId)) {
+            throw new CustomException(ErrorCode.HANDLE_ACCESS_DENIED);
+        }
+
+        List<CareCallCampaignItem> items = careCallCampaignItemRepository.findByCampaignIdOrderById(campaignId);
+        Set<String> keys = items.stream()
+                .filter(item -> item.getStatus() == CareCallCampaignItemStatus.ENQUEUED)
+                .map(CareCallCampaignItem::idempotencyKey)
+                .collect(Collectors.toSet());
+        Map<String, OutboundCallStatus> deliveryStatuses = keys.isEmpty()
+                ? Map.of()
+                : outboundCallOutboxRepository.findByIdempotencyKeyIn(keys).stream()
+                        .collect(Collectors.toMap(OutboundCallOutbox::getIdempotencyKey, OutboundCallOutbox::getStatus));
+        return CareCallCampaignResponse.of(campaign, items, deliveryStatuses);
+    }
+
+    // 요청한 어르신이 모두 보호자에게 등록된 활성 어르신인지 확인 (비어 있으면 전체)
+    private List<Integer> resolveTargets(Integer memberId, List<Integer> requestedIds) {
+        List<Integer> managedIds = memberElderRepository.findEldersByGuardianId(memberId).stream()
+                .map(Elder::getId)
+                .toList();
+
+        List<Integer> elderIds;
+        if (requestedIds == null || requestedIds.isEmpty()) {
+            elderIds = managedIds;
+        } else {
+            elderIds = new ArrayList<>(new LinkedHashSet<>(requestedIds));
+            if (!new HashSet<>(managedIds).containsAll(elderIds)) {
+                throw new CustomException(ErrorCode.HANDLE_ACCESS_DENIED);
+            }
+        }
+
+        if (elderIds.isEmpty() || elderIds.size() > properties.getMaxElders()) {
+            throw new CustomException(ErrorCode.INVALID_CARE_CALL_CAMPAIGN_TARGET);
+        }
+        return elderIds;
+    }
+
+    // 스레드 풀에 넣은 어르신 수를 반환, 거부된 어르신은 PENDING으로 남겨 재개 스윕에 맡긴다
+    private int launch(CareCallCampaign campaign, List<CareCallCampaignItem> pending) {
+        if (pending.isEmpty()) {
+            finishIfDone(campaign);
+            return 0;
+        }
+
+        int submitted = 0;
+        for (CareCallCampaignItem item : pending) {
+            String key = item.idempotencyKey();
+            if (!queuedKeys.add(key)) {
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        dispatch(campaign, item);
+                    } finally {
+                        queuedKeys.remove(key);
+                        finishIfDone(campaign);
+                    }
+                });
+                submitted++;
+            } catch (RejectedExecutionException e) {
+                queuedKeys.remove(key);
+                log.warn("종료 중이므로 일괄 케어콜 발송 요청을 중단, 남은 어르신은 재개 스윕에서 처리 - campaignId: {}, 남은 인원: {}명",
+                        campaign.getId(), pending.size() - submitted);
+                break;
+            }
+        }
+        return submitted;
+    }
+
+    private void dispatch(CareCallCampaign campaign, CareCallCampaignItem item) {
+        try {
+            throttle();
+        } catch (InterruptedException e) {
+            // 종료 중: PENDING으로 남겨 둠
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            careCallRequestSenderService.sendCall(item.getSettingId(), item.getElderId(), campaign.getCallType(), item.idempotencyKey());
+            careCallCampaignItemRepository.updateStatusIfPending(item.getId(), CareCallCampaignItemStatus.ENQUEUED, null);
+            counter("enqueued").increment();
+        } catch (Exception e) {
+            log.error("일괄 케어콜 발송 요청 실패 - campaignId: {}, elderId: {}", campaign.getId(), item.getElderId(), e);
+            careCallCampaignItemRepository.updateStatusIfPending(item.getId(), CareCallCampaignItemStatus.FAILED,
+                    RetrySupport.truncate(String.valueOf(e.getMessage())));
+            counter("failed").increment();
+        }
+    }
+
+    /**
+     * ratePerSecond 간격으로 발송 시각을 배정하고 자기 차례까지 대기
+     * 여러 캠페인이 동시에 진행되어도 인스턴스 전체 발송 속도가 제한된다
+     */
+    void throttle() throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / Math.max(properties.getRatePerSecond(), 1);
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextDispatchNanos);
+            nextDispatchNanos = slot + interval;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    // 대기 어르신이 남지 않았으면 완료 처리 (여러 스레드가 동시에 호출해도 한 번만 완료됨)
+    private void finishIfDone(CareCallCampaign campaign) {
+        try {
+            if (careCallCampaignItemRepository.existsByCampaignIdAndStatus(campaign.getId(), CareCallCampaignItemStatus.PENDING)) {
+                return;
+            }
+            if (careCallCampaignRepository.completeIfRunning(campaign.getId(), LocalDateTime.now()) > 0) {
+                log.info("일괄 케어콜 발송 요청 완료 - campaignId: {}", campaign.getId());
+            }
+        } catch (Exception e) {
+            log.error("일괄 케어콜 상태 저장 실패 - campaignId: {}", campaign.getId(), e);
+        }
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("carecall.campaign.items")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.medicare_call.service.carecall.outbound.client;
 
 import com.example.medicare_call.global.client.HttpClient;
+import com.example.medicare_call.global.client.HttpClientResilienceRegistry;
 import com.example.medicare_call.util.PhoneNumberUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,33 +18,47 @@ import java.util.Map;
 @Component
 public class CareCallClient extends HttpClient {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     @Value("${care-call.url}")
     private String callUrl;
 
-    public CareCallClient(RestTemplate restTemplate) {
-        super(restTemplate);
+    public CareCallClient(RestTemplate restTemplate, HttpClientResilienceRegistry resilienceRegistry) {
+        super(restTemplate, resilienceRegistry, "care-call");
     }
 
-    public void requestCall(Integer settingId, Integer elderId, String phoneNumber, String prompt) {
-        try {
-            log.info("케어콜 요청 to external system. elderId={}, settingId={}", elderId, settingId);
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+    /**
+     * 전화 서버에 케어콜 발신을 요청. 실패 시 예외를 던지며 재시도는 호출 측(발송 아웃박스)이 담당한다
+     *
+     * Idempotency-Key 계약 (전화 서버가 지켜야 하는 조건)
+     * - 발송 아웃박스는 최소 1회(at-least-once) 전송한다. 전송 중 인스턴스가 중단되거나 결과 기록에 실패하면
+     *   sendTimeout(app.care-call-outbox.send-timeout)이 지난 뒤 다른 인스턴스가 같은 키로 다시 전송한다
+     * - 응답 시간 초과로 실패 처리된 요청도 전화 서버에서는 이미 발신되었을 수 있으며, 재시도 시 같은 키가 전송된다
+     * - 따라서 전화 서버는 같은 키의 두 번째 이후 요청을 새로 발신하지 않고 성공(2xx)으로 응답해야 한다.
+     *   키는 발송 요청마다 한 번 생성되며(아웃박스 idempotency_key) 재시도 간에 바뀌지 않는다
+     *
+     * @param idempotencyKey 발송 요청 식별 키 (재시도 시 같은 값을 보내 전화 서버가 중복 발신하지 않도록 함)
+     * @param settingId 케어콜 설정 ID
+     * @param elderId 대상 어르신 ID
+     * @param phoneNumber 어르신 전화번호
+     * @param prompt 케어콜 프롬프트
+     */
+    public void requestCall(String idempotencyKey, Integer settingId, Integer elderId, String phoneNumber, String prompt) {
+        log.info("케어콜 요청 to external system. elderId={}, settingId={}", elderId, settingId);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
 
-            String normalizedPhoneNumber = PhoneNumberUtil.normalizeKoreanPhoneNumber(phoneNumber);
+        String normalizedPhoneNumber = PhoneNumberUtil.normalizeKoreanPhoneNumber(phoneNumber);
 
-            Map<String, Object> body = new HashMap<>();
-            body.put("elderId", elderId);
-            body.put("settingId", settingId);
-            body.put("phoneNumber", normalizedPhoneNumber);
-            body.put("prompt", prompt);
+        Map<String, Object> body = new HashMap<>();
+        body.put("elderId", elderId);
+        body.put("settingId", settingId);
+        body.put("phoneNumber", normalizedPhoneNumber);
+        body.put("prompt", prompt);
 
-            ResponseEntity<String> response = sendPostRequest(callUrl, headers, body);
+        ResponseEntity<String> response = sendPostRequest(callUrl, headers, body);
 
-            log.info("케어콜 외부 요청 성공: {}", response.getBody());
-        } catch (Exception e) {
-            log.error("케어콜 외부 요청 실패: {}", e.getMessage());
-            // TODO: 여기서 CustomException을 다시 던지거나, 재시도 패턴 적용
-        }
+        log.info("케어콜 외부 요청 성공: {}", response.getBody());
     }
 }
@@ -0,0 +1,74 @@
+package com.example.medicare_call.service.carecall.outbound.outbox;
+
+import com.example.medicare_call.domain.OutboundCallOutbox;
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.global.enums.OutboundCallStatus;
+import com.example.medicare_call.repository.OutboundCallOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboundCallOutboxService {
+
+    private final OutboundCallOutboxRepository outboundCallOutboxRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 케어콜 발송 요청을 아웃박스에 기록. 전화 서버 호출은 OutboundCallOutboxWorker가 수행한다
+     * 같은 idempotencyKey가 이미 기록되어 있으면 (중복 발송, 다른 인스턴스의 동시 기록) 무시한다
+     *
+     * @param idempotencyKey 발송 요청 식별 키
+     * @param settingId 케어콜 설정 ID
+     * @param elderId 대상 어르신 ID
+     * @param callType 케어콜 회차
+     * @param phoneNumber 어르신 전화번호
+     * @param prompt 케어콜 프롬프트
+     * @return 새로 기록했으면 true, 중복이면 false
+     */
+    public boolean enqueue(String idempotencyKey, Integer settingId, Integer elderId, CallType callType,
+                           String phoneNumber, String prompt) {
+        if (outboundCallOutboxRepository.existsByIdempotencyKey(idempotencyKey)) {
+            return duplicate(idempotencyKey);
+        }
+
+        try {
+            outboundCallOutboxRepository.save(OutboundCallOutbox.builder()
+                    .idempotencyKey(idempotencyKey)
+                    .settingId(settingId)
+                    .elderId(elderId)
+                    .callType(callType)
+                    .phoneNumber(phoneNumber)
+                    .prompt(prompt)
+                    .status(OutboundCallStatus.PENDING)
+                    .attempts(0)
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 조회와 저장 사이에 다른 인스턴스가 같은 키로 기록한 경우 (유니크 키 충돌)
+            return duplicate(idempotencyKey);
+        }
+
+        counter("created").increment();
+        return true;
+    }
+
+    private boolean duplicate(String idempotencyKey) {
+        counter("duplicate").increment();
+        log.info("이미 등록된 케어콜 발송 요청 - key: {}", idempotencyKey);
+        return false;
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("carecall.outbox.enqueued")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
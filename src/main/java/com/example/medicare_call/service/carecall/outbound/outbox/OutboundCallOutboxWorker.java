@@ -0,0 +1,210 @@
+package com.example.medicare_call.service.carecall.outbound.outbox;
+
+import com.example.medicare_call.domain.OutboundCallOutbox;
+import com.example.medicare_call.global.concurrent.ExecutorShutdown;
+import com.example.medicare_call.global.concurrent.NamedThreadFactory;
+import com.example.medicare_call.global.concurrent.RetrySupport;
+import com.example.medicare_call.global.config.CareCallOutboxProperties;
+import com.example.medicare_call.global.enums.OutboundCallStatus;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.repository.OutboundCallOutboxRepository;
+import com.example.medicare_call.service.carecall.outbound.client.CareCallClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스에 기록된 케어콜 발송 요청을 전화 서버로 보내는 워커
+ * - 조건부 갱신으로 발송 대상을 선점하므로 여러 인스턴스가 동시에 실행해도 한 건은 한 곳에서만 발송한다
+ * - 실패 시 지수 백오프(+지터) 후 재시도하고, maxAttempts를 모두 실패하거나 재시도해도 소용없는 오류(4xx)는 DEAD로 기록한다
+ * - 발송 중 인스턴스가 중단되어도 sendTimeout이 지나면 다른 인스턴스가 다시 가져간다
+ * - 결과는 선점한 시도 번호로만 기록하므로, 그 사이 다른 인스턴스가 다시 가져간 건의 상태를 덮어쓰지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundCallOutboxWorker {
+
+    private final CareCallOutboxProperties properties;
+    private final OutboundCallOutboxRepository outboundCallOutboxRepository;
+    private final CareCallClient careCallClient;
+    private final MeterRegistry meterRegistry;
+
+    // 선점 후 결과를 기록하지 않은 건수 (스레드 풀 대기 포함)
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // 마지막 조회 시점의 발송 대기 건수
+    private final AtomicLong pending = new AtomicLong();
+
+    private ExecutorService workers;
+
+    @PostConstruct
+    void init() {
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getConcurrency(), new NamedThreadFactory("care-call-outbox"));
+        this.workers = ExecutorServiceMetrics.monitor(meterRegistry, executor, "carecall.outbox");
+
+        Gauge.builder("carecall.outbox.pending", pending, AtomicLong::get)
+                .description("발송 대기 중인 케어콜 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("carecall.outbox.in_flight", inFlight, AtomicInteger::get)
+                .description("전화 서버로 요청 중인 케어콜 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ExecutorShutdown.awaitOrForce(workers);
+    }
+
+    /**
+     * 발송 시각이 된 요청을 남은 동시 발송 수만큼 선점하여 스레드 풀에 넘긴다
+     * 선점만 호출 스레드에서 수행하므로 전화 서버 응답을 기다리지 않는다
+     *
+     * @return 이번에 선점한 건수
+     */
+    public int drain() {
+        pending.set(outboundCallOutboxRepository.countByStatus(OutboundCallStatus.PENDING));
+
+        int available = Math.min(properties.getBatchSize(), properties.getConcurrency() - inFlight.get());
+        if (available <= 0) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = outboundCallOutboxRepository.findDueIds(now, PageRequest.of(0, available));
+
+        int claimed = 0;
+        for (Long id : dueIds) {
+            // 다른 인스턴스가 먼저 선점한 건은 건너뜀
+            if (outboundCallOutboxRepository.claim(id, now, RetrySupport.leaseDeadline(now, properties.getSendTimeout())) == 0) {
+                continue;
+            }
+            inFlight.incrementAndGet();
+            claimed++;
+            try {
+                workers.execute(() -> send(id));
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 sendTimeout 이후 다른 인스턴스가 다시 가져감
+                inFlight.decrementAndGet();
+            }
+        }
+        return claimed;
+    }
+
+    private void send(Long id) {
+        try {
+            OutboundCallOutbox outbox = outboundCallOutboxRepository.findById(id).orElse(null);
+            if (outbox == null) {
+                return;
+            }
+
+            // 마지막 시도 중 중단되어 다시 선점된 경우
+            if (outbox.getAttempts() > properties.getMaxAttempts()) {
+                markDead(outbox, "최대 발송 시도 횟수 초과");
+                return;
+            }
+
+            try {
+                careCallClient.requestCall(outbox.getIdempotencyKey(), outbox.getSettingId(), outbox.getElderId(),
+                        outbox.getPhoneNumber(), outbox.getPrompt());
+            } catch (Exception e) {
+                handleFailure(outbox, e);
+                return;
+            }
+
+            LocalDateTime sentAt = LocalDateTime.now();
+            if (outboundCallOutboxRepository.markSent(id, outbox.getAttempts(), sentAt) == 0) {
+                stale(outbox, "발송 완료");
+                return;
+            }
+            counter("sent").increment();
+            Timer.builder("carecall.outbox.delivery_lag")
+                    .description("발송 요청 기록부터 전화 서버 요청 성공까지 걸린 시간")
+                    .register(meterRegistry)
+                    .record(Duration.between(outbox.getCreatedAt(), sentAt));
+        } catch (Exception e) {
+            // 결과 기록 실패 시 sendTimeout 이후 다시 발송 대상이 됨 (전화 서버는 idempotencyKey로 중복 제거)
+            log.error("케어콜 발송 결과 기록 실패 - outboxId: {}", id, e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void handleFailure(OutboundCallOutbox outbox, Exception e) {
+        String error = RetrySupport.errorMessage(e.getCause() != null ? e.getCause() : e);
+
+        if (!isRetryable(e) || outbox.getAttempts() >= properties.getMaxAttempts()) {
+            markDead(outbox, error);
+            return;
+        }
+
+        Duration backoff = backoff(outbox.getAttempts());
+        if (outboundCallOutboxRepository.scheduleRetry(outbox.getId(), outbox.getAttempts(), LocalDateTime.now().plus(backoff), error) == 0) {
+            stale(outbox, "재시도");
+            return;
+        }
+        counter("retry").increment();
+        log.warn("케어콜 외부 요청 실패, {}ms 후 재시도 - outboxId: {}, elderId: {}, attempts: {}, error: {}",
+                backoff.toMillis(), outbox.getId(), outbox.getElderId(), outbox.getAttempts(), error);
+    }
+
+    private void markDead(OutboundCallOutbox outbox, String error) {
+        if (outboundCallOutboxRepository.markDead(outbox.getId(), outbox.getAttempts(), error) == 0) {
+            stale(outbox, "발송 포기");
+            return;
+        }
+        counter("dead").increment();
+        log.error("케어콜 발송 포기 - outboxId: {}, settingId: {}, elderId: {}, callType: {}, attempts: {}, error: {}",
+                outbox.getId(), outbox.getSettingId(), outbox.getElderId(), outbox.getCallType(), outbox.getAttempts(), error);
+    }
+
+    // 발송 제한 시각이 지나 다른 인스턴스가 다음 시도로 가져간 건, 그 시도의 결과를 따른다
+    private void stale(OutboundCallOutbox outbox, String outcome) {
+        counter("stale").increment();
+        log.warn("다른 시도가 가져간 케어콜 발송 결과 기록 생략 - outboxId: {}, attempts: {}, 결과: {}",
+                outbox.getId(), outbox.getAttempts(), outcome);
+    }
+
+    // 재시도 대기 시간 (지수 백오프 + 지터)
+    Duration backoff(int attempts) {
+        return RetrySupport.exponentialBackoffWithJitter(properties.getInitialBackoff(), properties.getMaxBackoff(), attempts);
+    }
+
+    // 전화 서버 4xx(429 제외)나 요청 데이터 오류는 다시 보내도 실패하므로 재시도하지 않음
+    // 서킷 차단/동시 호출 수 초과로 바로 거부된 요청은 전화 서버에 닿지 않았으므로 재시도
+    private boolean isRetryable(Exception e) {
+        if (e instanceof CustomException customException) {
+            ErrorCode errorCode = customException.getErrorCode();
+            return errorCode == ErrorCode.EXTERNAL_API_CIRCUIT_OPEN || errorCode == ErrorCode.EXTERNAL_API_BULKHEAD_FULL;
+        }
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof HttpClientErrorException clientError) {
+            return clientError.getStatusCode().value() == 429;
+        }
+        return cause instanceof RestClientException;
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("carecall.outbox.attempts")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.example.medicare_call.service.carecall.outbound.prompt;
+
+import com.example.medicare_call.domain.Disease;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.ElderHealthInfo;
+import com.example.medicare_call.domain.MedicationSchedule;
+import com.example.medicare_call.global.config.CareCallDispatchProperties;
+import com.example.medicare_call.global.enums.CallType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 어르신/케어콜 회차별로 생성한 프롬프트를 보관하는 인스턴스 내 LRU 캐시
+ * 프롬프트에 반영되는 입력(이름, 건강 정보, 질병, 복약 일정)을 이어 붙인 값을 함께 저장하고,
+ * 조회 시 입력이 달라졌으면 다시 생성한다. 별도 무효화 이벤트 없이 다른 인스턴스에서 변경된 정보도 반영된다
+ */
+@Component
+public class CallPromptCache {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<PromptKey, CachedPrompt> cache;
+
+    public CallPromptCache(CareCallDispatchProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        int maxSize = properties.getPromptCacheMaxSize();
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<PromptKey, CachedPrompt>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PromptKey, CachedPrompt> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * 같은 입력으로 생성된 프롬프트가 있으면 반환하고, 없거나 입력이 바뀌었으면 생성 후 저장
+     *
+     * @param callType 케어콜 회차
+     * @param elder 대상 어르신
+     * @param healthInfo 건강 정보 (없으면 null)
+     * @param diseases 질병 목록
+     * @param medicationSchedules 복약 일정 목록
+     * @param generator 캐시에 없을 때 프롬프트를 생성하는 함수
+     * @return 프롬프트
+     */
+    public String getOrGenerate(CallType callType, Elder elder, ElderHealthInfo healthInfo,
+                                List<Disease> diseases, List<MedicationSchedule> medicationSchedules,
+                                Supplier<String> generator) {
+        PromptKey key = new PromptKey(elder.getId(), callType);
+        String inputs = inputsOf(elder, healthInfo, diseases, medicationSchedules);
+
+        CachedPrompt cached = cache.get(key);
+        if (cached != null && cached.inputs().equals(inputs)) {
+            counter(callType, "hit").increment();
+            return cached.prompt();
+        }
+
+        counter(callType, cached == null ? "miss" : "stale").increment();
+        String prompt = generator.get();
+        cache.put(key, new CachedPrompt(inputs, prompt));
+        return prompt;
+    }
+
+    /**
+     * 어르신의 모든 회차 프롬프트를 캐시에서 제거
+     *
+     * @param elderId 어르신 ID
+     */
+    public void evict(Integer elderId) {
+        for (CallType callType : CallType.values()) {
+            cache.remove(new PromptKey(elderId, callType));
+        }
+    }
+
+    // 입력 목록 순서가 프롬프트 문장 순서에 반영되므로 정렬하지 않고 그대로 이어 붙인다
+    private String inputsOf(Elder elder, ElderHealthInfo healthInfo,
+                            List<Disease> diseases, List<MedicationSchedule> medicationSchedules) {
+        String notes = healthInfo != null ? healthInfo.getNotes() : null;
+
+        StringBuilder builder = new StringBuilder(128);
+        builder.append(elder.getName()).append('\u0000');
+        builder.append(notes).append('\u0000');
+        for (Disease disease : diseases) {
+            builder.append(disease.getName()).append('\u0001');
+        }
+        builder.append('\u0000');
+        for (MedicationSchedule schedule : medicationSchedules) {
+            builder.append(schedule.getScheduleTime()).append(':').append(schedule.getName()).append('\u0001');
+        }
+        return builder.toString();
+    }
+
+    private Counter counter(CallType callType, String result) {
+        return Counter.builder("carecall.prompt.cache")
+                .tag("callType", callType.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record PromptKey(Integer elderId, CallType callType) {}
+
+    private record CachedPrompt(String inputs, String prompt) {}
+}
@@ -11,40 +11,9 @@ import java.util.List;
 
 @Service
 public class ImmediateCallPromptGenerator implements CallPromptGenerator {
-    @Override
-    public String generate(Elder elder, ElderHealthInfo info,
-                           List<Disease> diseases, List<MedicationSchedule> medicationSchedules) {
-
-        String elderName = elder.getName();
-
-        // 당뇨병 여부 확인
-        boolean hasDiabetes = diseases.stream()
-                .anyMatch(d -> d.getName().contains("당뇨"));
 
-        // 아침 복약명 추출 (scheduleTime: "MORNING")
-        List<String> morningMedications = medicationSchedules.stream()
-                .filter(ms -> ms.getScheduleTime() == MedicationScheduleTime.MORNING)
-                .map(MedicationSchedule::getName)
-                .toList();
-
-        String morningMedNames = morningMedications.isEmpty()
-                ? "등록된 아침 복약 없음"
-                : String.join(", ", morningMedications);
-
-        // 당뇨병이 있는 경우 혈당 질문 라인 추가
-        String diabetesLine = hasDiabetes
-                ? "4. 혈당 상태 : 혈당 재셨는지, 공복/식후 여부, 수치\n" : "";
-
-        // 당뇨병이 있는 경우 혈당 관련 대화 흐름 추가
-        String diabetesFlow = hasDiabetes
-                ? """
-                AI: [식사 관련 공감] + "혈당도 재보셨을까요? 공복에 재셨어요, 식후에 재셨어요? 수치는 몇 나왔는지 기억나세요?"
-                어르신: [혈당 응답]
-                AI: [수치 반응 및 간단한 조언] + "그럼 오늘 하루는 어떠셨어요? 기분 괜찮으셨어요?"
-                """
-                : "AI: [식사 관련 공감] + \"그럼 오늘 하루는 어떠셨어요? 기분 괜찮으셨어요?\"\n";
-
-        String prompt = String.format("""
+    // 클래스 로딩 시 한 번만 파싱
+    private static final PromptTemplate TEMPLATE = PromptTemplate.compile("""
                 당신은 고령자를 위한 따뜻하고 친절한 AI 전화 상담원입니다.
                 
                 **역할**: 아침에 어르신께 전화드려 어제 수면 상태와 아침 식사·복약·혈당 여부를 자연스럽고 친근하게 확인하세요.
@@ -91,7 +60,41 @@ public class ImmediateCallPromptGenerator implements CallPromptGenerator {
                 - 어르신이 위축되지 않도록 항상 공감과 배려를 담아 말하세요.
                 
                 지금 첫 번째 인사를 해주세요.
-                """,
+                """);
+    @Override
+    public String generate(Elder elder, ElderHealthInfo info,
+                           List<Disease> diseases, List<MedicationSchedule> medicationSchedules) {
+
+        String elderName = elder.getName();
+
+        // 당뇨병 여부 확인
+        boolean hasDiabetes = diseases.stream()
+                .anyMatch(d -> d.getName().contains("당뇨"));
+
+        // 아침 복약명 추출 (scheduleTime: "MORNING")
+        List<String> morningMedications = medicationSchedules.stream()
+                .filter(ms -> ms.getScheduleTime() == MedicationScheduleTime.MORNING)
+                .map(MedicationSchedule::getName)
+                .toList();
+
+        String morningMedNames = morningMedications.isEmpty()
+                ? "등록된 아침 복약 없음"
+                : String.join(", ", morningMedications);
+
+        // 당뇨병이 있는 경우 혈당 질문 라인 추가
+        String diabetesLine = hasDiabetes
+                ? "4. 혈당 상태 : 혈당 재셨는지, 공복/식후 여부, 수치\n" : "";
+
+        // 당뇨병이 있는 경우 혈당 관련 대화 흐름 추가
+        String diabetesFlow = hasDiabetes
+                ? """
+                AI: [식사 관련 공감] + "혈당도 재보셨을까요? 공복에 재셨어요, 식후에 재셨어요? 수치는 몇 나왔는지 기억나세요?"
+                어르신: [혈당 응답]
+                AI: [수치 반응 및 간단한 조언] + "그럼 오늘 하루는 어떠셨어요? 기분 괜찮으셨어요?"
+                """
+                : "AI: [식사 관련 공감] + \"그럼 오늘 하루는 어떠셨어요? 기분 괜찮으셨어요?\"\n";
+
+        String prompt = TEMPLATE.render(
                 morningMedNames,                      // 1번째 %s - 대화 목표의 복약 목록
                 diabetesLine,                         // 2번째 %s - 당뇨병 질문 라인
                 elderName,                            // 3번째 %s - 대화 흐름의 어르신 이름
@@ -0,0 +1,78 @@
+package com.example.medicare_call.service.carecall.outbound.prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * %s 자리표시자를 가진 케어콜 프롬프트 템플릿
+ * 클래스 로딩 시 한 번 파싱하여 고정 문자열 조각으로 나눠 두고, 렌더링 시에는 미리 크기를 잡은
+ * StringBuilder에 조각과 인자를 번갈아 이어 붙인다. String.format과 같은 결과를 만들며 %s 외의 지정자는 지원하지 않는다
+ */
+public final class PromptTemplate {
+
+    // 자리표시자 사이의 고정 문자열 (자리표시자 수 + 1개)
+    private final String[] segments;
+    private final int literalLength;
+
+    private PromptTemplate(String[] segments) {
+        this.segments = segments;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 템플릿 문자열을 고정 문자열 조각으로 파싱
+     *
+     * @param template %s 자리표시자를 포함한 템플릿
+     * @return 파싱된 템플릿
+     * @throws IllegalArgumentException %s 외의 서식 지정자가 포함된 경우
+     */
+    public static PromptTemplate compile(String template) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int index = template.indexOf('%');
+        while (index >= 0) {
+            if (index + 1 >= template.length() || template.charAt(index + 1) != 's') {
+                throw new IllegalArgumentException("지원하지 않는 서식 지정자 위치: " + index);
+            }
+            segments.add(template.substring(start, index));
+            start = index + 2;
+            index = template.indexOf('%', start);
+        }
+        segments.add(template.substring(start));
+        return new PromptTemplate(segments.toArray(String[]::new));
+    }
+
+    public int slotCount() {
+        return segments.length - 1;
+    }
+
+    /**
+     * 자리표시자 순서대로 인자를 채워 프롬프트를 생성
+     *
+     * @param args 자리표시자에 들어갈 값 (자리표시자 수와 같아야 함)
+     * @return 완성된 프롬프트
+     */
+    public String render(Object... args) {
+        if (args.length != slotCount()) {
+            throw new IllegalArgumentException("프롬프트 인자 수 불일치: expected=" + slotCount() + ", actual=" + args.length);
+        }
+
+        String[] values = new String[args.length];
+        int length = literalLength;
+        for (int i = 0; i < args.length; i++) {
+            values[i] = String.valueOf(args[i]);
+            length += values[i].length();
+        }
+
+        StringBuilder builder = new StringBuilder(length);
+        builder.append(segments[0]);
+        for (int i = 0; i < values.length; i++) {
+            builder.append(values[i]).append(segments[i + 1]);
+        }
+        return builder.toString();
+    }
+}
@@ -12,23 +12,8 @@ import java.util.List;
 @Service
 public class SecondCallPromptGenerator implements CallPromptGenerator {
 
-    @Override
-    public String generate(Elder elder, ElderHealthInfo healthInfo, List<Disease> diseases, List<MedicationSchedule> medicationSchedules) {
-        // 1. 어르신 이름
-        String elderName = elder.getName();
-
-        // 2. 점심 복약명 추출 (scheduleTime: "lunch")
-        List<String> lunchMedications = medicationSchedules.stream()
-                .filter(ms -> ms.getScheduleTime() == MedicationScheduleTime.LUNCH)
-                .map(MedicationSchedule::getName)
-                .toList();
-
-        String lunchMedNames = lunchMedications.isEmpty()
-                ? "점심 복약 없음"
-                : String.join(", ", lunchMedications);
-
-        // 3. 프롬프트 템플릿 동적 조립 (멀티라인 + String.format)
-        String prompt = String.format("""
+    // 클래스 로딩 시 한 번만 파싱
+    private static final PromptTemplate TEMPLATE = PromptTemplate.compile("""
         당신은 고령자를 위한 따뜻하고 친절한 AI 전화 상담원입니다.
 
         **역할**: 점심시간에 어르신께 전화드려 점심 식사와 점심 약 복용 여부를 확인하세요.
@@ -58,7 +43,25 @@ public class SecondCallPromptGenerator implements CallPromptGenerator {
         - 어르신이 위축되지 않도록 항상 공감과 배려를 담아 말하세요.
 
         지금 첫 번째 인사를 해주세요.
-        """,
+        """);
+
+    @Override
+    public String generate(Elder elder, ElderHealthInfo healthInfo, List<Disease> diseases, List<MedicationSchedule> medicationSchedules) {
+        // 1. 어르신 이름
+        String elderName = elder.getName();
+
+        // 2. 점심 복약명 추출 (scheduleTime: "lunch")
+        List<String> lunchMedications = medicationSchedules.stream()
+                .filter(ms -> ms.getScheduleTime() == MedicationScheduleTime.LUNCH)
+                .map(MedicationSchedule::getName)
+                .toList();
+
+        String lunchMedNames = lunchMedications.isEmpty()
+                ? "점심 복약 없음"
+                : String.join(", ", lunchMedications);
+
+        // 3. 프롬프트 템플릿 동적 조립 (미리 파싱한 템플릿에 값 삽입)
+        String prompt = TEMPLATE.render(
                 lunchMedNames,
                 elderName,
                 lunchMedNames,
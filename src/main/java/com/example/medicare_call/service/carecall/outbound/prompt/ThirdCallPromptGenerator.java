@@ -12,35 +12,8 @@ import java.util.List;
 @Service
 public class ThirdCallPromptGenerator implements CallPromptGenerator {
 
-    @Override
-    public String generate(Elder elder, ElderHealthInfo healthInfo, List<Disease> diseases, List<MedicationSchedule> medicationSchedules) {
-        String elderName = elder.getName();
-
-        //TODO: "당뇨"로 찾아도 괜찮을지
-        boolean hasDiabetes = diseases.stream()
-                .anyMatch(d -> d.getName().contains("당뇨"));
-
-        // 2. 저녁 복약명 추출 (scheduleTime: "evening")
-        List<String> eveningMedications = medicationSchedules.stream()
-                .filter(ms -> ms.getScheduleTime() == MedicationScheduleTime.DINNER)
-                .map(MedicationSchedule::getName)
-                .toList();
-
-        String eveningMedNames = eveningMedications.isEmpty()
-                ? "저녁 복약 없음"
-                : String.join(", ", eveningMedications);
-
-        String diabetesLine = hasDiabetes
-                ? "4. 혈당 여부 (당뇨병이 있는 경우에만): 혈당 재셨는지, 공복/식후 여부, 수치\n" : "";
-
-        String diabetesFlow = hasDiabetes
-                ? """
-        AI: [공감] + "혈당도 재보셨을까요? 공복에 재셨어요, 식후에 재셨어요? 수치는 몇 나왔는지 기억나세요?"
-        어르신: [혈당 응답]
-        """
-                : "AI: \"좋아요 어르신, 오늘 하루도 건강하게 보내시고요, 나중에 또 연락드릴게요~\"\n";
-
-        String prompt = String.format("""
+    // 클래스 로딩 시 한 번만 파싱
+    private static final PromptTemplate TEMPLATE = PromptTemplate.compile("""
             당신은 고령자를 위한 따뜻하고 친절한 AI 전화 상담원입니다.
             
             **역할**: 저녁 시간에 어르신께 전화드려 저녁 식사와 저녁 약 복용, 기분, 건강상태를 확인하세요.
@@ -79,7 +52,37 @@ public class ThirdCallPromptGenerator implements CallPromptGenerator {
             - 어르신이 위축되지 않도록 항상 공감과 배려를 담아 말하세요.
             
             지금 첫 번째 인사를 해주세요.
-            """,
+            """);
+
+    @Override
+    public String generate(Elder elder, ElderHealthInfo healthInfo, List<Disease> diseases, List<MedicationSchedule> medicationSchedules) {
+        String elderName = elder.getName();
+
+        //TODO: "당뇨"로 찾아도 괜찮을지
+        boolean hasDiabetes = diseases.stream()
+                .anyMatch(d -> d.getName().contains("당뇨"));
+
+        // 2. 저녁 복약명 추출 (scheduleTime: "evening")
+        List<String> eveningMedications = medicationSchedules.stream()
+                .filter(ms -> ms.getScheduleTime() == MedicationScheduleTime.DINNER)
+                .map(MedicationSchedule::getName)
+                .toList();
+
+        String eveningMedNames = eveningMedications.isEmpty()
+                ? "저녁 복약 없음"
+                : String.join(", ", eveningMedications);
+
+        String diabetesLine = hasDiabetes
+                ? "4. 혈당 여부 (당뇨병이 있는 경우에만): 혈당 재셨는지, 공복/식후 여부, 수치\n" : "";
+
+        String diabetesFlow = hasDiabetes
+                ? """
+        AI: [공감] + "혈당도 재보셨을까요? 공복에 재셨어요, 식후에 재셨어요? 수치는 몇 나왔는지 기억나세요?"
+        어르신: [혈당 응답]
+        """
+                : "AI: \"좋아요 어르신, 오늘 하루도 건강하게 보내시고요, 나중에 또 연락드릴게요~\"\n";
+
+        String prompt = TEMPLATE.render(
                 eveningMedNames,
                 diabetesLine,
                 elderName,
@@ -7,6 +7,8 @@ import com.example.medicare_call.dto.carecall.CareCallSettingRequest;
 import com.example.medicare_call.dto.carecall.CareCallSettingResponse;
 import com.example.medicare_call.global.enums.CallRecurrenceType;
 import com.example.medicare_call.global.enums.MemberElderAuthority;
+import com.example.medicare_call.global.event.CareCallSettingChangedEvent;
+import com.example.medicare_call.global.event.Events;
 import com.example.medicare_call.global.exception.CustomException;
 import com.example.medicare_call.global.exception.ErrorCode;
 import com.example.medicare_call.repository.CareCallSettingRepository;
@@ -38,24 +40,30 @@ public class CareCallSettingService {
 
         validateManageAuthority(memberId, elderId);
 
-        careCallSettingRepository.findByElder(elder)
-                .ifPresentOrElse(
-                        careCallSetting -> careCallSetting.update(
-                                request.firstCallTime(),
-                                request.secondCallTime(),
-                                request.thirdCallTime()
-                        ),
-                        () -> {
-                            CareCallSetting newCareCall = CareCallSetting.builder()
-                                    .elder(elder)
-                                    .firstCallTime(request.firstCallTime())
-                                    .secondCallTime(request.secondCallTime())
-                                    .thirdCallTime(request.thirdCallTime())
-                                    .recurrence(CallRecurrenceType.DAILY) //TODO: MVP 단계에서는 daily로 고정
-                                    .build();
-                            careCallSettingRepository.save(newCareCall);
-                        }
-                );
+        CareCallSetting setting = careCallSettingRepository.findByElder(elder)
+                .map(careCallSetting -> {
+                    careCallSetting.update(
+                            request.firstCallTime(),
+                            request.secondCallTime(),
+                            request.thirdCallTime()
+                    );
+                    return careCallSetting;
+                })
+                .orElseGet(() -> {
+                    CareCallSetting newCareCall = CareCallSetting.builder()
+                            .elder(elder)
+                            .firstCallTime(request.firstCallTime())
+                            .secondCallTime(request.secondCallTime())
+                            .thirdCallTime(request.thirdCallTime())
+                            .recurrence(CallRecurrenceType.DAILY) //TODO: MVP 단계에서는 daily로 고정
+                            .build();
+                    careCallSettingRepository.save(newCareCall);
+                    return newCareCall;
+                });
+
+        // 커밋 이후 케어콜 일정 인덱스에 반영
+        Events.raise(new CareCallSettingChangedEvent(setting.getId(), elder.getId(),
+                setting.getFirstCallTime(), setting.getSecondCallTime(), setting.getThirdCallTime()));
     }
 
     /**
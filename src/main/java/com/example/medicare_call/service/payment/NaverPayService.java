@@ -4,6 +4,7 @@ import com.example.medicare_call.domain.Order;
 import com.example.medicare_call.domain.Member;
 import com.example.medicare_call.domain.Elder;
 import com.example.medicare_call.domain.Subscription;
+import com.example.medicare_call.global.client.HttpClientResilienceRegistry;
 import com.example.medicare_call.dto.payment.NaverPayReserveRequest;
 import com.example.medicare_call.dto.payment.NaverPayReserveResponse;
 import com.example.medicare_call.dto.payment.NaverPayApplyResponse;
@@ -41,7 +42,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class NaverPayService {
 
+    private static final String RESILIENCE_TARGET = "naver-pay";
+
     private final RestTemplate restTemplate;
+    private final HttpClientResilienceRegistry resilienceRegistry;
     private final OrderRepository orderRepository;
     private final MemberRepository memberRepository;
     private final ElderRepository elderRepository;
@@ -205,13 +209,13 @@ public class NaverPayService {
             HttpEntity<MultiValueMap<String, String>> entity = new HttpEntity<>(formData, headers);
             log.info("네이버페이 승인 API 호출 시작");
 
-            // API 호출
-            ResponseEntity<NaverPayApplyResponse> response = restTemplate.exchange(
+            // API 호출 (서킷 차단/동시 호출 수 초과 시 CustomException으로 즉시 실패)
+            ResponseEntity<NaverPayApplyResponse> response = resilienceRegistry.execute(RESILIENCE_TARGET, () -> restTemplate.exchange(
                 url,
                 HttpMethod.POST,
                 entity,
                 NaverPayApplyResponse.class
-            );
+            ));
             log.info("네이버페이 승인 API 응답 수신: {}", response.getBody());
 
             NaverPayApplyResponse applyResponse = response.getBody();
@@ -0,0 +1,75 @@
+package com.example.medicare_call.service.report;
+
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.MonthlyStatistics;
+import com.example.medicare_call.domain.Subscription;
+import com.example.medicare_call.dto.report.MonthlyReportResponse;
+import com.example.medicare_call.global.enums.ElderStatus;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.mapper.MonthlyReportMapper;
+import com.example.medicare_call.repository.ElderRepository;
+import com.example.medicare_call.repository.MonthlyStatisticsRepository;
+import com.example.medicare_call.repository.SubscriptionRepository;
+import com.example.medicare_call.service.notification.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyReportService {
+
+    private final ElderRepository elderRepository;
+    private final MonthlyStatisticsRepository monthlyStatisticsRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final NotificationService notificationService;
+    private final MonthlyReportMapper monthlyReportMapper;
+
+    @Transactional(readOnly = true)
+    public MonthlyReportResponse getMonthlyReport(Integer memberId, Integer elderId, YearMonth month) {
+        // 구독 정보 조회
+        LocalDate subscriptionStartDate = subscriptionRepository.findByElderId(elderId)
+                .map(Subscription::getStartDate)
+                .orElseThrow(() -> new CustomException(ErrorCode.SUBSCRIPTION_NOT_FOUND));
+
+        // 어르신 정보 조회
+        Elder elder = elderRepository.findById(elderId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ELDER_NOT_FOUND));
+
+        if (elder.getStatus() != ElderStatus.ACTIVATED) {
+            throw new CustomException(ErrorCode.ELDER_DELETED);
+        }
+
+        // MonthlyStatistics 조회 (미리 집계된 1행)
+        LocalDate startDate = month.atDay(1);
+        Optional<MonthlyStatistics> monthlyStatsOpt = monthlyStatisticsRepository.findByElderAndStartDate(elder, startDate);
+
+        // 알림 읽지 않은 개수 조회
+        int unreadCount = notificationService.getUnreadCount(memberId);
+
+        // 월간 통계 데이터가 없을 때 빈 응답 반환
+        if (monthlyStatsOpt.isEmpty()) {
+            log.info("월간 통계 데이터가 없어 빈 응답 반환 - elderId: {}, month: {}", elderId, month);
+            return monthlyReportMapper.mapToEmptyMonthlyReportResponse(
+                    elder.getName(),
+                    startDate,
+                    subscriptionStartDate,
+                    unreadCount
+            );
+        }
+
+        return monthlyReportMapper.mapToMonthlyReportResponse(
+                elder.getName(),
+                monthlyStatsOpt.get(),
+                subscriptionStartDate,
+                unreadCount
+        );
+    }
+}
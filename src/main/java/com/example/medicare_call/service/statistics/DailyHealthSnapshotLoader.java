@@ -0,0 +1,74 @@
+package com.example.medicare_call.service.statistics;
+
+import com.example.medicare_call.domain.*;
+import com.example.medicare_call.dto.statistics.DailyHealthSnapshot;
+import com.example.medicare_call.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyHealthSnapshotLoader {
+
+    private final CareCallRecordRepository careCallRecordRepository;
+    private final ElderRepository elderRepository;
+    private final MedicationScheduleRepository medicationScheduleRepository;
+    private final MedicationTakenRecordRepository medicationTakenRecordRepository;
+
+    /**
+     * 어르신의 특정 일자 건강 데이터를 조회하여 스냅샷으로 반환한다. (조회 4회)
+     * - 케어콜 기록: 설정과 함께 한 번만 조회하여 수면, 심리, 건강 상태 및 완료 시간대 계산에 공유한다
+     * - 식사/혈당 기록과 케어콜 설정: 어르신 기준 조인으로 한 번에 조회한다 ((elder_id, recorded_at) 인덱스 범위 조회)
+     * - 복약 스케줄, 복약 기록: 각각 1회
+     *
+     * @param elder 대상 어르신
+     * @param date 조회 일자
+     * @return 하루치 건강 데이터 스냅샷
+     */
+    public DailyHealthSnapshot load(Elder elder, LocalDate date) {
+        Integer elderId = elder.getId();
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.plusDays(1).atStartOfDay();
+
+        List<CareCallRecord> callRecords = careCallRecordRepository
+                .findWithSettingByElderIdAndCalledAtRange(elderId, start, end);
+
+        // 식사 x 혈당 조합으로 같은 기록이 여러 행에 나오므로 조회 순서를 유지하며 중복 제거
+        Set<MealRecord> mealRecords = new LinkedHashSet<>();
+        Set<BloodSugarRecord> bloodSugarRecords = new LinkedHashSet<>();
+        CareCallSetting setting = null;
+        for (Object[] row : elderRepository.findDailyHealthRows(elderId, start, end)) {
+            if (row[0] != null) {
+                mealRecords.add((MealRecord) row[0]);
+            }
+            if (row[1] != null) {
+                bloodSugarRecords.add((BloodSugarRecord) row[1]);
+            }
+            if (row[2] != null) {
+                setting = (CareCallSetting) row[2];
+            }
+        }
+
+        DailyHealthSnapshot snapshot = DailyHealthSnapshot.builder()
+                .elder(elder)
+                .date(date)
+                .callRecords(callRecords)
+                .setting(setting)
+                .medicationSchedules(medicationScheduleRepository.findByElder(elder))
+                .medicationTakenRecords(medicationTakenRecordRepository.findByElderIdAndDate(elderId, date))
+                .mealRecords(List.copyOf(mealRecords))
+                .bloodSugarRecords(List.copyOf(bloodSugarRecords))
+                .build();
+
+        log.debug("일간 건강 스냅샷 조회 완료 - elderId: {}, date: {}, calls: {}", elderId, date, callRecords.size());
+        return snapshot;
+    }
+}
@@ -1,7 +1,8 @@
 package com.example.medicare_call.service.statistics;
 
 import com.example.medicare_call.domain.*;
-import com.example.medicare_call.dto.report.HomeSummaryDto;
+import com.example.medicare_call.dto.statistics.DailyHealthSnapshot;
+import com.example.medicare_call.global.enums.AiSummaryTarget;
 import com.example.medicare_call.global.enums.CareCallStatus;
 import com.example.medicare_call.global.enums.MealEatenStatus;
 import com.example.medicare_call.global.enums.MealType;
@@ -9,8 +10,9 @@ import com.example.medicare_call.global.enums.MedicationScheduleTime;
 import com.example.medicare_call.global.enums.MedicationTakenStatus;
 import com.example.medicare_call.global.enums.HealthStatus;
 import com.example.medicare_call.global.enums.PsychologicalStatus;
-import com.example.medicare_call.repository.*;
-import com.example.medicare_call.service.ai.AiSummaryService;
+import com.example.medicare_call.global.event.AiSummaryRequestedEvent;
+import com.example.medicare_call.global.event.Events;
+import com.example.medicare_call.repository.DailyStatisticsRepository;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,38 +34,65 @@ import java.util.stream.Collectors;
 public class DailyStatisticsService {
 
     private final DailyStatisticsRepository dailyStatisticsRepository;
-    private final MealRecordRepository mealRecordRepository;
-    private final MedicationScheduleRepository medicationScheduleRepository;
-    private final MedicationTakenRecordRepository medicationTakenRecordRepository;
-    private final BloodSugarRecordRepository bloodSugarRecordRepository;
-    private final CareCallRecordRepository careCallRecordRepository;
-    private final CareCallSettingRepository careCallSettingRepository;
-    private final AiSummaryService aiSummaryService;
+    private final DailyHealthSnapshotLoader dailyHealthSnapshotLoader;
 
+    /**
+     * 케어콜 기록이 속한 날짜의 일간 통계를 전체 재계산하여 저장
+     *
+     * @param record 통계 갱신의 기준이 되는 케어콜 기록
+     */
     @Transactional
     public void upsertDailyStatistics(CareCallRecord record) {
-        LocalDate callDay = record.getCalledAt().toLocalDate();
-        Elder elder = record.getElder();
+        recomputeDailyStatistics(record.getElder(), record.getCalledAt().toLocalDate());
+    }
+
+    /**
+     * 하루치 원천 데이터를 모두 다시 읽어 일간 통계를 재계산
+     *
+     * @param elder 대상 어르신
+     * @param callDay 재계산할 일자
+     */
+    @Transactional
+    public void recomputeDailyStatistics(Elder elder, LocalDate callDay) {
+        recomputeDailyStatistics(elder, callDay, true);
+    }
+
+    /**
+     * 하루치 원천 데이터를 모두 다시 읽어 일간 통계를 재계산
+     * 일괄 재계산(backfill)에서 AI 요약을 생략할 때는 기존 요약과 상태를 그대로 둔다
+     *
+     * @param elder 대상 어르신
+     * @param callDay 재계산할 일자
+     * @param requestAiSummary AI 요약 생성 요청 여부
+     */
+    @Transactional
+    public void recomputeDailyStatistics(Elder elder, LocalDate callDay, boolean requestAiSummary) {
         Integer elderId = elder.getId();
 
-        // 오늘의 식사 기록 조회
-        List<MealRecord> todayMeals = mealRecordRepository.findByElderIdAndDate(elderId, callDay);
+        // 하루치 건강 데이터 일괄 조회
+        DailyHealthSnapshot snapshot = dailyHealthSnapshotLoader.load(elder, callDay);
+        List<MealRecord> todayMeals = snapshot.mealRecords();
+        List<MedicationTakenRecord> todayMedications = snapshot.medicationTakenRecords();
+
+        // 식사 정보
         DailyMealStatus mealStatus = getMealStatus(todayMeals);
 
-        // 복약 정보 조회
-        List<MedicationSchedule> medicationSchedules = medicationScheduleRepository.findByElder(elder);
-        List<MedicationTakenRecord> todayMedications = medicationTakenRecordRepository.findByElderIdAndDate(elderId, callDay);
-        DailyMedicationStatus medicationStatus = getMedicationStatus(elder, medicationSchedules, todayMedications, callDay);
+        // 완료된 케어콜 시간대
+        Set<MedicationScheduleTime> completedTimeSlots = getCompletedCallTimeSlots(snapshot.settingOpt(), snapshot.callRecords());
+
+        // 복약 정보
+        DailyMedicationStatus medicationStatus = getMedicationStatus(snapshot, completedTimeSlots);
 
-        // 수면 정보 조회
-        Integer avgSleepMinutes = getSleepInfo(elderId, callDay);
+        // 수면 정보
+        SampleTotal sleepTotal = getSleepTotal(snapshot.sleepRecords());
+        Integer avgSleepMinutes = sleepTotal.averageFloor();
 
-        // 혈당 정보 조회
-        Integer avgBloodSugar = getBloodSugarInfo(elderId, callDay);
+        // 혈당 정보
+        Integer avgBloodSugar = getAverageBloodSugar(snapshot.bloodSugarRecords());
 
-        // 건강 상태 및 심리 상태 조회
-        String healthStatus = getHealthStatus(elderId, callDay);
-        String mentalStatus = getMentalStatus(elderId, callDay);
+        // 건강 상태 및 심리 상태
+        String healthStatus = getHealthStatus(snapshot.activeCallRecords());
+        String mentalStatus = getMentalStatus(snapshot.activeCallRecords());
 
         // 모든 데이터가 비어있는지 확인
         boolean hasData = !todayMeals.isEmpty() ||
@@ -73,12 +102,7 @@ public class DailyStatisticsService {
                 healthStatus != null ||
                 mentalStatus != null;
 
-        // AI 요약 생성 (데이터가 있을 때만)
-        String aiSummary = null;
-        if (hasData) {
-            HomeSummaryDto summaryDto = createHomeSummaryDto(mealStatus, medicationStatus, avgSleepMinutes, avgBloodSugar, healthStatus, mentalStatus);
-            aiSummary = aiSummaryService.getHomeSummary(summaryDto);
-        } else {
+        if (!hasData) {
             log.info("데이터가 비어있어 AI 요약 생성 생략 - elderId: {}, date: {}", elderId, callDay);
         }
 
@@ -96,9 +120,11 @@ public class DailyStatisticsService {
                     avgSleepMinutes,
                     avgBloodSugar,
                     healthStatus,
-                    mentalStatus,
-                    aiSummary
+                    mentalStatus
             );
+            if (requestAiSummary) {
+                requestAiSummary(ds, hasData);
+            }
             return;
         }
 
@@ -115,33 +141,24 @@ public class DailyStatisticsService {
                 .avgBloodSugar(avgBloodSugar)
                 .healthStatus(healthStatus)
                 .mentalStatus(mentalStatus)
-                .aiSummary(aiSummary)
                 .build();
 
         dailyStatisticsRepository.save(ds);
+        if (requestAiSummary) {
+            requestAiSummary(ds, hasData);
+        }
     }
 
-    private HomeSummaryDto createHomeSummaryDto(DailyMealStatus mealStatus,
-                                                DailyMedicationStatus medicationStatus,
-                                                Integer avgSleepMinutes,
-                                                Integer avgBloodSugar,
-                                                String healthStatus,
-                                                String mentalStatus) {
-        DailyMealStatus finalMealStatus = Optional.ofNullable(mealStatus)
-                .orElse(DailyMealStatus.builder().build());
-
-        return HomeSummaryDto.builder()
-                .breakfast(finalMealStatus.breakfast)
-                .lunch(finalMealStatus.lunch)
-                .dinner(finalMealStatus.dinner)
-                .totalTakenMedication(medicationStatus != null ? medicationStatus.totalTaken : 0)
-                .totalGoalMedication(medicationStatus != null ? medicationStatus.totalGoal : 0)
-                .sleepHours(avgSleepMinutes != null ? avgSleepMinutes/60 : null)
-                .sleepMinutes(avgSleepMinutes != null ? avgSleepMinutes%60 : null)
-                .averageBloodSugar(avgBloodSugar)
-                .healthStatus(healthStatus)
-                .mentalStatus(mentalStatus)
-                .build();
+    // AI 요약은 커밋 이후 비동기로 생성 (데이터가 있을 때만)
+    private void requestAiSummary(DailyStatistics ds, boolean hasData) {
+        if (!hasData) {
+            ds.clearAiSummary();
+            return;
+        }
+        ds.requestAiSummary();
+        // 입력 버전을 올려 이전 입력으로 생성 중인 요약이 새 통계를 덮어쓰지 않도록 함
+        dailyStatisticsRepository.markAiSummaryRequested(ds.getId(), LocalDateTime.now());
+        Events.raise(new AiSummaryRequestedEvent(AiSummaryTarget.DAILY_STATISTICS, ds.getId()));
     }
 
     private DailyMealStatus getMealStatus(List<MealRecord> todayMeals) {
@@ -176,14 +193,14 @@ public class DailyStatisticsService {
                 .build();
     }
 
-    private DailyMedicationStatus getMedicationStatus(Elder elder, List<MedicationSchedule> schedules, List<MedicationTakenRecord> todayMedications, LocalDate callDay) {
+    private DailyMedicationStatus getMedicationStatus(DailyHealthSnapshot snapshot, Set<MedicationScheduleTime> completedTimeSlots) {
+        List<MedicationSchedule> schedules = snapshot.medicationSchedules();
+        List<MedicationTakenRecord> todayMedications = snapshot.medicationTakenRecords();
+
         long totalTaken = todayMedications.stream()
                 .filter(record -> record.getTakenStatus() == MedicationTakenStatus.TAKEN)
                 .count();
 
-        // 완료된 케어콜 시간대 조회
-        Set<MedicationScheduleTime> completedTimeSlots = getCompletedCallTimeSlots(elder, callDay);
-
         // 약 종류별로 스케줄을 그룹화
         Map<String, List<MedicationSchedule>> medicationSchedules = schedules.stream()
                 .collect(Collectors.groupingBy(
@@ -262,53 +279,40 @@ public class DailyStatisticsService {
                 .build();
     }
 
-    private Set<MedicationScheduleTime> getCompletedCallTimeSlots(Elder elder, LocalDate callDay) {
-        Set<MedicationScheduleTime> completedTimeSlots = new HashSet<>();
+    private Set<MedicationScheduleTime> getCompletedCallTimeSlots(Optional<CareCallSetting> settingOpt, List<CareCallRecord> todayCalls) {
+        Set<MedicationScheduleTime> completedTimeSlots = EnumSet.noneOf(MedicationScheduleTime.class);
 
-        Optional<CareCallSetting> settingOpt = careCallSettingRepository.findByElder(elder);
         if (settingOpt.isEmpty()) {
             // 설정이 없으면 모든 시간대를 목표로 간주
             return EnumSet.allOf(MedicationScheduleTime.class);
         }
 
-        List<CareCallRecord> todayCompletedCalls = careCallRecordRepository
-                .findByElderIdAndDateBetween(elder.getId(), callDay.atStartOfDay(), callDay.atTime(LocalTime.MAX))
-                .stream()
+        CareCallSetting setting = settingOpt.get();
+
+        todayCalls.stream()
                 .filter(record -> CareCallStatus.COMPLETED.matches(record.getCallStatus()))
-                .toList();
+                .forEach(record -> completedTimeSlots.addAll(getCallTimeSlots(record.getCalledAt().toLocalTime(), setting)));
 
-        if (todayCompletedCalls.isEmpty()) {
-            return completedTimeSlots;
-        }
+        return completedTimeSlots;
+    }
 
-        CareCallSetting setting = settingOpt.get();
+    // 케어콜 시간이 속하는 복약 시간대 (1차: 아침, 2차: 점심, 3차: 저녁)
+    private Set<MedicationScheduleTime> getCallTimeSlots(LocalTime callTime, CareCallSetting setting) {
+        Set<MedicationScheduleTime> timeSlots = EnumSet.noneOf(MedicationScheduleTime.class);
 
-        // 1차(아침) 케어콜 완료 여부
-        boolean morningCallCompleted = todayCompletedCalls.stream()
-                .anyMatch(r -> isCallInTimeSlot(r.getCalledAt().toLocalTime(), setting.getFirstCallTime(), setting.getSecondCallTime()));
-        if (morningCallCompleted) {
-            completedTimeSlots.add(MedicationScheduleTime.MORNING);
+        if (isCallInTimeSlot(callTime, setting.getFirstCallTime(), setting.getSecondCallTime())) {
+            timeSlots.add(MedicationScheduleTime.MORNING);
         }
-
-        // 2차(점심) 케어콜 완료 여부
-        if (setting.getSecondCallTime() != null) {
-            boolean lunchCallCompleted = todayCompletedCalls.stream()
-                    .anyMatch(r -> isCallInTimeSlot(r.getCalledAt().toLocalTime(), setting.getSecondCallTime(), setting.getThirdCallTime()));
-            if (lunchCallCompleted) {
-                completedTimeSlots.add(MedicationScheduleTime.LUNCH);
-            }
+        if (setting.getSecondCallTime() != null
+                && isCallInTimeSlot(callTime, setting.getSecondCallTime(), setting.getThirdCallTime())) {
+            timeSlots.add(MedicationScheduleTime.LUNCH);
         }
-
-        // 3차(저녁) 케어콜 완료 여부
-        if (setting.getThirdCallTime() != null) {
-            boolean dinnerCallCompleted = todayCompletedCalls.stream()
-                    .anyMatch(r -> isCallInTimeSlot(r.getCalledAt().toLocalTime(), setting.getThirdCallTime(), null));
-            if (dinnerCallCompleted) {
-                completedTimeSlots.add(MedicationScheduleTime.DINNER);
-            }
+        if (setting.getThirdCallTime() != null
+                && isCallInTimeSlot(callTime, setting.getThirdCallTime(), null)) {
+            timeSlots.add(MedicationScheduleTime.DINNER);
         }
 
-        return completedTimeSlots;
+        return timeSlots;
     }
 
     // 케어콜 시간이 특정 시간대(1,2,3차)에 속하는지 확인
@@ -321,13 +325,7 @@ public class DailyStatisticsService {
         return !callTime.isBefore(slotStartTime) && callTime.isBefore(nextSlotStartTime);
     }
 
-    private Integer getSleepInfo(Integer elderId, LocalDate date) {
-        List<CareCallRecord> sleepRecords = careCallRecordRepository.findByElderIdAndDateWithSleepData(elderId, date);
-
-        if (sleepRecords.isEmpty()) {
-            return null;
-        }
-
+    private SampleTotal getSleepTotal(List<CareCallRecord> sleepRecords) {
         // 수면 시간 계산
         long totalMinutes = 0;
         int validRecords = 0;
@@ -348,29 +346,21 @@ public class DailyStatisticsService {
             }
         }
 
-        if (validRecords == 0) {
-            return null;
-        }
-
-        long averageMinutes = totalMinutes / validRecords;
-
-        return (int) averageMinutes;
+        return new SampleTotal(totalMinutes, validRecords);
     }
 
-    private Integer getBloodSugarInfo(Integer elderId, LocalDate date) {
-        List<BloodSugarRecord> bloodSugarRecords = bloodSugarRecordRepository.findByElderIdAndDate(elderId, date);
-
+    private Integer getAverageBloodSugar(List<BloodSugarRecord> bloodSugarRecords) {
         if (bloodSugarRecords.isEmpty()) {
             return null;
         }
 
-        // 평균 혈당 계산
+        // 평균 혈당 계산 (합계는 소수점을 유지하고 나눈 뒤 한 번만 반올림)
         BigDecimal sum = bloodSugarRecords.stream()
                 .map(BloodSugarRecord::getBlood_sugar_value)
                 .filter(Objects::nonNull)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        if (sum.equals(BigDecimal.ZERO)) {
+        if (sum.signum() == 0) {
             return null;
         }
 
@@ -379,9 +369,7 @@ public class DailyStatisticsService {
         return average.intValue();
     }
 
-    private String getHealthStatus(Integer elderId, LocalDate date) {
-        List<CareCallRecord> healthRecords = careCallRecordRepository.findByElderIdAndDateBetween(elderId, date.atStartOfDay(), date.atTime(LocalTime.MAX));
-
+    private String getHealthStatus(List<CareCallRecord> healthRecords) {
         if (healthRecords == null || healthRecords.isEmpty()) {
             return null;
         }
@@ -397,9 +385,7 @@ public class DailyStatisticsService {
         return null;
     }
 
-    private String getMentalStatus(Integer elderId, LocalDate date) {
-        List<CareCallRecord> mentalRecords = careCallRecordRepository.findByElderIdAndDateBetween(elderId, date.atStartOfDay(), date.atTime(LocalTime.MAX));
-
+    private String getMentalStatus(List<CareCallRecord> mentalRecords) {
         if (mentalRecords == null || mentalRecords.isEmpty()) {
             return null;
         }
@@ -418,6 +404,17 @@ public class DailyStatisticsService {
     @Builder
     private record DailyMealStatus(Boolean breakfast, Boolean lunch, Boolean dinner) { }
 
+    // 평균 계산용 누적 합계와 표본 수
+    private record SampleTotal(long total, int count) {
+        // 평균 수면 시간: 내림
+        Integer averageFloor() {
+            if (count == 0) {
+                return null;
+            }
+            return (int) (total / count);
+        }
+    }
+
     @Builder
     private record DailyMedicationStatus (Integer totalTaken, Integer totalGoal, List<DailyStatistics.MedicationInfo> medicationList) { }
 }
@@ -0,0 +1,113 @@
+package com.example.medicare_call.service.statistics;
+
+import com.example.medicare_call.domain.DailyStatsPartial;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.MonthlyStatistics;
+import com.example.medicare_call.domain.WeeklyStatistics;
+import com.example.medicare_call.dto.statistics.WeeklyStatsAggregate;
+import com.example.medicare_call.repository.DailyStatsPartialRepository;
+import com.example.medicare_call.repository.MonthlyStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyStatisticsService {
+
+    private final MonthlyStatisticsRepository monthlyStatisticsRepository;
+    private final DailyStatsPartialRepository dailyStatsPartialRepository;
+
+    private final WeeklyStatsAggregator weeklyStatsAggregator;
+
+    /**
+     * 해당 월의 일자별 부분 집계(최대 31행)를 병합하여 MonthlyStatistics 엔티티를 Upsert 처리한다.
+     * 주간 통계는 월 경계에 걸칠 수 있으므로 주간 행이 아닌 일자별 부분 집계를 병합한다.
+     * 부분 집계가 먼저 갱신된 뒤 같은 트랜잭션에서 호출되어야 한다.
+     *
+     * @param elder 대상 어르신
+     * @param date 갱신된 일자
+     */
+    @Transactional
+    public void upsertMonthlyStatistics(Elder elder, LocalDate date) {
+        LocalDate startDate = date.withDayOfMonth(1);
+        LocalDate monthEnd = date.withDayOfMonth(date.lengthOfMonth());
+
+        List<DailyStatsPartial> partials = dailyStatsPartialRepository.findByElderAndDateBetween(elder, startDate, monthEnd);
+        LocalDate endDate = partials.stream()
+                .map(DailyStatsPartial::getDate)
+                .filter(partialDate -> partialDate.isAfter(date))
+                .max(Comparator.naturalOrder())
+                .orElse(date);
+
+        WeeklyStatsAggregate aggregate = weeklyStatsAggregator.merge(startDate, endDate, partials);
+
+        MonthlyStatistics ms = monthlyStatisticsRepository
+                .findByElderAndStartDate(elder, startDate)
+                .orElseGet(() -> MonthlyStatistics.builder()
+                        .elder(elder)
+                        .startDate(startDate)
+                        .build()
+                );
+
+        Integer avgSleepHours = aggregate.avgSleepMinutes() != null ? aggregate.avgSleepMinutes() / 60 : null;
+        Integer avgSleepMinutes = aggregate.avgSleepMinutes() != null ? aggregate.avgSleepMinutes() % 60 : null;
+
+        ms.updateDetails(
+                aggregate.endDate(),
+                aggregate.mealRatePercent(),
+                aggregate.medicationRatePercent(),
+                aggregate.healthSignals(),
+                aggregate.missedCalls(),
+                aggregate.breakfastCount(),
+                aggregate.lunchCount(),
+                aggregate.dinnerCount(),
+                mapToEntityMedicationStats(aggregate.medicationByType()),
+                aggregate.psychGoodCount(),
+                aggregate.psychNormalCount(),
+                aggregate.psychBadCount(),
+                mapToEntityBloodSugarStats(aggregate.beforeMealBloodSugar(), aggregate.afterMealBloodSugar()),
+                avgSleepHours,
+                avgSleepMinutes
+        );
+
+        monthlyStatisticsRepository.save(ms);
+    }
+
+    private Map<String, WeeklyStatistics.MedicationStats> mapToEntityMedicationStats(
+            Map<String, WeeklyStatsAggregate.MedicationTypeStats> medicationStatsMap
+    ) {
+        if (medicationStatsMap == null || medicationStatsMap.isEmpty()) return null;
+
+        return medicationStatsMap.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> new WeeklyStatistics.MedicationStats(
+                                entry.getValue().totalScheduled(),
+                                entry.getValue().totalGoal(),
+                                entry.getValue().totalTaken()
+                        )
+                ));
+    }
+
+    private WeeklyStatistics.BloodSugarStats mapToEntityBloodSugarStats(
+            WeeklyStatsAggregate.BloodSugarStats before,
+            WeeklyStatsAggregate.BloodSugarStats after
+    ) {
+        WeeklyStatistics.BloodSugarType beforeType = (before == null) ? null
+                : new WeeklyStatistics.BloodSugarType(before.normal(), before.high(), before.low());
+
+        WeeklyStatistics.BloodSugarType afterType = (after == null) ? null
+                : new WeeklyStatistics.BloodSugarType(after.normal(), after.high(), after.low());
+
+        return new WeeklyStatistics.BloodSugarStats(beforeType, afterType);
+    }
+}
@@ -0,0 +1,412 @@
+package com.example.medicare_call.service.statistics;
+
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.StatisticsRebuildChunk;
+import com.example.medicare_call.domain.StatisticsRebuildJob;
+import com.example.medicare_call.dto.statistics.StatisticsRebuildJobResponse;
+import com.example.medicare_call.dto.statistics.StatisticsRebuildRequest;
+import com.example.medicare_call.global.concurrent.NamedThreadFactory;
+import com.example.medicare_call.global.config.StatisticsRebuildProperties;
+import com.example.medicare_call.global.enums.StatisticsRebuildStatus;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.repository.CareCallRecordRepository;
+import com.example.medicare_call.repository.DailyStatisticsRepository;
+import com.example.medicare_call.repository.ElderRepository;
+import com.example.medicare_call.repository.RedisLeaseRepository;
+import com.example.medicare_call.repository.StatisticsRebuildChunkRepository;
+import com.example.medicare_call.repository.StatisticsRebuildJobRepository;
+import com.example.medicare_call.repository.StatisticsUpdateLockRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 일간/주간/월간 통계 일괄 재계산(backfill)
+ * - 어르신을 ID 구간별 청크로 나누어 전용 스레드 풀에서 병렬 처리한다 (풀 크기로 DB 부하 제한)
+ * - 어르신 1명 처리가 끝날 때마다 청크에 체크포인트를 기록하여, 중단되면 마지막 지점부터 재개한다
+ * - 어르신별로 통화/통계가 있는 일자만 재계산하며, 주 단위 트랜잭션으로 커밋한다 (일간 → 주간 → 월간 순)
+ * - AI 요약 생략 시 기존 요약과 상태를 그대로 두어 OpenAI를 호출하지 않는다
+ * - 작업은 Redis 리스로 여러 인스턴스 중 한 곳에서만 실행하고, 어르신별로는 실시간 통계 갱신과 같은 리스를 잡아
+ *   같은 통계 행을 동시에 쓰지 않도록 한다 (Redis 장애 시에는 어르신 리스 없이 진행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsRebuildService {
+
+    private final StatisticsRebuildProperties properties;
+    private final StatisticsRebuildJobRepository statisticsRebuildJobRepository;
+    private final StatisticsRebuildChunkRepository statisticsRebuildChunkRepository;
+    private final ElderRepository elderRepository;
+    private final CareCallRecordRepository careCallRecordRepository;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final DailyStatisticsService dailyStatisticsService;
+    private final WeeklyStatisticsService weeklyStatisticsService;
+    private final MonthlyStatisticsService monthlyStatisticsService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final RedisLeaseRepository redisLeaseRepository;
+    private final StatisticsUpdateLockRepository statisticsUpdateLockRepository;
+    private final MeterRegistry meterRegistry;
+
+    private static final String JOB_LEASE_KEY = "statistics-rebuild:lease:job";
+
+    private final AtomicInteger remainingChunks = new AtomicInteger();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                properties.getConcurrency(),
+                properties.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new NamedThreadFactory("statistics-rebuild")
+        );
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "statistics.rebuild");
+
+        Gauge.builder("statistics.rebuild.chunks.remaining", remainingChunks, AtomicInteger::get)
+                .description("처리가 끝나지 않은 통계 재계산 청크 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 처리 중인 청크는 체크포인트가 남아 있으므로 재시작 후 resume으로 이어서 처리
+        executor.shutdownNow();
+    }
+
+    /**
+     * 통계 재계산 작업을 생성하고 백그라운드에서 실행
+     *
+     * @param request 재계산 기간 및 AI 요약 생략 여부
+     * @return 생성된 작업의 진행 상황
+     */
+    public StatisticsRebuildJobResponse start(StatisticsRebuildRequest request) {
+        validateRange(request.getStartDate(), request.getEndDate());
+        String leaseToken = acquireJobLease();
+
+        try {
+            StatisticsRebuildJob job = statisticsRebuildJobRepository.save(StatisticsRebuildJob.builder()
+                    .startDate(request.getStartDate())
+                    .endDate(request.getEndDate())
+                    .skipAiSummary(request.isSkipAiSummary())
+                    .status(StatisticsRebuildStatus.RUNNING)
+                    .build());
+            List<StatisticsRebuildChunk> chunks = statisticsRebuildChunkRepository.saveAll(createChunks(job));
+
+            log.info("통계 재계산 작업 시작 - jobId: {}, 기간: {} ~ {}, 청크: {}, AI 요약 생략: {}",
+                    job.getId(), job.getStartDate(), job.getEndDate(), chunks.size(), job.isSkipAiSummary());
+            launch(job, chunks, leaseToken);
+            return StatisticsRebuildJobResponse.of(job, chunks);
+        } catch (RuntimeException e) {
+            releaseJobLease(leaseToken);
+            throw e;
+        }
+    }
+
+    /**
+     * 중단되었거나 실패한 작업을 체크포인트부터 다시 실행
+     * 실패한 어르신이 있는 청크는 처음부터 다시 처리한다
+     *
+     * @param jobId 작업 ID
+     * @return 작업 진행 상황
+     */
+    public StatisticsRebuildJobResponse resume(Long jobId) {
+        StatisticsRebuildJob job = statisticsRebuildJobRepository.findById(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.STATISTICS_REBUILD_JOB_NOT_FOUND));
+        String leaseToken = acquireJobLease();
+
+        try {
+            for (StatisticsRebuildChunk chunk : statisticsRebuildChunkRepository.findByJobIdOrderByFirstElderId(jobId)) {
+                if (chunk.getStatus() == StatisticsRebuildStatus.FAILED) {
+                    statisticsRebuildChunkRepository.resetProgress(chunk.getId());
+                }
+            }
+            List<StatisticsRebuildChunk> chunks = statisticsRebuildChunkRepository.findByJobIdOrderByFirstElderId(jobId);
+            statisticsRebuildJobRepository.updateStatus(jobId, StatisticsRebuildStatus.RUNNING, null);
+            job.start();
+
+            log.info("통계 재계산 작업 재개 - jobId: {}", jobId);
+            launch(job, chunks, leaseToken);
+            return StatisticsRebuildJobResponse.of(job, chunks);
+        } catch (RuntimeException e) {
+            releaseJobLease(leaseToken);
+            throw e;
+        }
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     *
+     * @param jobId 작업 ID
+     * @return 청크별 처리 결과를 합산한 진행 상황
+     */
+    public StatisticsRebuildJobResponse getJob(Long jobId) {
+        StatisticsRebuildJob job = statisticsRebuildJobRepository.findById(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.STATISTICS_REBUILD_JOB_NOT_FOUND));
+        return StatisticsRebuildJobResponse.of(job, statisticsRebuildChunkRepository.findByJobIdOrderByFirstElderId(jobId));
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)
+                || ChronoUnit.DAYS.between(startDate, endDate) + 1 > properties.getMaxRangeDays()) {
+            throw new CustomException(ErrorCode.INVALID_STATISTICS_REBUILD_RANGE);
+        }
+    }
+
+    // 여러 인스턴스 중 한 곳에서만 작업 실행
+    private String acquireJobLease() {
+        String token = UUID.randomUUID().toString();
+        if (!redisLeaseRepository.tryAcquire(JOB_LEASE_KEY, token, properties.getJobLeaseTtl())) {
+            throw new CustomException(ErrorCode.STATISTICS_REBUILD_IN_PROGRESS);
+        }
+        return token;
+    }
+
+    // 작업 리스 연장, 만료되어 다른 인스턴스가 가져갔으면 false (Redis 장애 시에는 계속 진행)
+    private boolean extendJobLease(String token) {
+        try {
+            return redisLeaseRepository.extend(JOB_LEASE_KEY, token, properties.getJobLeaseTtl());
+        } catch (Exception e) {
+            log.warn("통계 재계산 작업 리스 연장 실패", e);
+            return true;
+        }
+    }
+
+    private void releaseJobLease(String token) {
+        try {
+            redisLeaseRepository.release(JOB_LEASE_KEY, token);
+        } catch (Exception e) {
+            // 해제하지 못한 리스는 TTL 경과 후 만료된다
+            log.warn("통계 재계산 작업 리스 해제 실패", e);
+        }
+    }
+
+    // 어르신 ID를 키셋 페이지로 읽어 chunkSize 단위 구간으로 분할
+    private List<StatisticsRebuildChunk> createChunks(StatisticsRebuildJob job) {
+        List<StatisticsRebuildChunk> chunks = new ArrayList<>();
+        Integer afterId = 0;
+        List<Integer> elderIds;
+        while (!(elderIds = elderRepository.findIdsAfter(afterId, PageRequest.of(0, properties.getChunkSize()))).isEmpty()) {
+            Integer lastId = elderIds.get(elderIds.size() - 1);
+            chunks.add(StatisticsRebuildChunk.builder()
+                    .job(job)
+                    .firstElderId(elderIds.get(0))
+                    .lastElderId(lastId)
+                    .status(StatisticsRebuildStatus.PENDING)
+                    .build());
+            afterId = lastId;
+        }
+        return chunks;
+    }
+
+    private void launch(StatisticsRebuildJob job, List<StatisticsRebuildChunk> chunks, String leaseToken) {
+        boolean requestAiSummary = !job.isSkipAiSummary();
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+
+        for (StatisticsRebuildChunk chunk : chunks) {
+            if (chunk.getStatus() == StatisticsRebuildStatus.COMPLETED) continue;
+            remainingChunks.incrementAndGet();
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> processChunk(chunk, job.getStartDate(), job.getEndDate(), requestAiSummary, leaseToken), executor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, throwable) -> {
+                    try {
+                        boolean hasFailure = throwable != null || futures.stream().anyMatch(f -> !f.getNow(false));
+                        statisticsRebuildJobRepository.updateStatus(job.getId(),
+                                hasFailure ? StatisticsRebuildStatus.FAILED : StatisticsRebuildStatus.COMPLETED,
+                                LocalDateTime.now());
+                        log.info("통계 재계산 작업 종료 - jobId: {}, 실패 포함: {}", job.getId(), hasFailure);
+                    } catch (Exception e) {
+                        log.error("통계 재계산 작업 상태 저장 실패 - jobId: {}", job.getId(), e);
+                    } finally {
+                        releaseJobLease(leaseToken);
+                    }
+                });
+    }
+
+    // 청크 처리 결과 반환 (실패한 어르신이 없으면 true)
+    private boolean processChunk(StatisticsRebuildChunk chunk, LocalDate startDate, LocalDate endDate, boolean requestAiSummary, String leaseToken) {
+        Long chunkId = chunk.getId();
+        int failed = 0;
+        try {
+            statisticsRebuildChunkRepository.updateStatus(chunkId, StatisticsRebuildStatus.RUNNING);
+
+            // 체크포인트 다음 어르신부터 처리
+            Integer afterId = chunk.getLastProcessedElderId() != null ? chunk.getLastProcessedElderId() : chunk.getFirstElderId() - 1;
+            List<Elder> elders;
+            while (!(elders = elderRepository.findByIdRange(afterId, chunk.getLastElderId(), PageRequest.of(0, properties.getElderPageSize()))).isEmpty()) {
+                for (Elder elder : elders) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        // 종료 중: RUNNING 상태와 체크포인트를 남겨 두고 중단
+                        log.warn("통계 재계산 청크 중단 - chunkId: {}, 마지막 처리 어르신: {}", chunkId, afterId);
+                        return false;
+                    }
+                    boolean succeeded = rebuildElder(elder, startDate, endDate, requestAiSummary);
+                    if (!succeeded) failed++;
+                    statisticsRebuildChunkRepository.recordProgress(chunkId, elder.getId(), succeeded ? 0 : 1);
+                    afterId = elder.getId();
+                    if (!extendJobLease(leaseToken)) {
+                        // 리스가 만료되어 다른 인스턴스가 작업을 가져감: 체크포인트를 남겨 두고 중단
+                        log.warn("통계 재계산 작업 리스 상실로 청크 중단 - chunkId: {}, 마지막 처리 어르신: {}", chunkId, afterId);
+                        return false;
+                    }
+                    pause();
+                }
+            }
+
+            statisticsRebuildChunkRepository.updateStatus(chunkId,
+                    failed > 0 ? StatisticsRebuildStatus.FAILED : StatisticsRebuildStatus.COMPLETED);
+            return failed == 0;
+        } catch (Exception e) {
+            log.error("통계 재계산 청크 처리 실패 - chunkId: {}", chunkId, e);
+            statisticsRebuildChunkRepository.updateStatus(chunkId, StatisticsRebuildStatus.FAILED);
+            return false;
+        } finally {
+            remainingChunks.decrementAndGet();
+        }
+    }
+
+    /**
+     * 어르신 1명의 기간 내 일간/주간 통계 재계산
+     * 통화 기록이나 기존 일간 통계가 있는 일자만 대상으로 하며, 주 단위로 커밋한다
+     * 실시간 통계 갱신과 같은 어르신별 리스를 잡고 진행하며, 대기 시간 안에 얻지 못하면 실패로 기록한다
+     *
+     * @return 성공 여부
+     */
+    boolean rebuildElder(Elder elder, LocalDate startDate, LocalDate endDate, boolean requestAiSummary) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        String leaseToken = UUID.randomUUID().toString();
+        LeaseResult lease = LeaseResult.UNAVAILABLE;
+        try {
+            lease = acquireElderLease(elder.getId(), leaseToken);
+            if (lease == LeaseResult.BUSY) {
+                result = "lease_busy";
+                log.warn("어르신 통계 재계산 리스 대기 시간 초과 - elderId: {}", elder.getId());
+                return false;
+            }
+
+            NavigableSet<LocalDate> dates = new TreeSet<>(dailyStatisticsRepository.findDatesByElderAndDateBetween(elder, startDate, endDate));
+            careCallRecordRepository.findCalledAtByElderIdAndRange(elder.getId(), startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay())
+                    .forEach(calledAt -> dates.add(calledAt.toLocalDate()));
+
+            TreeMap<LocalDate, List<LocalDate>> datesByWeek = new TreeMap<>();
+            for (LocalDate date : dates) {
+                datesByWeek.computeIfAbsent(date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), week -> new ArrayList<>()).add(date);
+            }
+
+            datesByWeek.forEach((weekStart, weekDates) -> transactionTemplate.executeWithoutResult(status -> {
+                // 주 단위 트랜잭션의 다건 UPDATE만 JDBC 배치로 전송 (API 요청 세션에는 적용하지 않음)
+                entityManager.unwrap(Session.class).setJdbcBatchSize(properties.getJdbcBatchSize());
+                for (LocalDate date : weekDates) {
+                    dailyStatisticsService.recomputeDailyStatistics(elder, date, requestAiSummary);
+                }
+                // 재계산 기간 밖이라도 같은 주에 이후 일자의 통계가 있으면 그 날까지 집계 (실시간 갱신과 같은 기준)
+                LocalDate weekEnd = weeklyStatisticsService.resolveWeekEndDate(elder, weekDates.get(weekDates.size() - 1));
+                weeklyStatisticsService.rebuildWeeklyStatistics(elder, weekStart, weekEnd, requestAiSummary);
+
+                // 주가 월 경계에 걸치면 두 달 모두 갱신 (월별 마지막 데이터 일자 기준)
+                weekDates.stream()
+                        .collect(Collectors.toMap(YearMonth::from, date -> date, (a, b) -> b, TreeMap::new))
+                        .values()
+                        .forEach(lastDate -> monthlyStatisticsService.upsertMonthlyStatistics(elder, lastDate));
+            }));
+
+            Counter.builder("statistics.rebuild.days").register(meterRegistry).increment(dates.size());
+            Counter.builder("statistics.rebuild.weeks").register(meterRegistry).increment(datesByWeek.size());
+            return true;
+        } catch (Exception e) {
+            result = "failure";
+            log.error("어르신 통계 재계산 실패 - elderId: {}, 기간: {} ~ {}", elder.getId(), startDate, endDate, e);
+            return false;
+        } finally {
+            if (lease == LeaseResult.ACQUIRED) {
+                releaseElderLease(elder.getId(), leaseToken);
+            }
+            sample.stop(Timer.builder("statistics.rebuild.elder.duration")
+                    .tag("result", result)
+                    .register(meterRegistry));
+            Counter.builder("statistics.rebuild.elders")
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    // 실시간 통계 갱신이 보유 중이면 대기 시간 동안 다시 시도
+    private LeaseResult acquireElderLease(Integer elderId, String token) {
+        long deadline = System.nanoTime() + properties.getElderLeaseWait().toNanos();
+        while (true) {
+            try {
+                if (statisticsUpdateLockRepository.tryAcquireLease(elderId, token, properties.getElderLeaseTtl())) {
+                    return LeaseResult.ACQUIRED;
+                }
+            } catch (Exception e) {
+                log.warn("어르신 통계 재계산 리스 획득 실패, 리스 없이 진행 - elderId: {}", elderId, e);
+                return LeaseResult.UNAVAILABLE;
+            }
+            if (System.nanoTime() >= deadline) {
+                return LeaseResult.BUSY;
+            }
+            try {
+                Thread.sleep(properties.getElderLeaseRetryDelay().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return LeaseResult.BUSY;
+            }
+        }
+    }
+
+    private void releaseElderLease(Integer elderId, String token) {
+        try {
+            statisticsUpdateLockRepository.releaseLease(elderId, token);
+        } catch (Exception e) {
+            // 해제하지 못한 리스는 TTL 경과 후 만료된다
+            log.warn("어르신 통계 재계산 리스 해제 실패 - elderId: {}", elderId, e);
+        }
+    }
+
+    private void pause() {
+        if (properties.getPauseMillis() <= 0) return;
+        try {
+            Thread.sleep(properties.getPauseMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private enum LeaseResult { ACQUIRED, BUSY, UNAVAILABLE }
+}
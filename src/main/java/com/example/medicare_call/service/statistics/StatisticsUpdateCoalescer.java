@@ -0,0 +1,221 @@
+package com.example.medicare_call.service.statistics;
+
+import com.example.medicare_call.global.concurrent.ExecutorShutdown;
+import com.example.medicare_call.global.concurrent.NamedThreadFactory;
+import com.example.medicare_call.global.concurrent.RetrySupport;
+import com.example.medicare_call.global.config.StatisticsUpdateProperties;
+import com.example.medicare_call.repository.StatisticsUpdateLockRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * 어르신별 통계 갱신 요청을 합쳐서 한 번만 재계산하는 작업자
+ * - 같은 (어르신, 일자) 요청은 첫 요청 이후 debounce 동안 하나의 대기 작업으로 합친다
+ * - 재계산은 Redis 리스로 어르신 단위 직렬화하여 여러 인스턴스가 같은 통계 행을 동시에 쓰지 않도록 한다
+ * - 요청마다 Redis 재계산 필요 표시의 버전을 올리고, 리스 획득 후 표시가 없으면
+ *   다른 인스턴스가 이미 최신 데이터로 재계산한 것이므로 건너뛴다
+ * - 재계산이 실패하면 표시를 남겨 두고 지수 백오프로 다시 실행한다
+ * - Redis 장애 시에는 인스턴스 내 합치기만 적용하고 재계산은 계속 진행한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsUpdateCoalescer {
+
+    private final StatisticsUpdateProperties properties;
+    private final StatisticsUpdateService statisticsUpdateService;
+    private final StatisticsUpdateLockRepository statisticsUpdateLockRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 실행 대기 중인 (어르신, 일자)
+    private final Set<UpdateKey> pending = ConcurrentHashMap.newKeySet();
+    // 연속 재계산 실패 횟수
+    private final Map<UpdateKey, Integer> failures = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void init() {
+        ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(
+                properties.getConcurrency(),
+                new NamedThreadFactory("statistics-update")
+        );
+        pool.setRemoveOnCancelPolicy(true);
+        this.scheduler = ExecutorServiceMetrics.monitor(meterRegistry, pool, "statistics.update");
+
+        Gauge.builder("statistics.update.pending", pending, Set::size)
+                .description("실행 대기 중인 통계 재계산 작업 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ExecutorShutdown.awaitOrForce(scheduler);
+    }
+
+    /**
+     * 통계 재계산 요청을 등록. 같은 (어르신, 일자)가 이미 대기 중이면 해당 작업에 합친다
+     * 원천 데이터가 커밋된 이후 호출되어야 한다
+     *
+     * @param elderId 대상 어르신 ID
+     * @param date 재계산할 일자
+     */
+    public void request(Integer elderId, LocalDate date) {
+        UpdateKey key = new UpdateKey(elderId, date);
+        markDirty(key);
+
+        if (pending.add(key)) {
+            counter("statistics.update.requests", "scheduled").increment();
+            schedule(key, properties.getDebounce());
+        } else {
+            counter("statistics.update.requests", "coalesced").increment();
+        }
+    }
+
+    private void schedule(UpdateKey key, Duration delay) {
+        try {
+            scheduler.schedule(() -> run(key), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중인 경우. 재계산 필요 표시가 남아 있으므로 다음 요청 시 함께 반영된다
+            pending.remove(key);
+            log.warn("통계 재계산 등록 실패 - elderId: {}, date: {}", key.elderId(), key.date());
+        }
+    }
+
+    private void run(UpdateKey key) {
+        String token = UUID.randomUUID().toString();
+        LeaseResult lease = tryAcquireLease(key.elderId(), token);
+        if (lease == LeaseResult.BUSY) {
+            // 다른 인스턴스가 같은 어르신을 재계산 중. 대기 상태를 유지하여 그 사이 요청도 이 작업에 합친다
+            counter("statistics.update.runs", "lease_busy").increment();
+            schedule(key, properties.getLeaseRetryDelay());
+            return;
+        }
+
+        // 이 시점 이후의 요청은 새 작업으로 등록되어 재계산 후 한 번 더 반영된다
+        pending.remove(key);
+
+        try {
+            // 리스 없이 진행하는 경우(Redis 장애)에는 표시를 확인하지 않고 재계산
+            Optional<String> dirtyVersion = Optional.empty();
+            if (lease == LeaseResult.ACQUIRED) {
+                try {
+                    dirtyVersion = statisticsUpdateLockRepository.findDirtyVersion(key.elderId(), key.date());
+                    if (dirtyVersion.isEmpty()) {
+                        counter("statistics.update.runs", "skipped").increment();
+                        log.debug("다른 인스턴스에서 재계산 완료, 건너뜀 - elderId: {}, date: {}", key.elderId(), key.date());
+                        return;
+                    }
+                } catch (Exception e) {
+                    log.warn("통계 재계산 필요 표시 조회 실패 - elderId: {}, date: {}", key.elderId(), key.date(), e);
+                }
+            }
+
+            if (recompute(key)) {
+                failures.remove(key);
+                dirtyVersion.ifPresent(version -> clearDirty(key, version));
+            } else {
+                retryLater(key);
+            }
+        } finally {
+            if (lease == LeaseResult.ACQUIRED) {
+                releaseLease(key.elderId(), token);
+            }
+        }
+    }
+
+    // 재계산 성공 여부 반환
+    private boolean recompute(UpdateKey key) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "completed";
+        try {
+            statisticsUpdateService.recomputeStatistics(key.elderId(), key.date());
+            return true;
+        } catch (Exception e) {
+            result = "failed";
+            log.error("통계 재계산 실패 - elderId: {}, date: {}", key.elderId(), key.date(), e);
+            return false;
+        } finally {
+            sample.stop(Timer.builder("statistics.update.duration")
+                    .tag("result", result)
+                    .register(meterRegistry));
+            counter("statistics.update.runs", result).increment();
+        }
+    }
+
+    // 재계산 필요 표시는 남겨 둔 채 백오프 후 다시 실행. 그 사이 새 요청으로 대기 중이면 그 실행에 맡긴다
+    private void retryLater(UpdateKey key) {
+        int attempts = failures.merge(key, 1, Integer::sum);
+        if (attempts >= properties.getMaxAttempts()) {
+            failures.remove(key);
+            counter("statistics.update.runs", "gave_up").increment();
+            log.error("통계 재계산 재시도 중단 - elderId: {}, date: {}, 시도: {}", key.elderId(), key.date(), attempts);
+            return;
+        }
+        if (pending.add(key)) {
+            schedule(key, RetrySupport.exponentialBackoffWithJitter(properties.getInitialBackoff(), properties.getMaxBackoff(), attempts));
+        }
+    }
+
+    private LeaseResult tryAcquireLease(Integer elderId, String token) {
+        try {
+            return statisticsUpdateLockRepository.tryAcquireLease(elderId, token, properties.getLeaseTtl())
+                    ? LeaseResult.ACQUIRED
+                    : LeaseResult.BUSY;
+        } catch (Exception e) {
+            log.warn("통계 재계산 리스 획득 실패, 리스 없이 진행 - elderId: {}", elderId, e);
+            return LeaseResult.UNAVAILABLE;
+        }
+    }
+
+    private void releaseLease(Integer elderId, String token) {
+        try {
+            statisticsUpdateLockRepository.releaseLease(elderId, token);
+        } catch (Exception e) {
+            // 해제하지 못한 리스는 TTL 경과 후 만료된다
+            log.warn("통계 재계산 리스 해제 실패 - elderId: {}", elderId, e);
+        }
+    }
+
+    private void markDirty(UpdateKey key) {
+        try {
+            statisticsUpdateLockRepository.markDirty(key.elderId(), key.date(), properties.getDirtyTtl());
+        } catch (Exception e) {
+            log.warn("통계 재계산 필요 표시 실패 - elderId: {}, date: {}", key.elderId(), key.date(), e);
+        }
+    }
+
+    private void clearDirty(UpdateKey key, String version) {
+        try {
+            statisticsUpdateLockRepository.clearDirty(key.elderId(), key.date(), version);
+        } catch (Exception e) {
+            log.warn("통계 재계산 필요 표시 삭제 실패 - elderId: {}, date: {}", key.elderId(), key.date(), e);
+        }
+    }
+
+    private Counter counter(String name, String result) {
+        return Counter.builder(name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private enum LeaseResult { ACQUIRED, BUSY, UNAVAILABLE }
+
+    private record UpdateKey(Integer elderId, LocalDate date) {}
+}
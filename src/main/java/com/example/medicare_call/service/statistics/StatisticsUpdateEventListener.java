@@ -0,0 +1,28 @@
+package com.example.medicare_call.service.statistics;
+
+import com.example.medicare_call.global.event.StatisticsUpdateRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsUpdateEventListener {
+
+    private final StatisticsUpdateCoalescer statisticsUpdateCoalescer;
+
+    /**
+     * 건강 데이터가 커밋된 이후 통계 재계산 작업을 등록
+     * 같은 어르신/일자의 요청은 작업자에서 하나로 합쳐진다
+     *
+     * @param event 통계 갱신 요청 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStatisticsUpdateRequested(StatisticsUpdateRequestedEvent event) {
+        log.debug("StatisticsUpdateRequestedEvent 수신: elderId={}, date={}", event.elderId(), event.date());
+        statisticsUpdateCoalescer.request(event.elderId(), event.date());
+    }
+}
@@ -1,12 +1,17 @@
 package com.example.medicare_call.service.statistics;
 
-import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.repository.ElderRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -14,22 +19,54 @@ public class StatisticsUpdateService {
 
     private final DailyStatisticsService dailyStatisticsService;
     private final WeeklyStatisticsService weeklyStatisticsService;
+    private final MonthlyStatisticsService monthlyStatisticsService;
+    private final ElderRepository elderRepository;
     private final EntityManager entityManager;
 
+    /**
+     * 어르신의 하루치 원천 데이터로 일간 통계와 해당 일자의 부분 집계를 다시 계산한 뒤 주간/월간 통계를 병합
+     * 같은 (어르신, 일자)에 대한 여러 요청을 하나로 합친 재계산 작업에서 사용한다
+     * 원천 데이터에서 다시 계산하므로 같은 케어콜이 재시도/재처리로 여러 번 반영되어도 결과가 같다
+     *
+     * @param elderId 대상 어르신 ID
+     * @param date 재계산할 일자
+     */
     @Transactional
-    public void updateStatistics(CareCallRecord record) {
-        log.info("통계 업데이트 시작: careCallRecordId={}", record.getId());
+    public void recomputeStatistics(Integer elderId, LocalDate date) {
+        Elder elder = elderRepository.findById(elderId).orElse(null);
+        if (elder == null) {
+            log.info("통계 재계산 대상 어르신 없음 (비활성 포함): elderId={}", elderId);
+            return;
+        }
+
+        log.info("통계 재계산 시작: elderId={}, date={}", elderId, date);
+
+        dailyStatisticsService.recomputeDailyStatistics(elder, date);
+
+        entityManager.flush();
 
-        // DailyStatistics upsert
-        dailyStatisticsService.upsertDailyStatistics(record);
+        weeklyStatisticsService.refreshWeeklyStatistics(elder, date);
+
+        monthlyStatisticsService.upsertMonthlyStatistics(elder, date);
+
+        log.info("통계 재계산 완료: elderId={}, date={}", elderId, date);
+    }
+
+    /**
+     * 하루치 일간 통계를 재계산하고 해당 주의 주간 통계와 부분 집계를 원천 데이터로 전체 재구성 (야간 보정용)
+     *
+     * @param elder 대상 어르신
+     * @param date 보정할 일자
+     */
+    @Transactional
+    public void repairStatistics(Elder elder, LocalDate date) {
+        dailyStatisticsService.recomputeDailyStatistics(elder, date);
 
-        // DailyStatistics 변경사항을 DB에 즉시 반영 (flush)
-        // WeeklyStatistics 계산 시 방금 업데이트한 DailyStatistics를 조회할 수 있도록 보장
         entityManager.flush();
 
-        // WeeklyStatistics 계산 (DailyStatistics 기반)
-        weeklyStatisticsService.upsertWeeklyStatistics(record);
+        LocalDate weekStart = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        weeklyStatisticsService.rebuildWeeklyStatistics(elder, weekStart, weeklyStatisticsService.resolveWeekEndDate(elder, date), true);
 
-        log.info("통계 업데이트 완료: careCallRecordId={}", record.getId());
+        monthlyStatisticsService.upsertMonthlyStatistics(elder, date);
     }
 }
@@ -2,11 +2,14 @@ package com.example.medicare_call.service.statistics;
 
 import com.example.medicare_call.domain.*;
 import com.example.medicare_call.dto.statistics.WeeklyStatsAggregate;
+import com.example.medicare_call.global.enums.AiSummaryTarget;
+import com.example.medicare_call.global.event.AiSummaryRequestedEvent;
+import com.example.medicare_call.global.event.Events;
 import com.example.medicare_call.repository.BloodSugarRecordRepository;
 import com.example.medicare_call.repository.CareCallRecordRepository;
 import com.example.medicare_call.repository.DailyStatisticsRepository;
+import com.example.medicare_call.repository.DailyStatsPartialRepository;
 import com.example.medicare_call.repository.WeeklyStatisticsRepository;
-import com.example.medicare_call.service.ai.AiSummaryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,11 +17,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -27,28 +36,41 @@ public class WeeklyStatisticsService {
 
     private final WeeklyStatisticsRepository weeklyStatisticsRepository;
     private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final DailyStatsPartialRepository dailyStatsPartialRepository;
     private final CareCallRecordRepository careCallRecordRepository;
     private final BloodSugarRecordRepository bloodSugarRecordRepository;
 
     private final WeeklyStatsAggregator weeklyStatsAggregator;
-    private final AiSummaryService aiSummaryService;
 
     /**
-     * 케어콜 기록을 기준으로 주간 데이터를 집계하여 WeeklyStatsAggregate를 생성하고,
-     * 해당 집계 결과를 기반으로 AI 주간 요약을 생성한 뒤
-     * WeeklyStatistics 엔티티를 Upsert 처리한다.
+     * 케어콜 기록을 기준으로 주간 원천 데이터를 전체 스캔하여 WeeklyStatsAggregate를 생성하고,
+     * WeeklyStatistics 엔티티를 Upsert 처리한다. AI 주간 요약은 커밋 이후 비동기로 생성된다.
+     * 일자별 부분 집계도 함께 재구성하며, 병합 결과와 전체 스캔 결과가 다르면 경고 로그를 남긴다.
      *
      * @param record 주간 통계 집계 기준이 되는 케어콜 기록
      */
     @Transactional
     public void upsertWeeklyStatistics(CareCallRecord record) {
-        Elder elder = record.getElder();
-        Integer elderId = elder.getId();
-
         // 이번주 월요일 날짜 계산 (endDate 기준)
         LocalDate endDate = record.getCalledAt().toLocalDate();
         LocalDate startDate = endDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
 
+        rebuildWeeklyStatistics(record.getElder(), startDate, endDate, true);
+    }
+
+    /**
+     * 지정한 주차의 원천 데이터를 전체 스캔하여 주간 통계와 일자별 부분 집계를 재구성
+     * 일괄 재계산(backfill)에서 AI 요약을 생략할 때는 기존 요약과 상태를 그대로 둔다
+     *
+     * @param elder 대상 어르신
+     * @param startDate 주차 시작일 (월요일)
+     * @param endDate 집계 종료일 (startDate 이후 같은 주의 날짜)
+     * @param requestAiSummary AI 주간 요약 생성 요청 여부
+     */
+    @Transactional
+    public void rebuildWeeklyStatistics(Elder elder, LocalDate startDate, LocalDate endDate, boolean requestAiSummary) {
+        Integer elderId = elder.getId();
+
         // DailyStatistics 조회 (월요일부터 현재까지)
         List<DailyStatistics> dailyStatsList = dailyStatisticsRepository.findByElderAndDateBetween(elder, startDate, endDate);
 
@@ -64,9 +86,124 @@ public class WeeklyStatisticsService {
                 callRecords
         );
 
-        // AI 요약 생성
-        String healthSummary = aiSummaryService.getWeeklyStatsSummary(aggregate);
+        // 일자별 부분 집계 재구성 및 병합 결과 검증
+        List<DailyStatsPartial> partials = rebuildPartials(elder, startDate, endDate, dailyStatsList, bloodSugarRecords, callRecords);
+        WeeklyStatsAggregate merged = weeklyStatsAggregator.merge(startDate, endDate, partials);
+        if (!merged.equals(aggregate)) {
+            log.warn("주간 부분 집계 병합 결과가 전체 집계와 다름 - elderId: {}, startDate: {}, merged: {}, full: {}",
+                    elderId, startDate, merged, aggregate);
+        }
+
+        saveWeeklyStatistics(elder, startDate, aggregate, requestAiSummary);
+    }
+
+    /**
+     * 하루치 원천 데이터로 해당 일자의 부분 집계만 다시 만든 뒤,
+     * 이번 주 부분 집계(최대 7행)를 병합하여 WeeklyStatistics 엔티티를 Upsert 처리한다.
+     * 부분 집계를 원천 데이터에서 다시 계산하므로 같은 일자를 여러 번 반영해도 결과가 같다.
+     * 다른 일자의 일간 통계 중 부분 집계가 없는 일자가 있으면 주 전체를 재구성한다.
+     *
+     * @param elder 대상 어르신
+     * @param date 갱신된 일자
+     */
+    @Transactional
+    public void refreshWeeklyStatistics(Elder elder, LocalDate date) {
+        Integer elderId = elder.getId();
+        LocalDate startDate = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate weekEnd = startDate.plusDays(6);
+
+        List<DailyStatsPartial> partials = new ArrayList<>(dailyStatsPartialRepository.findByElderAndDateBetween(elder, startDate, weekEnd));
+        Set<LocalDate> partialDates = partials.stream().map(DailyStatsPartial::getDate).collect(Collectors.toSet());
+        List<LocalDate> dailyDates = dailyStatisticsRepository.findDatesByElderAndDateBetween(elder, startDate, weekEnd);
+
+        // 같은 주의 더 늦은 일자가 이미 집계된 경우 주간 종료일을 앞당기지 않음
+        LocalDate endDate = Stream.concat(dailyDates.stream(), partialDates.stream())
+                .filter(day -> day.isAfter(date))
+                .max(Comparator.naturalOrder())
+                .orElse(date);
+
+        // 다른 일자의 일간 통계가 부분 집계로 옮겨지지 않은 경우 (기능 도입 이전 데이터 등)
+        boolean hasMissingPartial = dailyDates.stream()
+                .anyMatch(day -> !day.equals(date) && !partialDates.contains(day));
+        if (hasMissingPartial) {
+            log.info("주간 부분 집계 누락, 전체 스캔으로 재구성 - elderId: {}, startDate: {}", elderId, startDate);
+            rebuildWeeklyStatistics(elder, startDate, endDate, true);
+            return;
+        }
+
+        DailyStatsPartial partial = partials.stream()
+                .filter(existing -> existing.getDate().equals(date))
+                .findFirst()
+                .orElseGet(() -> {
+                    DailyStatsPartial created = DailyStatsPartial.builder().elder(elder).date(date).build();
+                    partials.add(created);
+                    return created;
+                });
 
+        weeklyStatsAggregator.rebuildPartial(
+                partial,
+                dailyStatisticsRepository.findByElderAndDate(elder, date).orElse(null),
+                bloodSugarRecordRepository.findByElderIdAndDate(elderId, date),
+                careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(elderId, date.atStartOfDay(), date.plusDays(1).atStartOfDay())
+        );
+        dailyStatsPartialRepository.save(partial);
+
+        WeeklyStatsAggregate aggregate = weeklyStatsAggregator.merge(startDate, endDate, partials);
+        saveWeeklyStatistics(elder, startDate, aggregate, true);
+    }
+
+    /**
+     * 주차에서 가장 늦게 집계된 일자 (일간 통계 기준, 없으면 기준 일자)
+     * 지난 일자를 다시 집계할 때 주간 통계의 종료일이 앞당겨지지 않도록 사용한다
+     *
+     * @param elder 대상 어르신
+     * @param date 기준 일자
+     * @return 주간 집계 종료일
+     */
+    @Transactional(readOnly = true)
+    public LocalDate resolveWeekEndDate(Elder elder, LocalDate date) {
+        LocalDate startDate = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return dailyStatisticsRepository.findDatesByElderAndDateBetween(elder, startDate, startDate.plusDays(6)).stream()
+                .filter(day -> day.isAfter(date))
+                .max(Comparator.naturalOrder())
+                .orElse(date);
+    }
+
+    private List<DailyStatsPartial> rebuildPartials(Elder elder,
+                                                    LocalDate startDate,
+                                                    LocalDate endDate,
+                                                    List<DailyStatistics> dailyStatsList,
+                                                    List<BloodSugarRecord> bloodSugarRecords,
+                                                    List<CareCallRecord> callRecords) {
+        Map<LocalDate, DailyStatsPartial> existingPartials = dailyStatsPartialRepository
+                .findByElderAndDateBetween(elder, startDate, endDate).stream()
+                .collect(Collectors.toMap(DailyStatsPartial::getDate, Function.identity()));
+        Map<LocalDate, DailyStatistics> dailyStatsByDate = dailyStatsList.stream()
+                .collect(Collectors.toMap(DailyStatistics::getDate, Function.identity()));
+        Map<LocalDate, List<BloodSugarRecord>> bloodSugarByDate = bloodSugarRecords.stream()
+                .collect(Collectors.groupingBy(bsr -> bsr.getRecordedAt().toLocalDate()));
+        Map<LocalDate, List<CareCallRecord>> callsByDate = callRecords.stream()
+                .collect(Collectors.groupingBy(ccr -> ccr.getCalledAt().toLocalDate()));
+
+        List<DailyStatsPartial> partials = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            DailyStatistics ds = dailyStatsByDate.get(date);
+            List<BloodSugarRecord> dayBloodSugar = bloodSugarByDate.getOrDefault(date, List.of());
+            List<CareCallRecord> dayCalls = callsByDate.getOrDefault(date, List.of());
+
+            DailyStatsPartial partial = existingPartials.get(date);
+            if (partial == null) {
+                if (ds == null && dayBloodSugar.isEmpty() && dayCalls.isEmpty()) continue;
+                partial = DailyStatsPartial.builder().elder(elder).date(date).build();
+            }
+
+            weeklyStatsAggregator.rebuildPartial(partial, ds, dayBloodSugar, dayCalls);
+            partials.add(dailyStatsPartialRepository.save(partial));
+        }
+        return partials;
+    }
+
+    private void saveWeeklyStatistics(Elder elder, LocalDate startDate, WeeklyStatsAggregate aggregate, boolean requestAiSummary) {
         WeeklyStatistics ws = weeklyStatisticsRepository
                 .findByElderAndStartDate(elder, startDate)
                 .orElseGet(() -> WeeklyStatistics.builder()
@@ -93,31 +230,19 @@ public class WeeklyStatisticsService {
                 aggregate.psychBadCount(),
                 mapToEntityBloodSugarStats(aggregate.beforeMealBloodSugar(), aggregate.afterMealBloodSugar()),
                 avgSleepHours,
-                avgSleepMinutes,
-                healthSummary
+                avgSleepMinutes
         );
+        if (!requestAiSummary) {
+            weeklyStatisticsRepository.save(ws);
+            return;
+        }
+        ws.requestAiHealthSummary();
 
         weeklyStatisticsRepository.save(ws);
-    }
+        weeklyStatisticsRepository.markAiHealthSummaryRequested(ws.getId(), LocalDateTime.now());
 
-    /**
-     * 응답하지 않은 케어콜 발생 시 해당 주차의 미응답 통계 값을 증가시킨다.
-     * 해당 기간의 WeeklyStatistics 엔티티가 존재하지 않는 경우에는 별도 처리 수행 X
-     *
-     * @param record 미응답 케어콜 기록
-     */
-    @Transactional
-    public void updateMissedCallStatistics(CareCallRecord record) {
-        Elder elder = record.getElder();
-        LocalDate callDate = record.getCalledAt().toLocalDate();
-        LocalDate startDate = callDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-
-        weeklyStatisticsRepository
-                .findByElderAndStartDate(elder, startDate)
-                .ifPresent(ws -> {
-                    ws.incrementMissedCalls();
-                    weeklyStatisticsRepository.save(ws);
-                });
+        // AI 주간 요약은 커밋 이후 비동기로 생성
+        Events.raise(new AiSummaryRequestedEvent(AiSummaryTarget.WEEKLY_STATISTICS, ws.getId()));
     }
 
     private Map<String, WeeklyStatistics.MedicationStats> mapToEntityMedicationStats(
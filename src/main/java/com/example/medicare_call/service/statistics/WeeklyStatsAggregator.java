@@ -3,6 +3,8 @@ package com.example.medicare_call.service.statistics;
 import com.example.medicare_call.domain.BloodSugarRecord;
 import com.example.medicare_call.domain.CareCallRecord;
 import com.example.medicare_call.domain.DailyStatistics;
+import com.example.medicare_call.domain.DailyStatsPartial;
+import com.example.medicare_call.domain.WeeklyStatistics;
 import com.example.medicare_call.dto.statistics.WeeklyStatsAggregate;
 import com.example.medicare_call.global.enums.BloodSugarMeasurementType;
 import com.example.medicare_call.global.enums.BloodSugarStatus;
@@ -94,6 +96,139 @@ public class WeeklyStatsAggregator {
                 .build();
     }
 
+    /**
+     * 일자별 부분 집계를 병합하여 주간 통계를 계산한다.
+     * 모든 카운터가 합산 가능하므로 aggregate()의 전체 스캔 결과와 동일한 값을 만든다.
+     *
+     * @param startDate 집계 대상 기간 시작일
+     * @param endDate 집계 대상 기간 종료일
+     * @param partials 기간 내 일자별 부분 집계 목록
+     * @return 주간 통계 집계 결과
+     */
+    public WeeklyStatsAggregate merge(LocalDate startDate, LocalDate endDate, List<DailyStatsPartial> partials) {
+        int breakfast = 0, lunch = 0, dinner = 0, mealGoal = 0;
+        int goodCount = 0, badCount = 0, healthSignals = 0, missedCalls = 0;
+        long sleepTotalMinutes = 0;
+        int sleepCount = 0;
+        int beforeNormal = 0, beforeHigh = 0, beforeLow = 0;
+        int afterNormal = 0, afterHigh = 0, afterLow = 0;
+        Map<String, WeeklyStatsAggregate.MedicationTypeStats> medicationByType = new HashMap<>();
+        int goalTotal = 0, scheduledTotal = 0, takenTotal = 0;
+
+        for (DailyStatsPartial partial : partials) {
+            breakfast += partial.getBreakfastCount();
+            lunch += partial.getLunchCount();
+            dinner += partial.getDinnerCount();
+            mealGoal += partial.getMealGoalCount();
+
+            if (partial.getMedicationStats() != null) {
+                for (Map.Entry<String, WeeklyStatistics.MedicationStats> entry : partial.getMedicationStats().entrySet()) {
+                    int scheduled = nullToZero(entry.getValue().getTotalScheduled());
+                    int goal = nullToZero(entry.getValue().getTotalGoal());
+                    int taken = nullToZero(entry.getValue().getTotalTaken());
+
+                    medicationByType.merge(entry.getKey(),
+                            new WeeklyStatsAggregate.MedicationTypeStats(taken, goal, scheduled),
+                            (a, b) -> new WeeklyStatsAggregate.MedicationTypeStats(
+                                    a.totalTaken() + b.totalTaken(),
+                                    a.totalGoal() + b.totalGoal(),
+                                    a.totalScheduled() + b.totalScheduled()));
+
+                    scheduledTotal += scheduled;
+                    goalTotal += goal;
+                    takenTotal += taken;
+                }
+            }
+
+            sleepTotalMinutes += partial.getSleepTotalMinutes();
+            sleepCount += partial.getSleepCount();
+            goodCount += partial.getPsychGoodCount();
+            badCount += partial.getPsychBadCount();
+            healthSignals += partial.getHealthSignals();
+            missedCalls += partial.getMissedCalls();
+
+            beforeNormal += partial.getBeforeMealNormal();
+            beforeHigh += partial.getBeforeMealHigh();
+            beforeLow += partial.getBeforeMealLow();
+            afterNormal += partial.getAfterMealNormal();
+            afterHigh += partial.getAfterMealHigh();
+            afterLow += partial.getAfterMealLow();
+        }
+
+        return WeeklyStatsAggregate.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .breakfastCount(breakfast)
+                .lunchCount(lunch)
+                .dinnerCount(dinner)
+                .mealGoalCount(mealGoal)
+                .medicationByType(medicationByType)
+                .medicationTakenCount(takenTotal)
+                .medicationGoalCount(goalTotal)
+                .medicationScheduledCount(scheduledTotal)
+                .avgSleepMinutes(sleepCount == 0 ? null : (int) (sleepTotalMinutes / sleepCount))
+                .psychGoodCount(goodCount)
+                .psychNormalCount(0)
+                .psychBadCount(badCount)
+                .healthSignals(healthSignals)
+                .missedCalls(missedCalls)
+                .beforeMealBloodSugar(new WeeklyStatsAggregate.BloodSugarStats(beforeNormal, beforeHigh, beforeLow))
+                .afterMealBloodSugar(new WeeklyStatsAggregate.BloodSugarStats(afterNormal, afterHigh, afterLow))
+                .build();
+    }
+
+    /**
+     * 하루치 원천 데이터로 일자별 부분 집계를 다시 구성한다.
+     *
+     * @param partial 재구성할 부분 집계
+     * @param dailyStatistics 해당 일자의 일간 통계 (없으면 null)
+     * @param bloodSugarRecords 해당 일자의 혈당 측정 기록 목록
+     * @param callRecords 해당 일자의 케어콜 기록 목록
+     */
+    public void rebuildPartial(
+            DailyStatsPartial partial,
+            DailyStatistics dailyStatistics,
+            List<BloodSugarRecord> bloodSugarRecords,
+            List<CareCallRecord> callRecords
+    ) {
+        partial.applyDailyStatistics(dailyStatistics);
+        partial.resetCallCounters();
+
+        for (CareCallRecord record : callRecords) {
+            accumulateCall(partial, record);
+            if (CareCallStatus.NO_ANSWER.matches(record.getCallStatus())) {
+                partial.incrementMissedCalls();
+            }
+        }
+
+        for (BloodSugarRecord record : bloodSugarRecords) {
+            partial.addBloodSugar(record.getMeasurementType(), record.getStatus());
+        }
+    }
+
+    /**
+     * 케어콜 1건의 수면, 심리, 건강 징후를 부분 집계에 더한다.
+     *
+     * @param partial 대상 부분 집계
+     * @param record 케어콜 기록
+     */
+    public void accumulateCall(DailyStatsPartial partial, CareCallRecord record) {
+        if (record.getSleepStart() != null && record.getSleepEnd() != null) {
+            long minutes = ChronoUnit.MINUTES.between(record.getSleepStart(), record.getSleepEnd());
+            if (minutes > 0) {
+                partial.addSleepMinutes(minutes);
+            }
+        }
+
+        if (record.getPsychologicalDetails() != null) {
+            partial.addPsychStatus(record.getPsychStatus());
+        }
+
+        if (record.getHealthDetails() != null && !record.getHealthDetails().trim().isEmpty()) {
+            partial.incrementHealthSignals();
+        }
+    }
+
     private MealStats calculateMealStats(List<DailyStatistics> dailyStatsList) {
         int breakfast = 0, lunch = 0, dinner = 0;
 
@@ -0,0 +1,25 @@
+-- 주간 통계 병합용 일자별 부분 집계 테이블
+CREATE TABLE daily_stats_partial (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    elder_id INT NOT NULL,
+    date DATE NOT NULL,
+    breakfast_count INT NOT NULL DEFAULT 0,
+    lunch_count INT NOT NULL DEFAULT 0,
+    dinner_count INT NOT NULL DEFAULT 0,
+    meal_goal_count INT NOT NULL DEFAULT 0,
+    medication_stats JSON,
+    sleep_total_minutes BIGINT NOT NULL DEFAULT 0,
+    sleep_count INT NOT NULL DEFAULT 0,
+    psych_good_count INT NOT NULL DEFAULT 0,
+    psych_bad_count INT NOT NULL DEFAULT 0,
+    health_signals INT NOT NULL DEFAULT 0,
+    missed_calls INT NOT NULL DEFAULT 0,
+    before_meal_normal INT NOT NULL DEFAULT 0,
+    before_meal_high INT NOT NULL DEFAULT 0,
+    before_meal_low INT NOT NULL DEFAULT 0,
+    after_meal_normal INT NOT NULL DEFAULT 0,
+    after_meal_high INT NOT NULL DEFAULT 0,
+    after_meal_low INT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_daily_stats_partial_elder FOREIGN KEY (elder_id) REFERENCES Elder (id),
+    UNIQUE KEY uk_daily_stats_partial_elder_date (elder_id, date)
+);
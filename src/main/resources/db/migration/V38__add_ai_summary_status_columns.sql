@@ -0,0 +1,18 @@
+-- 비동기 AI 요약 파이프라인 상태 컬럼 추가
+ALTER TABLE daily_statistics
+    ADD COLUMN ai_summary_status ENUM('PENDING','COMPLETED','FAILED') NULL;
+
+ALTER TABLE weekly_statistics
+    ADD COLUMN ai_health_summary_status ENUM('PENDING','COMPLETED','FAILED') NULL;
+
+ALTER TABLE `CareCallRecord`
+    ADD COLUMN `ai_health_analysis_status` ENUM('PENDING','COMPLETED','FAILED') NULL;
+
+-- 기존에 생성된 요약은 완료 상태로 간주
+UPDATE daily_statistics SET ai_summary_status = 'COMPLETED' WHERE ai_summary IS NOT NULL;
+UPDATE weekly_statistics SET ai_health_summary_status = 'COMPLETED' WHERE ai_health_summary IS NOT NULL;
+UPDATE `CareCallRecord` SET `ai_health_analysis_status` = 'COMPLETED' WHERE `ai_health_analysis_comment` IS NOT NULL;
+
+CREATE INDEX idx_daily_statistics_ai_summary_status ON daily_statistics (ai_summary_status);
+CREATE INDEX idx_weekly_statistics_ai_health_summary_status ON weekly_statistics (ai_health_summary_status);
+CREATE INDEX idx_carecallrecord_ai_health_analysis_status ON `CareCallRecord` (`ai_health_analysis_status`);
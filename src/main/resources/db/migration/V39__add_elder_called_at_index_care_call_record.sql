@@ -0,0 +1,3 @@
+-- 어르신별 기간 조회(elder_id = ? AND called_at >= ? AND called_at < ?)용 복합 인덱스
+CREATE INDEX idx_care_call_record_elder_called_at
+    ON CareCallRecord (elder_id, called_at);
@@ -0,0 +1,49 @@
+-- 식사/복약/혈당 기록에 어르신 ID를 비정규화하여 케어콜 기록 조인 없이 어르신별 기간 조회
+
+-- MealRecord
+ALTER TABLE MealRecord ADD COLUMN elder_id INT NULL;
+
+UPDATE MealRecord mr
+    JOIN CareCallRecord ccr ON mr.carecall_record_id = ccr.id
+SET mr.elder_id = ccr.elder_id;
+
+ALTER TABLE MealRecord MODIFY COLUMN elder_id INT NOT NULL;
+
+CREATE INDEX idx_meal_record_elder_recorded_at
+    ON MealRecord (elder_id, recorded_at);
+
+ALTER TABLE MealRecord
+    ADD CONSTRAINT fk_meal_record_elder FOREIGN KEY (elder_id) REFERENCES Elder (id);
+
+-- MedicationTakenRecord
+ALTER TABLE MedicationTakenRecord ADD COLUMN elder_id INT NULL;
+
+UPDATE MedicationTakenRecord mtr
+    JOIN CareCallRecord ccr ON mtr.carecall_record_id = ccr.id
+SET mtr.elder_id = ccr.elder_id;
+
+ALTER TABLE MedicationTakenRecord MODIFY COLUMN elder_id INT NOT NULL;
+
+CREATE INDEX idx_medication_taken_record_elder_recorded_at
+    ON MedicationTakenRecord (elder_id, recorded_at);
+
+ALTER TABLE MedicationTakenRecord
+    ADD CONSTRAINT fk_medication_taken_record_elder FOREIGN KEY (elder_id) REFERENCES Elder (id);
+
+-- BloodSugarRecord
+ALTER TABLE BloodSugarRecord ADD COLUMN elder_id INT NULL;
+
+UPDATE BloodSugarRecord bsr
+    JOIN CareCallRecord ccr ON bsr.carecall_record_id = ccr.id
+SET bsr.elder_id = ccr.elder_id;
+
+ALTER TABLE BloodSugarRecord MODIFY COLUMN elder_id INT NOT NULL;
+
+CREATE INDEX idx_blood_sugar_record_elder_recorded_at
+    ON BloodSugarRecord (elder_id, recorded_at);
+
+CREATE INDEX idx_blood_sugar_record_elder_type_recorded_at
+    ON BloodSugarRecord (elder_id, measurement_type, recorded_at);
+
+ALTER TABLE BloodSugarRecord
+    ADD CONSTRAINT fk_blood_sugar_record_elder FOREIGN KEY (elder_id) REFERENCES Elder (id);
@@ -0,0 +1,23 @@
+-- 통계 일괄 재계산 작업 및 청크별 체크포인트 테이블
+CREATE TABLE statistics_rebuild_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    skip_ai_summary BOOLEAN NOT NULL DEFAULT TRUE,
+    status VARCHAR(20) NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at DATETIME NULL
+);
+
+CREATE TABLE statistics_rebuild_chunk (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id BIGINT NOT NULL,
+    first_elder_id INT NOT NULL,
+    last_elder_id INT NOT NULL,
+    last_processed_elder_id INT NULL,
+    processed_elders INT NOT NULL DEFAULT 0,
+    failed_elders INT NOT NULL DEFAULT 0,
+    status VARCHAR(20) NOT NULL,
+    CONSTRAINT fk_statistics_rebuild_chunk_job FOREIGN KEY (job_id) REFERENCES statistics_rebuild_job (id),
+    INDEX idx_statistics_rebuild_chunk_job_status (job_id, status)
+);
@@ -0,0 +1,23 @@
+-- 월간 통계 테이블 (일자별 부분 집계 병합 결과)
+CREATE TABLE monthly_statistics (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    elder_id INT NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    meal_rate INT,
+    medication_rate INT,
+    health_signals INT,
+    missed_calls INT,
+    breakfast_count INT,
+    lunch_count INT,
+    dinner_count INT,
+    medication_stats JSON,
+    avg_sleep_hours INT,
+    avg_sleep_minutes INT,
+    blood_sugar_stats JSON,
+    psych_good_count INT,
+    psych_normal_count INT,
+    psych_bad_count INT,
+    CONSTRAINT fk_monthly_statistics_elder FOREIGN KEY (elder_id) REFERENCES Elder (id),
+    UNIQUE KEY uk_monthly_statistics_elder_start_date (elder_id, start_date)
+);
@@ -0,0 +1,18 @@
+-- 케어콜 외부 발송 요청 아웃박스 (발송 워커가 재시도/백오프로 처리)
+CREATE TABLE outbound_call_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    idempotency_key VARCHAR(100) NOT NULL,
+    setting_id INT NOT NULL,
+    elder_id INT NOT NULL,
+    call_type VARCHAR(20) NOT NULL,
+    phone_number VARCHAR(20) NULL,
+    prompt TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME NOT NULL,
+    last_error VARCHAR(500) NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at DATETIME NULL,
+    UNIQUE KEY uk_outbound_call_outbox_idempotency_key (idempotency_key),
+    INDEX idx_outbound_call_outbox_status_next_attempt (status, next_attempt_at)
+);
@@ -0,0 +1,21 @@
+-- 여러 어르신에게 즉시 케어콜을 일괄 발송하는 캠페인과 어르신별 발송 상태
+CREATE TABLE care_call_campaign (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id INT NOT NULL,
+    call_type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at DATETIME NULL,
+    INDEX idx_care_call_campaign_member (member_id)
+);
+
+CREATE TABLE care_call_campaign_item (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    campaign_id BIGINT NOT NULL,
+    elder_id INT NOT NULL,
+    setting_id INT NULL,
+    status VARCHAR(20) NOT NULL,
+    error VARCHAR(500) NULL,
+    CONSTRAINT fk_care_call_campaign_item_campaign FOREIGN KEY (campaign_id) REFERENCES care_call_campaign (id),
+    INDEX idx_care_call_campaign_item_campaign (campaign_id)
+);
@@ -0,0 +1,17 @@
+-- 전화 서버 통화 완료 웹훅 수신함 (수신 즉시 기록 후 워커가 CareCallRecord로 저장)
+CREATE TABLE call_data_inbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    elder_id INT NOT NULL,
+    setting_id INT NOT NULL,
+    payload MEDIUMTEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME NOT NULL,
+    claim_token VARCHAR(36) NULL,
+    record_id INT NULL,
+    last_error VARCHAR(500) NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at DATETIME NULL,
+    INDEX idx_call_data_inbox_status_next_attempt (status, next_attempt_at),
+    INDEX idx_call_data_inbox_claim_token (claim_token)
+);
@@ -0,0 +1,14 @@
+-- 통화 분석(AI 건강 데이터 추출) 작업 기록 (LLM 장애 후 실패/미처리 건 재처리용)
+CREATE TABLE care_call_analysis_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    record_id INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME NOT NULL,
+    last_error VARCHAR(500) NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at DATETIME NULL,
+    UNIQUE KEY uk_care_call_analysis_job_record (record_id),
+    INDEX idx_care_call_analysis_job_status_next_attempt (status, next_attempt_at),
+    INDEX idx_care_call_analysis_job_status_created (status, created_at)
+);
@@ -0,0 +1,9 @@
+-- FAILED 상태의 AI 요약을 스윕에서 다시 시도한 횟수 (새 입력으로 PENDING 전환 시 0으로 초기화)
+ALTER TABLE daily_statistics
+    ADD COLUMN ai_summary_retry_count INT NOT NULL DEFAULT 0;
+
+ALTER TABLE weekly_statistics
+    ADD COLUMN ai_health_summary_retry_count INT NOT NULL DEFAULT 0;
+
+ALTER TABLE `CareCallRecord`
+    ADD COLUMN `ai_health_analysis_retry_count` INT NOT NULL DEFAULT 0;
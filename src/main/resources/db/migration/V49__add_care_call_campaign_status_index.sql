@@ -0,0 +1,2 @@
+-- 재개 스윕이 오래 진행 중인 캠페인을 찾을 때 사용
+CREATE INDEX idx_care_call_campaign_status_created ON care_call_campaign (status, created_at);
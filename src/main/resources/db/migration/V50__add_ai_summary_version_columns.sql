@@ -0,0 +1,14 @@
+-- AI 요약 입력 버전과 요청 시각
+-- 버전은 새 입력으로 요청되거나 스윕이 다시 가져갈 때마다 증가하며, 결과 저장은 생성 시 읽은 버전일 때만 반영된다
+-- 요청 시각은 스윕이 처리 제한 시간이 지난 PENDING 작업만 다시 가져가는 데 사용한다 (NULL이면 바로 가져갈 수 있음)
+ALTER TABLE daily_statistics
+    ADD COLUMN ai_summary_version INT NOT NULL DEFAULT 0,
+    ADD COLUMN ai_summary_requested_at DATETIME NULL;
+
+ALTER TABLE weekly_statistics
+    ADD COLUMN ai_health_summary_version INT NOT NULL DEFAULT 0,
+    ADD COLUMN ai_health_summary_requested_at DATETIME NULL;
+
+ALTER TABLE `CareCallRecord`
+    ADD COLUMN `ai_health_analysis_version` INT NOT NULL DEFAULT 0,
+    ADD COLUMN `ai_health_analysis_requested_at` DATETIME NULL;
@@ -99,7 +99,7 @@ class CareCallControllerImmediateTest {
         request.setElderId(1L);
         request.setCareCallOption(CareCallOption.FIRST);
 
-        String expectedResult = "김할머니 어르신께 즉시 케어콜 발송이 완료되었습니다.";
+        String expectedResult = "김할머니 어르신께 즉시 케어콜 발송이 접수되었습니다.";
         
         when(careCallTestService.sendImmediateCall(request.getElderId(), request.getCareCallOption()))
                 .thenReturn(expectedResult);
@@ -7,6 +7,7 @@ import com.example.medicare_call.dto.carecall.CareCallSettingRequest;
 import com.example.medicare_call.dto.carecall.CareCallSettingResponse;
 import com.example.medicare_call.dto.carecall.CareCallTestRequest;
 import com.example.medicare_call.dto.data_processor.CareCallDataProcessRequest;
+import com.example.medicare_call.global.config.CallDataIngestProperties;
 import com.example.medicare_call.global.enums.CareCallStatus;
 import com.example.medicare_call.global.exception.CustomException;
 import com.example.medicare_call.global.exception.ErrorCode;
@@ -17,6 +18,7 @@ import com.example.medicare_call.service.carecall.outbound.CareCallTestService;
 import com.example.medicare_call.service.carecall.setting.CareCallSettingService;
 import com.example.medicare_call.service.carecall.inbound.CareCallUploadService;
 import com.example.medicare_call.service.carecall.inbound.CareCallService;
+import com.example.medicare_call.service.carecall.inbound.inbox.CallDataInboxService;
 import com.example.medicare_call.service.ai.OpenAiSttService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +42,8 @@ import java.util.Arrays;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
@@ -74,6 +78,10 @@ class CareCallControllerTest {
     private CareCallUploadService careCallUploadService;
     @MockBean
     private OpenAiSttService openAiSttService;
+    @MockBean
+    private CallDataInboxService callDataInboxService;
+    @MockBean
+    private CallDataIngestProperties callDataIngestProperties;
 
     @Test
     @DisplayName("통화 데이터 수신 성공")
@@ -126,6 +134,29 @@ class CareCallControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(content().string(""));
     }
+
+    @Test
+    @DisplayName("통화 데이터 비동기 수신 - 수신함에 기록 후 202와 수신 번호 반환")
+    void receiveCallData_async_returnsAcceptedWithReceipt() throws Exception {
+        // given
+        CareCallDataProcessRequest request = CareCallDataProcessRequest.builder()
+                .elderId(1)
+                .settingId(2)
+                .status(CareCallStatus.COMPLETED)
+                .responded((byte) 1)
+                .build();
+
+        when(callDataIngestProperties.isAsync()).thenReturn(true);
+        when(callDataInboxService.append(any(CareCallDataProcessRequest.class))).thenReturn(1024L);
+
+        // when & then
+        mockMvc.perform(post("/call-data")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.receiptId").value(1024));
+        verify(careCallService, never()).saveCallData(any());
+    }
     
     @Test
     @DisplayName("통화 데이터 수신 실패 - 어르신 ID 누락")
@@ -0,0 +1,80 @@
+package com.example.medicare_call.controller;
+
+import com.example.medicare_call.dto.report.MonthlyReportResponse;
+import com.example.medicare_call.dto.report.WeeklyReportResponse;
+import com.example.medicare_call.global.annotation.AuthenticationArgumentResolver;
+import com.example.medicare_call.global.jwt.JwtProvider;
+import com.example.medicare_call.service.report.MonthlyReportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = MonthlyStatsController.class,
+    excludeAutoConfiguration = {org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class})
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+class MonthlyStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MonthlyReportService monthlyReportService;
+
+    @MockBean
+    private JwtProvider jwtProvider;
+
+    @MockBean
+    private AuthenticationArgumentResolver authenticationArgumentResolver;
+
+    @Test
+    @DisplayName("월간 통계 데이터 조회 성공")
+    void getMonthlyStats_성공() throws Exception {
+        // given
+        Integer elderId = 1;
+        YearMonth month = YearMonth.of(2025, 7);
+
+        MonthlyReportResponse expectedResponse = MonthlyReportResponse.builder()
+                .elderName("김옥자")
+                .startDate(LocalDate.of(2025, 7, 1))
+                .endDate(LocalDate.of(2025, 7, 24))
+                .summaryStats(WeeklyReportResponse.SummaryStats.builder()
+                        .mealRate(82)
+                        .medicationRate(90)
+                        .healthSignals(3)
+                        .missedCalls(4)
+                        .build())
+                .mealStats(WeeklyReportResponse.MealStats.builder()
+                        .breakfast(20)
+                        .lunch(18)
+                        .dinner(21)
+                        .build())
+                .build();
+
+        when(monthlyReportService.getMonthlyReport(nullable(Integer.class), eq(elderId), eq(month)))
+                .thenReturn(expectedResponse);
+
+        // when & then
+        mockMvc.perform(get("/elders/{elderId}/monthly-stats", elderId)
+                        .param("month", "2025-07"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elderName").value("김옥자"))
+                .andExpect(jsonPath("$.summaryStats.mealRate").value(82))
+                .andExpect(jsonPath("$.summaryStats.missedCalls").value(4))
+                .andExpect(jsonPath("$.mealStats.breakfast").value(20))
+                .andExpect(jsonPath("$.mealStats.dinner").value(21));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.medicare_call.global.client;
+
+import com.example.medicare_call.global.config.HttpClientResilienceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CircuitBreaker 테스트")
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(6).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        HttpClientResilienceProperties.Target settings = new HttpClientResilienceProperties.Target();
+        settings.setSlidingWindowSize(10);
+        settings.setMinimumCalls(4);
+        settings.setFailureRateThreshold(50);
+        settings.setSlowCallThreshold(Duration.ofSeconds(5));
+        settings.setSlowCallRateThreshold(75);
+        settings.setOpenDuration(Duration.ofSeconds(30));
+        settings.setHalfOpenCalls(2);
+        circuitBreaker = new CircuitBreaker(settings, clock::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 실패해도 차단하지 않음")
+    void belowMinimumCalls_staysClosed() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.tryAcquirePermission();
+            circuitBreaker.onError(FAST);
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(-1f);
+    }
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 차단하고 호출을 거부")
+    void failureRateExceeded_opensAndRejects() {
+        // when
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onError(FAST);
+        circuitBreaker.onError(FAST);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("지연 호출 비율이 기준 이상이면 성공 응답이어도 차단")
+    void slowCallRateExceeded_opens() {
+        // when
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(SLOW);
+        circuitBreaker.onSuccess(SLOW);
+        circuitBreaker.onSuccess(SLOW);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("오래된 실패는 최근 호출 범위를 벗어나면 실패율에서 빠짐")
+    void slidingWindow_dropsOldResults() {
+        // given
+        circuitBreaker.onError(FAST);
+        circuitBreaker.onError(FAST);
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.onSuccess(FAST);
+        }
+
+        // then
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(0f);
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 시험 호출만 허용하고, 모두 성공하면 차단 해제")
+    void halfOpen_successfulTrialCalls_close() {
+        // given
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // when
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 차단")
+    void halfOpen_failedTrialCall_reopens() {
+        // given
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquirePermission();
+
+        // when
+        circuitBreaker.onError(FAST);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onError(FAST);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
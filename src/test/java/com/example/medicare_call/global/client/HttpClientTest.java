@@ -0,0 +1,90 @@
+package com.example.medicare_call.global.client;
+
+import com.example.medicare_call.global.config.HttpClientResilienceProperties;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HttpClient 테스트")
+class HttpClientTest {
+
+    @Test
+    @DisplayName("서킷 집계 - 일반 4xx는 실패로 집계하지 않음")
+    void clientError_isNotTargetFailure() {
+        assertThat(HttpClientResilienceRegistry.isTargetFailure(new HttpClientErrorException(HttpStatus.BAD_REQUEST))).isFalse();
+        assertThat(HttpClientResilienceRegistry.isTargetFailure(new HttpClientErrorException(HttpStatus.NOT_FOUND))).isFalse();
+    }
+
+    @Test
+    @DisplayName("서킷 집계 - 429와 408은 대상 과부하로 보고 실패로 집계")
+    void tooManyRequestsAndRequestTimeout_areTargetFailures() {
+        assertThat(HttpClientResilienceRegistry.isTargetFailure(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS))).isTrue();
+        assertThat(HttpClientResilienceRegistry.isTargetFailure(new HttpClientErrorException(HttpStatus.REQUEST_TIMEOUT))).isTrue();
+    }
+
+    @Test
+    @DisplayName("서킷 집계 - 5xx와 연결 실패는 실패로 집계")
+    void serverErrorAndIoFailure_areTargetFailures() {
+        assertThat(HttpClientResilienceRegistry.isTargetFailure(new HttpServerErrorException(HttpStatus.BAD_GATEWAY))).isTrue();
+        assertThat(HttpClientResilienceRegistry.isTargetFailure(new ResourceAccessException("Read timed out"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("서킷 집계 - spring-ai 예외는 429/408 메시지만 4xx 중 실패로 집계")
+    void springAiErrors_areClassifiedByStatus() {
+        assertThat(HttpClientResilienceRegistry.isTargetFailure(new NonTransientAiException("400 - invalid request"))).isFalse();
+        assertThat(HttpClientResilienceRegistry.isTargetFailure(new NonTransientAiException("429 - rate limit exceeded"))).isTrue();
+        assertThat(HttpClientResilienceRegistry.isTargetFailure(new TransientAiException("503 - unavailable"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("가드 실행 - 동시 호출 수를 넘은 호출은 대상을 호출하지 않고 즉시 거부")
+    void execute_bulkheadFull_rejects() throws Exception {
+        // given
+        HttpClientResilienceProperties properties = new HttpClientResilienceProperties();
+        properties.getDefaults().setMaxConcurrentCalls(1);
+        HttpClientResilienceRegistry registry = new HttpClientResilienceRegistry(properties, new SimpleMeterRegistry());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> registry.execute("openai-chat", () -> {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "ok";
+            }));
+            assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+
+            // when & then
+            assertThatThrownBy(() -> registry.execute("openai-chat", () -> "second"))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(e -> assertThat(HttpClientResilienceRegistry.isRejected((CustomException) e)).isTrue())
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.EXTERNAL_API_BULKHEAD_FULL);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
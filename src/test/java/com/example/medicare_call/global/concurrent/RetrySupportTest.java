@@ -0,0 +1,54 @@
+package com.example.medicare_call.global.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RetrySupport 테스트")
+class RetrySupportTest {
+
+    @Test
+    @DisplayName("지수 백오프 - 시도마다 두 배로 늘리되 최대값으로 제한하고 절반 구간에서 지터 적용")
+    void exponentialBackoffWithJitter_capsAndJitters() {
+        Duration initial = Duration.ofSeconds(10);
+        Duration max = Duration.ofSeconds(60);
+
+        assertThat(RetrySupport.exponentialBackoffWithJitter(initial, max, 1)).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+        assertThat(RetrySupport.exponentialBackoffWithJitter(initial, max, 3)).isBetween(Duration.ofSeconds(20), Duration.ofSeconds(40));
+        assertThat(RetrySupport.exponentialBackoffWithJitter(initial, max, 50)).isBetween(Duration.ofSeconds(30), Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("선형 백오프 - 시도 횟수만큼 곱함")
+    void linearBackoff_multipliesByAttempts() {
+        assertThat(RetrySupport.linearBackoff(Duration.ofSeconds(30), 3)).isEqualTo(Duration.ofSeconds(90));
+    }
+
+    @Test
+    @DisplayName("실패 사유 - 예외 클래스와 메시지를 last_error 길이로 자름")
+    void errorMessage_truncatesToColumnLength() {
+        String message = RetrySupport.errorMessage(new IllegalStateException("x".repeat(1000)));
+
+        assertThat(message).startsWith("IllegalStateException: ");
+        assertThat(message).hasSize(RetrySupport.MAX_ERROR_LENGTH);
+    }
+
+    @Test
+    @DisplayName("스레드 이름 - 접두사와 순번으로 지정")
+    void namedThreadFactory_namesThreadsInSequence() {
+        NamedThreadFactory factory = new NamedThreadFactory("test-pool");
+
+        assertThat(factory.newThread(() -> {}).getName()).isEqualTo("test-pool-1");
+        assertThat(factory.newThread(() -> {}).getName()).isEqualTo("test-pool-2");
+    }
+
+    @Test
+    @DisplayName("스레드 이름 - 데몬 여부 지정 (기본은 데몬 아님)")
+    void namedThreadFactory_daemonOption() {
+        assertThat(new NamedThreadFactory("test-pool").newThread(() -> {}).isDaemon()).isFalse();
+        assertThat(new NamedThreadFactory("test-timer", true).newThread(() -> {}).isDaemon()).isTrue();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.medicare_call.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CareCallRecord 어르신별 일자 조회가 (elder_id, called_at) 복합 인덱스를 사용하는지 EXPLAIN으로 확인
+ * 리포지토리 쿼리를 실제로 실행해 Hibernate가 생성한 SQL을 가로챈 뒤, 같은 파라미터로 EXPLAIN 한다
+ * H2에서는 실행 계획이 달라 의미가 없으므로, Flyway 마이그레이션이 적용된 MySQL을 지정한 경우에만 실행한다
+ * 예) EXPLAIN_TEST_DB_URL=jdbc:mysql://localhost:3306/medicare EXPLAIN_TEST_DB_USERNAME=root EXPLAIN_TEST_DB_PASSWORD=...
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=${EXPLAIN_TEST_DB_URL}",
+        "spring.datasource.username=${EXPLAIN_TEST_DB_USERNAME:}",
+        "spring.datasource.password=${EXPLAIN_TEST_DB_PASSWORD:}",
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQL8Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.example.medicare_call.repository.CareCallRecordIndexUsageTest$CapturingStatementInspector"
+})
+@EnabledIfEnvironmentVariable(named = "EXPLAIN_TEST_DB_URL", matches = "jdbc:mysql:.*")
+@DisplayName("CareCallRecord 인덱스 사용 확인 (MySQL)")
+class CareCallRecordIndexUsageTest {
+
+    private static final String COMPOSITE_INDEX = "idx_care_call_record_elder_called_at";
+    private static final Pattern CARE_CALL_RECORD_ALIAS = Pattern.compile("from CareCallRecord (\\w+)", Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private CareCallRecordRepository careCallRecordRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("[start, end) 범위 조회 쿼리는 복합 인덱스를 사용")
+    void rangeQuery_usesCompositeIndex() throws Exception {
+        // given
+        LocalDate date = LocalDate.of(2025, 1, 17);
+        careCallRecordRepository.findByElderIdAndDateWithSleepData(1, date);
+        String sql = CapturingStatementInspector.lastSelect();
+
+        Matcher alias = CARE_CALL_RECORD_ALIAS.matcher(sql);
+        assertThat(alias.find()).as("생성된 SQL: %s", sql).isTrue();
+
+        // when
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            // 생성된 SQL의 바인딩 순서: elderId, start, end
+            statement.setInt(1, 1);
+            statement.setTimestamp(2, Timestamp.valueOf(date.atStartOfDay()));
+            statement.setTimestamp(3, Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
+
+            try (ResultSet plan = statement.executeQuery()) {
+                // then
+                boolean found = false;
+                while (plan.next()) {
+                    if (!alias.group(1).equals(plan.getString("table"))) {
+                        continue;
+                    }
+                    found = true;
+                    assertThat(plan.getString("possible_keys")).contains(COMPOSITE_INDEX);
+                    assertThat(plan.getString("key")).isEqualTo(COMPOSITE_INDEX);
+                    assertThat(plan.getString("type")).isNotEqualTo("ALL");
+                    // 인덱스 순서대로 정렬되므로 filesort가 필요 없어야 함
+                    assertThat(plan.getString("Extra")).doesNotContain("Using filesort");
+                }
+                assertThat(found).as("실행 계획에 CareCallRecord 행이 없음: %s", sql).isTrue();
+            }
+        }
+    }
+
+    // Hibernate가 실행하는 SQL을 그대로 기록 (세션 팩토리 설정으로 등록)
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static String lastSelect() {
+            return STATEMENTS.stream()
+                    .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                    .reduce((first, second) -> second)
+                    .orElseThrow(() -> new AssertionError("Hibernate가 실행한 SELECT 문이 없음"));
+        }
+    }
+}
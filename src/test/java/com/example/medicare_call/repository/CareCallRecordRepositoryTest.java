@@ -0,0 +1,212 @@
+package com.example.medicare_call.repository;
+
+import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.domain.CareCallSetting;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.global.enums.AiSummaryStatus;
+import com.example.medicare_call.global.enums.CallRecurrenceType;
+import com.example.medicare_call.global.enums.CareCallResponseStatus;
+import com.example.medicare_call.global.enums.ElderRelation;
+import com.example.medicare_call.global.enums.ElderStatus;
+import com.example.medicare_call.global.enums.Gender;
+import com.example.medicare_call.global.enums.ResidenceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class CareCallRecordRepositoryTest {
+
+    @Autowired
+    private CareCallRecordRepository careCallRecordRepository;
+
+    @Autowired
+    private CareCallSettingRepository careCallSettingRepository;
+
+    @Autowired
+    private ElderRepository elderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final LocalDate testDate = LocalDate.of(2025, 1, 17);
+
+    private Elder testElder;
+    private CareCallSetting testSetting;
+
+    @BeforeEach
+    void setUp() {
+        testElder = saveElder("김옥자", ElderStatus.ACTIVATED);
+        testSetting = saveSetting(testElder);
+    }
+
+    @Test
+    @DisplayName("일자별 조회 - 00:00과 23:59:59.999 기록은 포함하고 전날/다음날 00:00 기록은 제외")
+    void findByElderIdAndDateWithSleepData_includesOnlySameDay() {
+        // given
+        CareCallRecord startOfDay = saveSleepRecord(testElder, testSetting, testDate.atStartOfDay());
+        CareCallRecord endOfDay = saveSleepRecord(testElder, testSetting, testDate.atTime(LocalTime.of(23, 59, 59, 999_000_000)));
+        saveSleepRecord(testElder, testSetting, testDate.minusDays(1).atTime(LocalTime.of(23, 59, 59, 999_000_000)));
+        saveSleepRecord(testElder, testSetting, testDate.plusDays(1).atStartOfDay());
+
+        // when
+        List<CareCallRecord> records = careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate);
+
+        // then
+        assertThat(records).extracting(CareCallRecord::getId)
+                .containsExactly(startOfDay.getId(), endOfDay.getId());
+    }
+
+    @Test
+    @DisplayName("일자별 조회 - 다른 어르신의 같은 날 기록은 제외")
+    void findByElderIdAndDateWithSleepData_excludesOtherElder() {
+        // given
+        Elder otherElder = saveElder("박영수", ElderStatus.ACTIVATED);
+        CareCallSetting otherSetting = saveSetting(otherElder);
+        CareCallRecord own = saveSleepRecord(testElder, testSetting, testDate.atTime(9, 0));
+        saveSleepRecord(otherElder, otherSetting, testDate.atTime(9, 0));
+
+        // when
+        List<CareCallRecord> records = careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate);
+
+        // then
+        assertThat(records).extracting(CareCallRecord::getId).containsExactly(own.getId());
+    }
+
+    @Test
+    @DisplayName("일자별 조회 - 비활성 어르신의 기록은 제외")
+    void findByElderIdAndDateWithSleepData_excludesDeletedElder() {
+        // given
+        Elder deletedElder = saveElder("이순자", ElderStatus.DELETED);
+        CareCallSetting deletedSetting = saveSetting(deletedElder);
+        saveSleepRecord(deletedElder, deletedSetting, testDate.atTime(9, 0));
+
+        // when
+        List<CareCallRecord> records = careCallRecordRepository.findByElderIdAndDateWithSleepData(deletedElder.getId(), testDate);
+
+        // then
+        assertThat(records).isEmpty();
+    }
+
+    @Test
+    @DisplayName("설정 포함 범위 조회 - [start, end) 경계와 호출 시각 정렬")
+    void findWithSettingByElderIdAndCalledAtRange_halfOpenRange() {
+        // given
+        CareCallRecord endOfDay = saveSleepRecord(testElder, testSetting, testDate.atTime(LocalTime.of(23, 59, 59, 999_000_000)));
+        CareCallRecord startOfDay = saveSleepRecord(testElder, testSetting, testDate.atStartOfDay());
+        saveSleepRecord(testElder, testSetting, testDate.plusDays(1).atStartOfDay());
+
+        // when
+        List<CareCallRecord> records = careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(
+                testElder.getId(), testDate.atStartOfDay(), testDate.plusDays(1).atStartOfDay());
+
+        // then
+        assertThat(records).extracting(CareCallRecord::getId)
+                .containsExactly(startOfDay.getId(), endOfDay.getId());
+        assertThat(records).allSatisfy(record -> assertThat(record.getSetting().getId()).isEqualTo(testSetting.getId()));
+    }
+
+    @Test
+    @DisplayName("AI 건강분석 저장 - 생성 중 새 입력으로 다시 요청되면 이전 버전의 결과는 반영하지 않음")
+    void updateAiHealthAnalysis_staleVersion_notApplied() {
+        // given
+        CareCallRecord record = savePendingRecord(testDate.atTime(9, 0));
+        careCallRecordRepository.markAiHealthAnalysisRequested(record.getId(), LocalDateTime.now());
+        int readVersion = reload(record).getAiHealthAnalysisVersion();
+        careCallRecordRepository.markAiHealthAnalysisRequested(record.getId(), LocalDateTime.now());
+
+        // when
+        int stale = careCallRecordRepository.updateAiHealthAnalysis(record.getId(), readVersion, "이전 코멘트", AiSummaryStatus.COMPLETED);
+        int current = careCallRecordRepository.updateAiHealthAnalysis(record.getId(), readVersion + 1, "새 코멘트", AiSummaryStatus.COMPLETED);
+
+        // then
+        assertThat(stale).isZero();
+        assertThat(current).isEqualTo(1);
+        CareCallRecord saved = reload(record);
+        assertThat(saved.getAiHealthAnalysisComment()).isEqualTo("새 코멘트");
+        assertThat(saved.getAiHealthAnalysisStatus()).isEqualTo(AiSummaryStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("PENDING 스윕 선점 - 요청 후 제한 시간이 지난 기록만 선점하고 입력 버전을 올림")
+    void claimStalePendingAiHealthAnalysis_onlyAfterCutoff() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 17, 12, 0);
+        LocalDateTime cutoff = now.minusMinutes(10);
+        CareCallRecord stale = savePendingRecord(testDate.atTime(9, 0));
+        CareCallRecord recent = savePendingRecord(testDate.atTime(10, 0));
+        careCallRecordRepository.markAiHealthAnalysisRequested(stale.getId(), now.minusMinutes(30));
+        careCallRecordRepository.markAiHealthAnalysisRequested(recent.getId(), now.minusMinutes(1));
+
+        // when
+        List<Integer> candidates = careCallRecordRepository.findStalePendingAiHealthAnalysisIds(cutoff, PageRequest.of(0, 10));
+        int claimedStale = careCallRecordRepository.claimStalePendingAiHealthAnalysis(stale.getId(), cutoff, now);
+        int claimedAgain = careCallRecordRepository.claimStalePendingAiHealthAnalysis(stale.getId(), cutoff, now);
+        int claimedRecent = careCallRecordRepository.claimStalePendingAiHealthAnalysis(recent.getId(), cutoff, now);
+
+        // then
+        assertThat(candidates).containsExactly(stale.getId());
+        assertThat(claimedStale).isEqualTo(1);
+        assertThat(claimedAgain).isZero();
+        assertThat(claimedRecent).isZero();
+        assertThat(reload(stale).getAiHealthAnalysisVersion()).isEqualTo(2);
+    }
+
+    private CareCallRecord savePendingRecord(LocalDateTime calledAt) {
+        return careCallRecordRepository.save(CareCallRecord.builder()
+                .elder(testElder)
+                .setting(testSetting)
+                .calledAt(calledAt)
+                .responded(CareCallResponseStatus.RESPONDED)
+                .aiHealthAnalysisStatus(AiSummaryStatus.PENDING)
+                .build());
+    }
+
+    private CareCallRecord reload(CareCallRecord record) {
+        entityManager.flush();
+        entityManager.clear();
+        return careCallRecordRepository.findById(record.getId()).orElseThrow();
+    }
+
+    private Elder saveElder(String name, ElderStatus status) {
+        return elderRepository.save(Elder.builder()
+                .name(name)
+                .gender(Gender.FEMALE)
+                .relationship(ElderRelation.CHILD)
+                .residenceType(ResidenceType.ALONE)
+                .status(status)
+                .build());
+    }
+
+    private CareCallSetting saveSetting(Elder elder) {
+        return careCallSettingRepository.save(CareCallSetting.builder()
+                .elder(elder)
+                .firstCallTime(LocalTime.of(9, 0))
+                .secondCallTime(LocalTime.of(13, 0))
+                .thirdCallTime(LocalTime.of(19, 0))
+                .recurrence(CallRecurrenceType.DAILY)
+                .build());
+    }
+
+    private CareCallRecord saveSleepRecord(Elder elder, CareCallSetting setting, LocalDateTime calledAt) {
+        return careCallRecordRepository.save(CareCallRecord.builder()
+                .elder(elder)
+                .setting(setting)
+                .calledAt(calledAt)
+                .responded(CareCallResponseStatus.RESPONDED)
+                .sleepStart(calledAt.minusHours(9))
+                .sleepEnd(calledAt.minusHours(1))
+                .build());
+    }
+}
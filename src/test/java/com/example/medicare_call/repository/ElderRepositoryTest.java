@@ -0,0 +1,144 @@
+package com.example.medicare_call.repository;
+
+import com.example.medicare_call.domain.BloodSugarRecord;
+import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.domain.CareCallSetting;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.MealRecord;
+import com.example.medicare_call.global.enums.BloodSugarMeasurementType;
+import com.example.medicare_call.global.enums.CallRecurrenceType;
+import com.example.medicare_call.global.enums.CareCallResponseStatus;
+import com.example.medicare_call.global.enums.ElderRelation;
+import com.example.medicare_call.global.enums.Gender;
+import com.example.medicare_call.global.enums.MealEatenStatus;
+import com.example.medicare_call.global.enums.MealType;
+import com.example.medicare_call.global.enums.ResidenceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ElderRepositoryTest {
+
+    @Autowired
+    private ElderRepository elderRepository;
+
+    @Autowired
+    private CareCallRecordRepository careCallRecordRepository;
+
+    @Autowired
+    private CareCallSettingRepository careCallSettingRepository;
+
+    @Autowired
+    private MealRecordRepository mealRecordRepository;
+
+    @Autowired
+    private BloodSugarRecordRepository bloodSugarRecordRepository;
+
+    private final LocalDate testDate = LocalDate.of(2025, 1, 17);
+
+    @Test
+    @DisplayName("일간 건강 기록 조회 - [00:00, 다음날 00:00) 범위의 식사/혈당 기록과 케어콜 설정을 한 번에 조회")
+    void findDailyHealthRows_joinsMealsBloodSugarAndSetting() {
+        // given
+        Elder elder = saveElder("김옥자");
+        CareCallSetting setting = saveSetting(elder);
+        CareCallRecord call = saveCall(elder, setting, testDate.atTime(9, 0));
+        MealRecord breakfast = saveMeal(call, testDate.atStartOfDay());
+        MealRecord dinner = saveMeal(call, testDate.atTime(LocalTime.of(23, 59, 59, 999_000_000)));
+        saveMeal(call, testDate.plusDays(1).atStartOfDay());
+        BloodSugarRecord fasting = saveBloodSugar(call, testDate.atTime(9, 0));
+        saveBloodSugar(call, testDate.minusDays(1).atTime(LocalTime.of(23, 59, 59, 999_000_000)));
+
+        Elder otherElder = saveElder("박영수");
+        CareCallRecord otherCall = saveCall(otherElder, saveSetting(otherElder), testDate.atTime(9, 0));
+        saveMeal(otherCall, testDate.atTime(9, 0));
+        saveBloodSugar(otherCall, testDate.atTime(9, 0));
+
+        // when
+        List<Object[]> rows = elderRepository.findDailyHealthRows(
+                elder.getId(), testDate.atStartOfDay(), testDate.plusDays(1).atStartOfDay());
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows).extracting(row -> ((MealRecord) row[0]).getId())
+                .containsExactly(breakfast.getId(), dinner.getId());
+        assertThat(rows).extracting(row -> ((BloodSugarRecord) row[1]).getId())
+                .containsOnly(fasting.getId());
+        assertThat(rows).extracting(row -> ((CareCallSetting) row[2]).getId())
+                .containsOnly(setting.getId());
+    }
+
+    @Test
+    @DisplayName("일간 건강 기록 조회 - 당일 기록이 없어도 케어콜 설정이 담긴 한 행을 반환")
+    void findDailyHealthRows_noRecords_returnsSettingRow() {
+        // given
+        Elder elder = saveElder("김옥자");
+        CareCallSetting setting = saveSetting(elder);
+
+        // when
+        List<Object[]> rows = elderRepository.findDailyHealthRows(
+                elder.getId(), testDate.atStartOfDay(), testDate.plusDays(1).atStartOfDay());
+
+        // then
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)[0]).isNull();
+        assertThat(rows.get(0)[1]).isNull();
+        assertThat(((CareCallSetting) rows.get(0)[2]).getId()).isEqualTo(setting.getId());
+    }
+
+    private MealRecord saveMeal(CareCallRecord call, LocalDateTime recordedAt) {
+        return mealRecordRepository.save(MealRecord.builder()
+                .careCallRecord(call)
+                .mealType(MealType.BREAKFAST)
+                .eatenStatus(MealEatenStatus.EATEN)
+                .recordedAt(recordedAt)
+                .build());
+    }
+
+    private BloodSugarRecord saveBloodSugar(CareCallRecord call, LocalDateTime recordedAt) {
+        return bloodSugarRecordRepository.save(BloodSugarRecord.builder()
+                .careCallRecord(call)
+                .measurementType(BloodSugarMeasurementType.BEFORE_MEAL)
+                .blood_sugar_value(BigDecimal.valueOf(110))
+                .recordedAt(recordedAt)
+                .build());
+    }
+
+    private Elder saveElder(String name) {
+        return elderRepository.save(Elder.builder()
+                .name(name)
+                .gender(Gender.FEMALE)
+                .relationship(ElderRelation.CHILD)
+                .residenceType(ResidenceType.ALONE)
+                .build());
+    }
+
+    private CareCallSetting saveSetting(Elder elder) {
+        return careCallSettingRepository.save(CareCallSetting.builder()
+                .elder(elder)
+                .firstCallTime(LocalTime.of(9, 0))
+                .secondCallTime(LocalTime.of(13, 0))
+                .thirdCallTime(LocalTime.of(19, 0))
+                .recurrence(CallRecurrenceType.DAILY)
+                .build());
+    }
+
+    private CareCallRecord saveCall(Elder elder, CareCallSetting setting, LocalDateTime calledAt) {
+        return careCallRecordRepository.save(CareCallRecord.builder()
+                .elder(elder)
+                .setting(setting)
+                .calledAt(calledAt)
+                .responded(CareCallResponseStatus.RESPONDED)
+                .build());
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.medicare_call.repository;
+
+import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.domain.CareCallSetting;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.MealRecord;
+import com.example.medicare_call.global.enums.CallRecurrenceType;
+import com.example.medicare_call.global.enums.CareCallResponseStatus;
+import com.example.medicare_call.global.enums.ElderRelation;
+import com.example.medicare_call.global.enums.Gender;
+import com.example.medicare_call.global.enums.MealEatenStatus;
+import com.example.medicare_call.global.enums.MealType;
+import com.example.medicare_call.global.enums.ResidenceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class MealRecordRepositoryTest {
+
+    @Autowired
+    private MealRecordRepository mealRecordRepository;
+
+    @Autowired
+    private CareCallRecordRepository careCallRecordRepository;
+
+    @Autowired
+    private CareCallSettingRepository careCallSettingRepository;
+
+    @Autowired
+    private ElderRepository elderRepository;
+
+    private final LocalDate testDate = LocalDate.of(2025, 1, 17);
+
+    private CareCallRecord testCall;
+    private CareCallRecord otherElderCall;
+
+    @BeforeEach
+    void setUp() {
+        testCall = saveCall(saveElder("김옥자"), testDate.atTime(9, 0));
+        otherElderCall = saveCall(saveElder("박영수"), testDate.atTime(9, 0));
+    }
+
+    @Test
+    @DisplayName("일자별 조회 - 00:00과 23:59:59.999 기록은 포함하고 전날/다음날 경계 기록은 제외")
+    void findByElderIdAndDate_includesOnlySameDay() {
+        // given
+        MealRecord startOfDay = save(testCall, testDate.atStartOfDay());
+        MealRecord endOfDay = save(testCall, testDate.atTime(LocalTime.of(23, 59, 59, 999_000_000)));
+        save(testCall, testDate.minusDays(1).atTime(LocalTime.of(23, 59, 59, 999_000_000)));
+        save(testCall, testDate.plusDays(1).atStartOfDay());
+
+        // when
+        List<MealRecord> records = mealRecordRepository.findByElderIdAndDate(testCall.getElder().getId(), testDate);
+
+        // then
+        assertThat(records).extracting(MealRecord::getId).containsExactly(startOfDay.getId(), endOfDay.getId());
+    }
+
+    @Test
+    @DisplayName("일자별 조회 - 다른 어르신의 같은 날 기록은 제외")
+    void findByElderIdAndDate_excludesOtherElder() {
+        // given
+        MealRecord own = save(testCall, testDate.atTime(9, 0));
+        save(otherElderCall, testDate.atTime(9, 0));
+
+        // when
+        List<MealRecord> records = mealRecordRepository.findByElderIdAndDate(testCall.getElder().getId(), testDate);
+
+        // then
+        assertThat(records).extracting(MealRecord::getId).containsExactly(own.getId());
+    }
+
+    @Test
+    @DisplayName("기간 조회 - 종료일 23:59:59.999 기록은 포함하고 종료일 다음날 00:00 기록은 제외")
+    void findByElderIdAndDateBetween_includesEndDate() {
+        // given
+        MealRecord first = save(testCall, testDate.atStartOfDay());
+        MealRecord last = save(testCall, testDate.plusDays(6).atTime(LocalTime.of(23, 59, 59, 999_000_000)));
+        save(testCall, testDate.plusDays(7).atStartOfDay());
+        save(otherElderCall, testDate.plusDays(3).atTime(9, 0));
+
+        // when
+        List<MealRecord> records = mealRecordRepository.findByElderIdAndDateBetween(testCall.getElder().getId(), testDate, testDate.plusDays(6));
+
+        // then
+        assertThat(records).extracting(MealRecord::getId).containsExactly(first.getId(), last.getId());
+    }
+
+    @Test
+    @DisplayName("통화별 삭제 - 해당 통화의 기록만 삭제")
+    void deleteByCareCallRecordId_deletesOnlyThatCall() {
+        // given
+        save(testCall, testDate.atTime(9, 0));
+        save(testCall, testDate.atTime(9, 1));
+        MealRecord other = save(otherElderCall, testDate.atTime(9, 0));
+
+        // when
+        int deleted = mealRecordRepository.deleteByCareCallRecordId(testCall.getId());
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(mealRecordRepository.findAll()).extracting(MealRecord::getId).containsExactly(other.getId());
+    }
+
+    private MealRecord save(CareCallRecord call, LocalDateTime recordedAt) {
+        return mealRecordRepository.save(MealRecord.builder()
+                .careCallRecord(call)
+                .mealType(MealType.BREAKFAST)
+                .eatenStatus(MealEatenStatus.EATEN)
+                .recordedAt(recordedAt)
+                .build());
+    }
+
+    private Elder saveElder(String name) {
+        return elderRepository.save(Elder.builder()
+                .name(name)
+                .gender(Gender.FEMALE)
+                .relationship(ElderRelation.CHILD)
+                .residenceType(ResidenceType.ALONE)
+                .build());
+    }
+
+    private CareCallRecord saveCall(Elder elder, LocalDateTime calledAt) {
+        CareCallSetting setting = careCallSettingRepository.save(CareCallSetting.builder()
+                .elder(elder)
+                .firstCallTime(LocalTime.of(9, 0))
+                .secondCallTime(LocalTime.of(13, 0))
+                .thirdCallTime(LocalTime.of(19, 0))
+                .recurrence(CallRecurrenceType.DAILY)
+                .build());
+        return careCallRecordRepository.save(CareCallRecord.builder()
+                .elder(elder)
+                .setting(setting)
+                .calledAt(calledAt)
+                .responded(CareCallResponseStatus.RESPONDED)
+                .build());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.medicare_call.service.ai;
+
+import com.example.medicare_call.global.config.AiSummaryProperties;
+import com.example.medicare_call.repository.AiSummaryCacheRepository;
+import com.example.medicare_call.repository.AiSummaryCacheRepository.CachedSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiSummaryCache 테스트")
+class AiSummaryCacheTest {
+
+    @Mock
+    private AiSummaryCacheRepository aiSummaryCacheRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiSummaryCache aiSummaryCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aiSummaryCache = new AiSummaryCache(new AiSummaryProperties(), aiSummaryCacheRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 입력이면 두 번째 요청은 생성 없이 캐시에서 반환")
+    void getOrGenerate_sameInput_generatesOnce() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        Object[] keyParts = {"gpt-4o", 0.3, "system", "prompt"};
+
+        // when
+        String first = aiSummaryCache.getOrGenerate("home", keyParts, () -> "요약 " + calls.incrementAndGet());
+        String second = aiSummaryCache.getOrGenerate("home", keyParts.clone(), () -> "요약 " + calls.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("요약 1");
+        assertThat(second).isEqualTo("요약 1");
+        assertThat(calls.get()).isEqualTo(1);
+        verify(aiSummaryCacheRepository).save(anyString(), eq("요약 1"), anyLong(), any());
+        assertThat(meterRegistry.counter("ai.summary.cache", "kind", "home", "result", "hit_local").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("ai.summary.cache", "kind", "home", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프롬프트가 다르면 새로 생성")
+    void getOrGenerate_differentInput_generatesAgain() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        aiSummaryCache.getOrGenerate("weekly", new Object[]{"gpt-4o", 0.7, "system", "미응답 1회"}, () -> "요약 " + calls.incrementAndGet());
+        aiSummaryCache.getOrGenerate("weekly", new Object[]{"gpt-4o", 0.7, "system", "미응답 2회"}, () -> "요약 " + calls.incrementAndGet());
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("인스턴스 캐시에 없으면 Redis에 저장된 요약 사용")
+    void getOrGenerate_redisHit_skipsGeneration() {
+        // given
+        when(aiSummaryCacheRepository.find(anyString()))
+                .thenReturn(Optional.of(new CachedSummary("저장된 요약", 1200L)));
+
+        // when
+        String summary = aiSummaryCache.getOrGenerate("home", new Object[]{"gpt-4o", 0.3, "system", "prompt"}, () -> {
+            throw new AssertionError("캐시 적중 시 생성하면 안 됨");
+        });
+
+        // then
+        assertThat(summary).isEqualTo("저장된 요약");
+        assertThat(meterRegistry.timer("ai.summary.cache.saved_latency", "kind", "home").totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(1200.0);
+    }
+
+    @Test
+    @DisplayName("생성 결과가 비어있으면 캐시에 저장하지 않음")
+    void getOrGenerate_emptyResult_notCached() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        Object[] keyParts = {"gpt-4o", 0.3, "system", "prompt"};
+
+        // when
+        aiSummaryCache.getOrGenerate("home", keyParts, () -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        aiSummaryCache.getOrGenerate("home", keyParts, () -> {
+            calls.incrementAndGet();
+            return null;
+        });
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+        verify(aiSummaryCacheRepository, never()).save(anyString(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 조회 실패 시에도 요약 생성은 진행")
+    void getOrGenerate_redisFailure_fallsBackToGeneration() {
+        // given
+        when(aiSummaryCacheRepository.find(anyString())).thenThrow(new RuntimeException("connection refused"));
+
+        // when
+        String summary = aiSummaryCache.getOrGenerate("symptom", new Object[]{"gpt-4o", 0.5, "system", "두통"}, () -> "병원 방문 권장");
+
+        // then
+        assertThat(summary).isEqualTo("병원 방문 권장");
+    }
+}
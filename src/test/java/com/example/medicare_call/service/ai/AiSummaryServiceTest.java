@@ -1,15 +1,17 @@
 package com.example.medicare_call.service.ai;
 
 import com.example.medicare_call.dto.report.HomeSummaryDto;
+import com.example.medicare_call.global.config.AiSummaryProperties;
+import com.example.medicare_call.repository.AiSummaryCacheRepository;
 import com.example.medicare_call.dto.statistics.WeeklyStatsAggregate;
 import com.example.medicare_call.service.ai.prompt.HomeSummaryPromptBuilder;
 import com.example.medicare_call.service.ai.prompt.SymptomSummaryPromptBuilder;
 import com.example.medicare_call.service.ai.prompt.WeeklySummaryPromptBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.chat.messages.AssistantMessage;
@@ -21,10 +23,14 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,17 +48,27 @@ class AiSummaryServiceTest {
     @Mock
     private SymptomSummaryPromptBuilder symptomSummaryPromptBuilder;
 
-    @InjectMocks
+    @Mock
+    private AiSummaryCacheRepository aiSummaryCacheRepository;
+
     private AiSummaryService aiSummaryService;
 
     @BeforeEach
     void setUp() {
+        AiSummaryCache aiSummaryCache = new AiSummaryCache(new AiSummaryProperties(), aiSummaryCacheRepository, new SimpleMeterRegistry());
+        aiSummaryService = new AiSummaryService(
+                openAiChatService,
+                homeSummaryPromptBuilder,
+                weeklySummaryPromptBuilder,
+                symptomSummaryPromptBuilder,
+                aiSummaryCache
+        );
         ReflectionTestUtils.setField(aiSummaryService, "openaiModel", "gpt-3.5-turbo");
     }
 
     @Test
-    @DisplayName("홈 화면 데이터 요약 성공")
-    void getHomeSummary_success() {
+    @DisplayName("홈 화면 데이터 요약 생성 성공")
+    void generateHomeSummary_success() {
         // given
         HomeSummaryDto summaryDto = HomeSummaryDto.builder()
                 .breakfast(true).lunch(true).dinner(false)
@@ -71,15 +87,15 @@ class AiSummaryServiceTest {
                 .thenReturn(chatResponse);
 
         // when
-        String actualSummary = aiSummaryService.getHomeSummary(summaryDto);
+        String actualSummary = aiSummaryService.generateHomeSummary(summaryDto);
 
         // then
         assertEquals(expectedSummary, actualSummary);
     }
 
     @Test
-    @DisplayName("주간 건강 데이터 요약 성공")
-    void getWeeklyStatsSummary_success() {
+    @DisplayName("주간 건강 데이터 요약 생성 성공")
+    void generateWeeklyStatsSummary_success() {
         // given
         WeeklyStatsAggregate.BloodSugarStats beforeMeal = new WeeklyStatsAggregate.BloodSugarStats(5, 1, 0);
         WeeklyStatsAggregate.BloodSugarStats afterMeal = new WeeklyStatsAggregate.BloodSugarStats(4, 2, 0);
@@ -114,9 +130,100 @@ class AiSummaryServiceTest {
                 .thenReturn(chatResponse);
 
         // when
-        String actualSummary = aiSummaryService.getWeeklyStatsSummary(weeklyStatsAggregate);
+        String actualSummary = aiSummaryService.generateWeeklyStatsSummary(weeklyStatsAggregate);
 
         // then
         assertEquals(expectedSummary, actualSummary);
     }
+
+    @Test
+    @DisplayName("비동기 요약 생성 - 응답이 비어있으면 재시도를 위해 예외 발생")
+    void generateHomeSummary_emptyResponse_throws() {
+        // given
+        HomeSummaryDto summaryDto = HomeSummaryDto.builder()
+                .breakfast(true).lunch(false).dinner(false)
+                .build();
+
+        when(homeSummaryPromptBuilder.buildSystemMessage()).thenReturn("system");
+        when(homeSummaryPromptBuilder.buildPrompt(summaryDto)).thenReturn("prompt");
+        when(openAiChatService.openAiChat(anyString(), anyString(), any(OpenAiChatOptions.class)))
+                .thenReturn(new ChatResponse(List.of()));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> aiSummaryService.generateHomeSummary(summaryDto));
+    }
+
+    @Test
+    @DisplayName("주간 요약 캐시 - 프롬프트에 쓰이지 않는 필드만 바뀌면 캐시된 요약 재사용")
+    void generateWeeklyStatsSummary_unrenderedFieldChanged_hitsCache() {
+        // given
+        AiSummaryService service = weeklySummaryServiceWithRealPrompt();
+        WeeklyStatsAggregate original = weeklyAggregate(1).build();
+        WeeklyStatsAggregate changed = weeklyAggregate(1)
+                .endDate(LocalDate.of(2026, 1, 9))
+                .psychNormalCount(4)
+                .medicationByType(Map.of("혈압약", new WeeklyStatsAggregate.MedicationTypeStats(3, 3, 3)))
+                .build();
+
+        when(openAiChatService.openAiChat(anyString(), anyString(), any(OpenAiChatOptions.class)))
+                .thenReturn(new ChatResponse(List.of(new Generation(new AssistantMessage("요약")))));
+
+        // when
+        service.generateWeeklyStatsSummary(original);
+        service.generateWeeklyStatsSummary(changed);
+
+        // then
+        verify(openAiChatService, times(1)).openAiChat(anyString(), anyString(), any(OpenAiChatOptions.class));
+    }
+
+    @Test
+    @DisplayName("주간 요약 캐시 - 미응답 건수는 요약 내용에 반영되므로 바뀌면 새로 생성")
+    void generateWeeklyStatsSummary_missedCallsChanged_regenerates() {
+        // given
+        AiSummaryService service = weeklySummaryServiceWithRealPrompt();
+
+        when(openAiChatService.openAiChat(anyString(), anyString(), any(OpenAiChatOptions.class)))
+                .thenReturn(new ChatResponse(List.of(new Generation(new AssistantMessage("요약")))));
+
+        // when
+        service.generateWeeklyStatsSummary(weeklyAggregate(0).build());
+        service.generateWeeklyStatsSummary(weeklyAggregate(1).build());
+
+        // then
+        verify(openAiChatService, times(2)).openAiChat(anyString(), anyString(), any(OpenAiChatOptions.class));
+    }
+
+    private AiSummaryService weeklySummaryServiceWithRealPrompt() {
+        AiSummaryService service = new AiSummaryService(
+                openAiChatService,
+                homeSummaryPromptBuilder,
+                new WeeklySummaryPromptBuilder(),
+                symptomSummaryPromptBuilder,
+                new AiSummaryCache(new AiSummaryProperties(), aiSummaryCacheRepository, new SimpleMeterRegistry())
+        );
+        ReflectionTestUtils.setField(service, "openaiModel", "gpt-3.5-turbo");
+        return service;
+    }
+
+    private WeeklyStatsAggregate.WeeklyStatsAggregateBuilder weeklyAggregate(int missedCalls) {
+        return WeeklyStatsAggregate.builder()
+                .startDate(LocalDate.of(2026, 1, 5))
+                .endDate(LocalDate.of(2026, 1, 11))
+                .breakfastCount(5)
+                .lunchCount(5)
+                .dinnerCount(5)
+                .mealGoalCount(21)
+                .medicationByType(Collections.emptyMap())
+                .medicationTakenCount(10)
+                .medicationGoalCount(12)
+                .medicationScheduledCount(14)
+                .avgSleepMinutes(450)
+                .psychGoodCount(5)
+                .psychNormalCount(0)
+                .psychBadCount(1)
+                .healthSignals(0)
+                .missedCalls(missedCalls)
+                .beforeMealBloodSugar(new WeeklyStatsAggregate.BloodSugarStats(5, 1, 0))
+                .afterMealBloodSugar(new WeeklyStatsAggregate.BloodSugarStats(4, 2, 0));
+    }
 }
@@ -0,0 +1,118 @@
+package com.example.medicare_call.service.ai;
+
+import com.example.medicare_call.dto.report.HomeSummaryDto;
+import com.example.medicare_call.dto.statistics.WeeklyStatsAggregate;
+import com.example.medicare_call.global.config.AiSummaryProperties;
+import com.example.medicare_call.global.enums.AiSummaryTarget;
+import com.example.medicare_call.service.ai.AiSummaryJobService.SummaryInput;
+import com.example.medicare_call.service.ai.AiSummaryJobService.SummaryResult;
+import com.example.medicare_call.service.ai.AiSummaryWorker.SummaryKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiSummaryWorker 테스트")
+class AiSummaryWorkerTest {
+
+    @Mock
+    private AiSummaryService aiSummaryService;
+
+    @Mock
+    private AiSummaryJobService aiSummaryJobService;
+
+    private AiSummaryWorker aiSummaryWorker;
+
+    @BeforeEach
+    void setUp() {
+        AiSummaryProperties properties = new AiSummaryProperties();
+        properties.setConcurrency(2);
+        properties.setMaxAttempts(1);
+
+        aiSummaryWorker = new AiSummaryWorker(properties, aiSummaryService, aiSummaryJobService, new SimpleMeterRegistry());
+        aiSummaryWorker.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiSummaryWorker.shutdown();
+    }
+
+    @Test
+    @DisplayName("묶음 처리 - 같은 트랜잭션에서 요청된 요약을 동시에 생성하고 한 번에 저장")
+    void submitAll_generatesConcurrentlyAndSavesOnce() {
+        // given
+        HomeSummaryDto homeInput = HomeSummaryDto.builder().build();
+        WeeklyStatsAggregate weeklyInput = WeeklyStatsAggregate.builder().build();
+        when(aiSummaryJobService.loadHomeSummaryInput(1L)).thenReturn(Optional.of(new SummaryInput<>(1, homeInput)));
+        when(aiSummaryJobService.loadWeeklySummaryInput(2L)).thenReturn(Optional.of(new SummaryInput<>(4, weeklyInput)));
+
+        // 두 생성이 모두 시작되어야 진행되므로 순차 실행이면 대기 시간 초과
+        CountDownLatch started = new CountDownLatch(2);
+        when(aiSummaryService.generateHomeSummary(homeInput)).thenAnswer(invocation -> {
+            started.countDown();
+            return started.await(2, TimeUnit.SECONDS) ? "일간 요약" : "순차 실행";
+        });
+        when(aiSummaryService.generateWeeklyStatsSummary(weeklyInput)).thenAnswer(invocation -> {
+            started.countDown();
+            return started.await(2, TimeUnit.SECONDS) ? "주간 요약" : "순차 실행";
+        });
+
+        // when
+        aiSummaryWorker.submitAll(List.of(
+                new SummaryKey(AiSummaryTarget.DAILY_STATISTICS, 1L),
+                new SummaryKey(AiSummaryTarget.WEEKLY_STATISTICS, 2L)
+        ));
+
+        // then
+        ArgumentCaptor<List<SummaryResult>> resultsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(aiSummaryJobService, timeout(5000)).saveResults(resultsCaptor.capture());
+        assertThat(resultsCaptor.getValue()).containsExactly(
+                SummaryResult.completed(AiSummaryTarget.DAILY_STATISTICS, 1L, 1, "일간 요약"),
+                SummaryResult.completed(AiSummaryTarget.WEEKLY_STATISTICS, 2L, 4, "주간 요약")
+        );
+    }
+
+    @Test
+    @DisplayName("묶음 처리 - 일부 생성이 실패해도 나머지 결과와 함께 FAILED로 저장")
+    void submitAll_partialFailure_savesFailedWithOthers() {
+        // given
+        HomeSummaryDto homeInput = HomeSummaryDto.builder().build();
+        WeeklyStatsAggregate weeklyInput = WeeklyStatsAggregate.builder().build();
+        when(aiSummaryJobService.loadHomeSummaryInput(1L)).thenReturn(Optional.of(new SummaryInput<>(1, homeInput)));
+        when(aiSummaryJobService.loadWeeklySummaryInput(2L)).thenReturn(Optional.of(new SummaryInput<>(2, weeklyInput)));
+        when(aiSummaryService.generateHomeSummary(homeInput)).thenReturn("일간 요약");
+        when(aiSummaryService.generateWeeklyStatsSummary(weeklyInput)).thenThrow(new RuntimeException("OpenAI 오류"));
+
+        // when
+        aiSummaryWorker.submitAll(List.of(
+                new SummaryKey(AiSummaryTarget.DAILY_STATISTICS, 1L),
+                new SummaryKey(AiSummaryTarget.WEEKLY_STATISTICS, 2L)
+        ));
+
+        // then
+        ArgumentCaptor<List<SummaryResult>> resultsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(aiSummaryJobService, timeout(5000)).saveResults(resultsCaptor.capture());
+        assertThat(resultsCaptor.getValue()).containsExactly(
+                SummaryResult.completed(AiSummaryTarget.DAILY_STATISTICS, 1L, 1, "일간 요약"),
+                SummaryResult.failed(AiSummaryTarget.WEEKLY_STATISTICS, 2L, 2)
+        );
+        verify(aiSummaryJobService, never()).fail(any(), any(), anyInt());
+    }
+}
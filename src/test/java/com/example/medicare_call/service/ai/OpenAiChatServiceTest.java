@@ -1,13 +1,17 @@
 package com.example.medicare_call.service.ai;
 
+import com.example.medicare_call.global.client.HttpClientResilienceRegistry;
+import com.example.medicare_call.global.config.HttpClientResilienceProperties;
 import com.example.medicare_call.global.exception.CustomException;
 import com.example.medicare_call.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.SystemMessage;
@@ -24,6 +28,10 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -36,6 +44,10 @@ class OpenAiChatServiceTest {
     @Mock
     private OpenAiChatModel chatModel;
 
+    @Spy
+    private HttpClientResilienceRegistry resilienceRegistry =
+            new HttpClientResilienceRegistry(new HttpClientResilienceProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private OpenAiChatService openAiChatService;
 
@@ -43,6 +55,7 @@ class OpenAiChatServiceTest {
     void setUp() {
         ReflectionTestUtils.setField(openAiChatService, "openAiApi", openAiApi);
         ReflectionTestUtils.setField(openAiChatService, "chatModel", chatModel);
+        ReflectionTestUtils.setField(openAiChatService, "resilienceRegistry", resilienceRegistry);
     }
 
     @Test
@@ -93,4 +106,20 @@ class OpenAiChatServiceTest {
         );
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.OPENAI_API_ERROR);
     }
+
+    @Test
+    @DisplayName("openAiChat 메서드는 서킷 차단 중이면 OpenAI를 호출하지 않고 거부 예외를 그대로 던져야 한다")
+    void openAiChat_circuitOpen_rejectsWithoutCall() {
+        // Given
+        OpenAiChatOptions chatOptions = OpenAiChatOptions.builder().temperature(0.7).model("gpt-4.1").build();
+        doThrow(new CustomException(ErrorCode.EXTERNAL_API_CIRCUIT_OPEN))
+                .when(resilienceRegistry).execute(eq("openai-chat"), any());
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class, () ->
+                openAiChatService.openAiChat("안녕하세요", "당신은 유용한 AI 비서입니다.", chatOptions)
+        );
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.EXTERNAL_API_CIRCUIT_OPEN);
+        verify(chatModel, never()).call(any(Prompt.class));
+    }
 }
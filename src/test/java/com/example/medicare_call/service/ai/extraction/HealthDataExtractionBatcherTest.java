@@ -0,0 +1,141 @@
+package com.example.medicare_call.service.ai.extraction;
+
+import com.example.medicare_call.dto.data_processor.CareCallDataExtractionRequest;
+import com.example.medicare_call.dto.data_processor.HealthDataExtractionResponse;
+import com.example.medicare_call.global.config.HealthDataExtractionBatchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("HealthDataExtractionBatcher 테스트")
+class HealthDataExtractionBatcherTest {
+
+    private HealthDataExtractionBatchProperties properties;
+    private StubExtractionProvider provider;
+    private HealthDataExtractionBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HealthDataExtractionBatchProperties();
+        properties.setMaxBatchSize(3);
+        properties.setMaxWait(Duration.ofMillis(100));
+
+        provider = new StubExtractionProvider();
+        batcher = new HealthDataExtractionBatcher(properties, provider, new SimpleMeterRegistry());
+        batcher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("최대 건수가 모이면 한 번에 보내고 결과를 요청별로 나누어 전달")
+    void submit_fullBatch_sendsOnceAndSplitsResults() throws Exception {
+        // given
+        List<CompletableFuture<HealthDataExtractionResponse>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            futures.add(batcher.submit(request("통화 " + i)));
+        }
+
+        // then
+        for (int i = 0; i < 3; i++) {
+            assertThat(futures.get(i).get(2, TimeUnit.SECONDS).getHealthStatus()).isEqualTo("통화 " + i);
+        }
+        assertThat(provider.batchSizes).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("최대 건수가 모이지 않으면 대기 시간 후 모인 요청만 보냄")
+    void submit_partialBatch_sendsAfterMaxWait() throws Exception {
+        // when
+        CompletableFuture<HealthDataExtractionResponse> first = batcher.submit(request("통화 0"));
+        CompletableFuture<HealthDataExtractionResponse> second = batcher.submit(request("통화 1"));
+
+        // then
+        assertThat(first.get(2, TimeUnit.SECONDS).getHealthStatus()).isEqualTo("통화 0");
+        assertThat(second.get(2, TimeUnit.SECONDS).getHealthStatus()).isEqualTo("통화 1");
+        assertThat(provider.batchSizes).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("응답에 빠진 통화만 실패 처리")
+    void submit_missingResult_failsOnlyThatRequest() throws Exception {
+        // given
+        provider.missing = "통화 1";
+
+        // when
+        List<CompletableFuture<HealthDataExtractionResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(batcher.submit(request("통화 " + i)));
+        }
+
+        // then
+        assertThat(futures.get(0).get(2, TimeUnit.SECONDS).getHealthStatus()).isEqualTo("통화 0");
+        assertThat(futures.get(2).get(2, TimeUnit.SECONDS).getHealthStatus()).isEqualTo("통화 2");
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> futures.get(1).get(2, TimeUnit.SECONDS));
+        assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 요청이 실패하면 묶인 요청 모두 같은 예외로 실패")
+    void extract_providerFails_throwsToEveryCaller() {
+        // given
+        properties.setMaxBatchSize(1);
+        provider.failure = new RuntimeException("rate limit");
+
+        // when
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> batcher.extract(request("통화 0")));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("rate limit");
+    }
+
+    private CareCallDataExtractionRequest request(String transcriptionText) {
+        return CareCallDataExtractionRequest.builder()
+                .callDate(LocalDate.of(2025, 1, 6))
+                .transcriptionText(transcriptionText)
+                .medicationNames(List.of())
+                .build();
+    }
+
+    // 통화 내용을 healthStatus로 돌려주는 로컬 추출기
+    private static class StubExtractionProvider implements HealthDataExtractionProvider {
+
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private volatile String missing;
+        private volatile RuntimeException failure;
+
+        @Override
+        public List<HealthDataExtractionResponse> extract(List<CareCallDataExtractionRequest> requests) {
+            batchSizes.add(requests.size());
+            if (failure != null) {
+                throw failure;
+            }
+            List<HealthDataExtractionResponse> results = new ArrayList<>();
+            for (CareCallDataExtractionRequest request : requests) {
+                results.add(request.getTranscriptionText().equals(missing)
+                        ? null
+                        : HealthDataExtractionResponse.builder().healthStatus(request.getTranscriptionText()).build());
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.medicare_call.service.ai.extraction;
+
+import com.example.medicare_call.dto.data_processor.CareCallDataExtractionRequest;
+import com.example.medicare_call.dto.data_processor.HealthDataExtractionResponse;
+import com.example.medicare_call.service.ai.OpenAiChatService;
+import com.example.medicare_call.service.ai.prompt.CareCallBatchDataExtractionPromptBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpenAiHealthDataExtractionProvider 테스트")
+class OpenAiHealthDataExtractionProviderTest {
+
+    @Mock
+    private OpenAiChatService openAiChatService;
+
+    private OpenAiHealthDataExtractionProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new OpenAiHealthDataExtractionProvider(openAiChatService, new CareCallBatchDataExtractionPromptBuilder());
+        ReflectionTestUtils.setField(provider, "openaiModel", "gpt-4o-mini");
+    }
+
+    @Test
+    @DisplayName("통화 번호를 붙여 한 번에 요청하고 응답을 번호별로 나누어 반환 (빠진 번호는 null)")
+    void extract_splitsResultsByIndex() {
+        // given
+        List<CareCallDataExtractionRequest> requests = List.of(
+                request("첫 번째 통화", List.of("혈압약")),
+                request("두 번째 통화", List.of()),
+                request("세 번째 통화", List.of("당뇨약"))
+        );
+        String json = """
+                {
+                  "results": [
+                    { "index": 2, "data": { "healthStatus": "나쁨" } },
+                    { "index": 0, "data": { "healthStatus": "좋음" } },
+                    { "index": 7, "data": { "healthStatus": "좋음" } }
+                  ]
+                }
+                """;
+        when(openAiChatService.openAiChat(anyString(), anyString(), any(OpenAiChatOptions.class)))
+                .thenReturn(new ChatResponse(List.of(new Generation(new AssistantMessage(json)))));
+
+        // when
+        List<HealthDataExtractionResponse> results = provider.extract(requests);
+
+        // then
+        verify(openAiChatService).openAiChat(
+                argThat(prompt -> prompt.contains("[통화 0]") && prompt.contains("[통화 2]")
+                        && prompt.contains("세 번째 통화") && prompt.contains("복용 약 목록: [당뇨약]")),
+                anyString(),
+                any(OpenAiChatOptions.class));
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).getHealthStatus()).isEqualTo("좋음");
+        assertThat(results.get(1)).isNull();
+        assertThat(results.get(2).getHealthStatus()).isEqualTo("나쁨");
+    }
+
+    private CareCallDataExtractionRequest request(String transcriptionText, List<String> medicationNames) {
+        return CareCallDataExtractionRequest.builder()
+                .callDate(LocalDate.of(2025, 1, 6))
+                .transcriptionText(transcriptionText)
+                .medicationNames(medicationNames)
+                .build();
+    }
+}
@@ -4,22 +4,29 @@ import com.example.medicare_call.domain.CareCallRecord;
 import com.example.medicare_call.domain.CareCallSetting;
 import com.example.medicare_call.domain.Elder;
 import com.example.medicare_call.dto.data_processor.HealthDataExtractionResponse;
+import com.example.medicare_call.global.enums.AiSummaryStatus;
 import com.example.medicare_call.global.enums.HealthStatus;
 import com.example.medicare_call.global.enums.PsychologicalStatus;
+import com.example.medicare_call.global.event.Events;
+import com.example.medicare_call.global.event.StatisticsUpdateRequestedEvent;
+import com.example.medicare_call.repository.BloodSugarRecordRepository;
 import com.example.medicare_call.repository.CareCallRecordRepository;
-import com.example.medicare_call.service.ai.AiSummaryService;
+import com.example.medicare_call.repository.MealRecordRepository;
+import com.example.medicare_call.repository.MedicationTakenRecordRepository;
 import com.example.medicare_call.service.health_data.MealRecordService;
-import com.example.medicare_call.service.statistics.StatisticsUpdateService;
 import com.example.medicare_call.service.health_data.BloodSugarService;
 import com.example.medicare_call.service.health_data.MedicationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collections;
@@ -37,9 +44,6 @@ class CareCallAnalysisResultSaveServiceTest {
     @Mock
     private CareCallRecordRepository careCallRecordRepository;
 
-    @Mock
-    private StatisticsUpdateService statisticsUpdateService;
-
     @Mock
     private BloodSugarService bloodSugarService;
 
@@ -50,7 +54,13 @@ class CareCallAnalysisResultSaveServiceTest {
     private MealRecordService mealRecordService;
 
     @Mock
-    private AiSummaryService aiSummaryService;
+    private BloodSugarRecordRepository bloodSugarRecordRepository;
+
+    @Mock
+    private MedicationTakenRecordRepository medicationTakenRecordRepository;
+
+    @Mock
+    private MealRecordRepository mealRecordRepository;
 
     @InjectMocks
     private CareCallAnalysisResultSaveService careCallAnalysisResultSaveService;
@@ -96,22 +106,55 @@ class CareCallAnalysisResultSaveServiceTest {
                 .psychologicalStatus("좋음")
                 .build();
         
-        // when
-        careCallAnalysisResultSaveService.processAndSaveHealthData(callRecord, healthData);
+        try (MockedStatic<Events> eventsMock = mockStatic(Events.class)) {
+            // when
+            careCallAnalysisResultSaveService.processAndSaveHealthData(callRecord, healthData);
+
+            // then
+            verify(bloodSugarService).saveBloodSugarData(eq(callRecord), anyList());
+            verify(medicationService).saveMedicationTakenRecord(eq(callRecord), anyList());
+            verify(mealRecordService).saveMealData(eq(callRecord), anyList());
+
+            // 4. 레코드 업데이트 확인 (수면, 심리)
+            verify(careCallRecordRepository).save(argThat(record ->
+                record.getSleepStart() != null &&
+                record.getPsychStatus() == PsychologicalStatus.GOOD
+            ));
+
+            // 5. 통계 재계산 요청 확인 (커밋 이후 어르신/일자 단위로 합쳐서 처리)
+            eventsMock.verify(() -> Events.raise(argThat(event ->
+                event instanceof StatisticsUpdateRequestedEvent requested &&
+                requested.elderId().equals(1) &&
+                requested.date().equals(LocalDate.of(2025, 11, 6))
+            )));
+        }
+    }
+
+    @Test
+    @DisplayName("processAndSaveHealthData - 같은 통화를 다시 분석하면 이전 혈당/복약/식사 기록을 지운 뒤 저장")
+    void processAndSaveHealthData_reanalysis_replacesPreviousRecords() {
+        // given
+        HealthDataExtractionResponse healthData = HealthDataExtractionResponse.builder()
+                .mealData(Collections.singletonList(HealthDataExtractionResponse.MealData.builder().build()))
+                .bloodSugarData(Collections.singletonList(HealthDataExtractionResponse.BloodSugarData.builder().build()))
+                .medicationData(Collections.singletonList(HealthDataExtractionResponse.MedicationData.builder().build()))
+                .build();
+        when(mealRecordRepository.deleteByCareCallRecordId(1)).thenReturn(1);
+
+        try (MockedStatic<Events> ignored = mockStatic(Events.class)) {
+            // when
+            careCallAnalysisResultSaveService.processAndSaveHealthData(callRecord, healthData);
+        }
 
         // then
-        verify(bloodSugarService).saveBloodSugarData(eq(callRecord), anyList());
-        verify(medicationService).saveMedicationTakenRecord(eq(callRecord), anyList());
-        verify(mealRecordService).saveMealData(eq(callRecord), anyList());
-        
-        // 4. 레코드 업데이트 확인 (수면, 심리)
-        verify(careCallRecordRepository).save(argThat(record ->
-            record.getSleepStart() != null &&
-            record.getPsychStatus() == PsychologicalStatus.GOOD
-        ));
-        
-        // 5. 통계 업데이트 확인
-        verify(statisticsUpdateService).updateStatistics(any(CareCallRecord.class));
+        InOrder inOrder = inOrder(bloodSugarRecordRepository, medicationTakenRecordRepository, mealRecordRepository,
+                bloodSugarService, medicationService, mealRecordService);
+        inOrder.verify(bloodSugarRecordRepository).deleteByCareCallRecordId(1);
+        inOrder.verify(medicationTakenRecordRepository).deleteByCareCallRecordId(1);
+        inOrder.verify(mealRecordRepository).deleteByCareCallRecordId(1);
+        inOrder.verify(bloodSugarService).saveBloodSugarData(eq(callRecord), anyList());
+        inOrder.verify(medicationService).saveMedicationTakenRecord(eq(callRecord), anyList());
+        inOrder.verify(mealRecordService).saveMealData(eq(callRecord), anyList());
     }
 
     @Test
@@ -179,20 +222,19 @@ class CareCallAnalysisResultSaveServiceTest {
     }
 
     @Test
-    @DisplayName("AI 코멘트 업데이트 테스트")
-    void updateAiComment_Success() {
+    @DisplayName("AI 코멘트 생성 요청 테스트 - 코멘트는 커밋 이후 비동기로 생성")
+    void updateAiComment_RequestsAsyncGeneration() {
         // given
         callRecord = callRecord.toBuilder().healthDetails("두통").build();
         HealthDataExtractionResponse healthData = HealthDataExtractionResponse.builder().build(); // 빈 응답
 
-        when(aiSummaryService.getSymptomAnalysis(anyList())).thenReturn("병원 방문 권장");
-
         // when
         careCallAnalysisResultSaveService.processAndSaveHealthData(callRecord, healthData);
 
         // then
         verify(careCallRecordRepository).save(argThat(record ->
-                "병원 방문 권장".equals(record.getAiHealthAnalysisComment())
+                record.getAiHealthAnalysisComment() == null &&
+                record.getAiHealthAnalysisStatus() == AiSummaryStatus.PENDING
         ));
     }
 }
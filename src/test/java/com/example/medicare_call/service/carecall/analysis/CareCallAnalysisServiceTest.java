@@ -6,6 +6,7 @@ import com.example.medicare_call.domain.Elder;
 import com.example.medicare_call.dto.data_processor.HealthDataExtractionResponse;
 import com.example.medicare_call.repository.MedicationScheduleRepository;
 import com.example.medicare_call.service.ai.OpenAiChatService;
+import com.example.medicare_call.service.ai.extraction.HealthDataExtractionBatcher;
 import com.example.medicare_call.service.ai.prompt.CareCallDataExtractionPromptBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +21,7 @@ import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -43,6 +45,9 @@ public class CareCallAnalysisServiceTest {
     @Mock
     private CareCallAnalysisResultSaveService careCallAnalysisResultSaveService;
 
+    @Mock
+    private HealthDataExtractionBatcher healthDataExtractionBatcher;
+
     @InjectMocks
     private CareCallAnalysisService careCallAnalysisService;
 
@@ -118,4 +123,24 @@ public class CareCallAnalysisServiceTest {
 
         verify(careCallAnalysisResultSaveService, never()).processAndSaveHealthData(any(), any());
     }
+
+    @Test
+    @DisplayName("일괄 추출 사용 시 다른 통화와 묶어 추출한 결과를 저장")
+    void extractAndSaveHealthDataFromAi_batched() {
+        // given
+        HealthDataExtractionResponse healthData = HealthDataExtractionResponse.builder().healthStatus("좋음").build();
+        when(medicationScheduleRepository.findByElder(any())).thenReturn(Collections.emptyList());
+        when(healthDataExtractionBatcher.isEnabled()).thenReturn(true);
+        when(healthDataExtractionBatcher.extract(argThat(request ->
+                request.getTranscriptionText().equals(callRecord.getTranscriptionText())
+                        && request.getCallDate().equals(LocalDate.of(2023, 10, 10)))))
+                .thenReturn(healthData);
+
+        // when
+        careCallAnalysisService.extractAndSaveHealthDataFromAi(callRecord);
+
+        // then
+        verify(openAiChatService, never()).openAiChat(anyString(), anyString(), any());
+        verify(careCallAnalysisResultSaveService).processAndSaveHealthData(callRecord, healthData);
+    }
 }
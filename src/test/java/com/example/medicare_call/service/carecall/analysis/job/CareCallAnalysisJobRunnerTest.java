@@ -0,0 +1,143 @@
+package com.example.medicare_call.service.carecall.analysis.job;
+
+import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.global.enums.CareCallStatus;
+import com.example.medicare_call.global.event.CareCallAnalysisCompletedEvent;
+import com.example.medicare_call.global.event.Events;
+import com.example.medicare_call.global.event.StatisticsUpdateRequestedEvent;
+import com.example.medicare_call.service.carecall.analysis.CareCallAnalysisService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CareCallAnalysisJobRunner 테스트")
+class CareCallAnalysisJobRunnerTest {
+
+    @Mock
+    private CareCallAnalysisService careCallAnalysisService;
+
+    @Mock
+    private CareCallAnalysisJobService careCallAnalysisJobService;
+
+    @InjectMocks
+    private CareCallAnalysisJobRunner careCallAnalysisJobRunner;
+
+    private final LocalDate callDate = LocalDate.of(2025, 1, 22);
+
+    @Test
+    @DisplayName("분석 성공: 시도 번호로 완료 기록 후 분석 완료 이벤트 발행, 응답한 통화는 부재중 통계 요청 안함")
+    void run_success_marksDoneAndRaisesEvent() {
+        // given
+        CareCallRecord record = createRecord(CareCallStatus.COMPLETED);
+        when(careCallAnalysisJobService.start(1, 2)).thenReturn(true);
+        when(careCallAnalysisJobService.markDone(1, 2)).thenReturn(true);
+
+        // when
+        try (MockedStatic<Events> eventsMock = mockStatic(Events.class)) {
+            careCallAnalysisJobRunner.run(record, 2);
+
+            // then
+            verify(careCallAnalysisService).extractAndSaveHealthDataFromAi(record);
+            eventsMock.verify(() -> Events.raise(argThat(e ->
+                    e instanceof CareCallAnalysisCompletedEvent completed && completed.careCallRecord().equals(record))));
+            eventsMock.verify(() -> Events.raise(any(StatisticsUpdateRequestedEvent.class)), never());
+        }
+    }
+
+    @Test
+    @DisplayName("부재중 통화: 증가시키지 않고 통계 재계산을 요청해 원천 기록에서 다시 집계")
+    void run_missedCall_requestsRecount() {
+        // given
+        CareCallRecord record = createRecord(CareCallStatus.NO_ANSWER);
+        when(careCallAnalysisJobService.start(1, 1)).thenReturn(true);
+        when(careCallAnalysisJobService.markDone(1, 1)).thenReturn(true);
+
+        // when
+        try (MockedStatic<Events> eventsMock = mockStatic(Events.class)) {
+            careCallAnalysisJobRunner.run(record, 1);
+
+            // then
+            eventsMock.verify(() -> Events.raise(argThat(e ->
+                    e instanceof StatisticsUpdateRequestedEvent requested
+                            && requested.elderId().equals(10)
+                            && requested.date().equals(callDate))));
+            eventsMock.verify(() -> Events.raise(any(CareCallAnalysisCompletedEvent.class)));
+        }
+    }
+
+    @Test
+    @DisplayName("분석 실패: 시도 번호와 함께 실패 기록, 분석 완료 이벤트는 발행 안함")
+    void run_extractionFails_recordsFailure() {
+        // given
+        CareCallRecord record = createRecord(CareCallStatus.COMPLETED);
+        RuntimeException failure = new RuntimeException("OpenAI 503");
+        when(careCallAnalysisJobService.start(1, 3)).thenReturn(true);
+        doThrow(failure).when(careCallAnalysisService).extractAndSaveHealthDataFromAi(record);
+
+        // when
+        try (MockedStatic<Events> eventsMock = mockStatic(Events.class)) {
+            careCallAnalysisJobRunner.run(record, 3);
+
+            // then
+            eventsMock.verify(() -> Events.raise(any(CareCallAnalysisCompletedEvent.class)), never());
+        }
+
+        verify(careCallAnalysisJobService).handleFailure(1, 3, failure);
+        verify(careCallAnalysisJobService, never()).markDone(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 다음 시도로 가져간 작업은 실행하지 않음")
+    void run_staleAttempt_skips() {
+        // given
+        CareCallRecord record = createRecord(CareCallStatus.COMPLETED);
+        when(careCallAnalysisJobService.start(1, 1)).thenReturn(false);
+
+        // when
+        careCallAnalysisJobRunner.run(record, 1);
+
+        // then
+        verifyNoInteractions(careCallAnalysisService);
+        verify(careCallAnalysisJobService, never()).markDone(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("완료 기록 전에 다른 시도가 가져갔으면 분석 완료 이벤트를 발행하지 않음")
+    void run_markDoneFenced_doesNotRaiseEvent() {
+        // given
+        CareCallRecord record = createRecord(CareCallStatus.COMPLETED);
+        when(careCallAnalysisJobService.start(1, 1)).thenReturn(true);
+        when(careCallAnalysisJobService.markDone(1, 1)).thenReturn(false);
+
+        // when
+        try (MockedStatic<Events> eventsMock = mockStatic(Events.class)) {
+            careCallAnalysisJobRunner.run(record, 1);
+
+            // then
+            eventsMock.verify(() -> Events.raise(any(CareCallAnalysisCompletedEvent.class)), never());
+        }
+    }
+
+    private CareCallRecord createRecord(CareCallStatus status) {
+        return CareCallRecord.builder()
+                .id(1)
+                .elder(Elder.builder().id(10).build())
+                .callStatus(status.getValue())
+                .transcriptionText("안녕하세요. 혈압이 좀 높아요.")
+                .calledAt(callDate.atTime(9, 0))
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.medicare_call.service.carecall.analysis.job;
+
+import com.example.medicare_call.domain.CareCallAnalysisJob;
+import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.global.config.CareCallAnalysisProperties;
+import com.example.medicare_call.global.enums.CareCallAnalysisJobStatus;
+import com.example.medicare_call.repository.CareCallAnalysisJobRepository;
+import com.example.medicare_call.repository.CareCallRecordRepository;
+import com.example.medicare_call.service.carecall.inbound.CareCallAnalysisExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CareCallAnalysisReplayWorker 테스트")
+class CareCallAnalysisReplayWorkerTest {
+
+    @Mock
+    private CareCallAnalysisJobRepository careCallAnalysisJobRepository;
+
+    @Mock
+    private CareCallRecordRepository careCallRecordRepository;
+
+    @Mock
+    private CareCallAnalysisJobService careCallAnalysisJobService;
+
+    @Mock
+    private CareCallAnalysisJobRunner careCallAnalysisJobRunner;
+
+    @Mock
+    private CareCallAnalysisExecutor careCallAnalysisExecutor;
+
+    private CareCallAnalysisReplayWorker careCallAnalysisReplayWorker;
+
+    @BeforeEach
+    void setUp() {
+        CareCallAnalysisProperties properties = new CareCallAnalysisProperties();
+        properties.setReplayBatchSize(10);
+
+        careCallAnalysisReplayWorker = new CareCallAnalysisReplayWorker(
+                properties,
+                careCallAnalysisJobRepository,
+                careCallRecordRepository,
+                careCallAnalysisJobService,
+                careCallAnalysisJobRunner,
+                careCallAnalysisExecutor,
+                new SimpleMeterRegistry()
+        );
+        careCallAnalysisReplayWorker.init();
+    }
+
+    @Test
+    @DisplayName("분석 대기열 여유만큼만 가져가서 선점한 시도 번호로 실시간 분석과 같은 경로 실행")
+    void drain_replaysWithinQueueCapacity() {
+        // given
+        CareCallRecord record = CareCallRecord.builder().id(100).build();
+        when(careCallAnalysisExecutor.remainingCapacity()).thenReturn(3);
+        when(careCallAnalysisJobRepository.findDueIds(any(), any())).thenReturn(List.of(1L));
+        when(careCallAnalysisJobRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(careCallAnalysisJobRepository.findById(1L)).thenReturn(Optional.of(createJob(1L, 100, 2)));
+        when(careCallRecordRepository.findWithElderAndSettingById(100)).thenReturn(Optional.of(record));
+        runInline();
+
+        // when
+        int claimed = careCallAnalysisReplayWorker.drain();
+
+        // then
+        assertThat(claimed).isEqualTo(1);
+        ArgumentCaptor<Pageable> pageCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(careCallAnalysisJobRepository).findDueIds(any(), pageCaptor.capture());
+        assertThat(pageCaptor.getValue().getPageSize()).isEqualTo(3);
+        verify(careCallAnalysisJobRunner).run(record, 2);
+    }
+
+    @Test
+    @DisplayName("통화 기록이 없으면 선점한 시도 번호로 실패 기록")
+    void drain_recordMissing_marksFailed() {
+        // given
+        when(careCallAnalysisExecutor.remainingCapacity()).thenReturn(10);
+        when(careCallAnalysisJobRepository.findDueIds(any(), any())).thenReturn(List.of(1L));
+        when(careCallAnalysisJobRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(careCallAnalysisJobRepository.findById(1L)).thenReturn(Optional.of(createJob(1L, 100, 3)));
+        when(careCallRecordRepository.findWithElderAndSettingById(100)).thenReturn(Optional.empty());
+        runInline();
+
+        // when
+        careCallAnalysisReplayWorker.drain();
+
+        // then
+        verify(careCallAnalysisJobService).markFailed(eq(100), eq(3), anyString());
+        verifyNoInteractions(careCallAnalysisJobRunner);
+    }
+
+    @Test
+    @DisplayName("분석 대기열이 가득 차면 선점한 시도 번호로 작업을 돌려놓음")
+    void drain_spilled_releasesClaimedAttempt() {
+        // given
+        when(careCallAnalysisExecutor.remainingCapacity()).thenReturn(10);
+        when(careCallAnalysisJobRepository.findDueIds(any(), any())).thenReturn(List.of(1L));
+        when(careCallAnalysisJobRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(careCallAnalysisJobRepository.findById(1L)).thenReturn(Optional.of(createJob(1L, 100, 2)));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(careCallAnalysisExecutor).execute(any(Runnable.class), any(Runnable.class));
+
+        // when
+        careCallAnalysisReplayWorker.drain();
+
+        // then
+        verify(careCallAnalysisJobService).release(100, 2);
+        verifyNoInteractions(careCallAnalysisJobRunner);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 선점한 작업은 건너뜀")
+    void drain_claimedByOther_skips() {
+        // given
+        when(careCallAnalysisExecutor.remainingCapacity()).thenReturn(10);
+        when(careCallAnalysisJobRepository.findDueIds(any(), any())).thenReturn(List.of(1L));
+        when(careCallAnalysisJobRepository.claim(eq(1L), any(), any())).thenReturn(0);
+
+        // when
+        int claimed = careCallAnalysisReplayWorker.drain();
+
+        // then
+        assertThat(claimed).isZero();
+        verify(careCallAnalysisExecutor, never()).execute(any(), any());
+    }
+
+    @Test
+    @DisplayName("분석 대기열에 여유가 없으면 조회하지 않음")
+    void drain_queueFull_doesNothing() {
+        // given
+        when(careCallAnalysisExecutor.remainingCapacity()).thenReturn(0);
+
+        // when
+        int claimed = careCallAnalysisReplayWorker.drain();
+
+        // then
+        assertThat(claimed).isZero();
+        verify(careCallAnalysisJobRepository, never()).findDueIds(any(), any());
+    }
+
+    private void runInline() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(careCallAnalysisExecutor).execute(any(Runnable.class), any(Runnable.class));
+    }
+
+    private CareCallAnalysisJob createJob(Long id, Integer recordId, int attempts) {
+        return CareCallAnalysisJob.builder()
+                .id(id)
+                .recordId(recordId)
+                .status(CareCallAnalysisJobStatus.RUNNING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now().plusMinutes(10))
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.medicare_call.service.carecall.inbound;
+
+import com.example.medicare_call.global.config.CareCallAnalysisProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CareCallAnalysisExecutor 테스트")
+class CareCallAnalysisExecutorTest {
+
+    private CareCallAnalysisProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private CareCallAnalysisExecutor careCallAnalysisExecutor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CareCallAnalysisProperties();
+        properties.setCoreThreads(1);
+        properties.setMaxThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setOverflowPolicy(CareCallAnalysisProperties.OverflowPolicy.CALLER_RUNS);
+
+        meterRegistry = new SimpleMeterRegistry();
+        careCallAnalysisExecutor = new CareCallAnalysisExecutor(properties, meterRegistry);
+        careCallAnalysisExecutor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        careCallAnalysisExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("분석 작업은 전용 스레드에서 실행")
+    void execute_runsOnAnalysisThread() throws InterruptedException {
+        // given
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        careCallAnalysisExecutor.execute(() -> {
+            threadName.set(Thread.currentThread().getName());
+            done.countDown();
+        }, () -> {});
+
+        // then
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).startsWith("care-call-analysis-");
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 호출 스레드에서 실행하고 거부 건수 기록 (CALLER_RUNS)")
+    void execute_queueFull_runsOnCaller() throws InterruptedException {
+        // given
+        CountDownLatch release = saturate();
+
+        // when
+        AtomicReference<String> threadName = new AtomicReference<>();
+        AtomicBoolean spilled = new AtomicBoolean();
+        careCallAnalysisExecutor.execute(() -> threadName.set(Thread.currentThread().getName()), () -> spilled.set(true));
+
+        // then
+        assertThat(threadName.get()).isEqualTo(Thread.currentThread().getName());
+        assertThat(spilled).isFalse();
+        assertThat(meterRegistry.get("carecall.analysis.rejected").tag("policy", "CALLER_RUNS").counter().count()).isEqualTo(1.0);
+        assertThat(careCallAnalysisExecutor.remainingCapacity()).isZero();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 분석하지 않고 돌려놓음 (SPILL)")
+    void execute_queueFull_spills() throws InterruptedException {
+        // given
+        properties.setOverflowPolicy(CareCallAnalysisProperties.OverflowPolicy.SPILL);
+        CountDownLatch release = saturate();
+
+        // when
+        AtomicBoolean ran = new AtomicBoolean();
+        AtomicBoolean spilled = new AtomicBoolean();
+        careCallAnalysisExecutor.execute(() -> ran.set(true), () -> spilled.set(true));
+
+        // then
+        assertThat(spilled).isTrue();
+        assertThat(ran).isFalse();
+        assertThat(meterRegistry.get("carecall.analysis.rejected").tag("policy", "SPILL").counter().count()).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    // 스레드 1개를 점유하고 대기열 1칸을 채움, 반환한 latch를 내리면 풀려남
+    private CountDownLatch saturate() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        careCallAnalysisExecutor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        }, () -> {});
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        careCallAnalysisExecutor.execute(() -> {}, () -> {});
+        return release;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
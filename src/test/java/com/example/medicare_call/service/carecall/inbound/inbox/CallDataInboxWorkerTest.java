@@ -0,0 +1,173 @@
+package com.example.medicare_call.service.carecall.inbound.inbox;
+
+import com.example.medicare_call.domain.CallDataInbox;
+import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.dto.data_processor.CareCallDataProcessRequest;
+import com.example.medicare_call.global.config.CallDataIngestProperties;
+import com.example.medicare_call.global.enums.CallDataInboxStatus;
+import com.example.medicare_call.global.enums.CareCallStatus;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.repository.CallDataInboxRepository;
+import com.example.medicare_call.service.carecall.inbound.CareCallService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CallDataInboxWorker 테스트")
+class CallDataInboxWorkerTest {
+
+    @Mock
+    private CallDataInboxRepository callDataInboxRepository;
+
+    @Mock
+    private CareCallService careCallService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private CallDataIngestProperties properties;
+    private CallDataInboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CallDataIngestProperties();
+        properties.setConcurrency(1);
+        properties.setBatchSize(10);
+        properties.setMaxAttempts(3);
+        properties.setRetryBackoff(Duration.ofSeconds(10));
+
+        worker = new CallDataInboxWorker(properties, callDataInboxRepository, careCallService, objectMapper,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry());
+        worker.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("선점한 묶음을 한 트랜잭션으로 저장하고 저장 완료 처리")
+    void drain_savesBatchInSingleTransaction() throws Exception {
+        // given
+        stubClaimedBatch(List.of(createInbox(1L, 1, 1), createInbox(2L, 2, 1)));
+        when(careCallService.saveCallData(any())).thenReturn(CareCallRecord.builder().id(100).build());
+        when(callDataInboxRepository.markDone(anyLong(), anyString(), eq(100), any())).thenReturn(1);
+
+        // when
+        int claimed = worker.drain();
+
+        // then
+        assertThat(claimed).isEqualTo(1);
+        verify(callDataInboxRepository, timeout(2000)).markDone(eq(2L), anyString(), eq(100), any());
+        verify(callDataInboxRepository).markDone(eq(1L), anyString(), eq(100), any());
+        verify(transactionManager, timeout(2000).times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("묶음 저장 실패 시 건별로 다시 저장하고, 데이터 오류 건은 재시도 없이 실패 처리")
+    void drain_batchFailure_fallsBackToIndividualSaves() throws Exception {
+        // given
+        stubClaimedBatch(List.of(createInbox(1L, 1, 1), createInbox(2L, 99, 1)));
+        when(careCallService.saveCallData(argThat(request -> request != null && request.getElderId() == 1)))
+                .thenReturn(CareCallRecord.builder().id(100).build());
+        when(careCallService.saveCallData(argThat(request -> request != null && request.getElderId() == 99)))
+                .thenThrow(new CustomException(ErrorCode.ELDER_NOT_FOUND));
+        when(callDataInboxRepository.markDone(eq(1L), anyString(), eq(100), any())).thenReturn(1);
+        when(callDataInboxRepository.markFailed(eq(2L), anyString(), anyString())).thenReturn(1);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(callDataInboxRepository, timeout(2000)).markFailed(eq(2L), anyString(), contains("CustomException"));
+        verify(callDataInboxRepository, timeout(2000).atLeastOnce()).markDone(eq(1L), anyString(), eq(100), any());
+        verify(callDataInboxRepository, never()).scheduleRetry(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("일시적인 오류는 시도 횟수만큼 늘어난 대기 후 재시도 예약")
+    void drain_transientFailure_schedulesRetry() throws Exception {
+        // given
+        stubClaimedBatch(List.of(createInbox(1L, 1, 2)));
+        when(careCallService.saveCallData(any())).thenThrow(new RuntimeException("Lock wait timeout exceeded"));
+        when(callDataInboxRepository.scheduleRetry(eq(1L), anyString(), any(), anyString())).thenReturn(1);
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        worker.drain();
+
+        // then
+        verify(callDataInboxRepository, timeout(2000)).scheduleRetry(eq(1L), anyString(),
+                argThat(next -> !next.isBefore(before.plusSeconds(20))), contains("Lock wait timeout"));
+        verify(callDataInboxRepository, never()).markFailed(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 다시 선점한 건은 완료 기록이 반영되지 않으므로 통화 기록 저장을 롤백")
+    void drain_claimTakenOver_rollsBackRecord() throws Exception {
+        // given
+        stubClaimedBatch(List.of(createInbox(1L, 1, 1)));
+        when(careCallService.saveCallData(any())).thenReturn(CareCallRecord.builder().id(100).build());
+        when(callDataInboxRepository.markDone(eq(1L), anyString(), eq(100), any())).thenReturn(0);
+
+        // when
+        worker.drain();
+
+        // then
+        // 묶음 트랜잭션과 건별 트랜잭션 모두 롤백되고 재시도/실패로 기록하지 않음
+        verify(transactionManager, timeout(2000).times(2)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(callDataInboxRepository, never()).scheduleRetry(any(), any(), any(), any());
+        verify(callDataInboxRepository, never()).markFailed(any(), any(), any());
+    }
+
+    private void stubClaimedBatch(List<CallDataInbox> batch) {
+        List<Long> ids = batch.stream().map(CallDataInbox::getId).toList();
+        when(callDataInboxRepository.countByStatus(CallDataInboxStatus.PENDING)).thenReturn((long) batch.size());
+        when(callDataInboxRepository.findDueIds(any(), any())).thenReturn(ids, Collections.emptyList());
+        when(callDataInboxRepository.claim(eq(ids), anyString(), any(), any())).thenReturn(batch.size());
+        when(callDataInboxRepository.findByClaimTokenOrderById(anyString())).thenReturn(batch);
+    }
+
+    private CallDataInbox createInbox(Long id, Integer elderId, int attempts) throws Exception {
+        CareCallDataProcessRequest request = CareCallDataProcessRequest.builder()
+                .elderId(elderId)
+                .settingId(2)
+                .startTime(Instant.parse("2025-01-27T10:00:00Z"))
+                .status(CareCallStatus.COMPLETED)
+                .responded((byte) 1)
+                .build();
+        return CallDataInbox.builder()
+                .id(id)
+                .elderId(elderId)
+                .settingId(2)
+                .payload(objectMapper.writeValueAsString(request))
+                .status(CallDataInboxStatus.PROCESSING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
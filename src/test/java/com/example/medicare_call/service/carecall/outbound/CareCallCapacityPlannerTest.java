@@ -0,0 +1,86 @@
+package com.example.medicare_call.service.carecall.outbound;
+
+import com.example.medicare_call.global.config.CareCallScheduleProperties;
+import com.example.medicare_call.repository.CareCallSettingRepository;
+import com.example.medicare_call.service.carecall.outbound.CareCallCapacityPlanner.MinuteLoad;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CareCallCapacityPlanner 테스트")
+class CareCallCapacityPlannerTest {
+
+    @Mock
+    private CareCallSettingRepository careCallSettingRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CareCallScheduleIndex careCallScheduleIndex;
+    private CareCallCapacityPlanner careCallCapacityPlanner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        careCallScheduleIndex = new CareCallScheduleIndex(careCallSettingRepository, meterRegistry);
+        careCallScheduleIndex.init();
+
+        CareCallScheduleProperties properties = new CareCallScheduleProperties();
+        properties.setCapacityBucketMinutes(15);
+        careCallCapacityPlanner = new CareCallCapacityPlanner(careCallScheduleIndex, properties, meterRegistry);
+        careCallCapacityPlanner.init();
+    }
+
+    @Test
+    @DisplayName("기준 이상 예약된 분을 건수 내림차순으로 조회")
+    void hotMinutes_returnsMinutesAboveThresholdSortedByLoad() {
+        // given
+        careCallScheduleIndex.upsert(1, 1, LocalTime.of(9, 0), LocalTime.of(13, 0), null);
+        careCallScheduleIndex.upsert(2, 2, LocalTime.of(9, 0), LocalTime.of(13, 0), null);
+        careCallScheduleIndex.upsert(3, 3, LocalTime.of(9, 0), LocalTime.of(9, 5), null);
+
+        // when
+        List<MinuteLoad> hotMinutes = careCallCapacityPlanner.hotMinutes(2);
+
+        // then
+        assertThat(hotMinutes).containsExactly(
+                new MinuteLoad(LocalTime.of(9, 0), 3, 3, 0, 0),
+                new MinuteLoad(LocalTime.of(13, 0), 2, 0, 2, 0)
+        );
+        assertThat(careCallCapacityPlanner.peakMinute().minute()).isEqualTo(LocalTime.of(9, 0));
+    }
+
+    @Test
+    @DisplayName("설정 변경 시 구간별 예약 건수 지표가 증분 반영됨")
+    void plannedCallsGauge_followsSettingChanges() {
+        // given
+        careCallScheduleIndex.upsert(1, 1, LocalTime.of(9, 0), null, null);
+        careCallScheduleIndex.upsert(2, 2, LocalTime.of(9, 14), null, null);
+        assertThat(plannedCalls("09:00", "FIRST")).isEqualTo(2);
+
+        // when
+        careCallScheduleIndex.upsert(2, 2, LocalTime.of(9, 15), null, null);
+        careCallScheduleIndex.removeElder(1);
+
+        // then
+        assertThat(plannedCalls("09:00", "FIRST")).isZero();
+        assertThat(plannedCalls("09:15", "FIRST")).isEqualTo(1);
+        assertThat(meterRegistry.get("carecall.schedule.peak_minute_calls").gauge().value()).isEqualTo(1);
+    }
+
+    private double plannedCalls(String bucket, String callType) {
+        return meterRegistry.get("carecall.schedule.planned_calls")
+                .tag("bucket", bucket)
+                .tag("callType", callType)
+                .gauge()
+                .value();
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.medicare_call.service.carecall.outbound;
+
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.global.config.CareCallDispatchProperties;
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.service.carecall.outbound.CareCallDispatcher.CallRequest;
+import com.example.medicare_call.service.carecall.outbound.CareCallRequestSenderService.CallContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CareCallDispatcher 테스트")
+class CareCallDispatcherTest {
+
+    @Mock
+    private CareCallRequestSenderService careCallRequestSenderService;
+
+    private CareCallDispatchProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private CareCallDispatcher careCallDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CareCallDispatchProperties();
+        properties.setConcurrency(2);
+        properties.setCallsPerSecond(0);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        careCallDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 발송 수는 설정한 값을 넘지 않음")
+    void dispatch_respectsConcurrencyCap() {
+        // given
+        startDispatcher();
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        doAnswer(invocation -> {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            current.decrementAndGet();
+            return null;
+        }).when(careCallRequestSenderService).sendCall(anyInt(), anyInt(), any(), anyString());
+
+        List<CallRequest> requests = IntStream.rangeClosed(1, 8)
+                .mapToObj(id -> new CallRequest(id, id, CallType.FIRST, LocalDateTime.now()))
+                .toList();
+
+        // when
+        careCallDispatcher.dispatch(requests);
+
+        // then
+        verify(careCallRequestSenderService, timeout(2000).times(8)).sendCall(anyInt(), anyInt(), eq(CallType.FIRST), anyString());
+        careCallDispatcher.shutdown();
+        assertThat(max.get()).isLessThanOrEqualTo(2);
+        assertThat(meterRegistry.counter("carecall.dispatch.calls", "result", "sent").count()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("예약 시각이 이른 순서로 일정 간격을 두고 발송")
+    void dispatch_pacesInDueOrder() {
+        // given
+        properties.setConcurrency(1);
+        properties.setCallsPerSecond(20);
+        startDispatcher();
+        List<Integer> sentOrder = new ArrayList<>();
+        List<Long> sentAt = new ArrayList<>();
+        doAnswer(invocation -> {
+            sentOrder.add(invocation.getArgument(1));
+            sentAt.add(System.nanoTime());
+            return null;
+        }).when(careCallRequestSenderService).sendCall(anyInt(), anyInt(), any(), anyString());
+
+        LocalDateTime base = LocalDateTime.now();
+        List<CallRequest> requests = List.of(
+                new CallRequest(3, 3, CallType.FIRST, base.minusMinutes(1)),
+                new CallRequest(1, 1, CallType.FIRST, base.minusMinutes(3)),
+                new CallRequest(2, 2, CallType.SECOND, base.minusMinutes(2))
+        );
+
+        // when
+        careCallDispatcher.dispatch(requests);
+
+        // then
+        verify(careCallRequestSenderService, timeout(2000).times(3)).sendCall(anyInt(), anyInt(), any(), anyString());
+        careCallDispatcher.shutdown();
+        assertThat(sentOrder).containsExactly(1, 2, 3);
+        // 초당 20건 -> 50ms 간격
+        assertThat(sentAt.get(2) - sentAt.get(0)).isGreaterThanOrEqualTo(90_000_000L);
+    }
+
+    @Test
+    @DisplayName("발송 실패 건이 있어도 나머지는 계속 발송")
+    void dispatch_failureDoesNotStopOthers() {
+        // given
+        startDispatcher();
+        LocalDateTime dueAt = LocalDateTime.now();
+        doThrow(new CustomException(ErrorCode.ELDER_NOT_FOUND))
+                .when(careCallRequestSenderService).sendCall(1, 1, CallType.FIRST, "1:FIRST:" + dueAt.truncatedTo(ChronoUnit.MINUTES));
+
+        List<CallRequest> requests = List.of(
+                new CallRequest(1, 1, CallType.FIRST, dueAt),
+                new CallRequest(2, 2, CallType.FIRST, dueAt)
+        );
+
+        // when
+        careCallDispatcher.dispatch(requests);
+
+        // then
+        verify(careCallRequestSenderService, timeout(2000)).sendCall(2, 2, CallType.FIRST, "2:FIRST:" + dueAt.truncatedTo(ChronoUnit.MINUTES));
+        verify(careCallRequestSenderService, timeout(2000)).sendCall(1, 1, CallType.FIRST, "1:FIRST:" + dueAt.truncatedTo(ChronoUnit.MINUTES));
+        careCallDispatcher.shutdown();
+        assertThat(meterRegistry.counter("carecall.dispatch.calls", "result", "failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발송 정보를 배치 단위로 한 번에 조회하여 건별 조회 없이 발송")
+    void dispatch_prefetchesContextsPerBatch() {
+        // given
+        properties.setPrefetchBatchSize(2);
+        startDispatcher();
+        CallContext context1 = new CallContext(Elder.builder().id(1).build(), null, List.of(), List.of());
+        CallContext context2 = new CallContext(Elder.builder().id(2).build(), null, List.of(), List.of());
+        CallContext context3 = new CallContext(Elder.builder().id(3).build(), null, List.of(), List.of());
+        when(careCallRequestSenderService.loadCallContexts(List.of(1, 2))).thenReturn(Map.of(1, context1, 2, context2));
+        when(careCallRequestSenderService.loadCallContexts(List.of(3))).thenReturn(Map.of(3, context3));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CallRequest> requests = List.of(
+                new CallRequest(1, 1, CallType.FIRST, now),
+                new CallRequest(2, 2, CallType.FIRST, now.plusSeconds(1)),
+                new CallRequest(3, 3, CallType.FIRST, now.plusSeconds(2))
+        );
+
+        // when
+        careCallDispatcher.dispatch(requests);
+
+        // then
+        verify(careCallRequestSenderService, timeout(2000)).sendCall(eq(1), eq(context1), eq(CallType.FIRST), anyString());
+        verify(careCallRequestSenderService, timeout(2000)).sendCall(eq(2), eq(context2), eq(CallType.FIRST), anyString());
+        verify(careCallRequestSenderService, timeout(2000)).sendCall(eq(3), eq(context3), eq(CallType.FIRST), anyString());
+        careCallDispatcher.shutdown();
+        verify(careCallRequestSenderService, times(2)).loadCallContexts(any());
+        verify(careCallRequestSenderService, never()).sendCall(anyInt(), anyInt(), any(), anyString());
+    }
+
+    private void startDispatcher() {
+        careCallDispatcher = new CareCallDispatcher(properties, careCallRequestSenderService, meterRegistry);
+        careCallDispatcher.init();
+    }
+}
@@ -8,7 +8,8 @@ import com.example.medicare_call.repository.ElderDiseaseRepository;
 import com.example.medicare_call.repository.ElderHealthInfoRepository;
 import com.example.medicare_call.repository.ElderRepository;
 import com.example.medicare_call.repository.MedicationScheduleRepository;
-import com.example.medicare_call.service.carecall.outbound.client.CareCallClient;
+import com.example.medicare_call.service.carecall.outbound.outbox.OutboundCallOutboxService;
+import com.example.medicare_call.service.carecall.outbound.prompt.CallPromptCache;
 import com.example.medicare_call.service.carecall.outbound.prompt.CallPromptGenerator;
 import com.example.medicare_call.service.carecall.outbound.prompt.CallPromptGeneratorFactory;
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +21,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,9 +49,11 @@ class CareCallRequestSenderServiceTest {
     @Mock
     private CallPromptGeneratorFactory callPromptGeneratorFactory;
     @Mock
-    private CareCallClient careCallClient;
+    private OutboundCallOutboxService outboundCallOutboxService;
     @Mock
     private CallPromptGenerator promptGenerator;
+    @Mock
+    private CallPromptCache callPromptCache;
 
     @InjectMocks
     private CareCallRequestSenderService careCallRequestSenderService;
@@ -68,12 +78,14 @@ class CareCallRequestSenderServiceTest {
         
         when(callPromptGeneratorFactory.getGenerator(callType)).thenReturn(promptGenerator);
         when(promptGenerator.generate(elder, healthInfo, diseases, medicationSchedules)).thenReturn("생성된 프롬프트");
+        when(callPromptCache.getOrGenerate(eq(callType), eq(elder), eq(healthInfo), eq(diseases), eq(medicationSchedules), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<String>>getArgument(5).get());
 
         // when
         careCallRequestSenderService.sendCall(settingId, elderId, callType);
 
         // then
-        verify(careCallClient).requestCall(settingId, elderId, "01012345678", "생성된 프롬프트");
+        verify(outboundCallOutboxService).enqueue(anyString(), eq(settingId), eq(elderId), eq(callType), eq("01012345678"), eq("생성된 프롬프트"));
     }
 
     @Test
@@ -88,4 +100,39 @@ class CareCallRequestSenderServiceTest {
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.ELDER_NOT_FOUND);
     }
+
+    @Test
+    @DisplayName("발송 정보 일괄 조회 - 어르신별로 건강 정보, 질병, 복약 일정을 묶음")
+    void loadCallContexts_groupsByElder() {
+        // given
+        Elder elder1 = Elder.builder().id(1).phone("01011112222").build();
+        Elder elder2 = Elder.builder().id(2).phone("01033334444").build();
+        List<Integer> elderIds = List.of(1, 2, 3);
+
+        ElderHealthInfo healthInfo1 = ElderHealthInfo.builder().elder(elder1).build();
+        Disease diabetes = Disease.builder().id(1).name("당뇨").build();
+        Disease hypertension = Disease.builder().id(2).name("고혈압").build();
+        MedicationSchedule schedule2 = MedicationSchedule.builder().elder(elder2).name("혈압약").build();
+
+        when(elderRepository.findAllById(elderIds)).thenReturn(List.of(elder1, elder2));
+        when(healthInfoRepository.findByElderIdIn(elderIds)).thenReturn(List.of(healthInfo1));
+        when(elderDiseaseRepository.findWithDiseaseByElderIdIn(elderIds)).thenReturn(List.of(
+                ElderDisease.builder().elder(elder1).disease(diabetes).build(),
+                ElderDisease.builder().elder(elder1).disease(hypertension).build()
+        ));
+        when(medicationScheduleRepository.findByElderIdIn(elderIds)).thenReturn(List.of(schedule2));
+
+        // when
+        Map<Integer, CareCallRequestSenderService.CallContext> contexts = careCallRequestSenderService.loadCallContexts(elderIds);
+
+        // then
+        assertThat(contexts).containsOnlyKeys(1, 2);
+        assertThat(contexts.get(1).healthInfo()).isEqualTo(healthInfo1);
+        assertThat(contexts.get(1).diseases()).containsExactly(diabetes, hypertension);
+        assertThat(contexts.get(1).medicationSchedules()).isEmpty();
+        assertThat(contexts.get(2).healthInfo()).isNull();
+        assertThat(contexts.get(2).diseases()).isEmpty();
+        assertThat(contexts.get(2).medicationSchedules()).containsExactly(schedule2);
+        verify(elderRepository, never()).findById(1);
+    }
 }
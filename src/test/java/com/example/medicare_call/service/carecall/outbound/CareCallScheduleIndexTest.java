@@ -0,0 +1,110 @@
+package com.example.medicare_call.service.carecall.outbound;
+
+import com.example.medicare_call.domain.CareCallSetting;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.repository.CareCallSettingRepository;
+import com.example.medicare_call.service.carecall.outbound.CareCallScheduleIndex.ScheduledCall;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CareCallScheduleIndex 테스트")
+class CareCallScheduleIndexTest {
+
+    @Mock
+    private CareCallSettingRepository careCallSettingRepository;
+
+    private CareCallScheduleIndex careCallScheduleIndex;
+
+    @BeforeEach
+    void setUp() {
+        careCallScheduleIndex = new CareCallScheduleIndex(careCallSettingRepository, new SimpleMeterRegistry());
+        careCallScheduleIndex.init();
+    }
+
+    @Test
+    @DisplayName("설정 전체로 인덱스 구성 시 회차별 시각의 분 슬롯에 등록")
+    void rebuild_bucketsByMinuteOfDay() {
+        // given
+        CareCallSetting setting = CareCallSetting.builder()
+                .id(10)
+                .elder(Elder.builder().id(1).build())
+                .firstCallTime(LocalTime.of(9, 0))
+                .secondCallTime(LocalTime.of(13, 30))
+                .thirdCallTime(LocalTime.of(19, 0))
+                .build();
+        when(careCallSettingRepository.findAllActive()).thenReturn(List.of(setting));
+
+        // when
+        careCallScheduleIndex.rebuild();
+
+        // then
+        assertThat(careCallScheduleIndex.callsAt(LocalTime.of(9, 0, 30)))
+                .containsExactly(new ScheduledCall(10, 1, CallType.FIRST, LocalTime.of(9, 0)));
+        assertThat(careCallScheduleIndex.callsAt(LocalTime.of(13, 30)))
+                .containsExactly(new ScheduledCall(10, 1, CallType.SECOND, LocalTime.of(13, 30)));
+        assertThat(careCallScheduleIndex.callsAt(LocalTime.of(19, 0)))
+                .containsExactly(new ScheduledCall(10, 1, CallType.THIRD, LocalTime.of(19, 0)));
+        assertThat(careCallScheduleIndex.callsAt(LocalTime.of(9, 1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("설정 변경 시 기존 시각에서 제거하고 새 시각에 등록")
+    void upsert_movesCallsToNewSlots() {
+        // given
+        careCallScheduleIndex.upsert(10, 1, LocalTime.of(9, 0), LocalTime.of(13, 0), LocalTime.of(19, 0));
+
+        // when
+        careCallScheduleIndex.upsert(10, 1, LocalTime.of(10, 0), LocalTime.of(13, 0), LocalTime.of(20, 0));
+
+        // then
+        assertThat(careCallScheduleIndex.callsAt(LocalTime.of(9, 0))).isEmpty();
+        assertThat(careCallScheduleIndex.callsAt(LocalTime.of(19, 0))).isEmpty();
+        assertThat(careCallScheduleIndex.callsAt(LocalTime.of(10, 0))).hasSize(1);
+        assertThat(careCallScheduleIndex.callsAt(LocalTime.of(13, 0))).hasSize(1);
+        assertThat(careCallScheduleIndex.callsAt(LocalTime.of(20, 0))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("어르신 삭제 시 모든 회차 일정 제거")
+    void removeElder_removesAllCalls() {
+        // given
+        careCallScheduleIndex.upsert(10, 1, LocalTime.of(9, 0), LocalTime.of(13, 0), LocalTime.of(19, 0));
+        careCallScheduleIndex.upsert(20, 2, LocalTime.of(9, 0), LocalTime.of(14, 0), LocalTime.of(20, 0));
+
+        // when
+        careCallScheduleIndex.removeElder(1);
+
+        // then
+        assertThat(careCallScheduleIndex.callsAt(LocalTime.of(9, 0)))
+                .containsExactly(new ScheduledCall(20, 2, CallType.FIRST, LocalTime.of(9, 0)));
+        assertThat(careCallScheduleIndex.callsAt(LocalTime.of(13, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성 주기가 지나지 않았으면 DB를 다시 조회하지 않음")
+    void rebuildIfStale_skipsWhenFresh() {
+        // given
+        when(careCallSettingRepository.findAllActive()).thenReturn(List.of());
+
+        // when
+        careCallScheduleIndex.rebuildIfStale(Duration.ofMinutes(10));
+        careCallScheduleIndex.rebuildIfStale(Duration.ofMinutes(10));
+
+        // then
+        verify(careCallSettingRepository, times(1)).findAllActive();
+    }
+}
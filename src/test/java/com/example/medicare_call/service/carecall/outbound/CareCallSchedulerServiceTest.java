@@ -1,60 +1,140 @@
 package com.example.medicare_call.service.carecall.outbound;
 
-import com.example.medicare_call.domain.CareCallSetting;
-import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.global.config.CareCallScheduleProperties;
 import com.example.medicare_call.global.enums.CallType;
-import com.example.medicare_call.repository.CareCallSettingRepository;
+import com.example.medicare_call.service.carecall.outbound.CareCallDispatcher.CallRequest;
+import com.example.medicare_call.service.carecall.outbound.CareCallScheduleIndex.ScheduledCall;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.List;
 
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class CareCallSchedulerServiceTest {
     @Mock
-    private CareCallSettingRepository careCallSettingRepository;
+    private CareCallScheduleIndex careCallScheduleIndex;
 
     @Mock
-    private CareCallRequestSenderService callService;
+    private CareCallDispatcher careCallDispatcher;
+
+    @Mock
+    private CareCallShardCoordinator careCallShardCoordinator;
 
-    @InjectMocks
     private CareCallSchedulerService schedulerService;
 
+    @BeforeEach
+    void setUp() {
+        schedulerService = new CareCallSchedulerService(careCallScheduleIndex, careCallDispatcher, careCallShardCoordinator, new CareCallScheduleProperties());
+    }
+
     @Test
     void testCheckAndSendCalls_shouldCallEldersWithMatchingTimes() {
         // given
         LocalTime startTime = LocalTime.of(10, 0);
         LocalTime endTime = LocalTime.of(10, 10);
 
+        when(careCallScheduleIndex.callsAt(any())).thenReturn(Collections.emptyList());
+        when(careCallScheduleIndex.callsAt(LocalTime.of(10, 5)))
+                .thenReturn(List.of(new ScheduledCall(11, 1, CallType.FIRST, LocalTime.of(10, 5))));
+        when(careCallScheduleIndex.callsAt(LocalTime.of(10, 8)))
+                .thenReturn(List.of(new ScheduledCall(12, 2, CallType.SECOND, LocalTime.of(10, 8))));
 
-        Elder dummyElder1 = Elder.builder().id(1).build();
-        Elder dummyElder2 = Elder.builder().id(2).build();
+        // when
+        schedulerService.checkAndSendCallsInRange(startTime, endTime);
 
-        CareCallSetting firstSetting = CareCallSetting.builder()
-                .elder(dummyElder1)
-                .firstCallTime(LocalTime.of(10, 5))
-                .build();
+        // then
+        ArgumentCaptor<List<CallRequest>> requestsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(careCallDispatcher).dispatch(requestsCaptor.capture());
 
-        CareCallSetting secondSetting = CareCallSetting.builder()
-                .elder(dummyElder2)
-                .secondCallTime(LocalTime.of(10, 8))
-                .build();
+        LocalDate today = LocalDate.now();
+        assertThat(requestsCaptor.getValue()).containsExactly(
+                new CallRequest(11, 1, CallType.FIRST, today.atTime(10, 5)),
+                new CallRequest(12, 2, CallType.SECOND, today.atTime(10, 8))
+        );
+        verify(careCallScheduleIndex, times(11)).callsAt(any());
+    }
 
-        when(careCallSettingRepository.findByFirstCallTimeBetween(startTime, endTime)).thenReturn(List.of(firstSetting));
-        when(careCallSettingRepository.findBySecondCallTimeBetween(startTime, endTime)).thenReturn(List.of(secondSetting));
+    @Test
+    void testCheckAndSendCallsInRange_shouldWrapAroundMidnight() {
+        // given
+        when(careCallScheduleIndex.callsAt(any())).thenReturn(Collections.emptyList());
+        when(careCallScheduleIndex.callsAt(LocalTime.of(23, 58)))
+                .thenReturn(List.of(new ScheduledCall(11, 1, CallType.THIRD, LocalTime.of(23, 58))));
+        when(careCallScheduleIndex.callsAt(LocalTime.of(0, 3)))
+                .thenReturn(List.of(new ScheduledCall(12, 2, CallType.FIRST, LocalTime.of(0, 3))));
 
         // when
-        schedulerService.checkAndSendCallsInRange(startTime, endTime);
+        schedulerService.checkAndSendCallsInRange(LocalTime.of(23, 55), LocalTime.of(0, 5));
 
         // then
-        verify(callService).sendCall(firstSetting.getId(), dummyElder1.getId(), CallType.FIRST);
-        verify(callService).sendCall(secondSetting.getId(), dummyElder2.getId(), CallType.SECOND);
+        ArgumentCaptor<List<CallRequest>> requestsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(careCallDispatcher).dispatch(requestsCaptor.capture());
+
+        LocalDate today = LocalDate.now();
+        assertThat(requestsCaptor.getValue()).containsExactly(
+                new CallRequest(11, 1, CallType.THIRD, today.minusDays(1).atTime(23, 58)),
+                new CallRequest(12, 2, CallType.FIRST, today.atTime(0, 3))
+        );
+    }
+
+    @Test
+    void testCheckAndSendCalls_noTargets_shouldNotDispatch() {
+        // given
+        when(careCallScheduleIndex.callsAt(any())).thenReturn(Collections.emptyList());
+
+        // when
+        schedulerService.checkAndSendCalls();
+
+        // then
+        verify(careCallScheduleIndex).rebuildIfStale(any());
+        verifyNoInteractions(careCallDispatcher);
+    }
+
+    @Test
+    void testCheckAndSendCalls_ownedShardDispatchedNow_othersTakenOverOnlyIfUnclaimed() {
+        // given
+        LocalDateTime minute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        when(careCallScheduleIndex.callsAt(any())).thenReturn(List.of(
+                new ScheduledCall(11, 1, CallType.FIRST, minute.toLocalTime()),
+                new ScheduledCall(12, 2, CallType.FIRST, minute.toLocalTime()),
+                new ScheduledCall(13, 3, CallType.FIRST, minute.toLocalTime())
+        ));
+        when(careCallShardCoordinator.shardOf(1)).thenReturn(0);
+        when(careCallShardCoordinator.shardOf(2)).thenReturn(1);
+        when(careCallShardCoordinator.shardOf(3)).thenReturn(2);
+        when(careCallShardCoordinator.isOwner(0)).thenReturn(true);
+        when(careCallShardCoordinator.isOwner(1)).thenReturn(false);
+        when(careCallShardCoordinator.isOwner(2)).thenReturn(false);
+        when(careCallShardCoordinator.tryClaim(any(), eq(0), eq(false))).thenReturn(true);
+        // 샤드 1은 소유 노드가 이미 발송, 샤드 2는 발송되지 않아 넘겨받음
+        when(careCallShardCoordinator.tryClaim(any(), eq(1), eq(true))).thenReturn(false);
+        when(careCallShardCoordinator.tryClaim(any(), eq(2), eq(true))).thenReturn(true);
+
+        // when
+        schedulerService.checkAndSendCalls();
+
+        // then
+        ArgumentCaptor<Runnable> takeoverCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(careCallShardCoordinator).scheduleTakeover(takeoverCaptor.capture());
+        takeoverCaptor.getValue().run();
+
+        ArgumentCaptor<List<CallRequest>> requestsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(careCallDispatcher, times(2)).dispatch(requestsCaptor.capture());
+        assertThat(requestsCaptor.getAllValues().get(0)).extracting(CallRequest::elderId).containsExactly(1);
+        assertThat(requestsCaptor.getAllValues().get(1)).extracting(CallRequest::elderId).containsExactly(3);
     }
 }
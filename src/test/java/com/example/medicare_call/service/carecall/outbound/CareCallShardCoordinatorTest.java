@@ -0,0 +1,137 @@
+package com.example.medicare_call.service.carecall.outbound;
+
+import com.example.medicare_call.global.config.CareCallScheduleProperties;
+import com.example.medicare_call.repository.CareCallSchedulerClusterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CareCallShardCoordinator 테스트")
+class CareCallShardCoordinatorTest {
+
+    @Mock
+    private CareCallSchedulerClusterRepository clusterRepository;
+
+    private CareCallScheduleProperties properties;
+    private final List<String> liveMembers = new ArrayList<>();
+    private final List<CareCallShardCoordinator> coordinators = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        properties = new CareCallScheduleProperties();
+        properties.setShards(32);
+        // 자동 생존 신호는 init 직후 한 번만 실행되도록 주기를 길게 설정
+        properties.setHeartbeatInterval(Duration.ofHours(1));
+        lenient().when(clusterRepository.findLiveMembers(anyLong())).thenAnswer(invocation -> List.copyOf(liveMembers));
+    }
+
+    @AfterEach
+    void tearDown() {
+        coordinators.forEach(CareCallShardCoordinator::shutdown);
+    }
+
+    @Test
+    @DisplayName("모든 샤드는 노드 간에 같은 소유자로 배정되고 노드마다 나누어 맡음")
+    void ownership_partitionsShardsConsistently() {
+        // given
+        CareCallShardCoordinator first = start();
+        CareCallShardCoordinator second = start();
+        liveMembers.addAll(List.of(first.nodeId(), second.nodeId()));
+
+        // when
+        first.heartbeat();
+        second.heartbeat();
+
+        // then
+        IntStream.range(0, 32).forEach(shard -> assertThat(first.ownerOf(shard)).isEqualTo(second.ownerOf(shard)));
+        Set<Integer> firstOwned = first.ownedShards();
+        Set<Integer> secondOwned = second.ownedShards();
+        assertThat(firstOwned).isNotEmpty().doesNotContainAnyElementsOf(secondOwned);
+        assertThat(secondOwned).isNotEmpty();
+        assertThat(firstOwned.size() + secondOwned.size()).isEqualTo(32);
+    }
+
+    @Test
+    @DisplayName("노드가 제외되면 해당 노드의 샤드만 다른 노드로 옮겨 감")
+    void ownership_nodeLeaves_onlyItsShardsMove() {
+        // given
+        CareCallShardCoordinator first = start();
+        CareCallShardCoordinator second = start();
+        CareCallShardCoordinator third = start();
+        liveMembers.addAll(List.of(first.nodeId(), second.nodeId(), third.nodeId()));
+        first.heartbeat();
+        Set<Integer> firstBefore = new HashSet<>(first.ownedShards());
+        Set<Integer> thirdOwned = IntStream.range(0, 32).filter(shard -> first.ownerOf(shard).equals(third.nodeId()))
+                .boxed().collect(Collectors.toSet());
+
+        // when
+        liveMembers.remove(third.nodeId());
+        first.heartbeat();
+
+        // then
+        assertThat(first.ownedShards()).containsAll(firstBefore);
+        IntStream.range(0, 32).forEach(shard -> assertThat(first.ownerOf(shard)).isNotEqualTo(third.nodeId()));
+        Set<Integer> moved = new HashSet<>(first.ownedShards());
+        moved.removeAll(firstBefore);
+        assertThat(thirdOwned).containsAll(moved);
+    }
+
+    @Test
+    @DisplayName("어르신 샤드 번호는 항상 같은 범위 내 값")
+    void shardOf_isStableAndInRange() {
+        // given
+        CareCallShardCoordinator coordinator = start();
+
+        // when & then
+        IntStream.rangeClosed(1, 1000).forEach(elderId -> {
+            int shard = coordinator.shardOf(elderId);
+            assertThat(shard).isBetween(0, 31);
+            assertThat(coordinator.shardOf(elderId)).isEqualTo(shard);
+        });
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 선점한 (분, 샤드)는 발송하지 않고, Redis 장애 시에는 직접 발송")
+    void tryClaim_respectsClaimsAndFallsBackWhenRedisFails() {
+        // given
+        CareCallShardCoordinator coordinator = start();
+        LocalDateTime minute = LocalDateTime.of(2025, 1, 17, 9, 0);
+        when(clusterRepository.tryClaim(eq(minute), eq(1), anyString(), any())).thenReturn(true);
+        when(clusterRepository.tryClaim(eq(minute), eq(2), anyString(), any())).thenReturn(false);
+        when(clusterRepository.tryClaim(eq(minute), eq(3), anyString(), any()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when & then
+        assertThat(coordinator.tryClaim(minute, 1, false)).isTrue();
+        assertThat(coordinator.tryClaim(minute, 2, true)).isFalse();
+        assertThat(coordinator.tryClaim(minute, 3, false)).isTrue();
+    }
+
+    private CareCallShardCoordinator start() {
+        CareCallShardCoordinator coordinator = new CareCallShardCoordinator(properties, clusterRepository, new SimpleMeterRegistry());
+        coordinator.init();
+        coordinators.add(coordinator);
+        return coordinator;
+    }
+}
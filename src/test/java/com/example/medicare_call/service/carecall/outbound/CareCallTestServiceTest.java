@@ -21,6 +21,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -58,7 +59,7 @@ class CareCallTestServiceTest {
 
         // then
         verify(careCallRequestSenderService).sendCall(setting.getId(), 1, CallType.FIRST);
-        assertThat(result).isEqualTo("홍길동 어르신께 즉시 케어콜 발송이 완료되었습니다.");
+        assertThat(result).isEqualTo("홍길동 어르신께 즉시 케어콜 발송이 접수되었습니다.");
     }
 
     @Test
@@ -84,6 +85,6 @@ class CareCallTestServiceTest {
         careCallTestService.sendTestCall(request);
 
         // then
-        verify(careCallClient).requestCall(eq(CareCallTestService.TEST_SETTING_ID), eq(100), eq(request.phoneNumber()), eq("테스트"));
+        verify(careCallClient).requestCall(anyString(), eq(CareCallTestService.TEST_SETTING_ID), eq(100), eq(request.phoneNumber()), eq("테스트"));
     }
 }
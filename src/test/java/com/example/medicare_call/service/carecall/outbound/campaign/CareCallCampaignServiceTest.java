@@ -0,0 +1,292 @@
+package com.example.medicare_call.service.carecall.outbound.campaign;
+
+import com.example.medicare_call.domain.CareCallCampaign;
+import com.example.medicare_call.domain.CareCallCampaignItem;
+import com.example.medicare_call.domain.CareCallSetting;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.OutboundCallOutbox;
+import com.example.medicare_call.dto.carecall.CareCallCampaignRequest;
+import com.example.medicare_call.dto.carecall.CareCallCampaignResponse;
+import com.example.medicare_call.dto.carecall.ImmediateCareCallRequest.CareCallOption;
+import com.example.medicare_call.global.config.CareCallCampaignProperties;
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.global.enums.CareCallCampaignItemStatus;
+import com.example.medicare_call.global.enums.CareCallCampaignStatus;
+import com.example.medicare_call.global.enums.OutboundCallStatus;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.repository.CareCallCampaignItemRepository;
+import com.example.medicare_call.repository.CareCallCampaignRepository;
+import com.example.medicare_call.repository.CareCallSettingRepository;
+import com.example.medicare_call.repository.MemberElderRepository;
+import com.example.medicare_call.repository.OutboundCallOutboxRepository;
+import com.example.medicare_call.service.carecall.outbound.CareCallRequestSenderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CareCallCampaignService 테스트")
+class CareCallCampaignServiceTest {
+
+    @Mock
+    private CareCallCampaignRepository careCallCampaignRepository;
+
+    @Mock
+    private CareCallCampaignItemRepository careCallCampaignItemRepository;
+
+    @Mock
+    private MemberElderRepository memberElderRepository;
+
+    @Mock
+    private CareCallSettingRepository careCallSettingRepository;
+
+    @Mock
+    private OutboundCallOutboxRepository outboundCallOutboxRepository;
+
+    @Mock
+    private CareCallRequestSenderService careCallRequestSenderService;
+
+    private CareCallCampaignProperties properties;
+    private CareCallCampaignService careCallCampaignService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CareCallCampaignProperties();
+        properties.setConcurrency(2);
+        properties.setRatePerSecond(1000);
+        properties.setMaxElders(3);
+
+        careCallCampaignService = new CareCallCampaignService(
+                properties,
+                careCallCampaignRepository,
+                careCallCampaignItemRepository,
+                memberElderRepository,
+                careCallSettingRepository,
+                outboundCallOutboxRepository,
+                careCallRequestSenderService,
+                new SimpleMeterRegistry()
+        );
+        careCallCampaignService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        careCallCampaignService.shutdown();
+    }
+
+    @Test
+    @DisplayName("캠페인 생성 - 설정이 있는 어르신은 백그라운드에서 발송하고, 설정이 없는 어르신은 실패로 기록")
+    void create_dispatchesInBackgroundAndCompletes() {
+        // given
+        Elder elder1 = createElder(1);
+        Elder elder2 = createElder(2);
+        when(memberElderRepository.findEldersByGuardianId(10)).thenReturn(List.of(elder1, elder2));
+        when(careCallSettingRepository.findByElderIdIn(List.of(1, 2)))
+                .thenReturn(List.of(CareCallSetting.builder().id(100).elder(elder1).build()));
+        when(careCallCampaignRepository.save(any(CareCallCampaign.class))).thenReturn(createCampaign(10));
+        when(careCallCampaignItemRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        CareCallCampaignResponse response = careCallCampaignService.create(10, createRequest(null));
+
+        // then
+        assertThat(response.getCampaignId()).isEqualTo(1L);
+        assertThat(response.getTotal()).isEqualTo(2);
+
+        ArgumentCaptor<List<CareCallCampaignItem>> itemsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(careCallCampaignItemRepository).saveAll(itemsCaptor.capture());
+        assertThat(itemsCaptor.getValue()).extracting(CareCallCampaignItem::getStatus)
+                .containsExactly(CareCallCampaignItemStatus.PENDING, CareCallCampaignItemStatus.FAILED);
+
+        verify(careCallRequestSenderService, timeout(2000)).sendCall(100, 1, CallType.SECOND, "campaign:1:1");
+        verify(careCallCampaignRepository, timeout(2000)).completeIfRunning(eq(1L), any());
+        verify(careCallCampaignItemRepository).updateStatusIfPending(any(), eq(CareCallCampaignItemStatus.ENQUEUED), isNull());
+        verify(careCallRequestSenderService, never()).sendCall(any(), eq(2), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("캠페인 생성 - 대기 어르신이 남아 있으면 완료 처리하지 않음")
+    void create_pendingRemains_doesNotComplete() {
+        // given
+        Elder elder1 = createElder(1);
+        when(memberElderRepository.findEldersByGuardianId(10)).thenReturn(List.of(elder1));
+        when(careCallSettingRepository.findByElderIdIn(List.of(1)))
+                .thenReturn(List.of(CareCallSetting.builder().id(100).elder(elder1).build()));
+        when(careCallCampaignRepository.save(any(CareCallCampaign.class))).thenReturn(createCampaign(10));
+        when(careCallCampaignItemRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(careCallCampaignItemRepository.existsByCampaignIdAndStatus(1L, CareCallCampaignItemStatus.PENDING)).thenReturn(true);
+
+        // when
+        careCallCampaignService.create(10, createRequest(null));
+
+        // then
+        verify(careCallCampaignItemRepository, timeout(2000)).existsByCampaignIdAndStatus(1L, CareCallCampaignItemStatus.PENDING);
+        verify(careCallCampaignRepository, never()).completeIfRunning(any(), any());
+    }
+
+    @Test
+    @DisplayName("캠페인 생성 - 종료 중이라 스레드 풀이 거부해도 예외 없이 반환하고 대기 어르신은 PENDING으로 남김")
+    void create_executorRejected_returnsAndLeavesPending() {
+        // given
+        Elder elder1 = createElder(1);
+        when(memberElderRepository.findEldersByGuardianId(10)).thenReturn(List.of(elder1));
+        when(careCallSettingRepository.findByElderIdIn(List.of(1)))
+                .thenReturn(List.of(CareCallSetting.builder().id(100).elder(elder1).build()));
+        when(careCallCampaignRepository.save(any(CareCallCampaign.class))).thenReturn(createCampaign(10));
+        when(careCallCampaignItemRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        careCallCampaignService.shutdown();
+
+        // when
+        CareCallCampaignResponse response = careCallCampaignService.create(10, createRequest(null));
+
+        // then
+        assertThat(response.getPending()).isEqualTo(1);
+        verifyNoInteractions(careCallRequestSenderService);
+        verify(careCallCampaignItemRepository, never()).updateStatusIfPending(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("재개 스윕 - 오래 진행 중인 캠페인의 대기 어르신을 다시 발송 요청하고, 대기 어르신이 없는 캠페인은 완료 처리")
+    void resumeInterrupted_resumesPendingAndCompletesDone() {
+        // given
+        CareCallCampaign interrupted = createCampaign(10);
+        CareCallCampaign done = CareCallCampaign.builder()
+                .id(2L)
+                .memberId(10)
+                .callType(CallType.FIRST)
+                .status(CareCallCampaignStatus.RUNNING)
+                .build();
+        when(careCallCampaignRepository.findByStatusAndCreatedAtBefore(eq(CareCallCampaignStatus.RUNNING), any()))
+                .thenReturn(List.of(interrupted, done));
+        when(careCallCampaignItemRepository.findByCampaignIdAndStatusOrderById(1L, CareCallCampaignItemStatus.PENDING))
+                .thenReturn(List.of(createItem(interrupted, 3, CareCallCampaignItemStatus.PENDING)));
+        when(careCallCampaignItemRepository.findByCampaignIdAndStatusOrderById(2L, CareCallCampaignItemStatus.PENDING))
+                .thenReturn(List.of());
+
+        // when
+        int resumed = careCallCampaignService.resumeInterrupted();
+
+        // then
+        assertThat(resumed).isEqualTo(1);
+        verify(careCallRequestSenderService, timeout(2000)).sendCall(103, 3, CallType.SECOND, "campaign:1:3");
+        verify(careCallCampaignRepository).completeIfRunning(eq(2L), any());
+        verify(careCallCampaignRepository, timeout(2000)).completeIfRunning(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("캠페인 생성 - 보호자에게 등록되지 않은 어르신이 포함되면 예외")
+    void create_unmanagedElder_throws() {
+        // given
+        when(memberElderRepository.findEldersByGuardianId(10)).thenReturn(List.of(createElder(1)));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> careCallCampaignService.create(10, createRequest(List.of(1, 99))));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
+        verifyNoInteractions(careCallCampaignRepository, careCallRequestSenderService);
+    }
+
+    @Test
+    @DisplayName("캠페인 생성 - 최대 인원을 넘으면 예외")
+    void create_tooManyElders_throws() {
+        // given
+        when(memberElderRepository.findEldersByGuardianId(10))
+                .thenReturn(List.of(createElder(1), createElder(2), createElder(3), createElder(4)));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> careCallCampaignService.create(10, createRequest(null)));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_CARE_CALL_CAMPAIGN_TARGET);
+    }
+
+    @Test
+    @DisplayName("진행 상황 조회 - 발송 아웃박스 상태를 어르신별로 합산")
+    void getCampaign_aggregatesDeliveryStatus() {
+        // given
+        CareCallCampaign campaign = createCampaign(10);
+        when(careCallCampaignRepository.findById(1L)).thenReturn(Optional.of(campaign));
+        when(careCallCampaignItemRepository.findByCampaignIdOrderById(1L)).thenReturn(List.of(
+                createItem(campaign, 1, CareCallCampaignItemStatus.ENQUEUED),
+                createItem(campaign, 2, CareCallCampaignItemStatus.ENQUEUED),
+                createItem(campaign, 3, CareCallCampaignItemStatus.PENDING)
+        ));
+        when(outboundCallOutboxRepository.findByIdempotencyKeyIn(anyCollection())).thenReturn(List.of(
+                OutboundCallOutbox.builder().idempotencyKey("campaign:1:1").status(OutboundCallStatus.SENT).build(),
+                OutboundCallOutbox.builder().idempotencyKey("campaign:1:2").status(OutboundCallStatus.PENDING).build()
+        ));
+
+        // when
+        CareCallCampaignResponse response = careCallCampaignService.getCampaign(10, 1L);
+
+        // then
+        assertThat(response.getEnqueued()).isEqualTo(2);
+        assertThat(response.getPending()).isEqualTo(1);
+        assertThat(response.getSent()).isEqualTo(1);
+        assertThat(response.getElders()).extracting(CareCallCampaignResponse.ElderCallStatus::getDeliveryStatus)
+                .containsExactly(OutboundCallStatus.SENT, OutboundCallStatus.PENDING, null);
+    }
+
+    @Test
+    @DisplayName("진행 상황 조회 - 다른 보호자의 캠페인이면 예외")
+    void getCampaign_otherMember_throws() {
+        // given
+        when(careCallCampaignRepository.findById(1L)).thenReturn(Optional.of(createCampaign(10)));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class, () -> careCallCampaignService.getCampaign(20, 1L));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
+    }
+
+    private CareCallCampaignRequest createRequest(List<Integer> elderIds) {
+        CareCallCampaignRequest request = new CareCallCampaignRequest();
+        request.setElderIds(elderIds);
+        request.setCareCallOption(CareCallOption.SECOND);
+        return request;
+    }
+
+    private CareCallCampaign createCampaign(Integer memberId) {
+        return CareCallCampaign.builder()
+                .id(1L)
+                .memberId(memberId)
+                .callType(CallType.SECOND)
+                .status(CareCallCampaignStatus.RUNNING)
+                .build();
+    }
+
+    private CareCallCampaignItem createItem(CareCallCampaign campaign, Integer elderId, CareCallCampaignItemStatus status) {
+        return CareCallCampaignItem.builder()
+                .campaign(campaign)
+                .elderId(elderId)
+                .settingId(100 + elderId)
+                .status(status)
+                .build();
+    }
+
+    private Elder createElder(Integer id) {
+        return Elder.builder()
+                .id(id)
+                .name("어르신" + id)
+                .build();
+    }
+}
@@ -1,17 +1,24 @@
 package com.example.medicare_call.service.carecall.outbound.client;
 
+import com.example.medicare_call.global.client.HttpClientResilienceRegistry;
+import com.example.medicare_call.global.config.HttpClientResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,9 +30,14 @@ class CareCallClientTest {
     @Mock
     private RestTemplate restTemplate;
 
-    @InjectMocks
     private CareCallClient careCallClient;
 
+    @BeforeEach
+    void setUp() {
+        careCallClient = new CareCallClient(restTemplate,
+                new HttpClientResilienceRegistry(new HttpClientResilienceProperties(), new SimpleMeterRegistry()));
+    }
+
     @Test
     @DisplayName("외부 케어콜 요청 성공")
     void requestCall_success() {
@@ -37,9 +49,27 @@ class CareCallClientTest {
                 .thenReturn(ResponseEntity.ok("Success"));
 
         // when
-        careCallClient.requestCall(1, 10, "010-1234-5678", "프롬프트");
+        careCallClient.requestCall("1:FIRST:2025-01-17T09:00", 1, 10, "010-1234-5678", "프롬프트");
 
         // then
-        verify(restTemplate).exchange(eq(url), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+        ArgumentCaptor<HttpEntity> entityCaptor = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate).exchange(eq(url), eq(HttpMethod.POST), entityCaptor.capture(), eq(String.class));
+        assertThat(entityCaptor.getValue().getHeaders().getFirst("Idempotency-Key")).isEqualTo("1:FIRST:2025-01-17T09:00");
+    }
+
+    @Test
+    @DisplayName("외부 케어콜 요청 실패 시 예외 전달 (재시도는 발송 아웃박스에서 처리)")
+    void requestCall_failure_throws() {
+        // given
+        String url = "http://test-care-call-url.com";
+        ReflectionTestUtils.setField(careCallClient, "callUrl", url);
+
+        when(restTemplate.exchange(eq(url), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        // when & then
+        assertThatThrownBy(() -> careCallClient.requestCall("key", 1, 10, "01012345678", "프롬프트"))
+                .isInstanceOf(RuntimeException.class)
+                .hasCauseInstanceOf(ResourceAccessException.class);
     }
 }
@@ -0,0 +1,80 @@
+package com.example.medicare_call.service.carecall.outbound.outbox;
+
+import com.example.medicare_call.domain.OutboundCallOutbox;
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.global.enums.OutboundCallStatus;
+import com.example.medicare_call.repository.OutboundCallOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboundCallOutboxService 테스트")
+class OutboundCallOutboxServiceTest {
+
+    @Mock
+    private OutboundCallOutboxRepository outboundCallOutboxRepository;
+
+    private OutboundCallOutboxService outboundCallOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboundCallOutboxService = new OutboundCallOutboxService(outboundCallOutboxRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("발송 요청을 대기 상태로 기록")
+    void enqueue_savesPending() {
+        // given
+        when(outboundCallOutboxRepository.existsByIdempotencyKey("11:FIRST:2025-01-17T09:00")).thenReturn(false);
+
+        // when
+        boolean created = outboundCallOutboxService.enqueue("11:FIRST:2025-01-17T09:00", 11, 1, CallType.FIRST, "01012345678", "프롬프트");
+
+        // then
+        assertThat(created).isTrue();
+        ArgumentCaptor<OutboundCallOutbox> captor = ArgumentCaptor.forClass(OutboundCallOutbox.class);
+        verify(outboundCallOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(OutboundCallStatus.PENDING);
+        assertThat(captor.getValue().getAttempts()).isZero();
+        assertThat(captor.getValue().getPrompt()).isEqualTo("프롬프트");
+    }
+
+    @Test
+    @DisplayName("이미 기록된 키는 다시 기록하지 않음")
+    void enqueue_existingKey_skips() {
+        // given
+        when(outboundCallOutboxRepository.existsByIdempotencyKey("key")).thenReturn(true);
+
+        // when
+        boolean created = outboundCallOutboxService.enqueue("key", 11, 1, CallType.FIRST, "01012345678", "프롬프트");
+
+        // then
+        assertThat(created).isFalse();
+        verify(outboundCallOutboxRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("동시에 같은 키가 기록되어 유니크 키가 충돌하면 중복으로 처리")
+    void enqueue_uniqueKeyConflict_treatedAsDuplicate() {
+        // given
+        when(outboundCallOutboxRepository.existsByIdempotencyKey("key")).thenReturn(false);
+        when(outboundCallOutboxRepository.save(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        // when
+        boolean created = outboundCallOutboxService.enqueue("key", 11, 1, CallType.FIRST, "01012345678", "프롬프트");
+
+        // then
+        assertThat(created).isFalse();
+    }
+}
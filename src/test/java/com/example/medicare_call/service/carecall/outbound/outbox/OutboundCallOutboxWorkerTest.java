@@ -0,0 +1,230 @@
+package com.example.medicare_call.service.carecall.outbound.outbox;
+
+import com.example.medicare_call.domain.OutboundCallOutbox;
+import com.example.medicare_call.global.config.CareCallOutboxProperties;
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.global.enums.OutboundCallStatus;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.repository.OutboundCallOutboxRepository;
+import com.example.medicare_call.service.carecall.outbound.client.CareCallClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboundCallOutboxWorker 테스트")
+class OutboundCallOutboxWorkerTest {
+
+    @Mock
+    private OutboundCallOutboxRepository outboundCallOutboxRepository;
+
+    @Mock
+    private CareCallClient careCallClient;
+
+    private CareCallOutboxProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundCallOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CareCallOutboxProperties();
+        properties.setConcurrency(2);
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofSeconds(10));
+        properties.setMaxBackoff(Duration.ofSeconds(60));
+        meterRegistry = new SimpleMeterRegistry();
+
+        worker = new OutboundCallOutboxWorker(properties, outboundCallOutboxRepository, careCallClient, meterRegistry);
+        worker.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("선점한 요청을 전화 서버로 보내고 발송 완료 처리")
+    void drain_sendsClaimedAndMarksSent() {
+        // given
+        OutboundCallOutbox outbox = createOutbox(1L, 1);
+        when(outboundCallOutboxRepository.findDueIds(any(), any())).thenReturn(List.of(1L));
+        when(outboundCallOutboxRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(outboundCallOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        when(outboundCallOutboxRepository.markSent(eq(1L), eq(1), any())).thenReturn(1);
+
+        // when
+        int claimed = worker.drain();
+
+        // then
+        assertThat(claimed).isEqualTo(1);
+        verify(outboundCallOutboxRepository, timeout(2000)).markSent(eq(1L), eq(1), any());
+        verify(careCallClient).requestCall("11:FIRST:2025-01-17T09:00", 11, 1, "01012345678", "프롬프트");
+        worker.shutdown();
+        assertThat(meterRegistry.counter("carecall.outbox.attempts", "result", "sent").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 선점한 요청은 보내지 않음")
+    void drain_skipsWhenClaimLost() {
+        // given
+        when(outboundCallOutboxRepository.findDueIds(any(), any())).thenReturn(List.of(1L));
+        when(outboundCallOutboxRepository.claim(eq(1L), any(), any())).thenReturn(0);
+
+        // when
+        int claimed = worker.drain();
+
+        // then
+        assertThat(claimed).isZero();
+        worker.shutdown();
+        verify(outboundCallOutboxRepository, never()).findById(any());
+        verifyNoInteractions(careCallClient);
+    }
+
+    @Test
+    @DisplayName("일시적인 실패는 지수 백오프 후 재시도 예약")
+    void drain_transientFailure_schedulesRetryWithBackoff() {
+        // given
+        OutboundCallOutbox outbox = createOutbox(1L, 2);
+        when(outboundCallOutboxRepository.findDueIds(any(), any())).thenReturn(List.of(1L));
+        when(outboundCallOutboxRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(outboundCallOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        doThrow(new RuntimeException("HTTP 요청 중 오류 발생", new ResourceAccessException("Connection refused")))
+                .when(careCallClient).requestCall(anyString(), anyInt(), anyInt(), anyString(), anyString());
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        worker.drain();
+
+        // then
+        ArgumentCaptor<LocalDateTime> nextAttemptCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboundCallOutboxRepository, timeout(2000)).scheduleRetry(eq(1L), eq(2), nextAttemptCaptor.capture(), contains("Connection refused"));
+        // 두 번째 시도 실패 -> 20초의 절반 이상, 20초 이하
+        assertThat(nextAttemptCaptor.getValue()).isAfterOrEqualTo(before.plusSeconds(10));
+        assertThat(nextAttemptCaptor.getValue()).isBefore(LocalDateTime.now().plusSeconds(21));
+        verify(outboundCallOutboxRepository, never()).markDead(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패하면 DEAD 처리")
+    void drain_lastAttemptFailure_marksDead() {
+        // given
+        OutboundCallOutbox outbox = createOutbox(1L, 3);
+        when(outboundCallOutboxRepository.findDueIds(any(), any())).thenReturn(List.of(1L));
+        when(outboundCallOutboxRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(outboundCallOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        doThrow(new RuntimeException("HTTP 요청 중 오류 발생", new ResourceAccessException("Read timed out")))
+                .when(careCallClient).requestCall(anyString(), anyInt(), anyInt(), anyString(), anyString());
+        when(outboundCallOutboxRepository.markDead(eq(1L), eq(3), anyString())).thenReturn(1);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(outboundCallOutboxRepository, timeout(2000)).markDead(eq(1L), eq(3), contains("Read timed out"));
+        verify(outboundCallOutboxRepository, never()).scheduleRetry(any(), anyInt(), any(), any());
+        worker.shutdown();
+        assertThat(meterRegistry.counter("carecall.outbox.attempts", "result", "dead").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전화 서버가 요청을 거부(4xx)하면 재시도 없이 DEAD 처리")
+    void drain_clientError_marksDeadWithoutRetry() {
+        // given
+        OutboundCallOutbox outbox = createOutbox(1L, 1);
+        when(outboundCallOutboxRepository.findDueIds(any(), any())).thenReturn(List.of(1L));
+        when(outboundCallOutboxRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(outboundCallOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        doThrow(new RuntimeException("HTTP 요청 중 오류 발생", new HttpClientErrorException(HttpStatus.BAD_REQUEST)))
+                .when(careCallClient).requestCall(anyString(), anyInt(), anyInt(), anyString(), anyString());
+
+        // when
+        worker.drain();
+
+        // then
+        verify(outboundCallOutboxRepository, timeout(2000)).markDead(eq(1L), eq(1), anyString());
+        verify(outboundCallOutboxRepository, never()).scheduleRetry(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("서킷 차단으로 바로 거부된 요청은 재시도 예약")
+    void drain_circuitOpen_schedulesRetry() {
+        // given
+        OutboundCallOutbox outbox = createOutbox(1L, 1);
+        when(outboundCallOutboxRepository.findDueIds(any(), any())).thenReturn(List.of(1L));
+        when(outboundCallOutboxRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(outboundCallOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        doThrow(new CustomException(ErrorCode.EXTERNAL_API_CIRCUIT_OPEN))
+                .when(careCallClient).requestCall(anyString(), anyInt(), anyInt(), anyString(), anyString());
+
+        // when
+        worker.drain();
+
+        // then
+        verify(outboundCallOutboxRepository, timeout(2000)).scheduleRetry(eq(1L), eq(1), any(), contains("CustomException"));
+        verify(outboundCallOutboxRepository, never()).markDead(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("발송 제한 시각이 지나 다른 인스턴스가 다시 가져간 건은 발송 완료로 기록하지 않음")
+    void drain_attemptTakenOver_doesNotCountSent() {
+        // given
+        OutboundCallOutbox outbox = createOutbox(1L, 1);
+        when(outboundCallOutboxRepository.findDueIds(any(), any())).thenReturn(List.of(1L));
+        when(outboundCallOutboxRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(outboundCallOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        when(outboundCallOutboxRepository.markSent(eq(1L), eq(1), any())).thenReturn(0);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(outboundCallOutboxRepository, timeout(2000)).markSent(eq(1L), eq(1), any());
+        worker.shutdown();
+        assertThat(meterRegistry.counter("carecall.outbox.attempts", "result", "sent").count()).isZero();
+        assertThat(meterRegistry.counter("carecall.outbox.attempts", "result", "stale").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 시도마다 두 배로 늘고 최대값을 넘지 않음")
+    void backoff_growsExponentiallyAndIsCapped() {
+        assertThat(worker.backoff(1)).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+        assertThat(worker.backoff(3)).isBetween(Duration.ofSeconds(20), Duration.ofSeconds(40));
+        assertThat(worker.backoff(50)).isBetween(Duration.ofSeconds(30), Duration.ofSeconds(60));
+    }
+
+    private OutboundCallOutbox createOutbox(Long id, int attempts) {
+        return OutboundCallOutbox.builder()
+                .id(id)
+                .idempotencyKey("11:FIRST:2025-01-17T09:00")
+                .settingId(11)
+                .elderId(1)
+                .callType(CallType.FIRST)
+                .phoneNumber("01012345678")
+                .prompt("프롬프트")
+                .status(OutboundCallStatus.SENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now().plusMinutes(2))
+                .createdAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+}
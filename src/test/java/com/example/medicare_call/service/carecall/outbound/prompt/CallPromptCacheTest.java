@@ -0,0 +1,87 @@
+package com.example.medicare_call.service.carecall.outbound.prompt;
+
+import com.example.medicare_call.domain.Disease;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.MedicationSchedule;
+import com.example.medicare_call.global.config.CareCallDispatchProperties;
+import com.example.medicare_call.global.enums.CallType;
+import com.example.medicare_call.global.enums.MedicationScheduleTime;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CallPromptCache 테스트")
+class CallPromptCacheTest {
+
+    private CallPromptCache callPromptCache;
+    private AtomicInteger generated;
+    private Elder elder;
+
+    @BeforeEach
+    void setUp() {
+        callPromptCache = new CallPromptCache(new CareCallDispatchProperties(), new SimpleMeterRegistry());
+        generated = new AtomicInteger();
+        elder = Elder.builder().id(1).name("김옥자").build();
+    }
+
+    @Test
+    @DisplayName("입력이 같으면 다시 생성하지 않음")
+    void getOrGenerate_sameInputs_returnsCached() {
+        // given
+        List<Disease> diseases = List.of(Disease.builder().name("당뇨").build());
+        List<MedicationSchedule> schedules = List.of(
+                MedicationSchedule.builder().name("혈압약").scheduleTime(MedicationScheduleTime.MORNING).build());
+
+        // when
+        String first = generate(CallType.FIRST, elder, diseases, schedules);
+        String second = generate(CallType.FIRST, elder, List.copyOf(diseases), List.copyOf(schedules));
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(generated.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복약 일정이나 이름이 바뀌면 다시 생성")
+    void getOrGenerate_changedInputs_regenerates() {
+        // given
+        List<MedicationSchedule> before = List.of(
+                MedicationSchedule.builder().name("혈압약").scheduleTime(MedicationScheduleTime.MORNING).build());
+        List<MedicationSchedule> after = List.of(
+                MedicationSchedule.builder().name("혈압약").scheduleTime(MedicationScheduleTime.DINNER).build());
+        generate(CallType.FIRST, elder, List.of(), before);
+
+        // when
+        generate(CallType.FIRST, elder, List.of(), after);
+        generate(CallType.FIRST, Elder.builder().id(1).name("김옥순").build(), List.of(), after);
+
+        // then
+        assertThat(generated.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("회차별로 따로 보관하고, 어르신 제거 시 모든 회차 제거")
+    void getOrGenerate_perCallType_andEvict() {
+        // given
+        generate(CallType.FIRST, elder, List.of(), List.of());
+        generate(CallType.SECOND, elder, List.of(), List.of());
+
+        // when
+        callPromptCache.evict(1);
+        generate(CallType.FIRST, elder, List.of(), List.of());
+
+        // then
+        assertThat(generated.get()).isEqualTo(3);
+    }
+
+    private String generate(CallType callType, Elder target, List<Disease> diseases, List<MedicationSchedule> schedules) {
+        return callPromptCache.getOrGenerate(callType, target, null, diseases, schedules,
+                () -> callType + "-" + generated.incrementAndGet());
+    }
+}
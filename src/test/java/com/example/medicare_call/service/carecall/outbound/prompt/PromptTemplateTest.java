@@ -0,0 +1,61 @@
+package com.example.medicare_call.service.carecall.outbound.prompt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PromptTemplate 테스트")
+class PromptTemplateTest {
+
+    private static final String TEMPLATE = """
+            AI: "안녕하세요, %s 어르신~"
+            - 복약 목록: [%s]
+            %s
+            지금 첫 번째 인사를 해주세요.
+            """;
+
+    @Test
+    @DisplayName("String.format과 같은 결과를 생성")
+    void render_sameAsStringFormat() {
+        // given
+        PromptTemplate template = PromptTemplate.compile(TEMPLATE);
+
+        // when
+        String rendered = template.render("김옥자", "혈압약, 당뇨약", "AI: \"혈당도 재보셨을까요?\"\n");
+
+        // then
+        assertThat(template.slotCount()).isEqualTo(3);
+        assertThat(rendered).isEqualTo(String.format(TEMPLATE, "김옥자", "혈압약, 당뇨약", "AI: \"혈당도 재보셨을까요?\"\n"));
+    }
+
+    @Test
+    @DisplayName("자리표시자로 시작하거나 끝나는 템플릿도 처리")
+    void render_placeholderAtEdges() {
+        // given
+        PromptTemplate template = PromptTemplate.compile("%s 중간 %s");
+
+        // when & then
+        assertThat(template.render("앞", "뒤")).isEqualTo("앞 중간 뒤");
+        assertThat(template.render(null, "")).isEqualTo("null 중간 ");
+    }
+
+    @Test
+    @DisplayName("인자 수가 자리표시자 수와 다르면 예외")
+    void render_argumentCountMismatch_throws() {
+        // given
+        PromptTemplate template = PromptTemplate.compile("[%s] [%s]");
+
+        // when & then
+        assertThatThrownBy(() -> template.render("하나"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("%s 외의 서식 지정자는 파싱 시 예외")
+    void compile_unsupportedSpecifier_throws() {
+        assertThatThrownBy(() -> PromptTemplate.compile("수치: %d"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
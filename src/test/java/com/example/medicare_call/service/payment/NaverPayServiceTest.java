@@ -7,12 +7,15 @@ import com.example.medicare_call.domain.Subscription;
 import com.example.medicare_call.dto.payment.NaverPayReserveRequest;
 import com.example.medicare_call.dto.payment.NaverPayReserveResponse;
 import com.example.medicare_call.dto.payment.NaverPayApplyResponse;
+import com.example.medicare_call.global.client.HttpClientResilienceRegistry;
+import com.example.medicare_call.global.config.HttpClientResilienceProperties;
 import com.example.medicare_call.global.enums.*;
 import com.example.medicare_call.repository.OrderRepository;
 import com.example.medicare_call.repository.MemberRepository;
 import com.example.medicare_call.repository.ElderRepository;
 import com.example.medicare_call.repository.SubscriptionRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.*;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -51,6 +55,10 @@ class NaverPayServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private HttpClientResilienceRegistry resilienceRegistry =
+            new HttpClientResilienceRegistry(new HttpClientResilienceProperties(), new SimpleMeterRegistry());
+
     @Mock
     private OrderRepository orderRepository;
 
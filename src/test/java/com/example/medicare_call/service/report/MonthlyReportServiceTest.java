@@ -0,0 +1,174 @@
+package com.example.medicare_call.service.report;
+
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.MonthlyStatistics;
+import com.example.medicare_call.domain.Subscription;
+import com.example.medicare_call.domain.WeeklyStatistics;
+import com.example.medicare_call.dto.report.MonthlyReportResponse;
+import com.example.medicare_call.global.enums.ElderStatus;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.mapper.MonthlyReportMapper;
+import com.example.medicare_call.mapper.WeeklyReportMapper;
+import com.example.medicare_call.repository.ElderRepository;
+import com.example.medicare_call.repository.MonthlyStatisticsRepository;
+import com.example.medicare_call.repository.SubscriptionRepository;
+import com.example.medicare_call.service.notification.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MonthlyReportService 테스트")
+class MonthlyReportServiceTest {
+
+    @Mock
+    private ElderRepository elderRepository;
+
+    @Mock
+    private MonthlyStatisticsRepository monthlyStatisticsRepository;
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Spy
+    private MonthlyReportMapper monthlyReportMapper = new MonthlyReportMapper(new WeeklyReportMapper());
+
+    @InjectMocks
+    private MonthlyReportService monthlyReportService;
+
+    private Elder testElder;
+    private Subscription testSubscription;
+    private Integer testMemberId;
+    private YearMonth testMonth;
+
+    @BeforeEach
+    void setUp() {
+        testMemberId = 1;
+
+        testElder = Elder.builder()
+                .id(1)
+                .name("김옥자")
+                .status(ElderStatus.ACTIVATED)
+                .build();
+
+        testSubscription = Subscription.builder()
+                .id(1L)
+                .elder(testElder)
+                .startDate(LocalDate.of(2025, 1, 1))
+                .build();
+
+        testMonth = YearMonth.of(2025, 7);
+    }
+
+    @Test
+    @DisplayName("월간 통계 조회 성공")
+    void getMonthlyReport_success() {
+        // given
+        Integer elderId = 1;
+
+        MonthlyStatistics monthlyStatistics = MonthlyStatistics.builder()
+                .id(1L)
+                .elder(testElder)
+                .startDate(LocalDate.of(2025, 7, 1))
+                .endDate(LocalDate.of(2025, 7, 24))
+                .mealRate(82)
+                .medicationRate(90)
+                .healthSignals(3)
+                .missedCalls(4)
+                .breakfastCount(20)
+                .lunchCount(18)
+                .dinnerCount(21)
+                .medicationStats(Map.of("혈압약", new WeeklyStatistics.MedicationStats(48, 40, 36)))
+                .psychGoodCount(15)
+                .psychNormalCount(0)
+                .psychBadCount(3)
+                .bloodSugarStats(new WeeklyStatistics.BloodSugarStats(
+                        new WeeklyStatistics.BloodSugarType(10, 2, 1),
+                        new WeeklyStatistics.BloodSugarType(8, 4, 0)))
+                .avgSleepHours(6)
+                .avgSleepMinutes(45)
+                .build();
+
+        when(subscriptionRepository.findByElderId(elderId))
+                .thenReturn(Optional.of(testSubscription));
+        when(elderRepository.findById(elderId))
+                .thenReturn(Optional.of(testElder));
+        when(monthlyStatisticsRepository.findByElderAndStartDate(testElder, LocalDate.of(2025, 7, 1)))
+                .thenReturn(Optional.of(monthlyStatistics));
+        when(notificationService.getUnreadCount(testMemberId)).thenReturn(2);
+
+        // when
+        MonthlyReportResponse response = monthlyReportService.getMonthlyReport(testMemberId, elderId, testMonth);
+
+        // then
+        assertThat(response.getElderName()).isEqualTo("김옥자");
+        assertThat(response.getStartDate()).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(response.getEndDate()).isEqualTo(LocalDate.of(2025, 7, 24));
+        assertThat(response.getSummaryStats().getMealRate()).isEqualTo(82);
+        assertThat(response.getSummaryStats().getMissedCalls()).isEqualTo(4);
+        assertThat(response.getMealStats().getBreakfast()).isEqualTo(20);
+        assertThat(response.getMedicationStats().get("혈압약").getTotalCount()).isEqualTo(48);
+        assertThat(response.getMedicationStats().get("혈압약").getTakenCount()).isEqualTo(36);
+        assertThat(response.getAverageSleep().getHours()).isEqualTo(6);
+        assertThat(response.getPsychSummary().getBad()).isEqualTo(3);
+        assertThat(response.getBloodSugar().getAfterMeal().getHigh()).isEqualTo(4);
+        assertThat(response.getSubscriptionStartDate()).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(response.getUnreadNotification()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("월간 통계가 없으면 빈 응답 반환")
+    void getMonthlyReport_noData_returnsEmpty() {
+        // given
+        Integer elderId = 1;
+
+        when(subscriptionRepository.findByElderId(elderId))
+                .thenReturn(Optional.of(testSubscription));
+        when(elderRepository.findById(elderId))
+                .thenReturn(Optional.of(testElder));
+        when(monthlyStatisticsRepository.findByElderAndStartDate(testElder, LocalDate.of(2025, 7, 1)))
+                .thenReturn(Optional.empty());
+        when(notificationService.getUnreadCount(testMemberId)).thenReturn(0);
+
+        // when
+        MonthlyReportResponse response = monthlyReportService.getMonthlyReport(testMemberId, elderId, testMonth);
+
+        // then
+        assertThat(response.getElderName()).isEqualTo("김옥자");
+        assertThat(response.getStartDate()).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(response.getSummaryStats()).isNull();
+    }
+
+    @Test
+    @DisplayName("구독 정보가 없으면 예외 발생")
+    void getMonthlyReport_subscriptionNotFound() {
+        // given
+        Integer elderId = 1;
+        when(subscriptionRepository.findByElderId(elderId)).thenReturn(Optional.empty());
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> monthlyReportService.getMonthlyReport(testMemberId, elderId, testMonth));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.SUBSCRIPTION_NOT_FOUND);
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.medicare_call.service.statistics;
+
+import com.example.medicare_call.domain.BloodSugarRecord;
+import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.domain.CareCallSetting;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.MealRecord;
+import com.example.medicare_call.dto.statistics.DailyHealthSnapshot;
+import com.example.medicare_call.global.enums.ElderStatus;
+import com.example.medicare_call.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyHealthSnapshotLoader 테스트")
+class DailyHealthSnapshotLoaderTest {
+
+    @Mock
+    private CareCallRecordRepository careCallRecordRepository;
+
+    @Mock
+    private ElderRepository elderRepository;
+
+    @Mock
+    private MedicationScheduleRepository medicationScheduleRepository;
+
+    @Mock
+    private MedicationTakenRecordRepository medicationTakenRecordRepository;
+
+    @InjectMocks
+    private DailyHealthSnapshotLoader dailyHealthSnapshotLoader;
+
+    private Elder testElder;
+    private CareCallSetting setting;
+    private LocalDate testDate;
+
+    @BeforeEach
+    void setUp() {
+        testElder = Elder.builder()
+                .id(1)
+                .name("김옥자")
+                .build();
+        setting = CareCallSetting.builder()
+                .elder(testElder)
+                .build();
+        testDate = LocalDate.of(2025, 1, 6);
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 당일 [00:00, 다음날 00:00) 범위로 케어콜을 조회")
+    void load_usesHalfOpenRange() {
+        // given
+        CareCallRecord morningCall = CareCallRecord.builder()
+                .elder(testElder)
+                .setting(setting)
+                .calledAt(testDate.atTime(9, 0))
+                .sleepStart(testDate.minusDays(1).atTime(22, 0))
+                .sleepEnd(testDate.atTime(6, 0))
+                .build();
+
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(
+                1, testDate.atStartOfDay(), testDate.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(morningCall));
+        stubChildRecords(testElder, Collections.singletonList(new Object[]{null, null, setting}));
+
+        // when
+        DailyHealthSnapshot snapshot = dailyHealthSnapshotLoader.load(testElder, testDate);
+
+        // then
+        assertThat(snapshot.setting()).isSameAs(setting);
+        assertThat(snapshot.callRecords()).containsExactly(morningCall);
+        assertThat(snapshot.sleepRecords()).containsExactly(morningCall);
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 식사 x 혈당 조합 행에서 중복을 제거하고 조회 순서를 유지")
+    void load_deduplicatesJoinedHealthRows() {
+        // given
+        MealRecord breakfast = MealRecord.builder().id(1).build();
+        MealRecord lunch = MealRecord.builder().id(2).build();
+        BloodSugarRecord fasting = BloodSugarRecord.builder().id(10).build();
+        BloodSugarRecord afterMeal = BloodSugarRecord.builder().id(11).build();
+
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(any(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        stubChildRecords(testElder, List.of(
+                new Object[]{breakfast, fasting, setting},
+                new Object[]{breakfast, afterMeal, setting},
+                new Object[]{lunch, fasting, setting},
+                new Object[]{lunch, afterMeal, setting}
+        ));
+
+        // when
+        DailyHealthSnapshot snapshot = dailyHealthSnapshotLoader.load(testElder, testDate);
+
+        // then
+        assertThat(snapshot.mealRecords()).containsExactly(breakfast, lunch);
+        assertThat(snapshot.bloodSugarRecords()).containsExactly(fasting, afterMeal);
+        assertThat(snapshot.setting()).isSameAs(setting);
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 당일 기록과 설정이 없으면 빈 목록과 설정 없음")
+    void load_noHealthRecords_returnsEmptyLists() {
+        // given
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(any(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        stubChildRecords(testElder, Collections.singletonList(new Object[]{null, null, null}));
+
+        // when
+        DailyHealthSnapshot snapshot = dailyHealthSnapshotLoader.load(testElder, testDate);
+
+        // then
+        assertThat(snapshot.mealRecords()).isEmpty();
+        assertThat(snapshot.bloodSugarRecords()).isEmpty();
+        assertThat(snapshot.setting()).isNull();
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 비활성 어르신의 수면/심리/건강 기록은 반영하지 않음")
+    void load_deletedElder_excludesActiveCallRecords() {
+        // given
+        Elder deletedElder = Elder.builder()
+                .id(1)
+                .name("김옥자")
+                .status(ElderStatus.DELETED)
+                .build();
+        CareCallRecord call = CareCallRecord.builder()
+                .elder(deletedElder)
+                .setting(setting)
+                .calledAt(testDate.atTime(9, 0))
+                .sleepStart(testDate.minusDays(1).atTime(22, 0))
+                .sleepEnd(testDate.atTime(6, 0))
+                .build();
+
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(any(), any(), any()))
+                .thenReturn(List.of(call));
+        stubChildRecords(deletedElder, Collections.singletonList(new Object[]{null, null, setting}));
+
+        // when
+        DailyHealthSnapshot snapshot = dailyHealthSnapshotLoader.load(deletedElder, testDate);
+
+        // then
+        assertThat(snapshot.callRecords()).containsExactly(call);
+        assertThat(snapshot.activeCallRecords()).isEmpty();
+        assertThat(snapshot.sleepRecords()).isEmpty();
+    }
+
+    private void stubChildRecords(Elder elder, List<Object[]> healthRows) {
+        when(medicationScheduleRepository.findByElder(elder)).thenReturn(Collections.emptyList());
+        when(medicationTakenRecordRepository.findByElderIdAndDate(1, testDate)).thenReturn(Collections.emptyList());
+        when(elderRepository.findDailyHealthRows(1, testDate.atStartOfDay(), testDate.plusDays(1).atStartOfDay()))
+                .thenReturn(healthRows);
+    }
+}
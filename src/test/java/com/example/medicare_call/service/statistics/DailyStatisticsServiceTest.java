@@ -1,6 +1,7 @@
 package com.example.medicare_call.service.statistics;
 
 import com.example.medicare_call.domain.*;
+import com.example.medicare_call.global.enums.AiSummaryStatus;
 import com.example.medicare_call.global.enums.CareCallResponseStatus;
 import com.example.medicare_call.global.enums.MealEatenStatus;
 import com.example.medicare_call.global.enums.MealType;
@@ -9,12 +10,10 @@ import com.example.medicare_call.global.enums.MedicationTakenStatus;
 import com.example.medicare_call.global.enums.HealthStatus;
 import com.example.medicare_call.global.enums.PsychologicalStatus;
 import com.example.medicare_call.repository.*;
-import com.example.medicare_call.service.ai.AiSummaryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -22,6 +21,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -38,28 +38,18 @@ class DailyStatisticsServiceTest {
     @Mock
     private DailyStatisticsRepository dailyStatisticsRepository;
 
-    @Mock
-    private MealRecordRepository mealRecordRepository;
-
     @Mock
     private MedicationScheduleRepository medicationScheduleRepository;
 
     @Mock
     private MedicationTakenRecordRepository medicationTakenRecordRepository;
 
-    @Mock
-    private BloodSugarRecordRepository bloodSugarRecordRepository;
-
     @Mock
     private CareCallRecordRepository careCallRecordRepository;
 
     @Mock
-    private CareCallSettingRepository careCallSettingRepository;
+    private ElderRepository elderRepository;
 
-    @Mock
-    private AiSummaryService aiSummaryService;
-
-    @InjectMocks
     private DailyStatisticsService dailyStatisticsService;
 
     private Elder testElder;
@@ -69,6 +59,14 @@ class DailyStatisticsServiceTest {
 
     @BeforeEach
     void setUp() {
+        DailyHealthSnapshotLoader dailyHealthSnapshotLoader = new DailyHealthSnapshotLoader(
+                careCallRecordRepository,
+                elderRepository,
+                medicationScheduleRepository,
+                medicationTakenRecordRepository
+        );
+        dailyStatisticsService = new DailyStatisticsService(dailyStatisticsRepository, dailyHealthSnapshotLoader);
+
         testElder = Elder.builder()
                 .id(1)
                 .name("김옥자")
@@ -94,21 +92,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(List.of(breakfastMeal));
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
-                .thenReturn(Collections.emptyList());
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(breakfastMeal), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -131,21 +121,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.of(existingStats));
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(List.of(breakfastMeal));
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
-                .thenReturn(Collections.emptyList());
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(breakfastMeal), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -165,21 +147,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(List.of(breakfastMeal));
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
-                .thenReturn(Collections.emptyList());
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(breakfastMeal), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -201,21 +175,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Arrays.asList(breakfastMeal, lunchMeal));
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
-                .thenReturn(Collections.emptyList());
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(Arrays.asList(breakfastMeal, lunchMeal), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -250,27 +216,20 @@ class DailyStatisticsServiceTest {
                 .build();
 
         CareCallRecord morningCall = CareCallRecord.builder()
+                .setting(setting)
                 .callStatus("completed")
                 .calledAt(testDate.atTime(9, 5))
                 .build();
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(List.of(morningSchedule));
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(List.of(morningTaken));
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(List.of(morningCall));
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.of(setting));
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(), List.of(), setting);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -314,28 +273,20 @@ class DailyStatisticsServiceTest {
 
         // 아침/저녁 케어콜만 completed, 점심은 no-answer
         List<CareCallRecord> allCalls = Arrays.asList(
-                CareCallRecord.builder().callStatus("completed").calledAt(testDate.atTime(9, 5)).build(),
-                CareCallRecord.builder().callStatus("no-answer").calledAt(testDate.atTime(13, 5)).build(),
-                CareCallRecord.builder().callStatus("completed").calledAt(testDate.atTime(18, 5)).build()
+                CareCallRecord.builder().setting(setting).callStatus("completed").calledAt(testDate.atTime(9, 5)).build(),
+                CareCallRecord.builder().setting(setting).callStatus("no-answer").calledAt(testDate.atTime(13, 5)).build(),
+                CareCallRecord.builder().setting(setting).callStatus("completed").calledAt(testDate.atTime(18, 5)).build()
         );
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Arrays.asList(morningSchedule, lunchSchedule, dinnerSchedule));
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Arrays.asList(morningTaken, dinnerTaken));
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(allCalls);
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.of(setting));
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(), List.of(), setting);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -366,21 +317,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Arrays.asList(morningSchedule, lunchSchedule, dinnerSchedule));
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(List.of(morningTaken)); // 복약 기록 추가
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -401,21 +344,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Arrays.asList(oldNull, middleGood, latestNull));
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -435,21 +370,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Arrays.asList(olderBad, latestGood));
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -472,21 +399,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(List.of(breakfastMeal)); // 식사 데이터 추가
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Arrays.asList(r1, r2));
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(breakfastMeal), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -507,21 +426,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Arrays.asList(oldNull, middleBad, latestNull));
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -541,21 +452,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Arrays.asList(olderGood, latestBad));
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -578,21 +481,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(List.of(breakfastMeal)); // 식사 데이터 추가
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Arrays.asList(r1, r2));
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(breakfastMeal), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -618,21 +513,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Arrays.asList(sleep1, sleep2));
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
-                .thenReturn(Collections.emptyList());
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -659,21 +546,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Arrays.asList(bs1, bs2));
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(), Arrays.asList(bs1, bs2), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -686,36 +565,61 @@ class DailyStatisticsServiceTest {
     }
 
     @Test
-    @DisplayName("AI 요약 생성 - AiSummaryService 호출 확인")
-    void updateDailyStatistics_aiSummary_callsAiService() {
+    @DisplayName("혈당 데이터 집계 - 소수점 합계를 유지하고 평균에서 한 번만 반올림")
+    void updateDailyStatistics_decimalBloodSugar_roundsOnce() {
         // given
-        MealRecord breakfastMeal = createMealRecord(1, MealType.BREAKFAST, MealEatenStatus.EATEN);
+        BloodSugarRecord bs1 = BloodSugarRecord.builder()
+                .careCallRecord(testCareCallRecord)
+                .blood_sugar_value(new BigDecimal("100.3"))
+                .build();
+        BloodSugarRecord bs2 = BloodSugarRecord.builder()
+                .careCallRecord(testCareCallRecord)
+                .blood_sugar_value(new BigDecimal("100.3"))
+                .build();
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(List.of(breakfastMeal));
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Collections.emptyList());
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
+        stubDailyHealthRows(List.of(), Arrays.asList(bs1, bs2), null);
+
+        // when
+        dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
+
+        // then
+        // (100.3 + 100.3) / 2 = 100.3 -> 100 (합계를 먼저 반올림하면 201 / 2 -> 101)
+        verify(dailyStatisticsRepository).save(argThat(stats ->
+            stats.getAvgBloodSugar() == 100
+        ));
+    }
+
+    @Test
+    @DisplayName("AI 요약 생성 요청 - 요약은 비워두고 생성 중 상태로 저장")
+    void updateDailyStatistics_aiSummary_requestsAsyncGeneration() {
+        // given
+        MealRecord breakfastMeal = createMealRecord(1, MealType.BREAKFAST, MealEatenStatus.EATEN);
+
+        when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
+                .thenReturn(Optional.empty());
+        when(medicationScheduleRepository.findByElder(testElder))
+                .thenReturn(Collections.emptyList());
+        when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Collections.emptyList());
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("테스트 AI 요약");
+        stubDailyHealthRows(List.of(breakfastMeal), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
 
         // then
-        verify(aiSummaryService, times(1)).getHomeSummary(any());
         verify(dailyStatisticsRepository).save(argThat(stats ->
-            "테스트 AI 요약".equals(stats.getAiSummary())
+            stats.getAiSummary() == null &&
+            stats.getAiSummaryStatus() == AiSummaryStatus.PENDING
         ));
     }
 
@@ -778,9 +682,9 @@ class DailyStatisticsServiceTest {
 
         // 아침/저녁 케어콜은 완료, 점심은 누락
         List<CareCallRecord> completedCalls = Arrays.asList(
-                CareCallRecord.builder().callStatus("completed").calledAt(testDate.atTime(9, 5)).build(),
-                CareCallRecord.builder().callStatus("no-answer").calledAt(testDate.atTime(13, 5)).build(), // 점심 누락
-                CareCallRecord.builder().callStatus("completed").calledAt(testDate.atTime(18, 5)).build()
+                CareCallRecord.builder().setting(setting).callStatus("completed").calledAt(testDate.atTime(9, 5)).build(),
+                CareCallRecord.builder().setting(setting).callStatus("no-answer").calledAt(testDate.atTime(13, 5)).build(), // 점심 누락
+                CareCallRecord.builder().setting(setting).callStatus("completed").calledAt(testDate.atTime(18, 5)).build()
         );
 
         // 복약 기록: 아침약 복용, 점심약 미복용, 저녁약 복용
@@ -808,21 +712,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Arrays.asList(morningSchedule, lunchSchedule, dinnerSchedule));
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Arrays.asList(morningTaken, lunchNotTaken, dinnerTaken));
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(completedCalls);
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.of(setting));
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(), List.of(), setting);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(eveningCallRecord);
@@ -890,21 +786,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Arrays.asList(morningSchedule, lunchSchedule, dinnerSchedule));
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(Arrays.asList(morningTaken, lunchTaken, dinnerNotTaken));
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
-                .thenReturn(Collections.emptyList());
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -960,21 +848,13 @@ class DailyStatisticsServiceTest {
 
         when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
                 .thenReturn(Optional.empty());
-        when(mealRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
         when(medicationScheduleRepository.findByElder(testElder))
                 .thenReturn(Arrays.asList(morningSchedule, lunchSchedule, dinnerSchedule));
         when(medicationTakenRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
                 .thenReturn(List.of(morningTaken));
-        when(careCallRecordRepository.findByElderIdAndDateWithSleepData(testElder.getId(), testDate))
-                .thenReturn(Collections.emptyList());
-        when(careCallRecordRepository.findByElderIdAndDateBetween(eq(testElder.getId()), any(), any()))
-                .thenReturn(Collections.emptyList());
-        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(careCallSettingRepository.findByElder(testElder))
-                .thenReturn(Optional.empty());
-        when(aiSummaryService.getHomeSummary(any())).thenReturn("AI 요약");
+        stubDailyHealthRows(List.of(), List.of(), null);
 
         // when
         dailyStatisticsService.upsertDailyStatistics(testCareCallRecord);
@@ -1006,4 +886,18 @@ class DailyStatisticsServiceTest {
             return true;
         }));
     }
+
+    // 식사 x 혈당 조합 행으로 어르신 기준 조인 조회 결과를 만든다 (없는 쪽은 null)
+    private void stubDailyHealthRows(List<MealRecord> meals, List<BloodSugarRecord> bloodSugars, CareCallSetting setting) {
+        List<Object[]> rows = new ArrayList<>();
+        List<MealRecord> mealColumn = meals.isEmpty() ? Collections.singletonList(null) : meals;
+        List<BloodSugarRecord> bloodSugarColumn = bloodSugars.isEmpty() ? Collections.singletonList(null) : bloodSugars;
+        for (MealRecord meal : mealColumn) {
+            for (BloodSugarRecord bloodSugar : bloodSugarColumn) {
+                rows.add(new Object[]{meal, bloodSugar, setting});
+            }
+        }
+        when(elderRepository.findDailyHealthRows(testElder.getId(), testDate.atStartOfDay(), testDate.plusDays(1).atStartOfDay()))
+                .thenReturn(rows);
+    }
 }
@@ -0,0 +1,134 @@
+package com.example.medicare_call.service.statistics;
+
+import com.example.medicare_call.domain.DailyStatsPartial;
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.MonthlyStatistics;
+import com.example.medicare_call.domain.WeeklyStatistics;
+import com.example.medicare_call.repository.DailyStatsPartialRepository;
+import com.example.medicare_call.repository.MonthlyStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MonthlyStatisticsService 테스트")
+class MonthlyStatisticsServiceTest {
+
+    @Mock
+    private MonthlyStatisticsRepository monthlyStatisticsRepository;
+
+    @Mock
+    private DailyStatsPartialRepository dailyStatsPartialRepository;
+
+    private MonthlyStatisticsService monthlyStatisticsService;
+    private Elder testElder;
+
+    @BeforeEach
+    void setUp() {
+        monthlyStatisticsService = new MonthlyStatisticsService(
+                monthlyStatisticsRepository,
+                dailyStatsPartialRepository,
+                new WeeklyStatsAggregator()
+        );
+
+        testElder = Elder.builder()
+                .id(1)
+                .name("김옥자")
+                .build();
+    }
+
+    @Test
+    @DisplayName("월간 통계 생성 - 해당 월의 일자별 부분 집계를 병합")
+    void upsertMonthlyStatistics_mergesMonthPartials() {
+        // given
+        LocalDate date = LocalDate.of(2025, 7, 15);
+        DailyStatsPartial first = DailyStatsPartial.builder()
+                .elder(testElder)
+                .date(LocalDate.of(2025, 7, 1))
+                .breakfastCount(1).lunchCount(1).dinnerCount(0).mealGoalCount(3)
+                .medicationStats(Map.of("혈압약", new WeeklyStatistics.MedicationStats(2, 2, 1)))
+                .sleepTotalMinutes(420).sleepCount(1)
+                .psychGoodCount(1)
+                .beforeMealNormal(1)
+                .build();
+        DailyStatsPartial second = DailyStatsPartial.builder()
+                .elder(testElder)
+                .date(date)
+                .breakfastCount(1).lunchCount(0).dinnerCount(1).mealGoalCount(3)
+                .medicationStats(Map.of("혈압약", new WeeklyStatistics.MedicationStats(2, 2, 2)))
+                .sleepTotalMinutes(480).sleepCount(1)
+                .psychBadCount(1)
+                .healthSignals(1)
+                .missedCalls(1)
+                .afterMealHigh(1)
+                .build();
+
+        when(dailyStatsPartialRepository.findByElderAndDateBetween(testElder, LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 31)))
+                .thenReturn(List.of(first, second));
+        when(monthlyStatisticsRepository.findByElderAndStartDate(testElder, LocalDate.of(2025, 7, 1)))
+                .thenReturn(Optional.empty());
+
+        // when
+        monthlyStatisticsService.upsertMonthlyStatistics(testElder, date);
+
+        // then
+        ArgumentCaptor<MonthlyStatistics> captor = ArgumentCaptor.forClass(MonthlyStatistics.class);
+        verify(monthlyStatisticsRepository).save(captor.capture());
+        MonthlyStatistics saved = captor.getValue();
+
+        assertThat(saved.getStartDate()).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(saved.getEndDate()).isEqualTo(date);
+        assertThat(saved.getMealRate()).isEqualTo(67);
+        assertThat(saved.getMedicationRate()).isEqualTo(75);
+        assertThat(saved.getMedicationStats().get("혈압약").getTotalScheduled()).isEqualTo(4);
+        assertThat(saved.getAvgSleepHours()).isEqualTo(7);
+        assertThat(saved.getAvgSleepMinutes()).isEqualTo(30);
+        assertThat(saved.getPsychGoodCount()).isEqualTo(1);
+        assertThat(saved.getPsychBadCount()).isEqualTo(1);
+        assertThat(saved.getHealthSignals()).isEqualTo(1);
+        assertThat(saved.getMissedCalls()).isEqualTo(1);
+        assertThat(saved.getBloodSugarStats().getBeforeMeal().getNormal()).isEqualTo(1);
+        assertThat(saved.getBloodSugarStats().getAfterMeal().getHigh()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("월간 통계 갱신 - 이전 일자를 재계산해도 종료일은 마지막 부분 집계 일자 유지")
+    void upsertMonthlyStatistics_pastDate_keepsLatestEndDate() {
+        // given
+        LocalDate pastDate = LocalDate.of(2025, 7, 3);
+        LocalDate latestDate = LocalDate.of(2025, 7, 20);
+        MonthlyStatistics existing = MonthlyStatistics.builder()
+                .id(10L)
+                .elder(testElder)
+                .startDate(LocalDate.of(2025, 7, 1))
+                .endDate(latestDate)
+                .build();
+
+        when(dailyStatsPartialRepository.findByElderAndDateBetween(testElder, LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 31)))
+                .thenReturn(List.of(
+                        DailyStatsPartial.builder().elder(testElder).date(pastDate).build(),
+                        DailyStatsPartial.builder().elder(testElder).date(latestDate).build()
+                ));
+        when(monthlyStatisticsRepository.findByElderAndStartDate(testElder, LocalDate.of(2025, 7, 1)))
+                .thenReturn(Optional.of(existing));
+
+        // when
+        monthlyStatisticsService.upsertMonthlyStatistics(testElder, pastDate);
+
+        // then
+        verify(monthlyStatisticsRepository).save(existing);
+        assertThat(existing.getEndDate()).isEqualTo(latestDate);
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.medicare_call.service.statistics;
+
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.domain.StatisticsRebuildChunk;
+import com.example.medicare_call.domain.StatisticsRebuildJob;
+import com.example.medicare_call.dto.statistics.StatisticsRebuildJobResponse;
+import com.example.medicare_call.dto.statistics.StatisticsRebuildRequest;
+import com.example.medicare_call.global.config.StatisticsRebuildProperties;
+import com.example.medicare_call.global.enums.StatisticsRebuildStatus;
+import com.example.medicare_call.global.exception.CustomException;
+import com.example.medicare_call.global.exception.ErrorCode;
+import com.example.medicare_call.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsRebuildService 테스트")
+class StatisticsRebuildServiceTest {
+
+    @Mock
+    private StatisticsRebuildJobRepository statisticsRebuildJobRepository;
+
+    @Mock
+    private StatisticsRebuildChunkRepository statisticsRebuildChunkRepository;
+
+    @Mock
+    private ElderRepository elderRepository;
+
+    @Mock
+    private CareCallRecordRepository careCallRecordRepository;
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private DailyStatisticsService dailyStatisticsService;
+
+    @Mock
+    private WeeklyStatisticsService weeklyStatisticsService;
+
+    @Mock
+    private MonthlyStatisticsService monthlyStatisticsService;
+
+    @Mock
+    private RedisLeaseRepository redisLeaseRepository;
+
+    @Mock
+    private StatisticsUpdateLockRepository statisticsUpdateLockRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    private StatisticsRebuildProperties properties;
+    private StatisticsRebuildService statisticsRebuildService;
+    private Elder testElder;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StatisticsRebuildProperties();
+        properties.setChunkSize(2);
+        properties.setElderLeaseWait(Duration.ZERO);
+
+        statisticsRebuildService = new StatisticsRebuildService(
+                properties,
+                statisticsRebuildJobRepository,
+                statisticsRebuildChunkRepository,
+                elderRepository,
+                careCallRecordRepository,
+                dailyStatisticsRepository,
+                dailyStatisticsService,
+                weeklyStatisticsService,
+                monthlyStatisticsService,
+                new TransactionTemplate(transactionManager),
+                entityManager,
+                redisLeaseRepository,
+                statisticsUpdateLockRepository,
+                new SimpleMeterRegistry()
+        );
+        statisticsRebuildService.init();
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(session);
+        lenient().when(statisticsUpdateLockRepository.tryAcquireLease(anyInt(), anyString(), any())).thenReturn(true);
+
+        testElder = Elder.builder()
+                .id(1)
+                .name("김옥자")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statisticsRebuildService.shutdown();
+    }
+
+    @Test
+    @DisplayName("어르신 재계산 - 통화/통계가 있는 일자만 재계산하고 주 단위로 주간 통계 재구성")
+    void rebuildElder_recomputesDatesWithDataGroupedByWeek() {
+        // given
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 1, 31);
+
+        when(dailyStatisticsRepository.findDatesByElderAndDateBetween(testElder, startDate, endDate))
+                .thenReturn(List.of(LocalDate.of(2025, 1, 6)));
+        when(careCallRecordRepository.findCalledAtByElderIdAndRange(eq(1), any(), any()))
+                .thenReturn(List.of(
+                        LocalDate.of(2025, 1, 6).atTime(9, 0),
+                        LocalDate.of(2025, 1, 8).atTime(9, 0),
+                        LocalDate.of(2025, 1, 15).atTime(14, 0)
+                ));
+        when(weeklyStatisticsService.resolveWeekEndDate(testElder, LocalDate.of(2025, 1, 8))).thenReturn(LocalDate.of(2025, 1, 8));
+        when(weeklyStatisticsService.resolveWeekEndDate(testElder, LocalDate.of(2025, 1, 15))).thenReturn(LocalDate.of(2025, 1, 15));
+
+        // when
+        boolean result = statisticsRebuildService.rebuildElder(testElder, startDate, endDate, false);
+
+        // then
+        assertThat(result).isTrue();
+        verify(dailyStatisticsService).recomputeDailyStatistics(testElder, LocalDate.of(2025, 1, 6), false);
+        verify(dailyStatisticsService).recomputeDailyStatistics(testElder, LocalDate.of(2025, 1, 8), false);
+        verify(dailyStatisticsService).recomputeDailyStatistics(testElder, LocalDate.of(2025, 1, 15), false);
+        verify(dailyStatisticsService, times(3)).recomputeDailyStatistics(any(), any(), anyBoolean());
+
+        // 주차별로 마지막 데이터 일자까지 집계
+        verify(weeklyStatisticsService).rebuildWeeklyStatistics(testElder, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 8), false);
+        verify(weeklyStatisticsService).rebuildWeeklyStatistics(testElder, LocalDate.of(2025, 1, 13), LocalDate.of(2025, 1, 15), false);
+        verify(monthlyStatisticsService).upsertMonthlyStatistics(testElder, LocalDate.of(2025, 1, 8));
+        verify(monthlyStatisticsService).upsertMonthlyStatistics(testElder, LocalDate.of(2025, 1, 15));
+
+        // JDBC 배치는 재계산 트랜잭션(주 단위)에만 적용
+        verify(session, times(2)).setJdbcBatchSize(properties.getJdbcBatchSize());
+        verify(transactionManager, times(2)).commit(any());
+
+        // 실시간 통계 갱신과 같은 어르신 리스를 잡고 재계산 후 해제
+        ArgumentCaptor<String> tokenCaptor = ArgumentCaptor.forClass(String.class);
+        verify(statisticsUpdateLockRepository).tryAcquireLease(eq(1), tokenCaptor.capture(), eq(properties.getElderLeaseTtl()));
+        verify(statisticsUpdateLockRepository).releaseLease(1, tokenCaptor.getValue());
+    }
+
+    @Test
+    @DisplayName("어르신 재계산 - 재계산 기간이 주 중간에 끝나도 같은 주의 이후 통계 일자까지 주간 통계 집계")
+    void rebuildElder_rangeEndsMidWeek_usesResolvedWeekEnd() {
+        // given
+        LocalDate startDate = LocalDate.of(2025, 1, 6);
+        LocalDate endDate = LocalDate.of(2025, 1, 8);
+
+        when(dailyStatisticsRepository.findDatesByElderAndDateBetween(testElder, startDate, endDate))
+                .thenReturn(List.of(LocalDate.of(2025, 1, 8)));
+        when(careCallRecordRepository.findCalledAtByElderIdAndRange(eq(1), any(), any()))
+                .thenReturn(Collections.emptyList());
+        when(weeklyStatisticsService.resolveWeekEndDate(testElder, LocalDate.of(2025, 1, 8))).thenReturn(LocalDate.of(2025, 1, 10));
+
+        // when
+        statisticsRebuildService.rebuildElder(testElder, startDate, endDate, false);
+
+        // then
+        verify(weeklyStatisticsService).rebuildWeeklyStatistics(testElder, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 10), false);
+    }
+
+    @Test
+    @DisplayName("어르신 재계산 - 실시간 통계 갱신이 리스를 보유 중이면 대기 후 실패로 기록")
+    void rebuildElder_leaseBusy_returnsFalse() {
+        // given
+        LocalDate date = LocalDate.of(2025, 1, 6);
+        when(statisticsUpdateLockRepository.tryAcquireLease(eq(1), anyString(), any())).thenReturn(false);
+
+        // when
+        boolean result = statisticsRebuildService.rebuildElder(testElder, date, date, false);
+
+        // then
+        assertThat(result).isFalse();
+        verifyNoInteractions(dailyStatisticsService, weeklyStatisticsService);
+        verify(statisticsUpdateLockRepository, never()).releaseLease(anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("어르신 재계산 - 월 경계에 걸친 주는 두 달의 월간 통계를 모두 갱신")
+    void rebuildElder_weekAcrossMonths_updatesBothMonths() {
+        // given
+        LocalDate startDate = LocalDate.of(2025, 1, 27);
+        LocalDate endDate = LocalDate.of(2025, 2, 2);
+
+        when(dailyStatisticsRepository.findDatesByElderAndDateBetween(testElder, startDate, endDate))
+                .thenReturn(Collections.emptyList());
+        when(careCallRecordRepository.findCalledAtByElderIdAndRange(eq(1), any(), any()))
+                .thenReturn(List.of(
+                        LocalDate.of(2025, 1, 30).atTime(9, 0),
+                        LocalDate.of(2025, 1, 31).atTime(9, 0),
+                        LocalDate.of(2025, 2, 1).atTime(9, 0)
+                ));
+        when(weeklyStatisticsService.resolveWeekEndDate(testElder, LocalDate.of(2025, 2, 1))).thenReturn(LocalDate.of(2025, 2, 1));
+
+        // when
+        statisticsRebuildService.rebuildElder(testElder, startDate, endDate, false);
+
+        // then
+        verify(weeklyStatisticsService).rebuildWeeklyStatistics(testElder, LocalDate.of(2025, 1, 27), LocalDate.of(2025, 2, 1), false);
+        verify(monthlyStatisticsService).upsertMonthlyStatistics(testElder, LocalDate.of(2025, 1, 31));
+        verify(monthlyStatisticsService).upsertMonthlyStatistics(testElder, LocalDate.of(2025, 2, 1));
+    }
+
+    @Test
+    @DisplayName("어르신 재계산 실패 시 false 반환")
+    void rebuildElder_failure_returnsFalse() {
+        // given
+        LocalDate date = LocalDate.of(2025, 1, 6);
+        when(dailyStatisticsRepository.findDatesByElderAndDateBetween(testElder, date, date))
+                .thenReturn(List.of(date));
+        when(careCallRecordRepository.findCalledAtByElderIdAndRange(eq(1), any(), any()))
+                .thenReturn(Collections.emptyList());
+        doThrow(new RuntimeException("deadlock"))
+                .when(dailyStatisticsService).recomputeDailyStatistics(testElder, date, true);
+
+        // when
+        boolean result = statisticsRebuildService.rebuildElder(testElder, date, date, true);
+
+        // then
+        assertThat(result).isFalse();
+        verify(transactionManager).rollback(any());
+        verifyNoInteractions(weeklyStatisticsService);
+    }
+
+    @Test
+    @DisplayName("재계산 시작 - 어르신 ID를 청크로 나누고 모든 청크 완료 후 작업 완료 처리")
+    void start_createsChunksAndCompletesJob() {
+        // given
+        StatisticsRebuildRequest request = createRequest(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+
+        when(redisLeaseRepository.tryAcquire(eq("statistics-rebuild:lease:job"), anyString(), eq(properties.getJobLeaseTtl()))).thenReturn(true);
+        when(statisticsRebuildJobRepository.save(any(StatisticsRebuildJob.class)))
+                .thenReturn(StatisticsRebuildJob.builder()
+                        .id(1L)
+                        .startDate(request.getStartDate())
+                        .endDate(request.getEndDate())
+                        .skipAiSummary(true)
+                        .status(StatisticsRebuildStatus.RUNNING)
+                        .build());
+        when(elderRepository.findIdsAfter(eq(0), any())).thenReturn(List.of(1, 2));
+        when(elderRepository.findIdsAfter(eq(2), any())).thenReturn(List.of(3));
+        when(elderRepository.findIdsAfter(eq(3), any())).thenReturn(Collections.emptyList());
+        when(statisticsRebuildChunkRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(elderRepository.findByIdRange(anyInt(), anyInt(), any())).thenReturn(Collections.emptyList());
+
+        // when
+        StatisticsRebuildJobResponse response = statisticsRebuildService.start(request);
+
+        // then
+        assertThat(response.getJobId()).isEqualTo(1L);
+        assertThat(response.getTotalChunks()).isEqualTo(2);
+
+        ArgumentCaptor<List<StatisticsRebuildChunk>> chunksCaptor = ArgumentCaptor.forClass(List.class);
+        verify(statisticsRebuildChunkRepository).saveAll(chunksCaptor.capture());
+        List<StatisticsRebuildChunk> chunks = chunksCaptor.getValue();
+        assertThat(chunks).extracting(StatisticsRebuildChunk::getFirstElderId).containsExactly(1, 3);
+        assertThat(chunks).extracting(StatisticsRebuildChunk::getLastElderId).containsExactly(2, 3);
+
+        verify(statisticsRebuildJobRepository, timeout(2000))
+                .updateStatus(eq(1L), eq(StatisticsRebuildStatus.COMPLETED), any());
+        verify(redisLeaseRepository, timeout(2000)).release(eq("statistics-rebuild:lease:job"), anyString());
+    }
+
+    @Test
+    @DisplayName("재계산 시작 - 다른 인스턴스가 작업 리스를 보유 중이면 예외")
+    void start_jobLeaseHeld_throws() {
+        // given
+        StatisticsRebuildRequest request = createRequest(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        when(redisLeaseRepository.tryAcquire(eq("statistics-rebuild:lease:job"), anyString(), any())).thenReturn(false);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class, () -> statisticsRebuildService.start(request));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.STATISTICS_REBUILD_IN_PROGRESS);
+        verifyNoInteractions(statisticsRebuildJobRepository);
+    }
+
+    @Test
+    @DisplayName("재계산 시작 - 종료일이 시작일보다 앞서면 예외")
+    void start_invalidRange_throws() {
+        // given
+        StatisticsRebuildRequest request = createRequest(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class, () -> statisticsRebuildService.start(request));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_STATISTICS_REBUILD_RANGE);
+        verifyNoInteractions(statisticsRebuildJobRepository);
+    }
+
+    private StatisticsRebuildRequest createRequest(LocalDate startDate, LocalDate endDate) {
+        StatisticsRebuildRequest request = new StatisticsRebuildRequest();
+        request.setStartDate(startDate);
+        request.setEndDate(endDate);
+        return request;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.medicare_call.service.statistics;
+
+import com.example.medicare_call.global.config.StatisticsUpdateProperties;
+import com.example.medicare_call.repository.StatisticsUpdateLockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsUpdateCoalescer 테스트")
+class StatisticsUpdateCoalescerTest {
+
+    @Mock
+    private StatisticsUpdateService statisticsUpdateService;
+
+    @Mock
+    private StatisticsUpdateLockRepository statisticsUpdateLockRepository;
+
+    private StatisticsUpdateCoalescer statisticsUpdateCoalescer;
+
+    private final LocalDate date = LocalDate.of(2025, 1, 6);
+
+    @BeforeEach
+    void setUp() {
+        StatisticsUpdateProperties properties = new StatisticsUpdateProperties();
+        properties.setDebounce(Duration.ofMillis(100));
+        properties.setLeaseRetryDelay(Duration.ofMillis(50));
+        properties.setInitialBackoff(Duration.ofMillis(50));
+        properties.setMaxBackoff(Duration.ofMillis(100));
+        properties.setMaxAttempts(2);
+
+        statisticsUpdateCoalescer = new StatisticsUpdateCoalescer(
+                properties,
+                statisticsUpdateService,
+                statisticsUpdateLockRepository,
+                new SimpleMeterRegistry()
+        );
+        statisticsUpdateCoalescer.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statisticsUpdateCoalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 어르신/일자 요청이 연달아 들어오면 한 번만 재계산")
+    void request_burst_recomputesOnce() {
+        // given
+        when(statisticsUpdateLockRepository.tryAcquireLease(eq(1), anyString(), any())).thenReturn(true);
+        when(statisticsUpdateLockRepository.findDirtyVersion(1, date)).thenReturn(Optional.of("3"));
+
+        // when
+        statisticsUpdateCoalescer.request(1, date);
+        statisticsUpdateCoalescer.request(1, date);
+        statisticsUpdateCoalescer.request(1, date);
+
+        // then
+        verify(statisticsUpdateService, timeout(2000)).recomputeStatistics(1, date);
+        verify(statisticsUpdateService, after(300).times(1)).recomputeStatistics(1, date);
+        verify(statisticsUpdateLockRepository, times(3)).markDirty(eq(1), eq(date), any());
+        verify(statisticsUpdateLockRepository).clearDirty(1, date, "3");
+        verify(statisticsUpdateLockRepository).releaseLease(eq(1), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 이미 재계산한 경우 건너뜀")
+    void request_alreadyRecomputedElsewhere_skips() {
+        // given
+        when(statisticsUpdateLockRepository.tryAcquireLease(eq(1), anyString(), any())).thenReturn(true);
+        when(statisticsUpdateLockRepository.findDirtyVersion(1, date)).thenReturn(Optional.empty());
+
+        // when
+        statisticsUpdateCoalescer.request(1, date);
+
+        // then
+        verify(statisticsUpdateLockRepository, timeout(2000)).releaseLease(eq(1), anyString());
+        verifyNoInteractions(statisticsUpdateService);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 리스를 보유 중이면 해제된 뒤 재계산")
+    void request_leaseBusy_retriesAfterRelease() {
+        // given
+        when(statisticsUpdateLockRepository.tryAcquireLease(eq(1), anyString(), any()))
+                .thenReturn(false)
+                .thenReturn(true);
+        when(statisticsUpdateLockRepository.findDirtyVersion(1, date)).thenReturn(Optional.of("1"));
+
+        // when
+        statisticsUpdateCoalescer.request(1, date);
+
+        // then
+        verify(statisticsUpdateService, timeout(2000)).recomputeStatistics(1, date);
+        verify(statisticsUpdateLockRepository, times(2)).tryAcquireLease(eq(1), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("재계산 실패 시 재계산 필요 표시를 남기고 백오프 후 다시 재계산")
+    void request_recomputeFails_keepsDirtyAndRetries() {
+        // given
+        when(statisticsUpdateLockRepository.tryAcquireLease(eq(1), anyString(), any())).thenReturn(true);
+        when(statisticsUpdateLockRepository.findDirtyVersion(1, date)).thenReturn(Optional.of("1"));
+        doThrow(new RuntimeException("deadlock"))
+                .doNothing()
+                .when(statisticsUpdateService).recomputeStatistics(1, date);
+
+        // when
+        statisticsUpdateCoalescer.request(1, date);
+
+        // then
+        verify(statisticsUpdateService, timeout(2000).times(2)).recomputeStatistics(1, date);
+        verify(statisticsUpdateLockRepository, timeout(2000)).clearDirty(1, date, "1");
+        verify(statisticsUpdateLockRepository, timeout(2000).times(2)).releaseLease(eq(1), anyString());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패하면 재계산 필요 표시를 남겨 두고 재시도 중단")
+    void request_recomputeKeepsFailing_givesUp() {
+        // given
+        when(statisticsUpdateLockRepository.tryAcquireLease(eq(1), anyString(), any())).thenReturn(true);
+        when(statisticsUpdateLockRepository.findDirtyVersion(1, date)).thenReturn(Optional.of("1"));
+        doThrow(new RuntimeException("deadlock")).when(statisticsUpdateService).recomputeStatistics(1, date);
+
+        // when
+        statisticsUpdateCoalescer.request(1, date);
+
+        // then
+        verify(statisticsUpdateService, timeout(2000).times(2)).recomputeStatistics(1, date);
+        verify(statisticsUpdateService, after(300).times(2)).recomputeStatistics(1, date);
+        verify(statisticsUpdateLockRepository, never()).clearDirty(anyInt(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 리스 없이 재계산")
+    void request_redisUnavailable_recomputesWithoutLease() {
+        // given
+        doThrow(new RuntimeException("connection refused"))
+                .when(statisticsUpdateLockRepository).markDirty(eq(1), eq(date), any());
+        when(statisticsUpdateLockRepository.tryAcquireLease(eq(1), anyString(), any()))
+                .thenThrow(new RuntimeException("connection refused"));
+
+        // when
+        statisticsUpdateCoalescer.request(1, date);
+
+        // then
+        verify(statisticsUpdateService, timeout(2000)).recomputeStatistics(1, date);
+        verify(statisticsUpdateLockRepository, never()).findDirtyVersion(anyInt(), any());
+        verify(statisticsUpdateLockRepository, never()).releaseLease(anyInt(), anyString());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.medicare_call.service.statistics;
+
+import com.example.medicare_call.domain.Elder;
+import com.example.medicare_call.repository.ElderRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsUpdateService 테스트")
+class StatisticsUpdateServiceTest {
+
+    @Mock
+    private DailyStatisticsService dailyStatisticsService;
+
+    @Mock
+    private WeeklyStatisticsService weeklyStatisticsService;
+
+    @Mock
+    private MonthlyStatisticsService monthlyStatisticsService;
+
+    @Mock
+    private ElderRepository elderRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private StatisticsUpdateService statisticsUpdateService;
+
+    private Elder testElder;
+    private LocalDate testDate;
+
+    @BeforeEach
+    void setUp() {
+        testElder = Elder.builder()
+                .id(1)
+                .name("김옥자")
+                .build();
+        // 2025년 1월 22일 (수요일)
+        testDate = LocalDate.of(2025, 1, 22);
+    }
+
+    @Test
+    @DisplayName("재계산 - 일간 통계를 다시 계산하고 주간은 당일 부분 집계만 갱신")
+    void recomputeStatistics_refreshesDayOnly() {
+        // given
+        when(elderRepository.findById(1)).thenReturn(Optional.of(testElder));
+
+        // when
+        statisticsUpdateService.recomputeStatistics(1, testDate);
+
+        // then
+        InOrder inOrder = inOrder(dailyStatisticsService, entityManager, weeklyStatisticsService, monthlyStatisticsService);
+        inOrder.verify(dailyStatisticsService).recomputeDailyStatistics(testElder, testDate);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(weeklyStatisticsService).refreshWeeklyStatistics(testElder, testDate);
+        inOrder.verify(monthlyStatisticsService).upsertMonthlyStatistics(testElder, testDate);
+        verify(weeklyStatisticsService, never()).rebuildWeeklyStatistics(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("재계산 - 어르신이 없으면 아무 작업 안함")
+    void recomputeStatistics_missingElder_doesNothing() {
+        // given
+        when(elderRepository.findById(1)).thenReturn(Optional.empty());
+
+        // when
+        statisticsUpdateService.recomputeStatistics(1, testDate);
+
+        // then
+        verifyNoInteractions(dailyStatisticsService, weeklyStatisticsService, monthlyStatisticsService);
+    }
+
+    @Test
+    @DisplayName("야간 보정 - 주간 통계를 주 단위로 재구성하되 더 늦게 집계된 일자까지 포함")
+    void repairStatistics_rebuildsWholeWeek() {
+        // given
+        LocalDate friday = LocalDate.of(2025, 1, 24);
+        when(weeklyStatisticsService.resolveWeekEndDate(testElder, testDate)).thenReturn(friday);
+
+        // when
+        statisticsUpdateService.repairStatistics(testElder, testDate);
+
+        // then
+        verify(dailyStatisticsService).recomputeDailyStatistics(testElder, testDate);
+        verify(weeklyStatisticsService).rebuildWeeklyStatistics(testElder, LocalDate.of(2025, 1, 20), friday, true);
+        verify(monthlyStatisticsService).upsertMonthlyStatistics(testElder, testDate);
+        verify(weeklyStatisticsService, never()).refreshWeeklyStatistics(any(), any());
+    }
+}
@@ -1,15 +1,17 @@
 package com.example.medicare_call.service.statistics;
 
 import com.example.medicare_call.domain.CareCallRecord;
+import com.example.medicare_call.domain.DailyStatsPartial;
 import com.example.medicare_call.domain.Elder;
 import com.example.medicare_call.domain.WeeklyStatistics;
 import com.example.medicare_call.dto.statistics.WeeklyStatsAggregate;
+import com.example.medicare_call.global.enums.AiSummaryStatus;
 import com.example.medicare_call.global.enums.CareCallResponseStatus;
 import com.example.medicare_call.repository.BloodSugarRecordRepository;
 import com.example.medicare_call.repository.CareCallRecordRepository;
 import com.example.medicare_call.repository.DailyStatisticsRepository;
+import com.example.medicare_call.repository.DailyStatsPartialRepository;
 import com.example.medicare_call.repository.WeeklyStatisticsRepository;
-import com.example.medicare_call.service.ai.AiSummaryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,6 +41,9 @@ class WeeklyStatisticsServiceTest {
     @Mock
     private DailyStatisticsRepository dailyStatisticsRepository;
 
+    @Mock
+    private DailyStatsPartialRepository dailyStatsPartialRepository;
+
     @Mock
     private CareCallRecordRepository careCallRecordRepository;
 
@@ -48,9 +53,6 @@ class WeeklyStatisticsServiceTest {
     @Mock
     private WeeklyStatsAggregator weeklyStatsAggregator;
 
-    @Mock
-    private AiSummaryService aiSummaryService;
-
     @InjectMocks
     private WeeklyStatisticsService weeklyStatisticsService;
 
@@ -123,7 +125,7 @@ class WeeklyStatisticsServiceTest {
         assertThat(savedStats.getElder()).isEqualTo(testElder);
         assertThat(savedStats.getStartDate()).isEqualTo(testMonday);
         assertThat(savedStats.getEndDate()).isEqualTo(testDate);
-        assertThat(savedStats.getAiHealthSummary()).isEqualTo("주간 AI 요약");
+        assertThat(savedStats.getAiHealthSummaryStatus()).isEqualTo(AiSummaryStatus.PENDING);
     }
 
     @Test
@@ -147,7 +149,9 @@ class WeeklyStatisticsServiceTest {
         // then
         verify(weeklyStatisticsRepository).save(existingStats);
         assertThat(existingStats.getEndDate()).isEqualTo(testDate);
-        assertThat(existingStats.getAiHealthSummary()).isEqualTo("주간 AI 요약");
+        // 새 요약이 생성될 때까지 이전 요약을 유지
+        assertThat(existingStats.getAiHealthSummary()).isEqualTo("이전 요약");
+        assertThat(existingStats.getAiHealthSummaryStatus()).isEqualTo(AiSummaryStatus.PENDING);
     }
 
     @Test
@@ -179,33 +183,99 @@ class WeeklyStatisticsServiceTest {
     }
 
     @Test
-    @DisplayName("updateMissedCallStatistics - 기존 통계가 있는 경우 미응답 횟수 증가")
-    void updateMissedCallStatistics_incrementsMissedCalls() {
-        WeeklyStatistics existingStats = WeeklyStatistics.builder()
+    @DisplayName("일자 갱신 - 당일 부분 집계만 원천 데이터로 다시 만든 뒤 주간 부분 집계를 병합")
+    void refreshWeeklyStatistics_rebuildsDayPartialAndMerges() {
+        // given
+        LocalDate testSunday = testMonday.plusDays(6);
+        DailyStatsPartial mondayPartial = DailyStatsPartial.builder()
                 .elder(testElder)
-                .startDate(testMonday)
-                .endDate(testDate)
-                .missedCalls(2)
+                .date(testMonday)
                 .build();
 
+        when(dailyStatsPartialRepository.findByElderAndDateBetween(testElder, testMonday, testSunday))
+                .thenReturn(List.of(mondayPartial));
+        when(dailyStatisticsRepository.findDatesByElderAndDateBetween(testElder, testMonday, testSunday))
+                .thenReturn(List.of(testMonday, testDate));
+        when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
+                .thenReturn(Optional.empty());
+        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
+                .thenReturn(Collections.emptyList());
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(
+                testElder.getId(), testDate.atStartOfDay(), testDate.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(testCareCallRecord));
+        when(weeklyStatsAggregator.merge(eq(testMonday), eq(testDate), anyList()))
+                .thenReturn(testAggregate);
         when(weeklyStatisticsRepository.findByElderAndStartDate(testElder, testMonday))
-                .thenReturn(Optional.of(existingStats));
+                .thenReturn(Optional.empty());
 
-        weeklyStatisticsService.updateMissedCallStatistics(testCareCallRecord);
+        // when
+        weeklyStatisticsService.refreshWeeklyStatistics(testElder, testDate);
 
-        verify(weeklyStatisticsRepository).save(existingStats);
-        assertThat(existingStats.getMissedCalls()).isEqualTo(3);
+        // then
+        verify(weeklyStatsAggregator).rebuildPartial(
+                argThat(partial -> partial.getDate().equals(testDate)),
+                isNull(),
+                eq(Collections.emptyList()),
+                eq(List.of(testCareCallRecord)));
+        verify(dailyStatsPartialRepository).save(argThat(partial -> partial.getDate().equals(testDate)));
+        verify(weeklyStatsAggregator).merge(eq(testMonday), eq(testDate), argThat(partials -> partials.size() == 2));
+        verify(weeklyStatsAggregator, never()).aggregate(any(), any(), anyList(), anyList(), anyList());
+        verify(weeklyStatisticsRepository).save(any(WeeklyStatistics.class));
+    }
+
+    @Test
+    @DisplayName("일자 갱신 - 같은 주의 더 늦은 일자가 집계되어 있으면 주간 종료일을 유지")
+    void refreshWeeklyStatistics_earlierDay_keepsLatestEndDate() {
+        // given
+        LocalDate testSunday = testMonday.plusDays(6);
+        LocalDate friday = testMonday.plusDays(4);
+        DailyStatsPartial wednesdayPartial = DailyStatsPartial.builder().elder(testElder).date(testDate).build();
+        DailyStatsPartial fridayPartial = DailyStatsPartial.builder().elder(testElder).date(friday).build();
+
+        when(dailyStatsPartialRepository.findByElderAndDateBetween(testElder, testMonday, testSunday))
+                .thenReturn(List.of(wednesdayPartial, fridayPartial));
+        when(dailyStatisticsRepository.findDatesByElderAndDateBetween(testElder, testMonday, testSunday))
+                .thenReturn(List.of(testDate, friday));
+        when(dailyStatisticsRepository.findByElderAndDate(testElder, testDate))
+                .thenReturn(Optional.empty());
+        when(bloodSugarRecordRepository.findByElderIdAndDate(testElder.getId(), testDate))
+                .thenReturn(Collections.emptyList());
+        when(careCallRecordRepository.findWithSettingByElderIdAndCalledAtRange(eq(testElder.getId()), any(), any()))
+                .thenReturn(List.of(testCareCallRecord));
+        when(weeklyStatsAggregator.merge(eq(testMonday), eq(friday), anyList()))
+                .thenReturn(testAggregate);
+        when(weeklyStatisticsRepository.findByElderAndStartDate(testElder, testMonday))
+                .thenReturn(Optional.empty());
+
+        // when
+        weeklyStatisticsService.refreshWeeklyStatistics(testElder, testDate);
+
+        // then
+        verify(weeklyStatsAggregator).rebuildPartial(same(wednesdayPartial), isNull(), anyList(), anyList());
+        verify(weeklyStatsAggregator).merge(eq(testMonday), eq(friday), argThat(partials -> partials.size() == 2));
     }
 
     @Test
-    @DisplayName("updateMissedCallStatistics - 기존 통계가 없는 경우 아무 작업 안함")
-    void updateMissedCallStatistics_noExistingStats_doesNothing() {
+    @DisplayName("일자 갱신 - 다른 일자의 부분 집계가 없으면 전체 스캔으로 재구성")
+    void refreshWeeklyStatistics_missingPartial_fallsBackToFullScan() {
+        // given
+        LocalDate testSunday = testMonday.plusDays(6);
+        when(dailyStatsPartialRepository.findByElderAndDateBetween(testElder, testMonday, testSunday))
+                .thenReturn(Collections.emptyList());
+        when(dailyStatisticsRepository.findDatesByElderAndDateBetween(testElder, testMonday, testSunday))
+                .thenReturn(List.of(testMonday, testDate));
+        when(dailyStatsPartialRepository.findByElderAndDateBetween(testElder, testMonday, testDate))
+                .thenReturn(Collections.emptyList());
+        stubForUpsert();
         when(weeklyStatisticsRepository.findByElderAndStartDate(testElder, testMonday))
                 .thenReturn(Optional.empty());
 
-        weeklyStatisticsService.updateMissedCallStatistics(testCareCallRecord);
+        // when
+        weeklyStatisticsService.refreshWeeklyStatistics(testElder, testDate);
 
-        verify(weeklyStatisticsRepository, never()).save(any());
+        // then
+        verify(weeklyStatsAggregator).aggregate(any(), any(), anyList(), anyList(), anyList());
+        verify(weeklyStatisticsRepository).save(any(WeeklyStatistics.class));
     }
 
     private void stubForUpsert() {
@@ -221,7 +291,7 @@ class WeeklyStatisticsServiceTest {
         when(weeklyStatsAggregator.aggregate(any(), any(), anyList(), anyList(), anyList()))
                 .thenReturn(testAggregate);
 
-        when(aiSummaryService.getWeeklyStatsSummary(any()))
-                .thenReturn("주간 AI 요약");
+        when(weeklyStatsAggregator.merge(any(), any(), anyList()))
+                .thenReturn(testAggregate);
     }
 }
@@ -3,6 +3,7 @@ package com.example.medicare_call.service.statistics;
 import com.example.medicare_call.domain.BloodSugarRecord;
 import com.example.medicare_call.domain.CareCallRecord;
 import com.example.medicare_call.domain.DailyStatistics;
+import com.example.medicare_call.domain.DailyStatsPartial;
 import com.example.medicare_call.domain.Elder;
 import com.example.medicare_call.dto.statistics.WeeklyStatsAggregate;
 import com.example.medicare_call.global.enums.BloodSugarMeasurementType;
@@ -18,6 +19,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -268,6 +270,55 @@ class WeeklyStatsAggregatorTest {
         assertThat(result.missedCalls()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("일자별 부분 집계 병합 결과가 전체 스캔 집계 결과와 동일")
+    void merge_rebuiltPartials_equalsFullAggregate() {
+        // Given
+        DailyStatistics day1Stat = createDailyStat(startDate, true, true, true,
+                List.of(medicationInfo("혈압약", 1, 1), medicationInfo("당뇨약", 2, 2)));
+        DailyStatistics day2Stat = createDailyStat(startDate.plusDays(1), true, false, false,
+                List.of(medicationInfo("혈압약", 1, 0), medicationInfo("당뇨약", 2, 1)));
+
+        List<BloodSugarRecord> day1BloodSugar = List.of(
+                bloodSugar(startDate, BloodSugarMeasurementType.BEFORE_MEAL, BloodSugarStatus.NORMAL),
+                bloodSugar(startDate, BloodSugarMeasurementType.AFTER_MEAL, BloodSugarStatus.HIGH)
+        );
+        List<BloodSugarRecord> day2BloodSugar = List.of(
+                bloodSugar(startDate.plusDays(1), BloodSugarMeasurementType.BEFORE_MEAL, BloodSugarStatus.LOW)
+        );
+
+        List<CareCallRecord> day1Calls = List.of(
+                callRecordWithSleep(startDate, LocalTime.of(22, 0), LocalTime.of(6, 0)),
+                callRecordWithPsych(startDate, PsychologicalStatus.GOOD, "좋음"),
+                callRecordWithHealth(startDate, "두통")
+        );
+        List<CareCallRecord> day2Calls = List.of(
+                callRecordWithSleep(startDate.plusDays(1), LocalTime.of(23, 0), LocalTime.of(7, 30)),
+                callRecordWithPsych(startDate.plusDays(1), PsychologicalStatus.BAD, "나쁨"),
+                callRecordWithStatus(startDate.plusDays(1), CareCallStatus.NO_ANSWER)
+        );
+
+        DailyStatsPartial day1Partial = DailyStatsPartial.builder().elder(testElder).date(startDate).build();
+        DailyStatsPartial day2Partial = DailyStatsPartial.builder().elder(testElder).date(startDate.plusDays(1)).build();
+        aggregator.rebuildPartial(day1Partial, day1Stat, day1BloodSugar, day1Calls);
+        aggregator.rebuildPartial(day2Partial, day2Stat, day2BloodSugar, day2Calls);
+
+        // When
+        WeeklyStatsAggregate merged = aggregator.merge(startDate, endDate, List.of(day1Partial, day2Partial));
+        WeeklyStatsAggregate full = aggregator.aggregate(
+                startDate,
+                endDate,
+                List.of(day1Stat, day2Stat),
+                Stream.concat(day1BloodSugar.stream(), day2BloodSugar.stream()).toList(),
+                Stream.concat(day1Calls.stream(), day2Calls.stream()).toList()
+        );
+
+        // Then
+        assertThat(merged).isEqualTo(full);
+        assertThat(merged.missedCalls()).isEqualTo(1);
+        assertThat(merged.avgSleepMinutes()).isEqualTo(495);
+    }
+
     private DailyStatistics createDailyStat(LocalDate date, boolean breakfast, boolean lunch, boolean dinner,
                                             List<DailyStatistics.MedicationInfo> medications) {
         int totalGoal = medications.stream().mapToInt(m -> m.getGoal() != null ? m.getGoal() : 0).sum();